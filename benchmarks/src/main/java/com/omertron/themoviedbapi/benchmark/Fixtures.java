@@ -0,0 +1,67 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Load the recorded JSON responses from the classpath
+ *
+ * @author Stuart
+ */
+public final class Fixtures {
+
+    private static final String FOLDER = "/fixtures/";
+    public static final String MOVIE_INFO = "movie_info.json";
+    public static final String TV_INFO = "tv_info.json";
+    public static final String TV_SEASON_INFO = "tv_season_info.json";
+    public static final String PERSON_INFO = "person_info.json";
+    public static final String MULTI_SEARCH = "multi_search.json";
+    public static final String PERSON_COMBINED_CREDITS = "person_combined_credits.json";
+    public static final String DISCOVER_MOVIE = "discover_movie.json";
+
+    private Fixtures() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Read a fixture
+     *
+     * @param name The file name of the fixture
+     * @return The bytes of the JSON
+     * @throws IOException
+     */
+    public static byte[] load(String name) throws IOException {
+        try (InputStream in = Fixtures.class.getResourceAsStream(FOLDER + name)) {
+            if (in == null) {
+                throw new IOException("Fixture not found: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
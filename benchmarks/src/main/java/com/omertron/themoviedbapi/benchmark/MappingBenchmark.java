@@ -0,0 +1,160 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.omertron.themoviedbapi.model.credits.CreditBasic;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.person.PersonCreditList;
+import com.omertron.themoviedbapi.model.person.PersonInfo;
+import com.omertron.themoviedbapi.model.tv.TVInfo;
+import com.omertron.themoviedbapi.model.tv.TVSeasonInfo;
+import com.omertron.themoviedbapi.results.WrapperGenericList;
+import com.omertron.themoviedbapi.results.WrapperMultiSearch;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of mapping the recorded responses onto the model, using the
+ * shared readers of the API.
+ * <p>
+ * Run with "-prof gc" to see the allocation per operation.
+ *
+ * @author Stuart
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private byte[] movieInfo;
+    private byte[] tvInfo;
+    private byte[] tvSeasonInfo;
+    private byte[] personInfo;
+    private byte[] multiSearch;
+    private byte[] combinedCredits;
+
+    @Setup
+    public void setUp() throws IOException {
+        movieInfo = Fixtures.load(Fixtures.MOVIE_INFO);
+        tvInfo = Fixtures.load(Fixtures.TV_INFO);
+        tvSeasonInfo = Fixtures.load(Fixtures.TV_SEASON_INFO);
+        personInfo = Fixtures.load(Fixtures.PERSON_INFO);
+        multiSearch = Fixtures.load(Fixtures.MULTI_SEARCH);
+        combinedCredits = Fixtures.load(Fixtures.PERSON_COMBINED_CREDITS);
+    }
+
+    /**
+     * A generic list page, with the recorded results repeated up to the size
+     * wanted
+     */
+    @State(Scope.Benchmark)
+    public static class ListPage {
+
+        // TMDb returns 20 results a page
+        @Param({"20", "1000"})
+        public int pageSize;
+        private byte[] json;
+
+        @Setup
+        public void setUp() throws IOException {
+            ObjectMapper mapper = new ObjectMapper();
+            ObjectNode page = (ObjectNode) mapper.readTree(Fixtures.load(Fixtures.DISCOVER_MOVIE));
+            ArrayNode source = (ArrayNode) page.get("results");
+            ArrayNode results = page.putArray("results");
+            for (int i = 0; i < pageSize; i++) {
+                ObjectNode item = source.get(i % source.size()).deepCopy();
+                item.put("id", i + 1);
+                results.add(item);
+            }
+            json = mapper.writeValueAsBytes(page);
+        }
+    }
+
+    /**
+     * Movie with every MovieMethod appended
+     */
+    @Benchmark
+    public MovieInfo movieInfo() throws IOException {
+        return ObjectReaders.forClass(MovieInfo.class).readValue(movieInfo);
+    }
+
+    /**
+     * Movie with every MovieMethod appended, only the main fields are used
+     */
+    @Benchmark
+    public MovieInfo movieInfoLazy() throws IOException {
+        return ObjectReaders.forClass(MovieInfo.class, true).readValue(movieInfo);
+    }
+
+    @Benchmark
+    public TVInfo tvInfo() throws IOException {
+        return ObjectReaders.forClass(TVInfo.class).readValue(tvInfo);
+    }
+
+    @Benchmark
+    public TVSeasonInfo tvSeasonInfo() throws IOException {
+        return ObjectReaders.forClass(TVSeasonInfo.class).readValue(tvSeasonInfo);
+    }
+
+    @Benchmark
+    public PersonInfo personInfo() throws IOException {
+        return ObjectReaders.forClass(PersonInfo.class).readValue(personInfo);
+    }
+
+    /**
+     * Polymorphic movie, TV and episode results
+     */
+    @Benchmark
+    public WrapperMultiSearch multiSearch() throws IOException {
+        return ObjectReaders.forClass(WrapperMultiSearch.class).readValue(multiSearch);
+    }
+
+    /**
+     * Polymorphic credits using the mix-in
+     */
+    @Benchmark
+    public PersonCreditList<CreditBasic> personCombinedCredits() throws IOException {
+        return ObjectReaders.PERSON_COMBINED_CREDITS.readValue(combinedCredits);
+    }
+
+    @Benchmark
+    public WrapperGenericList<MovieBasic> movieList(ListPage page) throws IOException {
+        return ObjectReaders.forList(MovieBasic.class).readValue(page.json);
+    }
+}
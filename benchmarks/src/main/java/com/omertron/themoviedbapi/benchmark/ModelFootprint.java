@@ -0,0 +1,72 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.benchmark;
+
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.person.PersonInfo;
+import com.omertron.themoviedbapi.model.tv.TVEpisodeInfo;
+import com.omertron.themoviedbapi.model.tv.TVInfo;
+import com.omertron.themoviedbapi.model.tv.TVSeasonInfo;
+import com.omertron.themoviedbapi.results.WrapperGenericList;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
+import java.io.IOException;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Print the retained size of the model objects, as they would be held in a
+ * cache.
+ * <p>
+ * The empty objects show the cost of each object before anything is set, the
+ * mapped objects are the recorded responses.
+ *
+ * @author Stuart
+ */
+public final class ModelFootprint {
+
+    private ModelFootprint() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        print("Empty MovieInfo", new MovieInfo());
+        print("Empty TVInfo", new TVInfo());
+        print("Empty TVSeasonInfo", new TVSeasonInfo());
+        print("Empty TVEpisodeInfo", new TVEpisodeInfo());
+        print("Empty PersonInfo", new PersonInfo());
+
+        print("MovieInfo", ObjectReaders.forClass(MovieInfo.class).readValue(Fixtures.load(Fixtures.MOVIE_INFO)));
+        print("TVInfo", ObjectReaders.forClass(TVInfo.class).readValue(Fixtures.load(Fixtures.TV_INFO)));
+        print("TVSeasonInfo", ObjectReaders.forClass(TVSeasonInfo.class).readValue(Fixtures.load(Fixtures.TV_SEASON_INFO)));
+        print("PersonInfo", ObjectReaders.forClass(PersonInfo.class).readValue(Fixtures.load(Fixtures.PERSON_INFO)));
+
+        WrapperGenericList<MovieBasic> page = ObjectReaders.forList(MovieBasic.class).readValue(Fixtures.load(Fixtures.DISCOVER_MOVIE));
+        print("MovieBasic (average of a discover page)", page.getResults().toArray(), page.getResults().size());
+    }
+
+    private static void print(String name, Object value) {
+        print(name, value, 1);
+    }
+
+    private static void print(String name, Object value, int count) {
+        long size = GraphLayout.parseInstance(value).totalSize();
+        System.out.printf("%-45s %,10d bytes%n", name, size / count);
+    }
+}
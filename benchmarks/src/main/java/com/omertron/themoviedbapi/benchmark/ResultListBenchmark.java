@@ -0,0 +1,92 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.results.ResultList;
+import com.omertron.themoviedbapi.results.WrapperGenericList;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of turning a mapped page into a ResultList, copying the results as
+ * the constructor does against using the mapped list.
+ * <p>
+ * Run with "-prof gc" to see the allocation per operation.
+ *
+ * @author Stuart
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultListBenchmark {
+
+    // TMDb returns 20 results a page
+    @Param({"20", "1000"})
+    public int pageSize;
+    private WrapperGenericList<MovieBasic> wrapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode page = (ObjectNode) mapper.readTree(Fixtures.load(Fixtures.DISCOVER_MOVIE));
+        ArrayNode source = (ArrayNode) page.get("results");
+        ArrayNode results = page.putArray("results");
+        for (int i = 0; i < pageSize; i++) {
+            results.add(source.get(i % source.size()).deepCopy());
+        }
+        wrapper = ObjectReaders.forList(MovieBasic.class).readValue(mapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public ResultList<MovieBasic> copy() {
+        ResultList<MovieBasic> results = new ResultList<>(wrapper.getResults());
+        wrapper.setResultProperties(results);
+        return results;
+    }
+
+    @Benchmark
+    public ResultList<MovieBasic> wrap() {
+        return wrapper.getResultsList();
+    }
+
+    @Benchmark
+    public ResultList<MovieBasic> immutableView() {
+        return wrapper.getResultsList().immutableView();
+    }
+}
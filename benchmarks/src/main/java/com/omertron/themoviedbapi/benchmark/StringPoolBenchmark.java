@@ -0,0 +1,104 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.benchmark;
+
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
+import com.omertron.themoviedbapi.tools.StringPool;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Heap kept by a batch of mapped movies, with and without the string pool.
+ * <p>
+ * The "retainedKb" counter is the heap in use after a full GC once the batch
+ * is mapped, less the heap in use before.
+ *
+ * @author Stuart
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class StringPoolBenchmark {
+
+    private static final int COPIES = 2000;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+    private byte[] movieInfo;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedKb;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        movieInfo = Fixtures.load(Fixtures.MOVIE_INFO);
+        StringPool.setShared(pooled ? new StringPool() : null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        StringPool.setShared(null);
+    }
+
+    /**
+     * Movie with every MovieMethod appended, mapped and kept COPIES times
+     */
+    @Benchmark
+    public List<MovieInfo> retainedMovies(Footprint footprint) throws IOException {
+        long before = usedHeap();
+        List<MovieInfo> movies = new ArrayList<>(COPIES);
+        for (int i = 0; i < COPIES; i++) {
+            movies.add(ObjectReaders.forClass(MovieInfo.class).readValue(movieInfo));
+        }
+        footprint.retainedKb = (usedHeap() - before) / 1024;
+        return movies;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.benchmark;
+
+import com.omertron.themoviedbapi.tools.ApiUrl;
+import com.omertron.themoviedbapi.tools.MethodBase;
+import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.Param;
+import com.omertron.themoviedbapi.tools.TmdbParameters;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of building the request URLs.
+ * <p>
+ * "legacyMovieInfo" builds the same URL as "movieInfo" the way the API did
+ * before the fixed parts of the URL were reused, as a reference. Run with
+ * "-prof gc" to compare the allocation.
+ *
+ * @author Stuart
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlBenchmark {
+
+    private static final String API_KEY = "0123456789abcdef0123456789abcdef";
+    private static final String APPEND = "credits,images,keywords,videos";
+
+    @Benchmark
+    public URL movieInfo() {
+        TmdbParameters params = new TmdbParameters();
+        params.add(Param.ID, 550);
+        params.add(Param.LANGUAGE, "en");
+        params.add(Param.APPEND, APPEND);
+        return new ApiUrl(API_KEY, MethodBase.MOVIE).buildUrl(params);
+    }
+
+    @Benchmark
+    public URL tvEpisode() {
+        TmdbParameters params = new TmdbParameters();
+        params.add(Param.ID, 1396);
+        params.add(Param.SEASON_NUMBER, 2);
+        params.add(Param.EPISODE_NUMBER, 3);
+        params.add(Param.LANGUAGE, "en");
+        return new ApiUrl(API_KEY, MethodBase.EPISODE).subMethod(MethodSub.IMAGES).buildUrl(params);
+    }
+
+    @Benchmark
+    public URL searchMovie() {
+        TmdbParameters params = new TmdbParameters();
+        params.add(Param.QUERY, "the dark knight");
+        params.add(Param.PAGE, 2);
+        params.add(Param.ADULT, false);
+        params.add(Param.YEAR, 2008);
+        return new ApiUrl(API_KEY, MethodBase.SEARCH).subMethod(MethodSub.MOVIE).buildUrl(params);
+    }
+
+    /**
+     * The movie info URL built with a map of strings, an intermediate builder
+     * for each part and an eager reflection dump for the trace log
+     */
+    @Benchmark
+    public URL legacyMovieInfo() throws MalformedURLException {
+        Map<Param, String> params = new EnumMap<>(Param.class);
+        params.put(Param.ID, String.valueOf(Integer.valueOf(550)));
+        params.put(Param.LANGUAGE, "en");
+        params.put(Param.APPEND, APPEND);
+
+        StringBuilder urlString = new StringBuilder("http://api.themoviedb.org/3/");
+        String trace = ToStringBuilder.reflectionToString(params, ToStringStyle.SHORT_PREFIX_STYLE);
+        urlString.append(MethodBase.MOVIE.getValue());
+
+        StringBuilder idPart = new StringBuilder();
+        idPart.append("/").append(params.get(Param.ID));
+        idPart.append("?").append(Param.API_KEY.getValue()).append(API_KEY);
+        urlString.append(idPart);
+
+        StringBuilder otherPart = new StringBuilder();
+        for (Map.Entry<Param, String> entry : params.entrySet()) {
+            if (entry.getKey() != Param.ID) {
+                otherPart.append("&").append(entry.getKey().getValue()).append(entry.getValue());
+            }
+        }
+        urlString.append(otherPart);
+        return trace == null ? null : new URL(urlString.toString());
+    }
+}
@@ -0,0 +1,516 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Works out the properties of a model class the same way Jackson does with
+ * the default mapper settings.
+ * <p>
+ * Only the annotations used by the model are understood. Anything else, or
+ * anything that would need reflection to set, stops the class from being
+ * generated and leaves it to Jackson.
+ *
+ * @author Stuart
+ */
+final class BeanAnalyser {
+
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_SETTER = "com.fasterxml.jackson.annotation.JsonSetter";
+    private static final String JSON_ANY_SETTER = "com.fasterxml.jackson.annotation.JsonAnySetter";
+    private static final String JSON_ROOT_NAME = "com.fasterxml.jackson.annotation.JsonRootName";
+    private static final String JSON_MAPPING = "com.omertron.themoviedbapi.model.AbstractJsonMapping";
+
+    private final Elements elements;
+    private final Types types;
+
+    BeanAnalyser(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * Check if the type is a concrete class with Jackson properties
+     *
+     * @param type
+     * @return
+     */
+    boolean isModel(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (TypeElement current : superClasses(type)) {
+            for (Element member : current.getEnclosedElements()) {
+                if (findAnnotation(member, JSON_PROPERTY) != null || findAnnotation(member, JSON_SETTER) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the properties that can be set for the type
+     *
+     * @param type
+     * @return
+     * @throws SkipException if the type cannot be generated
+     */
+    BeanModel analyse(TypeElement type) throws SkipException {
+        checkType(type);
+        List<TypeElement> hierarchy = superClasses(type);
+        checkAnnotations(type, new HashSet<>());
+
+        Map<String, Group> groups = new LinkedHashMap<>();
+        for (TypeElement current : hierarchy) {
+            for (Element member : current.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.FIELD) {
+                    addField(groups, (VariableElement) member);
+                }
+            }
+        }
+        for (Method method : methods(type, hierarchy)) {
+            addMethod(groups, method);
+        }
+
+        BeanModel model = new BeanModel(type);
+        Set<String> names = new HashSet<>();
+        for (Group group : groups.values()) {
+            BeanModel.Property property = group.toProperty(type);
+            if (property != null) {
+                if (!names.add(property.getJsonName())) {
+                    throw new SkipException("more than one property called '" + property.getJsonName() + "'");
+                }
+                model.addProperty(property);
+            }
+        }
+        return model;
+    }
+
+    private void checkType(TypeElement type) throws SkipException {
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new SkipException("generic class");
+        }
+        for (Element current = type; current.getKind().isClass(); current = current.getEnclosingElement()) {
+            TypeElement element = (TypeElement) current;
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new SkipException("private class");
+            }
+            if (element.getNestingKind() != NestingKind.TOP_LEVEL && !element.getModifiers().contains(Modifier.STATIC)) {
+                throw new SkipException("inner class");
+            }
+            if (element.getNestingKind() == NestingKind.TOP_LEVEL) {
+                break;
+            }
+        }
+
+        boolean hasConstructor = false;
+        boolean hasDefault = false;
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.CONSTRUCTOR) {
+                hasConstructor = true;
+                if (((ExecutableElement) member).getParameters().isEmpty() && !member.getModifiers().contains(Modifier.PRIVATE)) {
+                    hasDefault = true;
+                }
+            }
+        }
+        if (hasConstructor && !hasDefault) {
+            throw new SkipException("no default constructor");
+        }
+    }
+
+    /**
+     * Check the annotations of the type, its members and all of its super
+     * types
+     */
+    private void checkAnnotations(TypeElement type, Set<String> checked) throws SkipException {
+        if (!checked.add(type.getQualifiedName().toString())) {
+            return;
+        }
+
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            String name = annotationName(annotation);
+            if (name.startsWith(JACKSON_PACKAGE) && !JSON_ROOT_NAME.equals(name)) {
+                throw new SkipException(simpleName(name) + " on " + type.getSimpleName());
+            }
+        }
+
+        for (Element member : type.getEnclosedElements()) {
+            checkMemberAnnotations(type, member);
+            if (member instanceof ExecutableElement) {
+                for (VariableElement parameter : ((ExecutableElement) member).getParameters()) {
+                    checkMemberAnnotations(type, parameter);
+                }
+            }
+        }
+
+        for (TypeMirror supertype : types.directSupertypes(type.asType())) {
+            checkAnnotations((TypeElement) types.asElement(supertype), checked);
+        }
+    }
+
+    private static void checkMemberAnnotations(TypeElement owner, Element member) throws SkipException {
+        for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+            String name = annotationName(annotation);
+            if (!name.startsWith(JACKSON_PACKAGE)) {
+                continue;
+            }
+
+            if (JSON_PROPERTY.equals(name) || JSON_SETTER.equals(name)) {
+                for (ExecutableElement attribute : annotation.getElementValues().keySet()) {
+                    if (!"value".contentEquals(attribute.getSimpleName())) {
+                        throw new SkipException(simpleName(name) + "." + attribute.getSimpleName() + " on " + member.getSimpleName());
+                    }
+                }
+            } else if (!(JSON_ANY_SETTER.equals(name) && JSON_MAPPING.contentEquals(owner.getQualifiedName()))) {
+                throw new SkipException(simpleName(name) + " on " + member.getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Get the class and its super classes, without Object
+     */
+    private List<TypeElement> superClasses(TypeElement type) {
+        List<TypeElement> classes = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !Object.class.getName().contentEquals(current.getQualifiedName())) {
+            classes.add(current);
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return classes;
+    }
+
+    /**
+     * Get the instance methods of the class, with the annotations of any
+     * overridden methods added to the overriding method, as Jackson does
+     */
+    private List<Method> methods(TypeElement type, List<TypeElement> hierarchy) {
+        List<Method> methods = new ArrayList<>();
+        for (TypeElement current : hierarchy) {
+            for (Element member : current.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.METHOD || member.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+
+                ExecutableElement method = (ExecutableElement) member;
+                Method overriding = null;
+                for (Method existing : methods) {
+                    if (elements.overrides(existing.element, method, type)) {
+                        overriding = existing;
+                        break;
+                    }
+                }
+
+                if (overriding == null) {
+                    methods.add(new Method(method));
+                } else {
+                    overriding.inherit(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private void addField(Map<String, Group> groups, VariableElement field) throws SkipException {
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            return;
+        }
+
+        AnnotationMirror annotation = findAnnotation(field, JSON_PROPERTY);
+        if (annotation == null && field.getModifiers().contains(Modifier.TRANSIENT)) {
+            return;
+        }
+
+        Group group = group(groups, field.getSimpleName().toString());
+        if (!group.fields.isEmpty()) {
+            throw new SkipException("field " + field.getSimpleName() + " is hidden");
+        }
+        group.fields.add(field);
+        group.addName(annotation);
+    }
+
+    private void addMethod(Map<String, Group> groups, Method method) throws SkipException {
+        ExecutableElement element = method.element;
+        String name = element.getSimpleName().toString();
+        AnnotationMirror annotation = method.findAnnotation(JSON_PROPERTY);
+        if (annotation == null) {
+            annotation = method.findAnnotation(JSON_SETTER);
+        }
+
+        // Annotated methods that do not follow the naming use the method name
+        int parameters = element.getParameters().size();
+        if (parameters == 1 && name.startsWith("set") && name.length() > 3) {
+            Group group = group(groups, manglePropertyName(name, 3));
+            group.setters.add(method);
+            group.addName(annotation);
+        } else if (parameters == 1 && annotation != null) {
+            Group group = group(groups, name);
+            group.setters.add(method);
+            group.addName(annotation);
+        } else if (parameters == 0 && isGetter(element)) {
+            Group group = group(groups, manglePropertyName(name, name.startsWith("is") ? 2 : 3));
+            group.getters.add(method);
+            group.addName(annotation);
+        } else if (annotation != null) {
+            throw new SkipException("annotated method " + name + " is not a setter or getter");
+        }
+    }
+
+    private boolean isGetter(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        TypeMirror returnType = method.getReturnType();
+        if (name.startsWith("get") && name.length() > 3) {
+            return returnType.getKind() != TypeKind.VOID;
+        }
+        return name.startsWith("is") && name.length() > 2 && returnType.getKind() == TypeKind.BOOLEAN;
+    }
+
+    private Group group(Map<String, Group> groups, String implicitName) {
+        return groups.computeIfAbsent(implicitName, Group::new);
+    }
+
+    /**
+     * Jackson's default naming of the property from the setter or getter
+     * name, "setURL" is "url" and "setExternalIDs" is "externalIDs"
+     */
+    static String manglePropertyName(String methodName, int offset) {
+        char c = methodName.charAt(offset);
+        char d = Character.toLowerCase(c);
+        if (c == d) {
+            return methodName.substring(offset);
+        }
+
+        StringBuilder sb = new StringBuilder(methodName.length() - offset);
+        sb.append(d);
+        for (int i = offset + 1; i < methodName.length(); i++) {
+            c = methodName.charAt(i);
+            d = Character.toLowerCase(c);
+            if (c == d) {
+                sb.append(methodName, i, methodName.length());
+                break;
+            }
+            sb.append(d);
+        }
+        return sb.toString();
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String name) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (name.equals(annotationName(annotation))) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static String annotationName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String simpleName(String name) {
+        return "@" + name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static String annotationValue(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if ("value".contentEquals(entry.getKey().getSimpleName())) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+        return "";
+    }
+
+    private boolean isAccessible(Element member, TypeElement type) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && elements.getPackageOf(member).equals(elements.getPackageOf(type));
+    }
+
+    private boolean isContainer(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        for (Class<?> container : new Class<?>[]{java.util.Collection.class, java.util.Map.class}) {
+            TypeElement element = elements.getTypeElement(container.getName());
+            if (types.isAssignable(erased, types.erasure(element.asType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A method and the annotations of the methods it overrides
+     */
+    private static final class Method {
+
+        private final ExecutableElement element;
+        private final List<ExecutableElement> overridden = new ArrayList<>();
+
+        Method(ExecutableElement element) {
+            this.element = element;
+        }
+
+        void inherit(ExecutableElement method) {
+            overridden.add(method);
+        }
+
+        AnnotationMirror findAnnotation(String name) {
+            AnnotationMirror annotation = BeanAnalyser.findAnnotation(element, name);
+            for (int i = 0; annotation == null && i < overridden.size(); i++) {
+                annotation = BeanAnalyser.findAnnotation(overridden.get(i), name);
+            }
+            return annotation;
+        }
+
+        boolean isAnnotated() {
+            return findAnnotation(JSON_PROPERTY) != null || findAnnotation(JSON_SETTER) != null;
+        }
+    }
+
+    /**
+     * The fields and methods that share an implicit property name
+     */
+    private final class Group {
+
+        private final String implicitName;
+        private final Set<String> explicitNames = new LinkedHashSet<>();
+        private final List<VariableElement> fields = new ArrayList<>();
+        private final List<Method> setters = new ArrayList<>();
+        private final List<Method> getters = new ArrayList<>();
+
+        Group(String implicitName) {
+            this.implicitName = implicitName;
+        }
+
+        void addName(AnnotationMirror annotation) {
+            if (annotation != null) {
+                String value = annotationValue(annotation);
+                if (!value.isEmpty()) {
+                    explicitNames.add(value);
+                }
+            }
+        }
+
+        BeanModel.Property toProperty(TypeElement type) throws SkipException {
+            if (explicitNames.size() > 1) {
+                throw new SkipException("'" + implicitName + "' is renamed to " + explicitNames);
+            }
+            String name = explicitNames.isEmpty() ? implicitName : explicitNames.iterator().next();
+            DeclaredType declared = (DeclaredType) type.asType();
+
+            // Any setter will do, but annotated setters win
+            List<Method> candidates = new ArrayList<>();
+            for (Method setter : setters) {
+                if (setter.isAnnotated()) {
+                    candidates.add(setter);
+                }
+            }
+            if (candidates.isEmpty()) {
+                candidates.addAll(setters);
+            }
+            if (candidates.size() > 1) {
+                throw new SkipException("conflicting setters for '" + name + "'");
+            }
+            if (candidates.size() == 1) {
+                ExecutableElement setter = candidates.get(0).element;
+                if (!isAccessible(setter, type)) {
+                    throw new SkipException("setter " + setter.getSimpleName() + " is not accessible");
+                }
+                ExecutableType setterType = (ExecutableType) types.asMemberOf(declared, setter);
+                return new BeanModel.Property(name, setter.getSimpleName().toString(), BeanModel.Access.SETTER, setterType.getParameterTypes().get(0));
+            }
+
+            Method visibleGetter = null;
+            for (Method getter : getters) {
+                if (getter.element.getModifiers().contains(Modifier.PUBLIC) || getter.findAnnotation(JSON_PROPERTY) != null) {
+                    if (visibleGetter != null) {
+                        throw new SkipException("conflicting getters for '" + name + "'");
+                    }
+                    visibleGetter = getter;
+                }
+            }
+
+            // Hidden fields are still set when the property has a getter
+            VariableElement field = null;
+            for (VariableElement candidate : fields) {
+                if (visibleGetter != null || findAnnotation(candidate, JSON_PROPERTY) != null || candidate.getModifiers().contains(Modifier.PUBLIC)) {
+                    field = candidate;
+                }
+            }
+            if (field != null) {
+                if (!isAccessible(field, type) || field.getModifiers().contains(Modifier.FINAL)) {
+                    throw new SkipException("field " + field.getSimpleName() + " has no setter");
+                }
+                return new BeanModel.Property(name, field.getSimpleName().toString(), BeanModel.Access.FIELD, types.asMemberOf(declared, field));
+            }
+
+            // Collections and maps without a setter are added to
+            if (visibleGetter != null && isContainer(visibleGetter.element.getReturnType())) {
+                ExecutableElement getter = visibleGetter.element;
+                if (!isAccessible(getter, type)) {
+                    throw new SkipException("getter " + getter.getSimpleName() + " is not accessible");
+                }
+                ExecutableType getterType = (ExecutableType) types.asMemberOf(declared, getter);
+                return new BeanModel.Property(name, getter.getSimpleName().toString(), BeanModel.Access.GETTER, getterType.getReturnType());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Thrown when a class cannot be generated
+     */
+    static final class SkipException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        SkipException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * The properties of a model class that can be set by a generated
+ * deserializer.
+ *
+ * @author Stuart
+ */
+final class BeanModel {
+
+    private final TypeElement type;
+    private final List<Property> properties = new ArrayList<>();
+
+    BeanModel(TypeElement type) {
+        this.type = type;
+    }
+
+    TypeElement getType() {
+        return type;
+    }
+
+    List<Property> getProperties() {
+        return properties;
+    }
+
+    void addProperty(Property property) {
+        properties.add(property);
+    }
+
+    /**
+     * How the property is set
+     */
+    enum Access {
+        SETTER,
+        FIELD,
+        /**
+         * A collection or map returned by the getter is added to
+         */
+        GETTER
+    }
+
+    /**
+     * A single JSON property and the member it maps to
+     */
+    static final class Property {
+
+        private final String jsonName;
+        private final String member;
+        private final Access access;
+        private final TypeMirror valueType;
+
+        Property(String jsonName, String member, Access access, TypeMirror valueType) {
+            this.jsonName = jsonName;
+            this.member = member;
+            this.access = access;
+            this.valueType = valueType;
+        }
+
+        String getJsonName() {
+            return jsonName;
+        }
+
+        /**
+         * @return The name of the method or field
+         */
+        String getMember() {
+            return member;
+        }
+
+        Access getAccess() {
+            return access;
+        }
+
+        TypeMirror getValueType() {
+            return valueType;
+        }
+    }
+}
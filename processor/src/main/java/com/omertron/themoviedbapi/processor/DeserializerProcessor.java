@@ -0,0 +1,120 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a Jackson deserializer for each model class from its
+ * {@code @JsonProperty} and {@code @JsonSetter} annotations.
+ * <p>
+ * The deserializers read the properties with a switch on the name and call
+ * the setters directly, so Jackson does not need to introspect the model
+ * when the mapper is created. They are registered by the generated
+ * GeneratedDeserializerModule, which ObjectReaders picks up when it is on the
+ * class path.
+ * <p>
+ * Classes that use any other Jackson feature, such as polymorphic types, or
+ * have properties that can only be set with reflection are skipped and left
+ * to Jackson. The reason is given in a note for each one.
+ *
+ * @author Stuart
+ */
+@SupportedAnnotationTypes("*")
+public class DeserializerProcessor extends AbstractProcessor {
+
+    private static final String BASE_CLASS = "com.omertron.themoviedbapi.model.AbstractGeneratedDeserializer";
+    private boolean processed = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // All of the model is in the first round, later rounds are our output
+        if (processed || roundEnv.processingOver()) {
+            return false;
+        }
+        processed = true;
+
+        Messager messager = processingEnv.getMessager();
+        if (processingEnv.getElementUtils().getTypeElement(BASE_CLASS) == null) {
+            messager.printMessage(Diagnostic.Kind.WARNING, BASE_CLASS + " not found, no deserializers generated");
+            return false;
+        }
+
+        BeanAnalyser analyser = new BeanAnalyser(processingEnv);
+        DeserializerWriter writer = new DeserializerWriter(processingEnv);
+        List<TypeElement> generated = new ArrayList<>();
+        int skipped = 0;
+
+        List<TypeElement> classes = new ArrayList<>();
+        addClasses(roundEnv.getRootElements(), classes);
+        for (TypeElement type : classes) {
+            if (!analyser.isModel(type)) {
+                continue;
+            }
+
+            try {
+                writer.writeDeserializer(analyser.analyse(type));
+                generated.add(type);
+            } catch (BeanAnalyser.SkipException ex) {
+                skipped++;
+                messager.printMessage(Diagnostic.Kind.NOTE, "No deserializer for " + type.getQualifiedName() + ": " + ex.getMessage());
+            } catch (IOException ex) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write the deserializer: " + ex.getMessage(), type);
+            }
+        }
+
+        if (!generated.isEmpty()) {
+            try {
+                writer.writeModule(generated);
+            } catch (IOException ex) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write the module: " + ex.getMessage());
+            }
+        }
+        messager.printMessage(Diagnostic.Kind.NOTE, "Generated " + generated.size() + " deserializers, skipped " + skipped + " classes");
+        return false;
+    }
+
+    /**
+     * Add the classes, including the nested classes
+     */
+    private static void addClasses(Iterable<? extends Element> elements, List<TypeElement> classes) {
+        for (TypeElement type : ElementFilter.typesIn(elements)) {
+            classes.add(type);
+            addClasses(type.getEnclosedElements(), classes);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the source of the deserializers and the module that registers them
+ *
+ * @author Stuart
+ */
+final class DeserializerWriter {
+
+    static final String MODULE_PACKAGE = "com.omertron.themoviedbapi.model";
+    static final String MODULE_NAME = "GeneratedDeserializerModule";
+    private static final String SUFFIX = "_Deserializer";
+    private static final String INDENT = "    ";
+
+    private final Filer filer;
+    private final Elements elements;
+    private final Types types;
+
+    DeserializerWriter(ProcessingEnvironment processingEnv) {
+        this.filer = processingEnv.getFiler();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * Get the name of the generated deserializer for the type
+     *
+     * @param type
+     * @return The fully qualified name
+     */
+    String deserializerName(TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String className = type.getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            className = className.substring(packageName.length() + 1);
+        }
+        return (packageName.isEmpty() ? "" : packageName + ".") + className.replace('.', '_') + SUFFIX;
+    }
+
+    /**
+     * Write the deserializer for the model
+     *
+     * @param model
+     * @throws IOException
+     * @throws BeanAnalyser.SkipException if a property type is not supported
+     */
+    void writeDeserializer(BeanModel model) throws IOException, BeanAnalyser.SkipException {
+        TypeElement type = model.getType();
+        String typeName = type.getQualifiedName().toString();
+        String name = deserializerName(type);
+        int dot = name.lastIndexOf('.');
+        String packageName = dot < 0 ? "" : name.substring(0, dot);
+        String simpleName = name.substring(dot + 1);
+
+        // One deserializer for each distinct property type
+        Map<String, String> deserializers = new LinkedHashMap<>();
+        StringBuilder cases = new StringBuilder();
+        for (BeanModel.Property property : model.getProperties()) {
+            String javaType = javaType(property.getValueType());
+            String field = deserializers.get(javaType);
+            if (field == null) {
+                field = "deser" + deserializers.size();
+                deserializers.put(javaType, field);
+            }
+
+            line(cases, 3, "case \"" + escape(property.getJsonName()) + "\":");
+            switch (property.getAccess()) {
+                case SETTER:
+                    line(cases, 4, "bean." + property.getMember() + "(" + readValue(property.getValueType(), field, property.getJsonName()) + ");");
+                    break;
+                case FIELD:
+                    line(cases, 4, "bean." + property.getMember() + " = " + readValue(property.getValueType(), field, property.getJsonName()) + ";");
+                    break;
+                default:
+                    line(cases, 4, "readInto(" + field + ", p, ctxt, bean." + property.getMember() + "(), \"" + escape(property.getJsonName()) + "\");");
+                    break;
+            }
+            line(cases, 4, "return true;");
+        }
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            line(src, 0, "package " + packageName + ";");
+            src.append('\n');
+        }
+        line(src, 0, "import com.fasterxml.jackson.core.JsonParser;");
+        line(src, 0, "import com.fasterxml.jackson.databind.DeserializationContext;");
+        line(src, 0, "import com.fasterxml.jackson.databind.JsonDeserializer;");
+        line(src, 0, "import com.fasterxml.jackson.databind.JsonMappingException;");
+        line(src, 0, "import com.fasterxml.jackson.databind.type.TypeFactory;");
+        line(src, 0, "import com.omertron.themoviedbapi.model.AbstractGeneratedDeserializer;");
+        line(src, 0, "import java.io.IOException;");
+        src.append('\n');
+        line(src, 0, "/**");
+        line(src, 0, " * Deserializer for {@link " + typeName + "}");
+        line(src, 0, " * <p>");
+        line(src, 0, " * Generated by " + DeserializerProcessor.class.getName() + ", do not edit.");
+        line(src, 0, " */");
+        line(src, 0, "public final class " + simpleName + " extends AbstractGeneratedDeserializer<" + typeName + "> {");
+        src.append('\n');
+        line(src, 1, "private static final long serialVersionUID = 1L;");
+        for (String field : deserializers.values()) {
+            line(src, 1, "private transient JsonDeserializer<Object> " + field + ";");
+        }
+        src.append('\n');
+        line(src, 1, "public " + simpleName + "() {");
+        line(src, 2, "super(" + typeName + ".class);");
+        line(src, 1, "}");
+        src.append('\n');
+        line(src, 1, "@Override");
+        line(src, 1, "protected " + typeName + " create() {");
+        line(src, 2, "return new " + typeName + "();");
+        line(src, 1, "}");
+        src.append('\n');
+        line(src, 1, "@Override");
+        line(src, 1, "protected void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {");
+        line(src, 2, "TypeFactory tf = ctxt.getTypeFactory();");
+        for (Map.Entry<String, String> entry : deserializers.entrySet()) {
+            line(src, 2, entry.getValue() + " = find(ctxt, " + entry.getKey() + ");");
+        }
+        line(src, 1, "}");
+        src.append('\n');
+        line(src, 1, "@Override");
+        line(src, 1, "@SuppressWarnings(\"unchecked\")");
+        line(src, 1, "protected boolean setProperty(" + typeName + " bean, String name, JsonParser p, DeserializationContext ctxt) throws IOException {");
+        line(src, 2, "switch (name) {");
+        src.append(cases);
+        line(src, 3, "default:");
+        line(src, 4, "return false;");
+        line(src, 2, "}");
+        line(src, 1, "}");
+        line(src, 0, "}");
+
+        write(name, src, type);
+    }
+
+    /**
+     * Write the module that registers the deserializers
+     *
+     * @param generated The types with a deserializer
+     * @throws IOException
+     */
+    void writeModule(List<TypeElement> generated) throws IOException {
+        StringBuilder src = new StringBuilder();
+        line(src, 0, "package " + MODULE_PACKAGE + ";");
+        src.append('\n');
+        line(src, 0, "import com.fasterxml.jackson.core.Version;");
+        line(src, 0, "import com.fasterxml.jackson.databind.BeanDescription;");
+        line(src, 0, "import com.fasterxml.jackson.databind.DeserializationConfig;");
+        line(src, 0, "import com.fasterxml.jackson.databind.JavaType;");
+        line(src, 0, "import com.fasterxml.jackson.databind.JsonDeserializer;");
+        line(src, 0, "import com.fasterxml.jackson.databind.Module;");
+        line(src, 0, "import com.fasterxml.jackson.databind.deser.Deserializers;");
+        line(src, 0, "import java.util.Collections;");
+        line(src, 0, "import java.util.HashMap;");
+        line(src, 0, "import java.util.Map;");
+        line(src, 0, "import java.util.Set;");
+        line(src, 0, "import java.util.function.Supplier;");
+        src.append('\n');
+        line(src, 0, "/**");
+        line(src, 0, " * Registers the generated deserializers with a mapper.");
+        line(src, 0, " * <p>");
+        line(src, 0, " * Each mapper gets its own instances, as they hold the deserializers of the");
+        line(src, 0, " * properties found by that mapper.");
+        line(src, 0, " * <p>");
+        line(src, 0, " * Generated by " + DeserializerProcessor.class.getName() + ", do not edit.");
+        line(src, 0, " */");
+        line(src, 0, "public final class " + MODULE_NAME + " extends Module {");
+        src.append('\n');
+        line(src, 1, "private static final Map<Class<?>, Supplier<JsonDeserializer<?>>> DESERIALIZERS = new HashMap<>();");
+        src.append('\n');
+        line(src, 1, "static {");
+        for (TypeElement type : generated) {
+            line(src, 2, "DESERIALIZERS.put(" + type.getQualifiedName() + ".class, " + deserializerName(type) + "::new);");
+        }
+        line(src, 1, "}");
+        src.append('\n');
+        line(src, 1, "/**");
+        line(src, 1, " * @return The classes that have a generated deserializer");
+        line(src, 1, " */");
+        line(src, 1, "public static Set<Class<?>> getTypes() {");
+        line(src, 2, "return Collections.unmodifiableSet(DESERIALIZERS.keySet());");
+        line(src, 1, "}");
+        src.append('\n');
+        line(src, 1, "@Override");
+        line(src, 1, "public String getModuleName() {");
+        line(src, 2, "return \"" + MODULE_NAME + "\";");
+        line(src, 1, "}");
+        src.append('\n');
+        line(src, 1, "@Override");
+        line(src, 1, "public Version version() {");
+        line(src, 2, "return Version.unknownVersion();");
+        line(src, 1, "}");
+        src.append('\n');
+        line(src, 1, "@Override");
+        line(src, 1, "public void setupModule(SetupContext context) {");
+        line(src, 2, "context.addDeserializers(new Deserializers.Base() {");
+        line(src, 3, "@Override");
+        line(src, 3, "public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {");
+        line(src, 4, "Supplier<JsonDeserializer<?>> supplier = DESERIALIZERS.get(type.getRawClass());");
+        line(src, 4, "return supplier == null ? null : supplier.get();");
+        line(src, 3, "}");
+        line(src, 2, "});");
+        line(src, 1, "}");
+        line(src, 0, "}");
+
+        write(MODULE_PACKAGE + "." + MODULE_NAME, src, generated.toArray(new Element[generated.size()]));
+    }
+
+    private void write(String name, StringBuilder src, Element... originatingElements) throws IOException {
+        try (Writer writer = filer.createSourceFile(name, originatingElements).openWriter()) {
+            writer.write(src.toString());
+        }
+    }
+
+    /**
+     * Get the code that reads the value, the simple types are read from the
+     * parser directly
+     */
+    private String readValue(TypeMirror type, String field, String jsonName) {
+        String args = "(" + field + ", p, ctxt)";
+        switch (type.getKind()) {
+            case INT:
+                return "readInt" + args;
+            case LONG:
+                return "readLong" + args;
+            case FLOAT:
+                return "readFloat" + args;
+            case DOUBLE:
+                return "readDouble" + args;
+            case BOOLEAN:
+                return "readBoolean" + args;
+            case BYTE:
+            case SHORT:
+            case CHAR:
+                return "(" + types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName() + ") read" + args;
+            default:
+                if (String.class.getName().equals(type.toString())) {
+                    // Passes the name for the string pool
+                    return "readString(" + field + ", p, ctxt, \"" + escape(jsonName) + "\")";
+                }
+                return "(" + type + ") read" + args;
+        }
+    }
+
+    /**
+     * Get the code that creates the Jackson type for the Java type
+     */
+    private String javaType(TypeMirror type) throws BeanAnalyser.SkipException {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return "tf.constructType(" + type + ".class)";
+            case ARRAY:
+                return "tf.constructArrayType(" + javaType(((ArrayType) type).getComponentType()) + ")";
+            case DECLARED:
+                List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+                String raw = types.erasure(type) + ".class";
+                if (arguments.isEmpty()) {
+                    return "tf.constructType(" + raw + ")";
+                }
+                StringBuilder sb = new StringBuilder("tf.constructParametricType(").append(raw);
+                for (TypeMirror argument : arguments) {
+                    sb.append(", ").append(javaType(argument));
+                }
+                return sb.append(')').toString();
+            case WILDCARD:
+                // Jackson uses the upper bound
+                TypeMirror bound = ((WildcardType) type).getExtendsBound();
+                return bound == null ? "tf.constructType(Object.class)" : javaType(bound);
+            default:
+                throw new BeanAnalyser.SkipException("unsupported type " + type);
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static void line(StringBuilder sb, int indent, String text) {
+        for (int i = 0; i < indent; i++) {
+            sb.append(INDENT);
+        }
+        sb.append(text).append('\n');
+    }
+}
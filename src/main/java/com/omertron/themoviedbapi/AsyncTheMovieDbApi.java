@@ -0,0 +1,1822 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.enumeration.ExternalSource;
+import com.omertron.themoviedbapi.enumeration.MediaType;
+import com.omertron.themoviedbapi.enumeration.SearchType;
+import com.omertron.themoviedbapi.enumeration.SortBy;
+import com.omertron.themoviedbapi.interfaces.ApiCall;
+import com.omertron.themoviedbapi.model.Certification;
+import com.omertron.themoviedbapi.model.FindResults;
+import com.omertron.themoviedbapi.model.Genre;
+import com.omertron.themoviedbapi.model.StatusCode;
+import com.omertron.themoviedbapi.model.account.Account;
+import com.omertron.themoviedbapi.model.artwork.Artwork;
+import com.omertron.themoviedbapi.model.artwork.ArtworkMedia;
+import com.omertron.themoviedbapi.model.authentication.TokenAuthorisation;
+import com.omertron.themoviedbapi.model.authentication.TokenSession;
+import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
+import com.omertron.themoviedbapi.model.change.ChangeListItem;
+import com.omertron.themoviedbapi.model.collection.Collection;
+import com.omertron.themoviedbapi.model.collection.CollectionInfo;
+import com.omertron.themoviedbapi.model.company.Company;
+import com.omertron.themoviedbapi.model.config.Configuration;
+import com.omertron.themoviedbapi.model.config.JobDepartment;
+import com.omertron.themoviedbapi.model.credits.CreditBasic;
+import com.omertron.themoviedbapi.model.credits.CreditMovieBasic;
+import com.omertron.themoviedbapi.model.credits.CreditTVBasic;
+import com.omertron.themoviedbapi.model.discover.Discover;
+import com.omertron.themoviedbapi.model.keyword.Keyword;
+import com.omertron.themoviedbapi.model.list.ListItem;
+import com.omertron.themoviedbapi.model.list.UserList;
+import com.omertron.themoviedbapi.model.media.AlternativeTitle;
+import com.omertron.themoviedbapi.model.media.MediaBasic;
+import com.omertron.themoviedbapi.model.media.MediaCreditList;
+import com.omertron.themoviedbapi.model.media.MediaState;
+import com.omertron.themoviedbapi.model.media.Translation;
+import com.omertron.themoviedbapi.model.media.Video;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.movie.ReleaseInfo;
+import com.omertron.themoviedbapi.model.network.Network;
+import com.omertron.themoviedbapi.model.person.ContentRating;
+import com.omertron.themoviedbapi.model.person.CreditInfo;
+import com.omertron.themoviedbapi.model.person.ExternalID;
+import com.omertron.themoviedbapi.model.person.PersonCreditList;
+import com.omertron.themoviedbapi.model.person.PersonFind;
+import com.omertron.themoviedbapi.model.person.PersonInfo;
+import com.omertron.themoviedbapi.model.review.Review;
+import com.omertron.themoviedbapi.model.tv.TVBasic;
+import com.omertron.themoviedbapi.model.tv.TVEpisodeInfo;
+import com.omertron.themoviedbapi.model.tv.TVInfo;
+import com.omertron.themoviedbapi.model.tv.TVSeasonInfo;
+import com.omertron.themoviedbapi.results.ResultList;
+import com.omertron.themoviedbapi.results.ResultsMap;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous version of the TheMovieDbApi.
+ * <p>
+ * Every call is run on the supplied executor and returned as a
+ * CompletableFuture. A permit is only taken from the request limiter when the
+ * call has to go to the server, so calls answered from the response cache are
+ * not throttled. If no executor is supplied a virtual thread per task executor
+ * is used when the JDK supports it, otherwise a cached pool of daemon threads.
+ * <p>
+ * Failures complete the future exceptionally with the MovieDbException as the
+ * cause.
+ *
+ * @author stuart.boston
+ */
+public class AsyncTheMovieDbApi implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncTheMovieDbApi.class);
+    private static final String THREAD_PREFIX = "tmdb-async-";
+    private static final String VIRTUAL_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+
+    private final TheMovieDbApi api;
+    private final Executor executor;
+    // Only shut down executors that were created here
+    private final boolean ownsExecutor;
+
+    /**
+     * Asynchronous API for The Movie Db using the default executor.
+     *
+     * @param apiKey apiKey
+     * @throws MovieDbException exception
+     */
+    public AsyncTheMovieDbApi(String apiKey) throws MovieDbException {
+        this(new TheMovieDbApi(apiKey));
+    }
+
+    /**
+     * Asynchronous API for The Movie Db using the default executor.
+     *
+     * @param api The synchronous API to delegate to
+     */
+    public AsyncTheMovieDbApi(TheMovieDbApi api) {
+        this(api, createDefaultExecutor(), true);
+    }
+
+    /**
+     * Asynchronous API for The Movie Db.
+     *
+     * The executor is not shut down when this API is closed.
+     *
+     * @param api The synchronous API to delegate to
+     * @param executor The executor to run the requests on
+     */
+    public AsyncTheMovieDbApi(TheMovieDbApi api, Executor executor) {
+        this(api, executor, false);
+    }
+
+    private AsyncTheMovieDbApi(TheMovieDbApi api, Executor executor, boolean ownsExecutor) {
+        this.api = api;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Create the default executor.
+     *
+     * Uses a virtual thread per task executor if the JDK provides one (JDK 21+),
+     * otherwise falls back to a cached pool of daemon threads.
+     *
+     * @return ExecutorService
+     */
+    public static ExecutorService createDefaultExecutor() {
+        return createDefaultExecutor(VIRTUAL_EXECUTOR);
+    }
+
+    /**
+     * Create an executor from the named no argument factory method of
+     * Executors, falling back to a cached pool of daemon threads if the method
+     * does not exist.
+     *
+     * @param factoryMethod Name of the factory method
+     * @return ExecutorService
+     */
+    static ExecutorService createDefaultExecutor(String factoryMethod) {
+        try {
+            Method factory = Executors.class.getMethod(factoryMethod);
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            LOG.trace("{} not available, using a cached thread pool: {}", factoryMethod, ex.getMessage());
+        }
+
+        return Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, THREAD_PREFIX + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Get the synchronous API that the calls are delegated to
+     *
+     * @return TheMovieDbApi
+     */
+    public TheMovieDbApi getApi() {
+        return api;
+    }
+
+    /**
+     * Get the executor the calls are run on
+     *
+     * @return Executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Run any call against the API asynchronously.
+     *
+     * @param <T> Type returned by the call
+     * @param call The call to make
+     * @return CompletableFuture of the call result
+     */
+    public <T> CompletableFuture<T> execute(final ApiCall<T> call) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    // Cancelled before it started
+                    return;
+                }
+                try {
+                    future.complete(call.call(api));
+                } catch (MovieDbException | RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        };
+
+        // The limiter is checked by HttpTools on a cache miss, as for the synchronous calls
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    /**
+     * Shut down the executor if it was created by this API.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Account">
+    /**
+     * Get the basic information for an account. You will need to have a valid
+     * session id.
+     *
+     * @param sessionId sessionId
+     * @return CompletableFuture of Account
+     */
+    public CompletableFuture<Account> getAccount(String sessionId) {
+        return execute(api -> api.getAccount(sessionId));
+    }
+
+    /**
+     * Get all lists of a given user
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @return CompletableFuture of The lists
+     */
+    public CompletableFuture<ResultList<UserList>> getUserLists(String sessionId, int accountId) {
+        return execute(api -> api.getUserLists(sessionId, accountId));
+    }
+
+    /**
+     * Get the account favourite movies
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @return CompletableFuture of ResultList
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getFavoriteMovies(String sessionId, int accountId) {
+        return execute(api -> api.getFavoriteMovies(sessionId, accountId));
+    }
+
+    /**
+     * Add or remove a movie to an accounts favourite list.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @param mediaId mediaId
+     * @param mediaType mediaType
+     * @param isFavorite isFavorite
+     * @return CompletableFuture of StatusCode
+     */
+    public CompletableFuture<StatusCode> modifyFavoriteStatus(String sessionId, int accountId, Integer mediaId, MediaType mediaType, boolean isFavorite) {
+        return execute(api -> api.modifyFavoriteStatus(sessionId, accountId, mediaId, mediaType, isFavorite));
+    }
+
+    /**
+     * Get the list of rated movies (and associated rating) for an account.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @param page page
+     * @param sortBy sortBy
+     * @param language language
+     * @return CompletableFuture of ResultList
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getRatedMovies(String sessionId, int accountId, Integer page, String sortBy, String language) {
+        return execute(api -> api.getRatedMovies(sessionId, accountId, page, sortBy, language));
+    }
+
+    /**
+     * Get the list of rated TV shows (and associated rating) for an account.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @param page page
+     * @param sortBy sortBy
+     * @param language language
+     * @return CompletableFuture of ResultList
+     */
+    public CompletableFuture<ResultList<TVBasic>> getRatedTV(String sessionId, int accountId, Integer page, String sortBy, String language) {
+        return execute(api -> api.getRatedTV(sessionId, accountId, page, sortBy, language));
+    }
+
+    /**
+     * Get the list of movies on an accounts watchlist.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @param page page
+     * @param sortBy sortBy
+     * @param language language
+     * @return CompletableFuture of The watchlist of the user
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getWatchListMovie(String sessionId, int accountId, Integer page, String sortBy, String language) {
+        return execute(api -> api.getWatchListMovie(sessionId, accountId, page, sortBy, language));
+    }
+
+    /**
+     * Get the list of movies on an accounts watchlist.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @param page page
+     * @param sortBy sortBy
+     * @param language language
+     * @return CompletableFuture of The watchlist of the user
+     */
+    public CompletableFuture<ResultList<TVBasic>> getWatchListTV(String sessionId, int accountId, Integer page, String sortBy, String language) {
+        return execute(api -> api.getWatchListTV(sessionId, accountId, page, sortBy, language));
+    }
+
+    /**
+     * Add a movie to an accounts watch list.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @param mediaId mediaId
+     * @param mediaType mediaType
+     * @return CompletableFuture of StatusCode
+     */
+    public CompletableFuture<StatusCode> addToWatchList(String sessionId, int accountId, MediaType mediaType, Integer mediaId) {
+        return execute(api -> api.addToWatchList(sessionId, accountId, mediaType, mediaId));
+    }
+
+    /**
+     * Remove a movie from an accounts watch list.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @param mediaId mediaId
+     * @param mediaType mediaType
+     * @return CompletableFuture of StatusCode
+     */
+    public CompletableFuture<StatusCode> removeFromWatchList(String sessionId, int accountId, MediaType mediaType, Integer mediaId) {
+        return execute(api -> api.removeFromWatchList(sessionId, accountId, mediaType, mediaId));
+    }
+
+    /**
+     * Get the list of favorite TV series for an account.
+     *
+     * @param sessionId sessionId
+     * @param accountId accountId
+     * @return CompletableFuture of ResultList
+     */
+    public CompletableFuture<ResultList<TVBasic>> getFavoriteTv(String sessionId, int accountId) {
+        return execute(api -> api.getFavoriteTv(sessionId, accountId));
+    }
+
+    /**
+     * Get a list of rated movies for a specific guest session id.
+     *
+     * @param guestSessionId guestSessionId
+     * @param language language
+     * @param page page
+     * @param sortBy only CREATED_AT_ASC or CREATED_AT_DESC is supported
+     * @return CompletableFuture of ResultList
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getGuestRatedMovies(String guestSessionId, String language, Integer page, SortBy sortBy) {
+        return execute(api -> api.getGuestRatedMovies(guestSessionId, language, page, sortBy));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Authentication">
+    /**
+     * This method is used to generate a valid request token for user based
+     * authentication.
+     *
+     * A request token is required in order to request a session id.
+     *
+     * You can generate any number of request tokens but they will expire after
+     * 60 minutes.
+     *
+     * As soon as a valid session id has been created the token will be
+     * destroyed.
+     *
+     * @return CompletableFuture of TokenAuthorisation
+     */
+    public CompletableFuture<TokenAuthorisation> getAuthorisationToken() {
+        return execute(api -> api.getAuthorisationToken());
+    }
+
+    /**
+     * This method is used to generate a session id for user based
+     * authentication.
+     *
+     * A session id is required in order to use any of the write methods.
+     *
+     * @param token token
+     * @return CompletableFuture of TokenSession
+     */
+    public CompletableFuture<TokenSession> getSessionToken(TokenAuthorisation token) {
+        return execute(api -> api.getSessionToken(token));
+    }
+
+    /**
+     * This method is used to generate a session id for user based
+     * authentication. User must provide their username and password
+     *
+     * A session id is required in order to use any of the write methods.
+     *
+     * @param token Session token
+     * @param username User's username
+     * @param password User's password
+     * @return CompletableFuture of TokenAuthorisation
+     */
+    public CompletableFuture<TokenAuthorisation> getSessionTokenLogin(TokenAuthorisation token, String username, String password) {
+        return execute(api -> api.getSessionTokenLogin(token, username, password));
+    }
+
+    /**
+     * This method is used to generate a guest session id.
+     *
+     * A guest session can be used to rate movies without having a registered
+     * TMDb user account.
+     *
+     * You should only generate a single guest session per user (or device) as
+     * you will be able to attach the ratings to a TMDb user account in the
+     * future.
+     *
+     * There are also IP limits in place so you should always make sure it's the
+     * end user doing the guest session actions.
+     *
+     * If a guest session is not used for the first time within 24 hours, it
+     * will be automatically discarded.
+     * 
+     * @return CompletableFuture of TokenSession
+     */
+    public CompletableFuture<TokenSession> getGuestSessionToken() {
+        return execute(api -> api.getGuestSessionToken());
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Certifications">
+    /**
+     * Get a list of movies certification.
+     *
+     * @return CompletableFuture of ResultsMap
+     */
+    public CompletableFuture<ResultsMap<String, List<Certification>>> getMoviesCertification() {
+        return execute(api -> api.getMoviesCertification());
+    }
+
+    /**
+     * Get a list of tv certification.
+     *
+     * @return CompletableFuture of ResultsMap
+     */
+    public CompletableFuture<ResultsMap<String, List<Certification>>> getTvCertification() {
+        return execute(api -> api.getTvCertification());
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Changes">
+    /**
+     * Get a list of Movie IDs that have been edited.
+     *
+     * You can then use the movie changes API to get the actual data that has
+     * been changed.
+     *
+     * @param page page
+     * @param startDate the start date of the changes, optional
+     * @param endDate the end date of the changes, optional
+     * @return CompletableFuture of List of changed movie
+     */
+    public CompletableFuture<ResultList<ChangeListItem>> getMovieChangeList(Integer page, String startDate, String endDate) {
+        return execute(api -> api.getMovieChangeList(page, startDate, endDate));
+    }
+
+    /**
+     * Get a list of TV IDs that have been edited.
+     *
+     * You can then use the TV changes API to get the actual data that has been
+     * changed.
+     *
+     * @param page page
+     * @param startDate the start date of the changes, optional
+     * @param endDate the end date of the changes, optional
+     * @return CompletableFuture of List of changed movie
+     */
+    public CompletableFuture<ResultList<ChangeListItem>> getTvChangeList(Integer page, String startDate, String endDate) {
+        return execute(api -> api.getTvChangeList(page, startDate, endDate));
+    }
+
+    /**
+     * Get a list of PersonInfo IDs that have been edited.
+     *
+     * You can then use the person changes API to get the actual data that has
+     * been changed.
+     *
+     * @param page page
+     * @param startDate the start date of the changes, optional
+     * @param endDate the end date of the changes, optional
+     * @return CompletableFuture of List of changed movie
+     */
+    public CompletableFuture<ResultList<ChangeListItem>> getPersonChangeList(Integer page, String startDate, String endDate) {
+        return execute(api -> api.getPersonChangeList(page, startDate, endDate));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Collections">
+    /**
+     * This method is used to retrieve all of the basic information about a
+     * movie collection.
+     *
+     * You can get the ID needed for this method by making a getMovieInfo
+     * request for the belongs_to_collection.
+     *
+     * @param collectionId collectionId
+     * @param language language
+     * @return CompletableFuture of CollectionInfo
+     */
+    public CompletableFuture<CollectionInfo> getCollectionInfo(int collectionId, String language) {
+        return execute(api -> api.getCollectionInfo(collectionId, language));
+    }
+
+    /**
+     * Get all of the images for a particular collection by collection id.
+     *
+     * @param collectionId collectionId
+     * @param language language
+     * @return CompletableFuture of ResultList
+     */
+    public CompletableFuture<ResultList<Artwork>> getCollectionImages(int collectionId, String language) {
+        return execute(api -> api.getCollectionImages(collectionId, language));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Companies">
+    /**
+     * This method is used to retrieve the basic information about a production
+     * company on TMDb.
+     *
+     * @param companyId companyId
+     * @return CompletableFuture of Company
+     */
+    public CompletableFuture<Company> getCompanyInfo(int companyId) {
+        return execute(api -> api.getCompanyInfo(companyId));
+    }
+
+    /**
+     * This method is used to retrieve the movies associated with a company.
+     *
+     * These movies are returned in order of most recently released to oldest.
+     * The default response will return 20 movies per page.
+     *
+     * @param companyId companyId
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getCompanyMovies(int companyId, String language, Integer page) {
+        return execute(api -> api.getCompanyMovies(companyId, language, page));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Configuration">
+    /**
+     * Get the configuration information
+     *
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Configuration> getConfiguration() {
+        return execute(api -> api.getConfiguration());
+    }
+
+    /**
+     * Generate the full image URL from the size and image path
+     *
+     * @param imagePath imagePath
+     * @param requiredSize requiredSize
+     * @return CompletableFuture
+     */
+    public CompletableFuture<URL> createImageUrl(String imagePath, String requiredSize) {
+        return execute(api -> api.createImageUrl(imagePath, requiredSize));
+    }
+
+    /**
+     * Get a list of valid jobs
+     *
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<JobDepartment>> getJobs() {
+        return execute(api -> api.getJobs());
+    }
+
+    /**
+     * Get the list of supported timezones for the API methods that support
+     * them.
+     *
+     */
+    public CompletableFuture<ResultsMap<String, List<String>>> getTimezones() {
+        return execute(api -> api.getTimezones());
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Credits">
+    /**
+     * Get the detailed information about a particular credit record.
+     * <p>
+     * This is currently only supported with the new credit model found in TV.
+     *
+     * These IDs can be found from any TV credit response as well as the
+     * TV_credits and combined_credits methods for people.<br>
+     * The episodes object returns a list of episodes and are generally going to
+     * be guest stars. <br>
+     * The season array will return a list of season numbers. <br>
+     * Season credits are credits that were marked with the "add to every
+     * season" option in the editing interface and are assumed to be "season
+     * regulars".
+     *
+     * @param creditId creditId
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<CreditInfo> getCreditInfo(String creditId, String language) {
+        return execute(api -> api.getCreditInfo(creditId, language));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Discover">
+    /**
+     * Discover movies by different types of data like average rating, number of
+     * votes, genres and certifications.
+     *
+     * @param discover A discover object containing the search criteria required
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getDiscoverMovies(Discover discover) {
+        return execute(api -> api.getDiscoverMovies(discover));
+    }
+
+    /**
+     * Discover movies by different types of data like average rating, number of
+     * votes, genres and certifications.
+     *
+     * @param discover A discover object containing the search criteria required
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<TVBasic>> getDiscoverTV(Discover discover) {
+        return execute(api -> api.getDiscoverTV(discover));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Find">
+    /**
+     * You con use this method to find movies, tv series or persons using
+     * external ids.
+     *
+     * Supported query ids are
+     * <ul>
+     * <li>Movies: imdb_id</li>
+     * <li>People: imdb_id, freebase_mid, freebase_id, tvrage_id</li>
+     * <li>TV Series: imdb_id, freebase_mid, freebase_id, tvdb_id,
+     * tvrage_id</li>
+     * <li>TV Seasons: freebase_mid, freebase_id, tvdb_id, tvrage_id</li>
+     * <li>TV Episodes: imdb_id, freebase_mid, freebase_id, tvdb_id,
+     * tvrage_idimdb_id, freebase_mid, freebase_id, tvrage_id, tvdb_id.
+     * </ul>
+     *
+     * For details see http://docs.themoviedb.apiary.io/#find
+     *
+     * @param id the external id
+     * @param externalSource one of {@link ExternalSource}.
+     * @param language the language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FindResults> find(String id, ExternalSource externalSource, String language) {
+        return execute(api -> api.find(id, externalSource, language));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Genres">
+    /**
+     * Get the list of Movie genres.
+     *
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Genre>> getGenreMovieList(String language) {
+        return execute(api -> api.getGenreMovieList(language));
+    }
+
+    /**
+     * Get the list of TV genres..
+     *
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Genre>> getGenreTVList(String language) {
+        return execute(api -> api.getGenreTVList(language));
+    }
+
+    /**
+     * Get a list of movies per genre.
+     *
+     * It is important to understand that only movies with more than 10 votes
+     * get listed.
+     *
+     * This prevents movies from 1 10/10 rating from being listed first and for
+     * the first 5 pages.
+     *
+     * @param genreId genreId
+     * @param language language
+     * @param page page
+     * @param includeAllMovies includeAllMovies
+     * @param includeAdult includeAdult
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getGenreMovies(int genreId, String language, Integer page, Boolean includeAllMovies, Boolean includeAdult) {
+        return execute(api -> api.getGenreMovies(genreId, language, page, includeAllMovies, includeAdult));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Keywords">
+    /**
+     * Get the basic information for a specific keyword id.
+     *
+     * @param keywordId keywordId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Keyword> getKeyword(String keywordId) {
+        return execute(api -> api.getKeyword(keywordId));
+    }
+
+    /**
+     * Get the list of movies for a particular keyword by id.
+     *
+     * @param keywordId keywordId
+     * @param language language
+     * @param page page
+     * @return CompletableFuture of List of movies with the keyword
+     */
+    public CompletableFuture<ResultList<MovieBasic>> getKeywordMovies(String keywordId, String language, Integer page) {
+        return execute(api -> api.getKeywordMovies(keywordId, language, page));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Lists">
+    /**
+     * Get a list by its ID
+     *
+     * @param listId listId
+     * @return CompletableFuture of The list and its items
+     */
+    public CompletableFuture<ListItem<MovieInfo>> getList(String listId) {
+        return execute(api -> api.getList(listId));
+    }
+
+    /**
+     * This method lets users create a new list. A valid session id is required.
+     *
+     * @param sessionId sessionId
+     * @param name name
+     * @param description description
+     * @return CompletableFuture of The list id
+     */
+    public CompletableFuture<String> createList(String sessionId, String name, String description) {
+        return execute(api -> api.createList(sessionId, name, description));
+    }
+
+    /**
+     * This method lets users delete a list that they created. A valid session
+     * id is required.
+     *
+     * @param sessionId sessionId
+     * @param listId listId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<StatusCode> deleteList(String sessionId, String listId) {
+        return execute(api -> api.deleteList(sessionId, listId));
+    }
+
+    /**
+     * Check to see if an item is already on a list.
+     *
+     * @param listId listId
+     * @param mediaId mediaId
+     * @return CompletableFuture of true if the item is on the list
+     */
+    public CompletableFuture<Boolean> checkItemStatus(String listId, Integer mediaId) {
+        return execute(api -> api.checkItemStatus(listId, mediaId));
+    }
+
+    /**
+     * This method lets users add new items to a list that they created.
+     *
+     * A valid session id is required.
+     *
+     * @param sessionId sessionId
+     * @param listId listId
+     * @param mediaId mediaId
+     * @return CompletableFuture of true if the movie is on the list
+     */
+    public CompletableFuture<StatusCode> addItemToList(String sessionId, String listId, Integer mediaId) {
+        return execute(api -> api.addItemToList(sessionId, listId, mediaId));
+    }
+
+    /**
+     * This method lets users remove items from a list that they created.
+     *
+     * A valid session id is required.
+     *
+     * @param sessionId sessionId
+     * @param listId listId
+     * @param mediaId mediaId
+     * @return CompletableFuture of true if the movie is on the list
+     */
+    public CompletableFuture<StatusCode> removeItemFromList(String sessionId, String listId, Integer mediaId) {
+        return execute(api -> api.removeItemFromList(sessionId, listId, mediaId));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Movies">
+    /**
+     * This method is used to retrieve all of the basic movie information.
+     *
+     * It will return the single highest rated poster and backdrop.
+     *
+     * ApiExceptionType.MOVIE_ID_NOT_FOUND will be thrown if there are no movies
+     * found.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @param appendToResponse appendToResponse
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MovieInfo> getMovieInfo(int movieId, String language, String... appendToResponse) {
+        return execute(api -> api.getMovieInfo(movieId, language, appendToResponse));
+    }
+
+    /**
+     * This method is used to retrieve all of the basic movie information.
+     *
+     * It will return the single highest rated poster and backdrop.
+     *
+     * ApiExceptionType.MOVIE_ID_NOT_FOUND will be thrown if there are no movies
+     * found.
+     *
+     * @param imdbId imdbId
+     * @param language language
+     * @param appendToResponse appendToResponse
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MovieInfo> getMovieInfoImdb(String imdbId, String language, String... appendToResponse) {
+        return execute(api -> api.getMovieInfoImdb(imdbId, language, appendToResponse));
+    }
+
+    /**
+     * This method lets a user get the status of whether or not the movie has
+     * been rated or added to their favourite or movie watch list.
+     *
+     * A valid session id is required.
+     *
+     * @param movieId movieId
+     * @param sessionId sessionId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaState> getMovieAccountState(int movieId, String sessionId) {
+        return execute(api -> api.getMovieAccountState(movieId, sessionId));
+    }
+
+    /**
+     * This method is used to retrieve all of the alternative titles we have for
+     * a particular movie.
+     *
+     * @param movieId movieId
+     * @param country country
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<AlternativeTitle>> getMovieAlternativeTitles(int movieId, String country) {
+        return execute(api -> api.getMovieAlternativeTitles(movieId, country));
+    }
+
+    /**
+     * Get the cast and crew information for a specific movie id.
+     *
+     * @param movieId movieId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaCreditList> getMovieCredits(int movieId) {
+        return execute(api -> api.getMovieCredits(movieId));
+    }
+
+    /**
+     * This method should be used when you’re wanting to retrieve all of the
+     * images for a particular movie.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Artwork>> getMovieImages(int movieId, String language) {
+        return execute(api -> api.getMovieImages(movieId, language));
+    }
+
+    /**
+     * This method is used to retrieve all of the keywords that have been added
+     * to a particular movie.
+     *
+     * Currently, only English keywords exist.
+     *
+     * @param movieId movieId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Keyword>> getMovieKeywords(int movieId) {
+        return execute(api -> api.getMovieKeywords(movieId));
+    }
+
+    /**
+     * This method is used to retrieve all of the release and certification data
+     * we have for a specific movie.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ReleaseInfo>> getMovieReleaseInfo(int movieId, String language) {
+        return execute(api -> api.getMovieReleaseInfo(movieId, language));
+    }
+
+    /**
+     * This method is used to retrieve all of the trailers for a particular
+     * movie.
+     *
+     * Supported sites are YouTube and QuickTime.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Video>> getMovieVideos(int movieId, String language) {
+        return execute(api -> api.getMovieVideos(movieId, language));
+    }
+
+    /**
+     * This method is used to retrieve a list of the available translations for
+     * a specific movie.
+     *
+     * @param movieId movieId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Translation>> getMovieTranslations(int movieId) {
+        return execute(api -> api.getMovieTranslations(movieId));
+    }
+
+    /**
+     * The similar movies method will let you retrieve the similar movies for a
+     * particular movie.
+     *
+     * This data is created dynamically but with the help of users votes on
+     * TMDb.
+     *
+     * The data is much better with movies that have more keywords
+     *
+     * @param movieId movieId
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieInfo>> getSimilarMovies(int movieId, Integer page, String language) {
+        return execute(api -> api.getSimilarMovies(movieId, page, language));
+    }
+
+    /**
+     * Get the reviews for a particular movie id.
+     *
+     * @param movieId movieId
+     * @param page page
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Review>> getMovieReviews(int movieId, Integer page, String language) {
+        return execute(api -> api.getMovieReviews(movieId, page, language));
+    }
+
+    /**
+     * Get the lists that the movie belongs to
+     *
+     * @param movieId movieId
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<UserList>> getMovieLists(int movieId, Integer page, String language) {
+        return execute(api -> api.getMovieLists(movieId, page, language));
+    }
+
+    /**
+     * Get the changes for a specific movie ID.
+     *
+     * Changes are grouped by key, and ordered by date in descending order.
+     *
+     * By default, only the last 24 hours of changes are returned.
+     *
+     * The maximum number of days that can be returned in a single request is
+     * 14.
+     *
+     * The language is present on fields that are translatable.
+     *
+     * @param movieId movieId
+     * @param startDate startDate
+     * @param endDate endDate
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ChangeKeyItem>> getMovieChanges(int movieId, String startDate, String endDate) {
+        return execute(api -> api.getMovieChanges(movieId, startDate, endDate));
+    }
+
+    /**
+     * This method lets users rate a movie.
+     *
+     * A valid session id or guest session id is required.
+     *
+     * @param sessionId sessionId
+     * @param movieId movieId
+     * @param rating rating
+     * @param guestSessionId guestSessionId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<StatusCode> postMovieRating(int movieId, int rating, String sessionId, String guestSessionId) {
+        return execute(api -> api.postMovieRating(movieId, rating, sessionId, guestSessionId));
+    }
+
+    /**
+     * This method is used to retrieve the newest movie that was added to TMDb.
+     *
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MovieInfo> getLatestMovie() {
+        return execute(api -> api.getLatestMovie());
+    }
+
+    /**
+     * Get the list of upcoming movies.
+     *
+     * This list refreshes every day.
+     *
+     * The maximum number of items this list will include is 100.
+     *
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieInfo>> getUpcoming(Integer page, String language) {
+        return execute(api -> api.getUpcoming(page, language));
+    }
+
+    /**
+     * This method is used to retrieve the movies currently in theatres.
+     *
+     * This is a curated list that will normally contain 100 movies. The default
+     * response will return 20 movies.
+     *
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieInfo>> getNowPlayingMovies(Integer page, String language) {
+        return execute(api -> api.getNowPlayingMovies(page, language));
+    }
+
+    /**
+     * This method is used to retrieve the daily movie popularity list.
+     *
+     * This list is updated daily. The default response will return 20 movies.
+     *
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieInfo>> getPopularMovieList(Integer page, String language) {
+        return execute(api -> api.getPopularMovieList(page, language));
+    }
+
+    /**
+     * This method is used to retrieve the top rated movies that have over 10
+     * votes on TMDb.
+     *
+     * The default response will return 20 movies.
+     *
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieInfo>> getTopRatedMovies(Integer page, String language) {
+        return execute(api -> api.getTopRatedMovies(page, language));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Networks">
+    /**
+     * This method is used to retrieve the basic information about a TV network.
+     * <p>
+     * You can use this ID to search for TV shows with the discover method.
+     *
+     * @param networkId networkId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Network> getNetworkInfo(int networkId) {
+        return execute(api -> api.getNetworkInfo(networkId));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="People">
+    /**
+     * Get the general person information for a specific id.
+     *
+     * @param personId personId
+     * @param appendToResponse appendToResponse
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PersonInfo> getPersonInfo(int personId, String... appendToResponse) {
+        return execute(api -> api.getPersonInfo(personId, appendToResponse));
+    }
+
+    /**
+     * Get the movie credits for a specific person id.
+     *
+     * @param personId personId
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PersonCreditList<CreditMovieBasic>> getPersonMovieCredits(int personId, String language) {
+        return execute(api -> api.getPersonMovieCredits(personId, language));
+    }
+
+    /**
+     * Get the TV credits for a specific person id.
+     *
+     * To get the expanded details for each record, call the /credit method with
+     * the provided credit_id.
+     *
+     * This will provide details about which episode and/or season the credit is
+     * for.
+     *
+     * @param personId personId
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PersonCreditList<CreditTVBasic>> getPersonTVCredits(int personId, String language) {
+        return execute(api -> api.getPersonTVCredits(personId, language));
+    }
+
+    /**
+     * Get the combined (movie and TV) credits for a specific person id.
+     *
+     * To get the expanded details for each TV record, call the /credit method
+     * with the provided credit_id.
+     *
+     * This will provide details about which episode and/or season the credit is
+     * for.
+     *
+     * @param personId personId
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PersonCreditList<CreditBasic>> getPersonCombinedCredits(int personId, String language) {
+        return execute(api -> api.getPersonCombinedCredits(personId, language));
+    }
+
+    /**
+     * Get the external ids for a specific person id.
+     *
+     * @param personId personId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ExternalID> getPersonExternalIds(int personId) {
+        return execute(api -> api.getPersonExternalIds(personId));
+    }
+
+    /**
+     * Get the images for a specific person id.
+     *
+     * @param personId personId
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Artwork>> getPersonImages(int personId) {
+        return execute(api -> api.getPersonImages(personId));
+    }
+
+    /**
+     * Get the images that have been tagged with a specific person id.
+     *
+     * We return all of the image results with a media object mapped for each
+     * image.
+     *
+     * @param personId personId
+     * @param page page
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ArtworkMedia>> getPersonTaggedImages(int personId, Integer page, String language) {
+        return execute(api -> api.getPersonTaggedImages(personId, page, language));
+    }
+
+    /**
+     * Get the changes for a specific person id.
+     *
+     * Changes are grouped by key, and ordered by date in descending order.
+     *
+     * By default, only the last 24 hours of changes are returned.
+     *
+     * The maximum number of days that can be returned in a single request is
+     * 14.
+     *
+     * The language is present on fields that are translatable.
+     *
+     * @param personId personId
+     * @param startDate startDate
+     * @param endDate endDate
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ChangeKeyItem>> getPersonChanges(int personId, String startDate, String endDate) {
+        return execute(api -> api.getPersonChanges(personId, startDate, endDate));
+    }
+
+    /**
+     * Get the list of popular people on The Movie Database.
+     *
+     * This list refreshes every day.
+     *
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<PersonFind>> getPersonPopular(Integer page) {
+        return execute(api -> api.getPersonPopular(page));
+    }
+
+    /**
+     * Get the latest person id.
+     *
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PersonInfo> getPersonLatest() {
+        return execute(api -> api.getPersonLatest());
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Review">
+    /**
+     *
+     * @param reviewId reviewId
+     */
+    public CompletableFuture<Review> getReviews(String reviewId) {
+        return execute(api -> api.getReviews(reviewId));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Search">
+    /**
+     * Search Companies.
+     *
+     * You can use this method to search for production companies that are part
+     * of TMDb. The company IDs will map to those returned on movie calls.
+     *
+     * http://help.themoviedb.org/kb/api/search-companies
+     *
+     * @param query query
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Company>> searchCompanies(String query, Integer page) {
+        return execute(api -> api.searchCompanies(query, page));
+    }
+
+    /**
+     * Search for collections by name.
+     *
+     * @param query query
+     * @param language language
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Collection>> searchCollection(String query, Integer page, String language) {
+        return execute(api -> api.searchCollection(query, page, language));
+    }
+
+    /**
+     * Search for keywords by name
+     *
+     * @param query query
+     * @param page page
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Keyword>> searchKeyword(String query, Integer page) {
+        return execute(api -> api.searchKeyword(query, page));
+    }
+
+    /**
+     * Search Movies This is a good starting point to start finding movies on
+     * TMDb.
+     *
+     * @param query query
+     * @param searchYear Limit the search to the provided year. Zero (0) will
+     * get all years
+     * @param language The language to include. Can be blank/null.
+     * @param includeAdult true or false to include adult titles in the search
+     * @param page The page of results to return. 0 to get the default (first
+     * page)
+     * @param primaryReleaseYear primaryReleaseYear
+     * @param searchType searchType
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MovieInfo>> searchMovie(String query, Integer page, String language, Boolean includeAdult, Integer searchYear, Integer primaryReleaseYear, SearchType searchType) {
+        return execute(api -> api.searchMovie(query, page, language, includeAdult, searchYear, primaryReleaseYear, searchType));
+    }
+
+    /**
+     * Search the movie, tv show and person collections with a single query.
+     *
+     * Each item returned in the result array has a media_type field that maps
+     * to either movie, tv or person.
+     *
+     * Each mapped result is the same response you would get from each
+     * independent search
+     *
+     * @param query query
+     * @param page page
+     * @param language language
+     * @param includeAdult includeAdult
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<MediaBasic>> searchMulti(String query, Integer page, String language, Boolean includeAdult) {
+        return execute(api -> api.searchMulti(query, page, language, includeAdult));
+    }
+
+    /**
+     * This is a good starting point to start finding people on TMDb.
+     *
+     * The idea is to be a quick and light method so you can iterate through
+     * people quickly.
+     *
+     * @param query query
+     * @param includeAdult includeAdult
+     * @param page page
+     * @param searchType searchType
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<PersonFind>> searchPeople(String query, Integer page, Boolean includeAdult, SearchType searchType) {
+        return execute(api -> api.searchPeople(query, page, includeAdult, searchType));
+    }
+
+    /**
+     * Search for TV shows by title.
+     *
+     * @param query query
+     * @param page page
+     * @param language language
+     * @param firstAirDateYear firstAirDateYear
+     * @param searchType searchType
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<TVBasic>> searchTV(String query, Integer page, String language, Integer firstAirDateYear, SearchType searchType) {
+        return execute(api -> api.searchTV(query, page, language, firstAirDateYear, searchType));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="TV Shows">
+    /**
+     * Get the primary information about a TV series by id.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @param appendToResponse appendToResponse
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TVInfo> getTVInfo(int tvID, String language, String... appendToResponse) {
+        return execute(api -> api.getTVInfo(tvID, language, appendToResponse));
+    }
+
+    /**
+     * This method lets users get the status of whether or not the TV show has
+     * been rated or added to their favourite or watch lists.
+     *
+     * A valid session id is required.
+     *
+     * @param tvID tvID
+     * @param sessionID sessionID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaState> getTVAccountState(int tvID, String sessionID) {
+        return execute(api -> api.getTVAccountState(tvID, sessionID));
+    }
+
+    /**
+     * Get the alternative titles for a specific show ID.
+     *
+     * @param tvID tvID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<AlternativeTitle>> getTVAlternativeTitles(int tvID) {
+        return execute(api -> api.getTVAlternativeTitles(tvID));
+    }
+
+    /**
+     * Get the changes for a specific TV show id.
+     *
+     * @param tvID tvID
+     * @param startDate startDate
+     * @param endDate endDate
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ChangeKeyItem>> getTVChanges(int tvID, String startDate, String endDate) {
+        return execute(api -> api.getTVChanges(tvID, startDate, endDate));
+    }
+
+    /**
+     * Get the content ratings for a specific TV show id.
+     *
+     * @param tvID tvID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ContentRating>> getTVContentRatings(int tvID) {
+        return execute(api -> api.getTVContentRatings(tvID));
+    }
+
+    /**
+     * Get the cast & crew information about a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaCreditList> getTVCredits(int tvID, String language) {
+        return execute(api -> api.getTVCredits(tvID, language));
+    }
+
+    /**
+     * Get the external ids that we have stored for a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ExternalID> getTVExternalIDs(int tvID, String language) {
+        return execute(api -> api.getTVExternalIDs(tvID, language));
+    }
+
+    /**
+     * Get the images (posters and backdrops) for a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @param includeImageLanguage includeImageLanguage
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Artwork>> getTVImages(int tvID, String language, String... includeImageLanguage) {
+        return execute(api -> api.getTVImages(tvID, language, includeImageLanguage));
+    }
+
+    /**
+     * Get the plot keywords for a specific TV show id.
+     *
+     * @param tvID tvID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Keyword>> getTVKeywords(int tvID) {
+        return execute(api -> api.getTVKeywords(tvID));
+    }
+
+    /**
+     * This method lets users rate a TV show.
+     *
+     * A valid session id or guest session id is required.
+     *
+     * @param tvID tvID
+     * @param rating rating
+     * @param sessionID sessionID
+     * @param guestSessionID guestSessionID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<StatusCode> postTVRating(int tvID, int rating, String sessionID, String guestSessionID) {
+        return execute(api -> api.postTVRating(tvID, rating, sessionID, guestSessionID));
+    }
+
+    /**
+     * Get the similar TV shows for a specific tv id.
+     *
+     * @param tvID tvID
+     * @param page page
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<TVInfo>> getTVSimilar(int tvID, Integer page, String language) {
+        return execute(api -> api.getTVSimilar(tvID, page, language));
+    }
+
+    /**
+     * Get the list of translations that exist for a TV series. These
+     * translations cascade down to the episode level.
+     *
+     * @param tvID tvID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Translation>> getTVTranslations(int tvID) {
+        return execute(api -> api.getTVTranslations(tvID));
+    }
+
+    /**
+     * Get the videos that have been added to a TV series (trailers, opening
+     * credits, etc...)
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Video>> getTVVideos(int tvID, String language) {
+        return execute(api -> api.getTVVideos(tvID, language));
+    }
+
+    /**
+     * Get the latest TV show id.
+     *
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TVInfo> getLatestTV() {
+        return execute(api -> api.getLatestTV());
+    }
+
+    /**
+     * Get the list of TV shows that are currently on the air.
+     *
+     * This query looks for any TV show that has an episode with an air date in
+     * the next 7 days.
+     *
+     * @param page page
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<TVInfo>> getTVOnTheAir(Integer page, String language) {
+        return execute(api -> api.getTVOnTheAir(page, language));
+    }
+
+    /**
+     * Get the list of TV shows that air today.
+     *
+     * Without a specified timezone, this query defaults to EST
+     *
+     * @param page page
+     * @param language language
+     * @param timezone timezone
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<TVInfo>> getTVAiringToday(Integer page, String language, String timezone) {
+        return execute(api -> api.getTVAiringToday(page, language, timezone));
+    }
+
+    /**
+     * Get the list of top rated TV shows.
+     *
+     * By default, this list will only include TV shows that have 2 or more
+     * votes.
+     *
+     * This list refreshes every day.
+     *
+     * @param page page
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<TVInfo>> getTVTopRated(Integer page, String language) {
+        return execute(api -> api.getTVTopRated(page, language));
+    }
+
+    /**
+     * Get the list of popular TV shows. This list refreshes every day.
+     *
+     * @param page page
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<TVInfo>> getTVPopular(Integer page, String language) {
+        return execute(api -> api.getTVPopular(page, language));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="TV Seasons">
+    /**
+     * Get the primary information about a TV season by its season number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @param appendToResponse appendToResponse
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TVSeasonInfo> getSeasonInfo(int tvID, int seasonNumber, String language, String... appendToResponse) {
+        return execute(api -> api.getSeasonInfo(tvID, seasonNumber, language, appendToResponse));
+    }
+
+    /**
+     * Look up a TV season's changes by season ID.
+     *
+     * @param tvID tvID
+     * @param startDate startDate
+     * @param endDate endDate
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ChangeKeyItem>> getSeasonChanges(int tvID, String startDate, String endDate) {
+        return execute(api -> api.getSeasonChanges(tvID, startDate, endDate));
+    }
+
+    /**
+     * This method lets users get the status of whether or not the TV episodes
+     * of a season have been rated.
+     *
+     * A valid session id is required.
+     *
+     * @param tvID tvID
+     * @param sessionID sessionID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaState> getSeasonAccountState(int tvID, String sessionID) {
+        return execute(api -> api.getSeasonAccountState(tvID, sessionID));
+    }
+
+    /**
+     * Get the cast & crew credits for a TV season by season number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaCreditList> getSeasonCredits(int tvID, int seasonNumber) {
+        return execute(api -> api.getSeasonCredits(tvID, seasonNumber));
+    }
+
+    /**
+     * Get the external ids that we have stored for a TV season by season
+     * number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ExternalID> getSeasonExternalID(int tvID, int seasonNumber, String language) {
+        return execute(api -> api.getSeasonExternalID(tvID, seasonNumber, language));
+    }
+
+    /**
+     * Get the images that we have stored for a TV season by season number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @param includeImageLanguage includeImageLanguage
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Artwork>> getSeasonImages(int tvID, int seasonNumber, String language, String... includeImageLanguage) {
+        return execute(api -> api.getSeasonImages(tvID, seasonNumber, language, includeImageLanguage));
+    }
+
+    /**
+     * Get the videos that have been added to a TV season (trailers, teasers,
+     * etc...)
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Video>> getSeasonVideos(int tvID, int seasonNumber, String language) {
+        return execute(api -> api.getSeasonVideos(tvID, seasonNumber, language));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="TV Episodes">
+    /**
+     * Get the primary information about a TV episode by combination of a season
+     * and episode number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @param appendToResponse appendToResponse
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TVEpisodeInfo> getEpisodeInfo(int tvID, int seasonNumber, int episodeNumber, String language, String... appendToResponse) {
+        return execute(api -> api.getEpisodeInfo(tvID, seasonNumber, episodeNumber, language, appendToResponse));
+    }
+
+    /**
+     * Look up a TV episode's changes by episode ID
+     *
+     * @param episodeID episodeID
+     * @param startDate startDate
+     * @param endDate endDate
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<ChangeKeyItem>> getEpisodeChanges(int episodeID, String startDate, String endDate) {
+        return execute(api -> api.getEpisodeChanges(episodeID, startDate, endDate));
+    }
+
+    /**
+     * This method lets users get the status of whether or not the TV episode
+     * has been rated.
+     *
+     * A valid session id is required.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param sessionID sessionID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaState> getEpisodeAccountState(int tvID, int seasonNumber, int episodeNumber, String sessionID) {
+        return execute(api -> api.getEpisodeAccountState(tvID, seasonNumber, episodeNumber, sessionID));
+    }
+
+    /**
+     * Get the TV episode credits by combination of season and episode number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MediaCreditList> getEpisodeCredits(int tvID, int seasonNumber, int episodeNumber) {
+        return execute(api -> api.getEpisodeCredits(tvID, seasonNumber, episodeNumber));
+    }
+
+    /**
+     * Get the external ids for a TV episode by comabination of a season and
+     * episode number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ExternalID> getEpisodeExternalID(int tvID, int seasonNumber, int episodeNumber, String language) {
+        return execute(api -> api.getEpisodeExternalID(tvID, seasonNumber, episodeNumber, language));
+    }
+
+    /**
+     * Get the images (episode stills) for a TV episode by combination of a
+     * season and episode number.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Artwork>> getEpisodeImages(int tvID, int seasonNumber, int episodeNumber) {
+        return execute(api -> api.getEpisodeImages(tvID, seasonNumber, episodeNumber));
+    }
+
+    /**
+     * This method lets users rate a TV episode. A valid session id or guest
+     * session id is required.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param rating rating
+     * @param sessionID sessionID
+     * @param guestSessionID guestSessionID
+     * @return CompletableFuture
+     */
+    public CompletableFuture<StatusCode> postEpisodeRating(int tvID, int seasonNumber, int episodeNumber, int rating, String sessionID, String guestSessionID) {
+        return execute(api -> api.postEpisodeRating(tvID, seasonNumber, episodeNumber, rating, sessionID, guestSessionID));
+    }
+
+    /**
+     * Get the videos that have been added to a TV episode (teasers, clips,
+     * etc...)
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @return CompletableFuture
+     */
+    public CompletableFuture<ResultList<Video>> getEpisodeVideos(int tvID, int seasonNumber, int episodeNumber, String language) {
+        return execute(api -> api.getEpisodeVideos(tvID, seasonNumber, episodeNumber, language));
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,665 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.enumeration.MovieMethod;
+import com.omertron.themoviedbapi.enumeration.PeopleMethod;
+import com.omertron.themoviedbapi.enumeration.TVEpisodeMethod;
+import com.omertron.themoviedbapi.enumeration.TVMethod;
+import com.omertron.themoviedbapi.enumeration.TVSeasonMethod;
+import com.omertron.themoviedbapi.interfaces.AppendToResponseMethod;
+import com.omertron.themoviedbapi.model.artwork.Artwork;
+import com.omertron.themoviedbapi.model.artwork.ArtworkMedia;
+import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
+import com.omertron.themoviedbapi.model.credits.CreditMovieBasic;
+import com.omertron.themoviedbapi.model.credits.CreditTVBasic;
+import com.omertron.themoviedbapi.model.keyword.Keyword;
+import com.omertron.themoviedbapi.model.list.UserList;
+import com.omertron.themoviedbapi.model.media.AlternativeTitle;
+import com.omertron.themoviedbapi.model.media.MediaCreditList;
+import com.omertron.themoviedbapi.model.media.Translation;
+import com.omertron.themoviedbapi.model.media.Video;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.movie.ReleaseInfo;
+import com.omertron.themoviedbapi.model.person.ContentRating;
+import com.omertron.themoviedbapi.model.person.ExternalID;
+import com.omertron.themoviedbapi.model.person.PersonCreditList;
+import com.omertron.themoviedbapi.model.person.PersonInfo;
+import com.omertron.themoviedbapi.model.review.Review;
+import com.omertron.themoviedbapi.model.tv.TVEpisodeInfo;
+import com.omertron.themoviedbapi.model.tv.TVInfo;
+import com.omertron.themoviedbapi.model.tv.TVSeasonInfo;
+import com.omertron.themoviedbapi.results.ResultList;
+import com.omertron.themoviedbapi.tools.AppendBatcher;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batching version of the per item sub-resource calls.
+ * <p>
+ * Requests for parts of the same movie, TV show, season, episode or person
+ * made within a short window are combined into one info request with the
+ * parts added as "append_to_response" methods. Each caller then gets its own
+ * part from the combined result.
+ * <p>
+ * Requests are only combined when they are for the same item and language.
+ * Lists returned from an appended method only hold the first page.
+ *
+ * @author stuart.boston
+ */
+public class BatchingTheMovieDbApi implements Closeable {
+
+    private final AsyncTheMovieDbApi async;
+    private final AppendBatcher<ItemKey, MovieInfo, MovieMethod> movies;
+    private final AppendBatcher<ItemKey, TVInfo, TVMethod> tvShows;
+    private final AppendBatcher<ItemKey, TVSeasonInfo, TVSeasonMethod> seasons;
+    private final AppendBatcher<ItemKey, TVEpisodeInfo, TVEpisodeMethod> episodes;
+    private final AppendBatcher<ItemKey, PersonInfo, PeopleMethod> people;
+
+    /**
+     * Batching API using the default window
+     *
+     * @param api The synchronous API to delegate to
+     */
+    public BatchingTheMovieDbApi(TheMovieDbApi api) {
+        this(new AsyncTheMovieDbApi(api));
+    }
+
+    /**
+     * Batching API using the default window
+     *
+     * @param async The asynchronous API used to load the batches
+     */
+    public BatchingTheMovieDbApi(AsyncTheMovieDbApi async) {
+        this(async, AppendBatcher.DEFAULT_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Batching API
+     *
+     * @param async The asynchronous API used to load the batches
+     * @param window How long to collect requests for the same item
+     * @param unit Unit of the window
+     */
+    public BatchingTheMovieDbApi(final AsyncTheMovieDbApi async, long window, TimeUnit unit) {
+        this.async = async;
+        int max = AppendBatcher.DEFAULT_MAX_METHODS;
+        this.movies = new AppendBatcher<>((ItemKey key, Set<MovieMethod> methods)
+                -> async.execute(api -> api.getMovieInfo(key.getId(0), key.getLanguage(), toAppend(methods))), window, unit, max);
+        this.tvShows = new AppendBatcher<>((ItemKey key, Set<TVMethod> methods)
+                -> async.execute(api -> api.getTVInfo(key.getId(0), key.getLanguage(), toAppend(methods))), window, unit, max);
+        this.seasons = new AppendBatcher<>((ItemKey key, Set<TVSeasonMethod> methods)
+                -> async.execute(api -> api.getSeasonInfo(key.getId(0), key.getId(1), key.getLanguage(), toAppend(methods))), window, unit, max);
+        this.episodes = new AppendBatcher<>((ItemKey key, Set<TVEpisodeMethod> methods)
+                -> async.execute(api -> api.getEpisodeInfo(key.getId(0), key.getId(1), key.getId(2), key.getLanguage(), toAppend(methods))), window, unit, max);
+        this.people = new AppendBatcher<>((ItemKey key, Set<PeopleMethod> methods)
+                -> async.execute(api -> api.getPersonInfo(key.getId(0), toAppend(methods))), window, unit, max);
+    }
+
+    private static String[] toAppend(Set<? extends AppendToResponseMethod> methods) {
+        String[] append = new String[methods.size()];
+        int i = 0;
+        for (AppendToResponseMethod method : methods) {
+            append[i++] = method.getPropertyString();
+        }
+        return append;
+    }
+
+    private static <T> ResultList<T> toResults(List<T> list) {
+        return new ResultList<>(list);
+    }
+
+    private static MediaCreditList toCredits(MovieInfo movie) {
+        MediaCreditList credits = new MediaCreditList();
+        credits.setId(movie.getId());
+        credits.setCast(movie.getCast());
+        credits.setCrew(movie.getCrew());
+        return credits;
+    }
+
+    /**
+     * Get the asynchronous API the batches are loaded with
+     *
+     * @return AsyncTheMovieDbApi
+     */
+    public AsyncTheMovieDbApi getAsync() {
+        return async;
+    }
+
+    /**
+     * Number of parts requested across all item types
+     *
+     * @return count
+     */
+    public long getRequestCount() {
+        return movies.getRequestCount() + tvShows.getRequestCount() + seasons.getRequestCount()
+                + episodes.getRequestCount() + people.getRequestCount();
+    }
+
+    /**
+     * Number of info requests made to load the parts
+     *
+     * @return count
+     */
+    public long getLoadCount() {
+        return movies.getLoadCount() + tvShows.getLoadCount() + seasons.getLoadCount()
+                + episodes.getLoadCount() + people.getLoadCount();
+    }
+
+    /**
+     * Close the asynchronous API
+     */
+    @Override
+    public void close() {
+        async.close();
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Movies">
+    /**
+     * Get the basic movie information, batched with any parts requested for
+     * the same movie.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of MovieInfo
+     */
+    public CompletableFuture<MovieInfo> getMovieInfo(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId));
+    }
+
+    /**
+     * Get the alternative titles for a specific movie ID.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the titles
+     */
+    public CompletableFuture<ResultList<AlternativeTitle>> getMovieAlternativeTitles(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.ALTERNATIVE_TITLES, movie -> toResults(movie.getAlternativeTitles()));
+    }
+
+    /**
+     * Get the cast and crew information for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the credits
+     */
+    public CompletableFuture<MediaCreditList> getMovieCredits(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.CREDITS, BatchingTheMovieDbApi::toCredits);
+    }
+
+    /**
+     * Get the images for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the images
+     */
+    public CompletableFuture<ResultList<Artwork>> getMovieImages(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.IMAGES, movie -> toResults(movie.getImages()));
+    }
+
+    /**
+     * Get the plot keywords for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the keywords
+     */
+    public CompletableFuture<ResultList<Keyword>> getMovieKeywords(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.KEYWORDS, movie -> toResults(movie.getKeywords()));
+    }
+
+    /**
+     * Get the release and certification data for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the release information
+     */
+    public CompletableFuture<ResultList<ReleaseInfo>> getMovieReleaseInfo(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.RELEASES, movie -> toResults(movie.getReleases()));
+    }
+
+    /**
+     * Get the videos (trailers, teasers, clips, etc...) for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the videos
+     */
+    public CompletableFuture<ResultList<Video>> getMovieVideos(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.VIDEOS, movie -> toResults(movie.getVideos()));
+    }
+
+    /**
+     * Get the translations for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the translations
+     */
+    public CompletableFuture<ResultList<Translation>> getMovieTranslations(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.TRANSLATIONS, movie -> toResults(movie.getTranslations()));
+    }
+
+    /**
+     * Get the first page of similar movies for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the similar movies
+     */
+    public CompletableFuture<ResultList<MovieInfo>> getSimilarMovies(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.SIMILAR, movie -> toResults(movie.getSimilarMovies()));
+    }
+
+    /**
+     * Get the first page of reviews for a particular movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the reviews
+     */
+    public CompletableFuture<ResultList<Review>> getMovieReviews(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.REVIEWS, movie -> toResults(movie.getReviews()));
+    }
+
+    /**
+     * Get the first page of lists that the movie belongs to.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the lists
+     */
+    public CompletableFuture<ResultList<UserList>> getMovieLists(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.LISTS, movie -> toResults(movie.getLists()));
+    }
+
+    /**
+     * Get the changes for a specific movie id.
+     *
+     * @param movieId movieId
+     * @param language language
+     * @return CompletableFuture of the changes
+     */
+    public CompletableFuture<ResultList<ChangeKeyItem>> getMovieChanges(int movieId, String language) {
+        return movies.submit(new ItemKey(language, movieId), MovieMethod.CHANGES, movie -> toResults(movie.getChanges()));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="TV">
+    /**
+     * Get the primary information about a TV series, batched with any parts
+     * requested for the same series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of TVInfo
+     */
+    public CompletableFuture<TVInfo> getTVInfo(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID));
+    }
+
+    /**
+     * Get the alternative titles for a specific show ID.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the titles
+     */
+    public CompletableFuture<ResultList<AlternativeTitle>> getTVAlternativeTitles(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.ALTERNATIVE_TITLES, tv -> toResults(tv.getAlternativeTitles()));
+    }
+
+    /**
+     * Get the content ratings for a specific TV show id.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the content ratings
+     */
+    public CompletableFuture<ResultList<ContentRating>> getTVContentRatings(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.CONTENT_RATINGS, tv -> toResults(tv.getContentRatings()));
+    }
+
+    /**
+     * Get the cast and crew information about a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the credits
+     */
+    public CompletableFuture<MediaCreditList> getTVCredits(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.CREDITS, TVInfo::getCredits);
+    }
+
+    /**
+     * Get the external ids that we have stored for a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the external IDs
+     */
+    public CompletableFuture<ExternalID> getTVExternalIDs(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.EXTERNAL_IDS, TVInfo::getExternalIDs);
+    }
+
+    /**
+     * Get the images (posters and backdrops) for a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the images
+     */
+    public CompletableFuture<ResultList<Artwork>> getTVImages(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.IMAGES, tv -> toResults(tv.getImages()));
+    }
+
+    /**
+     * Get the plot keywords for a specific TV show id.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the keywords
+     */
+    public CompletableFuture<ResultList<Keyword>> getTVKeywords(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.KEYWORDS, tv -> toResults(tv.getKeywords()));
+    }
+
+    /**
+     * Get the first page of similar TV shows for a specific tv id.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the similar shows
+     */
+    public CompletableFuture<ResultList<TVInfo>> getTVSimilar(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.SIMILAR, tv -> toResults(tv.getSimilarTV()));
+    }
+
+    /**
+     * Get the list of translations that exist for a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the translations
+     */
+    public CompletableFuture<ResultList<Translation>> getTVTranslations(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.TRANSLATIONS, tv -> toResults(tv.getTranslations()));
+    }
+
+    /**
+     * Get the videos that have been added to a TV series.
+     *
+     * @param tvID tvID
+     * @param language language
+     * @return CompletableFuture of the videos
+     */
+    public CompletableFuture<ResultList<Video>> getTVVideos(int tvID, String language) {
+        return tvShows.submit(new ItemKey(language, tvID), TVMethod.VIDEOS, tv -> toResults(tv.getVideos()));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="TV Seasons">
+    /**
+     * Get the primary information about a TV season, batched with any parts
+     * requested for the same season.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @return CompletableFuture of TVSeasonInfo
+     */
+    public CompletableFuture<TVSeasonInfo> getSeasonInfo(int tvID, int seasonNumber, String language) {
+        return seasons.submit(new ItemKey(language, tvID, seasonNumber));
+    }
+
+    /**
+     * Get the cast and crew credits for a TV season.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @return CompletableFuture of the credits
+     */
+    public CompletableFuture<MediaCreditList> getSeasonCredits(int tvID, int seasonNumber, String language) {
+        return seasons.submit(new ItemKey(language, tvID, seasonNumber), TVSeasonMethod.CREDITS, TVSeasonInfo::getCredits);
+    }
+
+    /**
+     * Get the external ids for a TV season.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @return CompletableFuture of the external IDs
+     */
+    public CompletableFuture<ExternalID> getSeasonExternalID(int tvID, int seasonNumber, String language) {
+        return seasons.submit(new ItemKey(language, tvID, seasonNumber), TVSeasonMethod.EXTERNAL_IDS, TVSeasonInfo::getExternalIDs);
+    }
+
+    /**
+     * Get the images for a TV season.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @return CompletableFuture of the images
+     */
+    public CompletableFuture<ResultList<Artwork>> getSeasonImages(int tvID, int seasonNumber, String language) {
+        return seasons.submit(new ItemKey(language, tvID, seasonNumber), TVSeasonMethod.IMAGES, season -> toResults(season.getImages()));
+    }
+
+    /**
+     * Get the videos for a TV season.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param language language
+     * @return CompletableFuture of the videos
+     */
+    public CompletableFuture<ResultList<Video>> getSeasonVideos(int tvID, int seasonNumber, String language) {
+        return seasons.submit(new ItemKey(language, tvID, seasonNumber), TVSeasonMethod.VIDEOS, season -> toResults(season.getVideos()));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="TV Episodes">
+    /**
+     * Get the primary information about a TV episode, batched with any parts
+     * requested for the same episode.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @return CompletableFuture of TVEpisodeInfo
+     */
+    public CompletableFuture<TVEpisodeInfo> getEpisodeInfo(int tvID, int seasonNumber, int episodeNumber, String language) {
+        return episodes.submit(new ItemKey(language, tvID, seasonNumber, episodeNumber));
+    }
+
+    /**
+     * Get the cast and crew credits for a TV episode.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @return CompletableFuture of the credits
+     */
+    public CompletableFuture<MediaCreditList> getEpisodeCredits(int tvID, int seasonNumber, int episodeNumber, String language) {
+        return episodes.submit(new ItemKey(language, tvID, seasonNumber, episodeNumber), TVEpisodeMethod.CREDITS, TVEpisodeInfo::getCredits);
+    }
+
+    /**
+     * Get the external ids for a TV episode.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @return CompletableFuture of the external IDs
+     */
+    public CompletableFuture<ExternalID> getEpisodeExternalID(int tvID, int seasonNumber, int episodeNumber, String language) {
+        return episodes.submit(new ItemKey(language, tvID, seasonNumber, episodeNumber), TVEpisodeMethod.EXTERNAL_IDS, TVEpisodeInfo::getExternalIDs);
+    }
+
+    /**
+     * Get the images for a TV episode.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @return CompletableFuture of the images
+     */
+    public CompletableFuture<ResultList<Artwork>> getEpisodeImages(int tvID, int seasonNumber, int episodeNumber, String language) {
+        return episodes.submit(new ItemKey(language, tvID, seasonNumber, episodeNumber), TVEpisodeMethod.IMAGES, episode -> toResults(episode.getImages()));
+    }
+
+    /**
+     * Get the videos for a TV episode.
+     *
+     * @param tvID tvID
+     * @param seasonNumber seasonNumber
+     * @param episodeNumber episodeNumber
+     * @param language language
+     * @return CompletableFuture of the videos
+     */
+    public CompletableFuture<ResultList<Video>> getEpisodeVideos(int tvID, int seasonNumber, int episodeNumber, String language) {
+        return episodes.submit(new ItemKey(language, tvID, seasonNumber, episodeNumber), TVEpisodeMethod.VIDEOS, episode -> toResults(episode.getVideos()));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="People">
+    /**
+     * Get the general person information, batched with any parts requested
+     * for the same person.
+     *
+     * @param personId personId
+     * @return CompletableFuture of PersonInfo
+     */
+    public CompletableFuture<PersonInfo> getPersonInfo(int personId) {
+        return people.submit(new ItemKey(null, personId));
+    }
+
+    /**
+     * Get the movie credits for a specific person id.
+     *
+     * @param personId personId
+     * @return CompletableFuture of the credits
+     */
+    public CompletableFuture<PersonCreditList<CreditMovieBasic>> getPersonMovieCredits(int personId) {
+        return people.submit(new ItemKey(null, personId), PeopleMethod.MOVIE_CREDITS, PersonInfo::getMovieCredits);
+    }
+
+    /**
+     * Get the TV credits for a specific person id.
+     *
+     * @param personId personId
+     * @return CompletableFuture of the credits
+     */
+    public CompletableFuture<PersonCreditList<CreditTVBasic>> getPersonTVCredits(int personId) {
+        return people.submit(new ItemKey(null, personId), PeopleMethod.TV_CREDITS, PersonInfo::getTvCredits);
+    }
+
+    /**
+     * Get the external ids for a specific person id.
+     *
+     * @param personId personId
+     * @return CompletableFuture of the external IDs
+     */
+    public CompletableFuture<ExternalID> getPersonExternalIds(int personId) {
+        return people.submit(new ItemKey(null, personId), PeopleMethod.EXTERNAL_IDS, PersonInfo::getExternalIDs);
+    }
+
+    /**
+     * Get the images for a specific person id.
+     *
+     * @param personId personId
+     * @return CompletableFuture of the images
+     */
+    public CompletableFuture<ResultList<Artwork>> getPersonImages(int personId) {
+        return people.submit(new ItemKey(null, personId), PeopleMethod.IMAGES, person -> toResults(person.getImages()));
+    }
+
+    /**
+     * Get the first page of images that have been tagged with a specific
+     * person id.
+     *
+     * @param personId personId
+     * @return CompletableFuture of the tagged images
+     */
+    public CompletableFuture<ResultList<ArtworkMedia>> getPersonTaggedImages(int personId) {
+        return people.submit(new ItemKey(null, personId), PeopleMethod.TAGGED_IMAGES, person -> toResults(person.getTaggedImages()));
+    }
+    //</editor-fold>
+
+    /**
+     * Identifies an item by its IDs and the language requested
+     */
+    private static final class ItemKey {
+
+        private final String language;
+        private final int[] ids;
+
+        ItemKey(String language, int... ids) {
+            this.language = language;
+            this.ids = ids;
+        }
+
+        int getId(int index) {
+            return ids[index];
+        }
+
+        String getLanguage() {
+            return language;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ItemKey)) {
+                return false;
+            }
+            ItemKey other = (ItemKey) obj;
+            return Arrays.equals(ids, other.ids) && Objects.equals(language, other.language);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(ids) + Objects.hashCode(language);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(ids) + (language == null ? "" : "/" + language);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.interfaces.BulkCall;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.person.PersonInfo;
+import com.omertron.themoviedbapi.model.tv.TVInfo;
+import com.omertron.themoviedbapi.results.BulkResult;
+import com.omertron.themoviedbapi.results.PagedResults;
+import com.omertron.themoviedbapi.tools.WorkerGroup;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * Fetch many items at once.
+ * <p>
+ * The IDs are fetched by at most "parallelism" requests at a time. The
+ * requests still go through the request limiter of the API, so the rate limit
+ * is respected however high the parallelism.
+ * <p>
+ * A failed ID does not stop the others. Each call returns the items fetched,
+ * the IDs that TMDb does not know and the IDs that failed for other reasons.
+ * <p>
+ * For large numbers of IDs the items can be streamed to a consumer as they
+ * arrive rather than kept in the result.
+ *
+ * @author Stuart
+ */
+public class BulkTheMovieDbApi {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkTheMovieDbApi.class);
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    private final TheMovieDbApi api;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Bulk API using the default parallelism
+     *
+     * @param api The API to fetch the items with
+     */
+    public BulkTheMovieDbApi(TheMovieDbApi api) {
+        this(api, PagedResults.getDefaultExecutor(), DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Bulk API
+     *
+     * @param api The API to fetch the items with
+     * @param executor The executor to run the requests on
+     * @param parallelism Maximum number of requests to make at once
+     */
+    public BulkTheMovieDbApi(TheMovieDbApi api, Executor executor, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be greater than zero");
+        }
+        this.api = api;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Get the basic movie information for many movies
+     *
+     * @param movieIds The movie IDs, duplicates are fetched once
+     * @param language language
+     * @param appendToResponse appendToResponse
+     * @return The movies by ID and the failures
+     * @throws MovieDbException if interrupted
+     */
+    public BulkResult<MovieInfo> getMovieInfoBulk(Collection<Integer> movieIds, final String language, final String... appendToResponse) throws MovieDbException {
+        return fetch(movieIds, id -> api.getMovieInfo(id, language, appendToResponse), null);
+    }
+
+    /**
+     * Get the basic movie information for many movies, passing each movie to
+     * the consumer as it arrives
+     *
+     * @param movieIds The movie IDs, duplicates are fetched once
+     * @param language language
+     * @param consumer Called with the ID and movie, one at a time
+     * @param appendToResponse appendToResponse
+     * @return The failures, the results are not kept
+     * @throws MovieDbException if interrupted
+     */
+    public BulkResult<MovieInfo> getMovieInfoBulk(Collection<Integer> movieIds, final String language, BiConsumer<Integer, ? super MovieInfo> consumer,
+            final String... appendToResponse) throws MovieDbException {
+        return fetch(movieIds, id -> api.getMovieInfo(id, language, appendToResponse), consumer);
+    }
+
+    /**
+     * Get the primary information about many TV series
+     *
+     * @param tvIds The TV IDs, duplicates are fetched once
+     * @param language language
+     * @param appendToResponse appendToResponse
+     * @return The TV series by ID and the failures
+     * @throws MovieDbException if interrupted
+     */
+    public BulkResult<TVInfo> getTVInfoBulk(Collection<Integer> tvIds, final String language, final String... appendToResponse) throws MovieDbException {
+        return fetch(tvIds, id -> api.getTVInfo(id, language, appendToResponse), null);
+    }
+
+    /**
+     * Get the primary information about many TV series, passing each series to
+     * the consumer as it arrives
+     *
+     * @param tvIds The TV IDs, duplicates are fetched once
+     * @param language language
+     * @param consumer Called with the ID and TV series, one at a time
+     * @param appendToResponse appendToResponse
+     * @return The failures, the results are not kept
+     * @throws MovieDbException if interrupted
+     */
+    public BulkResult<TVInfo> getTVInfoBulk(Collection<Integer> tvIds, final String language, BiConsumer<Integer, ? super TVInfo> consumer,
+            final String... appendToResponse) throws MovieDbException {
+        return fetch(tvIds, id -> api.getTVInfo(id, language, appendToResponse), consumer);
+    }
+
+    /**
+     * Get the general person information for many people
+     *
+     * @param personIds The person IDs, duplicates are fetched once
+     * @param appendToResponse appendToResponse
+     * @return The people by ID and the failures
+     * @throws MovieDbException if interrupted
+     */
+    public BulkResult<PersonInfo> getPersonInfoBulk(Collection<Integer> personIds, final String... appendToResponse) throws MovieDbException {
+        return fetch(personIds, id -> api.getPersonInfo(id, appendToResponse), null);
+    }
+
+    /**
+     * Get the general person information for many people, passing each person
+     * to the consumer as it arrives
+     *
+     * @param personIds The person IDs, duplicates are fetched once
+     * @param consumer Called with the ID and person, one at a time
+     * @param appendToResponse appendToResponse
+     * @return The failures, the results are not kept
+     * @throws MovieDbException if interrupted
+     */
+    public BulkResult<PersonInfo> getPersonInfoBulk(Collection<Integer> personIds, BiConsumer<Integer, ? super PersonInfo> consumer,
+            final String... appendToResponse) throws MovieDbException {
+        return fetch(personIds, id -> api.getPersonInfo(id, appendToResponse), consumer);
+    }
+
+    /**
+     * Make a call for each of the IDs.
+     * <p>
+     * If there is a consumer it is called with each item as it arrives, one at
+     * a time, and the items are not kept in the result. An exception from the
+     * consumer does not stop the fetch, it is reported in the result apart
+     * from the fetch failures.
+     *
+     * @param <T> Type of the items
+     * @param ids The IDs, duplicates are fetched once
+     * @param call The call for a single ID
+     * @param consumer Called with the ID and item, may be null
+     * @return The items and failures
+     * @throws MovieDbException if interrupted
+     * @throws IllegalArgumentException if one of the IDs is null
+     */
+    public <T> BulkResult<T> fetch(Collection<Integer> ids, final BulkCall<? extends T> call, final BiConsumer<Integer, ? super T> consumer) throws MovieDbException {
+        Set<Integer> uniqueIds = new LinkedHashSet<>();
+        for (Integer id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("The IDs must not contain null");
+            }
+            uniqueIds.add(id);
+        }
+        final Integer[] unique = uniqueIds.toArray(new Integer[0]);
+        final AtomicReferenceArray<T> items = consumer == null ? new AtomicReferenceArray<T>(unique.length) : null;
+        final Set<Integer> notFound = Collections.synchronizedSet(new TreeSet<Integer>());
+        final Map<Integer, MovieDbException> failures = new ConcurrentSkipListMap<>();
+        final Map<Integer, RuntimeException> consumerFailures = new ConcurrentSkipListMap<>();
+        final AtomicInteger fetched = new AtomicInteger(0);
+        final AtomicInteger next = new AtomicInteger(0);
+
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int index;
+                while ((index = next.getAndIncrement()) < unique.length) {
+                    Integer id = unique[index];
+                    T item;
+                    try {
+                        item = call.call(id);
+                    } catch (MovieDbException ex) {
+                        if (isNotFound(ex)) {
+                            notFound.add(id);
+                        } else {
+                            failures.put(id, ex);
+                        }
+                        continue;
+                    } catch (RuntimeException ex) {
+                        failures.put(id, new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, ex.getMessage(), "ID " + id, ex));
+                        continue;
+                    }
+
+                    fetched.incrementAndGet();
+                    if (consumer == null) {
+                        items.set(index, item);
+                        continue;
+                    }
+                    try {
+                        synchronized (consumer) {
+                            consumer.accept(id, item);
+                        }
+                    } catch (RuntimeException ex) {
+                        consumerFailures.put(id, ex);
+                    }
+                }
+            }
+        };
+
+        if (unique.length > 0) {
+            WorkerGroup.start(executor, Math.min(parallelism, unique.length), worker).await("bulk fetch", new Runnable() {
+                @Override
+                public void run() {
+                    // Stop handing out IDs
+                    next.set(unique.length);
+                }
+            });
+        }
+
+        Map<Integer, T> results = new LinkedHashMap<>();
+        if (items != null) {
+            for (int i = 0; i < unique.length; i++) {
+                T item = items.get(i);
+                if (item != null) {
+                    results.put(unique[i], item);
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            LOG.debug("Bulk fetch of {} IDs had {} failures", unique.length, failures.size());
+        }
+        return new BulkResult<>(unique.length, fetched.get(), results, new TreeSet<>(notFound), new LinkedHashMap<>(failures),
+                new LinkedHashMap<>(consumerFailures));
+    }
+
+    /**
+     * Does the exception mean that TMDb does not have the ID
+     *
+     * @param ex The exception
+     * @return true if the ID was not found
+     */
+    private static boolean isNotFound(MovieDbException ex) {
+        return ex.getExceptionType() == ApiExceptionType.ID_NOT_FOUND
+                || ex.getResponseCode() == HttpStatus.SC_NOT_FOUND;
+    }
+}
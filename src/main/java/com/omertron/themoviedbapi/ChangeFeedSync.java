@@ -0,0 +1,434 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.interfaces.ChangeCheckpointStore;
+import com.omertron.themoviedbapi.interfaces.ChangeRefresher;
+import com.omertron.themoviedbapi.interfaces.PageFetcher;
+import com.omertron.themoviedbapi.model.change.ChangeListItem;
+import com.omertron.themoviedbapi.results.PageFanOut;
+import com.omertron.themoviedbapi.results.PagedResults;
+import com.omertron.themoviedbapi.results.ResultList;
+import com.omertron.themoviedbapi.tools.IntList;
+import com.omertron.themoviedbapi.tools.IntOpenHashSet;
+import com.omertron.themoviedbapi.tools.MethodBase;
+import com.omertron.themoviedbapi.tools.WorkerGroup;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * Sync the movie, TV and person change feeds.
+ * <p>
+ * Each feed is read from the date it was last synced to, taken from the
+ * checkpoint store, up to today. TMDb only returns 14 days of changes per
+ * request, so longer gaps are read as several windows. The pages of each
+ * window are fetched concurrently.
+ * <p>
+ * Each changed ID is passed to the refresher once per sync, however many pages
+ * or windows it appears in, with at most "maxRefreshConcurrency" refreshes
+ * running at once. The IDs of a window are refreshed once its pages have been
+ * read.
+ * <p>
+ * The checkpoint is only moved on when every page was read and every refresh
+ * succeeded, so a failed sync is retried in full next time. The time of the
+ * sync is saved with the checkpoint. If the sync ran before the end of the
+ * checkpoint day, the next sync reads that day again, as changes made later
+ * that day would otherwise be missed. Otherwise the next sync starts on the
+ * following day.
+ *
+ * @author Stuart
+ */
+public class ChangeFeedSync {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeFeedSync.class);
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    // The longest period TMDb will return changes for
+    public static final int MAX_WINDOW_DAYS = 14;
+    // How far back to go when a feed has no checkpoint
+    private static final int INITIAL_DAYS = 1;
+
+    private final TheMovieDbApi api;
+    private final ChangeCheckpointStore store;
+    private final ChangeRefresher refresher;
+    private final Executor executor;
+    private final int maxPageConcurrency;
+    private final int maxRefreshConcurrency;
+
+    /**
+     * Create the sync with the default concurrency
+     *
+     * @param api The API to read the change feeds from
+     * @param store Where to keep the checkpoints
+     * @param refresher Called with each changed ID
+     */
+    public ChangeFeedSync(TheMovieDbApi api, ChangeCheckpointStore store, ChangeRefresher refresher) {
+        this(api, store, refresher, PagedResults.getDefaultExecutor(), DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Create the sync
+     *
+     * @param api The API to read the change feeds from
+     * @param store Where to keep the checkpoints
+     * @param refresher Called with each changed ID
+     * @param executor The executor to fetch the pages and run the refreshes on
+     * @param maxPageConcurrency Maximum number of pages to fetch at once
+     * @param maxRefreshConcurrency Maximum number of refreshes to run at once
+     */
+    public ChangeFeedSync(TheMovieDbApi api, ChangeCheckpointStore store, ChangeRefresher refresher,
+            Executor executor, int maxPageConcurrency, int maxRefreshConcurrency) {
+        if (maxPageConcurrency <= 0 || maxRefreshConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be greater than zero");
+        }
+        this.api = api;
+        this.store = store;
+        this.refresher = refresher;
+        this.executor = executor;
+        this.maxPageConcurrency = maxPageConcurrency;
+        this.maxRefreshConcurrency = maxRefreshConcurrency;
+    }
+
+    /**
+     * Sync the movie, TV and person feeds up to today
+     *
+     * @return The result of each feed
+     * @throws MovieDbException if a checkpoint could not be read or saved
+     */
+    public Map<MethodBase, Result> syncAll() throws MovieDbException {
+        Map<MethodBase, Result> results = new EnumMap<>(MethodBase.class);
+        for (MethodBase method : new MethodBase[]{MethodBase.MOVIE, MethodBase.TV, MethodBase.PERSON}) {
+            results.put(method, sync(method));
+        }
+        return results;
+    }
+
+    /**
+     * Sync a feed up to today (UTC)
+     *
+     * @param method The feed, MOVIE, TV or PERSON
+     * @return The result
+     * @throws MovieDbException if the checkpoint could not be read or saved
+     */
+    public Result sync(MethodBase method) throws MovieDbException {
+        return sync(method, LocalDate.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Sync a feed up to the given date
+     *
+     * @param method The feed, MOVIE, TV or PERSON
+     * @param endDate The date to sync to
+     * @return The result
+     * @throws MovieDbException if the checkpoint could not be read or saved
+     */
+    public Result sync(final MethodBase method, LocalDate endDate) throws MovieDbException {
+        if (method != MethodBase.MOVIE && method != MethodBase.TV && method != MethodBase.PERSON) {
+            throw new IllegalArgumentException("No change feed for " + method);
+        }
+
+        // Changes made from now on may not be in the feed
+        Instant syncTime = Instant.now();
+        LocalDate startDate;
+        try {
+            startDate = store.getCheckpoint(method);
+            Instant lastSync = store.getSyncTime(method);
+            if (startDate != null && lastSync != null && !lastSync.isBefore(startOfDay(startDate.plusDays(1)))) {
+                // The checkpoint day was over when it was synced
+                startDate = startDate.plusDays(1);
+            }
+        } catch (IOException ex) {
+            throw new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, "Failed to read checkpoint", method.getValue(), ex);
+        }
+        if (startDate == null) {
+            startDate = endDate.minusDays(INITIAL_DAYS);
+        } else if (startDate.isAfter(endDate)) {
+            LOG.debug("{} changes already synced to {}", method, endDate);
+            return new Result(method, startDate, endDate, new Run(method), true);
+        }
+
+        final Run run = new Run(method);
+        LocalDate windowStart = startDate;
+        do {
+            LocalDate windowEnd = windowStart.plusDays(MAX_WINDOW_DAYS);
+            if (windowEnd.isAfter(endDate)) {
+                windowEnd = endDate;
+            }
+            run.readWindow(windowStart, windowEnd);
+            run.refreshPending();
+            run.windowCount++;
+            // Windows share their boundary day, the duplicates are dropped
+            windowStart = windowEnd;
+        } while (windowStart.isBefore(endDate));
+
+        boolean saved = false;
+        if (run.pageFailures.isEmpty() && run.refreshFailures.isEmpty()) {
+            try {
+                store.setCheckpoint(method, endDate, syncTime);
+                saved = true;
+            } catch (IOException ex) {
+                throw new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, "Failed to save checkpoint", method.getValue(), ex);
+            }
+        } else {
+            LOG.warn("Sync of {} changes incomplete, checkpoint left at {}", method, startDate);
+        }
+
+        return new Result(method, startDate, endDate, run, saved);
+    }
+
+    private static Instant startOfDay(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private ResultList<ChangeListItem> getChangeList(MethodBase method, int page, String startDate, String endDate) throws MovieDbException {
+        switch (method) {
+            case MOVIE:
+                return api.getMovieChangeList(page, startDate, endDate);
+            case TV:
+                return api.getTvChangeList(page, startDate, endDate);
+            default:
+                return api.getPersonChangeList(page, startDate, endDate);
+        }
+    }
+
+    /**
+     * The state of one sync of a feed
+     */
+    private final class Run {
+
+        private final MethodBase method;
+        // Guarded by "seen", a window can have over a million IDs
+        private final IntOpenHashSet seen = new IntOpenHashSet();
+        private final IntList pending = new IntList();
+        private final AtomicInteger refreshed = new AtomicInteger(0);
+        private final Map<String, MovieDbException> pageFailures = new ConcurrentSkipListMap<>();
+        private final Map<Integer, MovieDbException> refreshFailures = new ConcurrentSkipListMap<>();
+        private int windowCount = 0;
+
+        Run(MethodBase method) {
+            this.method = method;
+        }
+
+        void readWindow(LocalDate from, LocalDate to) throws MovieDbException {
+            final String start = from.toString();
+            final String end = to.toString();
+            PageFetcher<ChangeListItem> fetcher = new PageFetcher<ChangeListItem>() {
+                @Override
+                public ResultList<ChangeListItem> getPage(int page) throws MovieDbException {
+                    return getChangeList(method, page, start, end);
+                }
+            };
+
+            PageFanOut<ChangeListItem> fanOut = new PageFanOut<>(fetcher, executor, maxPageConcurrency, Integer.MAX_VALUE);
+            PageFanOut.Result<ChangeListItem> result;
+            try {
+                result = fanOut.fetchAll(false, page -> {
+                    synchronized (seen) {
+                        for (ChangeListItem item : page.getResults()) {
+                            if (seen.addInt(item.getId())) {
+                                pending.addInt(item.getId());
+                            }
+                        }
+                    }
+                });
+            } catch (MovieDbException ex) {
+                pageFailures.put(start + "/" + end + " page 1", ex);
+                return;
+            }
+
+            for (Map.Entry<Integer, MovieDbException> entry : result.getFailures().entrySet()) {
+                pageFailures.put(start + "/" + end + " page " + entry.getKey(), entry.getValue());
+            }
+            LOG.debug("Read {} pages of {} changes from {} to {}", result.getTotalPages(), method, start, end);
+        }
+
+        private int getChangedCount() {
+            synchronized (seen) {
+                return seen.size();
+            }
+        }
+
+        /**
+         * Refresh the IDs found since the last call
+         */
+        void refreshPending() throws MovieDbException {
+            final int[] ids;
+            synchronized (seen) {
+                ids = pending.toIntArray();
+                pending.clear();
+                pending.trimToSize();
+            }
+            if (ids.length == 0) {
+                return;
+            }
+
+            final AtomicInteger next = new AtomicInteger(0);
+            Runnable worker = new Runnable() {
+                @Override
+                public void run() {
+                    int index;
+                    while ((index = next.getAndIncrement()) < ids.length) {
+                        refresh(ids[index]);
+                    }
+                }
+            };
+            WorkerGroup.start(executor, Math.min(maxRefreshConcurrency, ids.length), worker).await(method.getValue() + " refresh", new Runnable() {
+                @Override
+                public void run() {
+                    // Stop handing out IDs
+                    next.set(ids.length);
+                }
+            });
+        }
+
+        private void refresh(int id) {
+            try {
+                refresher.refresh(method, id);
+                refreshed.incrementAndGet();
+            } catch (MovieDbException ex) {
+                refreshFailures.put(id, ex);
+            } catch (RuntimeException ex) {
+                refreshFailures.put(id, new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, ex.getMessage(), method.getValue() + " " + id, ex));
+            }
+        }
+    }
+
+    /**
+     * The outcome of syncing one feed
+     */
+    public static final class Result {
+
+        private final MethodBase method;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final int windowCount;
+        private final int changedCount;
+        private final int refreshedCount;
+        private final Map<String, MovieDbException> pageFailures;
+        private final Map<Integer, MovieDbException> refreshFailures;
+        private final boolean checkpointSaved;
+
+        private Result(MethodBase method, LocalDate startDate, LocalDate endDate, Run run, boolean checkpointSaved) {
+            this.method = method;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.windowCount = run.windowCount;
+            this.changedCount = run.getChangedCount();
+            this.refreshedCount = run.refreshed.get();
+            this.pageFailures = Collections.unmodifiableMap(new LinkedHashMap<>(run.pageFailures));
+            this.refreshFailures = Collections.unmodifiableMap(new LinkedHashMap<>(run.refreshFailures));
+            this.checkpointSaved = checkpointSaved;
+        }
+
+        public MethodBase getMethod() {
+            return method;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        /**
+         * Number of date windows read
+         *
+         * @return count
+         */
+        public int getWindowCount() {
+            return windowCount;
+        }
+
+        /**
+         * Number of unique IDs in the feed
+         *
+         * @return count
+         */
+        public int getChangedCount() {
+            return changedCount;
+        }
+
+        /**
+         * Number of IDs that were refreshed without error
+         *
+         * @return count
+         */
+        public int getRefreshedCount() {
+            return refreshedCount;
+        }
+
+        /**
+         * The pages that could not be read, keyed by window and page
+         *
+         * @return failures
+         */
+        public Map<String, MovieDbException> getPageFailures() {
+            return pageFailures;
+        }
+
+        /**
+         * The IDs that failed to refresh
+         *
+         * @return failures
+         */
+        public Map<Integer, MovieDbException> getRefreshFailures() {
+            return refreshFailures;
+        }
+
+        /**
+         * Does the checkpoint now cover the end date
+         *
+         * @return true if the sync was complete
+         */
+        public boolean isCheckpointSaved() {
+            return checkpointSaved;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                    .append("method", method)
+                    .append("startDate", startDate)
+                    .append("endDate", endDate)
+                    .append("windows", windowCount)
+                    .append("changed", changedCount)
+                    .append("refreshed", refreshedCount)
+                    .append("pageFailures", pageFailures.keySet())
+                    .append("refreshFailures", refreshFailures.keySet())
+                    .append("checkpointSaved", checkpointSaved)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,593 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.interfaces.DiscoverQuery;
+import com.omertron.themoviedbapi.interfaces.Identification;
+import com.omertron.themoviedbapi.model.discover.Discover;
+import com.omertron.themoviedbapi.results.PagedResults;
+import com.omertron.themoviedbapi.results.ResultList;
+import com.omertron.themoviedbapi.tools.Param;
+import com.omertron.themoviedbapi.tools.WorkerGroup;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * Sweep every result of a discover search, beyond the 500 page limit.
+ * <p>
+ * TMDb will not return more than 500 pages of a discover search. The planner
+ * probes the first page of the search and, if there are more pages than that,
+ * splits the search into two narrower ones and probes those, until every
+ * slice fits. Movie searches are split on the primary release date, then the
+ * vote count, then the vote average, and TV searches on the first air date
+ * instead of the release date, unless other ranges are given. A range is no
+ * longer split once halving it does not lower the number of pages, as the
+ * server ignores ranges that do not apply to the search.
+ * <p>
+ * The pages of all the slices are then fetched concurrently, limited to
+ * "maxConcurrency" requests at a time, and the results are de-duplicated by
+ * ID. A failed page does not stop the sweep; it is reported in the result.
+ * <p>
+ * Splitting on a date leaves out items without that date.
+ *
+ * @author Stuart
+ * @param <T> Type of the results
+ */
+public class DiscoverPlanner<T extends Identification> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DiscoverPlanner.class);
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    // TMDb will not return pages beyond this
+    public static final int MAX_PAGES = PagedResults.DEFAULT_MAX_PAGES;
+    // Bounds used when the search does not set them
+    private static final LocalDate MIN_DATE = LocalDate.of(1870, 1, 1);
+    private static final int FUTURE_YEARS = 10;
+    private static final int MAX_VOTE_COUNT = 1000000;
+    private static final float MAX_VOTE_AVERAGE = 10f;
+    private static final float MIN_VOTE_STEP = 0.1f;
+    // TMDb gives the vote average to three decimal places
+    private static final float VOTE_AVERAGE_SCALE = 1000f;
+
+    /**
+     * The ranges a search can be split on
+     */
+    public enum Split {
+        PRIMARY_RELEASE_DATE,
+        FIRST_AIR_DATE,
+        VOTE_COUNT,
+        VOTE_AVERAGE
+    }
+
+    private final DiscoverQuery<T> query;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final List<Split> splits;
+
+    /**
+     * Create a planner for a movie search.
+     *
+     * @param query The discover search to run, e.g. api::getDiscoverMovies
+     */
+    public DiscoverPlanner(DiscoverQuery<T> query) {
+        this(query, PagedResults.getDefaultExecutor(), DEFAULT_MAX_CONCURRENCY,
+                Split.PRIMARY_RELEASE_DATE, Split.VOTE_COUNT, Split.VOTE_AVERAGE);
+    }
+
+    /**
+     * Create a planner for a TV search.
+     *
+     * @param <T> Type of the results
+     * @param query The discover search to run, e.g. api::getDiscoverTV
+     * @return DiscoverPlanner
+     */
+    public static <T extends Identification> DiscoverPlanner<T> forTv(DiscoverQuery<T> query) {
+        return new DiscoverPlanner<>(query, PagedResults.getDefaultExecutor(), DEFAULT_MAX_CONCURRENCY,
+                Split.FIRST_AIR_DATE, Split.VOTE_COUNT, Split.VOTE_AVERAGE);
+    }
+
+    /**
+     * Create a planner
+     *
+     * @param query The discover search to run, e.g. api::getDiscoverMovies
+     * @param executor The executor to run the requests on
+     * @param maxConcurrency Maximum number of requests to make at once
+     * @param splits The ranges to split on, in order
+     */
+    public DiscoverPlanner(DiscoverQuery<T> query, Executor executor, int maxConcurrency, Split... splits) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be greater than zero");
+        }
+        this.query = query;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.splits = Collections.unmodifiableList(Arrays.asList(splits));
+    }
+
+    /**
+     * Fetch every result of the search
+     *
+     * @param discover The search criteria, this is not changed
+     * @return The results and any failures
+     * @throws MovieDbException if the search could not be started
+     */
+    public Result<T> sweep(Discover discover) throws MovieDbException {
+        Sweep sweep = new Sweep();
+        Slice root = new Slice("", discover.copy(), EnumSet.noneOf(Split.class));
+        // The first probe is made here so a bad search fails straight away
+        sweep.probe(root, query.discover(root.page(1)));
+        sweep.run();
+
+        List<Slice> leaves = new ArrayList<>(sweep.leaves);
+        Collections.sort(leaves, new Comparator<Slice>() {
+            @Override
+            public int compare(Slice s1, Slice s2) {
+                return s1.path.compareTo(s2.path);
+            }
+        });
+        return new Result<>(leaves, sweep.failures, sweep.requestCount.get());
+    }
+
+    /**
+     * The state of one sweep
+     */
+    private final class Sweep {
+
+        // Tells a worker there is no more work
+        private final Runnable stop = new Runnable() {
+            @Override
+            public void run() {
+                // Never run
+            }
+        };
+        private final LinkedBlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+        private final AtomicInteger outstanding = new AtomicInteger(0);
+        private final AtomicInteger requestCount = new AtomicInteger(1);
+        private final ConcurrentLinkedQueue<Slice> leaves = new ConcurrentLinkedQueue<>();
+        private final Map<String, MovieDbException> failures = new ConcurrentSkipListMap<>();
+
+        /**
+         * Decide what to do with a slice once its first page is known
+         */
+        void probe(Slice slice, ResultList<T> first) {
+            if (first.getTotalPages() > MAX_PAGES) {
+                Halves halves = split(slice, first);
+                if (halves != null) {
+                    LOG.debug("Splitting {} with {} pages on {}", slice, first.getTotalPages(), halves.split);
+                    submitProbe(halves, 0);
+                    submitProbe(halves, 1);
+                    return;
+                }
+                LOG.warn("Unable to split {}, only the first {} of {} pages will be read", slice, MAX_PAGES, first.getTotalPages());
+                slice.truncated = true;
+            }
+
+            int lastPage = Math.min(Math.max(first.getTotalPages(), 1), MAX_PAGES);
+            slice.pages = new AtomicReferenceArray<>(lastPage);
+            slice.pages.set(0, first);
+            leaves.add(slice);
+            for (int page = 2; page <= lastPage; page++) {
+                submitPage(slice, page);
+            }
+        }
+
+        void submitProbe(final Halves halves, final int index) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    halves.firsts.set(index, fetch(halves.slices[index], 1));
+                    if (halves.pending.decrementAndGet() == 0) {
+                        probe(halves);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Decide what to do with the halves of a slice once both first pages
+         * are known
+         */
+        void probe(Halves halves) {
+            ResultList<T> lower = halves.firsts.get(0);
+            ResultList<T> upper = halves.firsts.get(1);
+            int parentPages = halves.parentFirst.getTotalPages();
+            if (lower != null && upper != null && lower.getTotalPages() >= parentPages && upper.getTotalPages() >= parentPages) {
+                // Neither half is smaller, so the range is being ignored
+                LOG.debug("Splitting {} on {} did not reduce the pages, trying the next range", halves.parent, halves.split);
+                halves.parent.exhausted.add(halves.split);
+                probe(halves.parent, halves.parentFirst);
+                return;
+            }
+
+            for (int i = 0; i < halves.slices.length; i++) {
+                ResultList<T> first = halves.firsts.get(i);
+                if (first != null) {
+                    probe(halves.slices[i], first);
+                }
+            }
+        }
+
+        void submitPage(final Slice slice, final int page) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    ResultList<T> results = fetch(slice, page);
+                    if (results != null) {
+                        slice.pages.set(page - 1, results);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Fetch a page of the slice, recording any failure
+         *
+         * @return the page, or null if it failed
+         */
+        private ResultList<T> fetch(Slice slice, int page) {
+            String key = slice + " page " + page;
+            try {
+                return query.discover(slice.page(page));
+            } catch (MovieDbException ex) {
+                failures.put(key, ex);
+            } catch (RuntimeException ex) {
+                failures.put(key, new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, ex.getMessage(), key, ex));
+            }
+            return null;
+        }
+
+        private void submit(Runnable task) {
+            outstanding.incrementAndGet();
+            queue.add(task);
+        }
+
+        /**
+         * Work through the queue until every task, including the tasks they
+         * add, is complete
+         */
+        void run() throws MovieDbException {
+            if (outstanding.get() == 0) {
+                return;
+            }
+
+            Runnable worker = new Runnable() {
+                @Override
+                public void run() {
+                    work();
+                }
+            };
+            WorkerGroup.start(executor, maxConcurrency, worker).await("discover sweep", new Runnable() {
+                @Override
+                public void run() {
+                    queue.clear();
+                    stopWorkers();
+                }
+            });
+        }
+
+        private void work() {
+            try {
+                Runnable task;
+                while ((task = queue.take()) != stop) {
+                    requestCount.incrementAndGet();
+                    try {
+                        task.run();
+                    } finally {
+                        // Any tasks added by this one were counted first
+                        if (outstanding.decrementAndGet() == 0) {
+                            stopWorkers();
+                        }
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void stopWorkers() {
+            for (int i = 0; i < maxConcurrency; i++) {
+                queue.add(stop);
+            }
+        }
+    }
+
+    /**
+     * Split the slice in two on the first range that can still be split
+     *
+     * @param slice
+     * @param first The first page of the slice
+     * @return the two halves, or null if the slice cannot be split
+     */
+    private Halves split(Slice slice, ResultList<T> first) {
+        for (Split split : splits) {
+            if (slice.exhausted.contains(split)) {
+                continue;
+            }
+            Discover[] criteria = null;
+            switch (split) {
+                case PRIMARY_RELEASE_DATE:
+                case FIRST_AIR_DATE:
+                    Param gte = split == Split.FIRST_AIR_DATE ? Param.FIRST_AIR_DATE_GTE : Param.PRIMARY_RELEASE_DATE_GTE;
+                    Param lte = split == Split.FIRST_AIR_DATE ? Param.FIRST_AIR_DATE_LTE : Param.PRIMARY_RELEASE_DATE_LTE;
+                    LocalDate from = getDate(slice.criteria, gte, MIN_DATE);
+                    LocalDate to = getDate(slice.criteria, lte, LocalDate.now().plusYears(FUTURE_YEARS));
+                    long days = ChronoUnit.DAYS.between(from, to);
+                    if (days >= 1) {
+                        LocalDate mid = from.plusDays(days / 2);
+                        criteria = new Discover[]{
+                            setDates(slice.criteria.copy(), split, from, mid),
+                            setDates(slice.criteria.copy(), split, mid.plusDays(1), to)
+                        };
+                    }
+                    break;
+                case VOTE_COUNT:
+                    int countFrom = NumberUtils.toInt(getParam(slice.criteria, Param.VOTE_COUNT_GTE), 0);
+                    int countTo = NumberUtils.toInt(getParam(slice.criteria, Param.VOTE_COUNT_LTE), MAX_VOTE_COUNT);
+                    if (countTo > countFrom) {
+                        int mid = countFrom + (countTo - countFrom) / 2;
+                        criteria = new Discover[]{
+                            slice.criteria.copy().voteCountGte(countFrom).voteCountLte(mid),
+                            slice.criteria.copy().voteCountGte(mid + 1).voteCountLte(countTo)
+                        };
+                    }
+                    break;
+                case VOTE_AVERAGE:
+                    float averageFrom = NumberUtils.toFloat(getParam(slice.criteria, Param.VOTE_AVERAGE_GTE), 0f);
+                    float averageTo = NumberUtils.toFloat(getParam(slice.criteria, Param.VOTE_AVERAGE_LTE), MAX_VOTE_AVERAGE);
+                    if (averageTo - averageFrom > MIN_VOTE_STEP) {
+                        // Split on the precision of the averages, so the upper half starts just above the lower
+                        int mid = Math.round((averageFrom + averageTo) * VOTE_AVERAGE_SCALE / 2f);
+                        criteria = new Discover[]{
+                            slice.criteria.copy().voteAverageGte(averageFrom).voteAverageLte(mid / VOTE_AVERAGE_SCALE),
+                            slice.criteria.copy().voteAverageGte((mid + 1) / VOTE_AVERAGE_SCALE).voteAverageLte(averageTo)
+                        };
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (criteria != null) {
+                return new Halves(slice, first, split, slice.child("0", criteria[0]), slice.child("1", criteria[1]));
+            }
+        }
+        return null;
+    }
+
+    private static Discover setDates(Discover discover, Split split, LocalDate from, LocalDate to) {
+        if (split == Split.FIRST_AIR_DATE) {
+            return discover.firstAirDateGte(from.toString()).firstAirDateLte(to.toString());
+        }
+        return discover.primaryReleaseDateGte(from.toString()).primaryReleaseDateLte(to.toString());
+    }
+
+    private static String getParam(Discover discover, Param param) {
+        Object value = discover.getParams().get(param);
+        return value == null ? null : value.toString();
+    }
+
+    private static LocalDate getDate(Discover discover, Param param, LocalDate defaultDate) {
+        String value = getParam(discover, param);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return LocalDate.parse(value.trim());
+            } catch (DateTimeParseException ex) {
+                LOG.debug("Ignoring invalid date '{}' for {}", value, param);
+            }
+        }
+        return defaultDate;
+    }
+
+    /**
+     * A part of the search.
+     *
+     * The path records the splits that led to the slice, so sorting the paths
+     * puts the slices back in range order.
+     */
+    private static final class Slice {
+
+        private final String path;
+        private final Discover criteria;
+        // Ranges the server ignored for this search, only changed whilst planning the slice
+        private final EnumSet<Split> exhausted;
+        private volatile AtomicReferenceArray<ResultList<?>> pages;
+        private volatile boolean truncated = false;
+
+        Slice(String path, Discover criteria, EnumSet<Split> exhausted) {
+            this.path = path;
+            this.criteria = criteria;
+            this.exhausted = exhausted;
+        }
+
+        Slice child(String step, Discover childCriteria) {
+            return new Slice(path + step, childCriteria, EnumSet.copyOf(exhausted));
+        }
+
+        Discover page(int page) {
+            return criteria.copy().page(page);
+        }
+
+        @Override
+        public String toString() {
+            return "slice '" + path + "'";
+        }
+    }
+
+    /**
+     * The two halves of a slice, probed before either is planned so a split
+     * that made no difference can be undone
+     */
+    private final class Halves {
+
+        private final Slice parent;
+        private final ResultList<T> parentFirst;
+        private final Split split;
+        private final Slice[] slices;
+        private final AtomicReferenceArray<ResultList<T>> firsts = new AtomicReferenceArray<>(2);
+        private final AtomicInteger pending = new AtomicInteger(2);
+
+        Halves(Slice parent, ResultList<T> parentFirst, Split split, Slice lower, Slice upper) {
+            this.parent = parent;
+            this.parentFirst = parentFirst;
+            this.split = split;
+            this.slices = new Slice[]{lower, upper};
+        }
+    }
+
+    /**
+     * The results of a sweep
+     *
+     * @param <T> Type of the results
+     */
+    public static final class Result<T extends Identification> {
+
+        private final List<T> results;
+        private final int sliceCount;
+        private final int truncatedCount;
+        private final int duplicateCount;
+        private final int requestCount;
+        private final Map<String, MovieDbException> failures;
+
+        @SuppressWarnings("unchecked")
+        private Result(List<Slice> leaves, Map<String, MovieDbException> failures, int requestCount) {
+            Map<Integer, T> unique = new LinkedHashMap<>();
+            int duplicates = 0;
+            int truncated = 0;
+            for (Slice slice : leaves) {
+                if (slice.truncated) {
+                    truncated++;
+                }
+                for (int i = 0; i < slice.pages.length(); i++) {
+                    ResultList<T> page = (ResultList<T>) slice.pages.get(i);
+                    if (page == null) {
+                        continue;
+                    }
+                    for (T item : page.getResults()) {
+                        if (unique.putIfAbsent(item.getId(), item) != null) {
+                            duplicates++;
+                        }
+                    }
+                }
+            }
+
+            this.results = Collections.unmodifiableList(new ArrayList<>(unique.values()));
+            this.sliceCount = leaves.size();
+            this.truncatedCount = truncated;
+            this.duplicateCount = duplicates;
+            this.requestCount = requestCount;
+            this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        }
+
+        /**
+         * The unique results, in the order of the slices and pages
+         *
+         * @return results
+         */
+        public List<T> getResults() {
+            return results;
+        }
+
+        /**
+         * Number of slices the search was split into
+         *
+         * @return count
+         */
+        public int getSliceCount() {
+            return sliceCount;
+        }
+
+        /**
+         * Number of slices that could not be split enough to read every page
+         *
+         * @return count
+         */
+        public int getTruncatedCount() {
+            return truncatedCount;
+        }
+
+        /**
+         * Number of results that were in more than one slice
+         *
+         * @return count
+         */
+        public int getDuplicateCount() {
+            return duplicateCount;
+        }
+
+        /**
+         * Number of searches made, including the probes
+         *
+         * @return count
+         */
+        public int getRequestCount() {
+            return requestCount;
+        }
+
+        /**
+         * The pages that failed, keyed by slice and page
+         *
+         * @return failures
+         */
+        public Map<String, MovieDbException> getFailures() {
+            return failures;
+        }
+
+        /**
+         * Were all the results read
+         *
+         * @return true if nothing failed or was truncated
+         */
+        public boolean isComplete() {
+            return failures.isEmpty() && truncatedCount == 0;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                    .append("results", results.size())
+                    .append("slices", sliceCount)
+                    .append("truncated", truncatedCount)
+                    .append("duplicates", duplicateCount)
+                    .append("requests", requestCount)
+                    .append("failures", failures.keySet())
+                    .toString();
+        }
+    }
+}
@@ -107,29 +107,29 @@ import org.yamj.api.common.http.SimpleHttpClientBuilder;
  */
 public class TheMovieDbApi {
 
-    private HttpTools httpTools;
+    private final HttpTools httpTools;
     // Sub-methods
-    private static TmdbAccount tmdbAccount;
-    private static TmdbAuthentication tmdbAuth;
-    private static TmdbCertifications tmdbCertifications;
-    private static TmdbChanges tmdbChanges;
-    private static TmdbCollections tmdbCollections;
-    private static TmdbCompanies tmdbCompany;
-    private static TmdbConfiguration tmdbConfiguration;
-    private static TmdbCredits tmdbCredits;
-    private static TmdbDiscover tmdbDiscover;
-    private static TmdbFind tmdbFind;
-    private static TmdbGenres tmdbGenre;
-    private static TmdbKeywords tmdbKeywords;
-    private static TmdbLists tmdbList;
-    private static TmdbMovies tmdbMovies;
-    private static TmdbNetworks tmdbNetworks;
-    private static TmdbPeople tmdbPeople;
-    private static TmdbReviews tmdbReviews;
-    private static TmdbSearch tmdbSearch;
-    private static TmdbTV tmdbTv;
-    private static TmdbSeasons tmdbSeasons;
-    private static TmdbEpisodes tmdbEpisodes;
+    private final TmdbAccount tmdbAccount;
+    private final TmdbAuthentication tmdbAuth;
+    private final TmdbCertifications tmdbCertifications;
+    private final TmdbChanges tmdbChanges;
+    private final TmdbCollections tmdbCollections;
+    private final TmdbCompanies tmdbCompany;
+    private final TmdbConfiguration tmdbConfiguration;
+    private final TmdbCredits tmdbCredits;
+    private final TmdbDiscover tmdbDiscover;
+    private final TmdbFind tmdbFind;
+    private final TmdbGenres tmdbGenre;
+    private final TmdbKeywords tmdbKeywords;
+    private final TmdbLists tmdbList;
+    private final TmdbMovies tmdbMovies;
+    private final TmdbNetworks tmdbNetworks;
+    private final TmdbPeople tmdbPeople;
+    private final TmdbReviews tmdbReviews;
+    private final TmdbSearch tmdbSearch;
+    private final TmdbTV tmdbTv;
+    private final TmdbSeasons tmdbSeasons;
+    private final TmdbEpisodes tmdbEpisodes;
 
     /**
      * API for The Movie Db.
@@ -149,17 +149,20 @@ public class TheMovieDbApi {
      * @throws MovieDbException exception
      */
     public TheMovieDbApi(String apiKey, HttpClient httpClient) throws MovieDbException {
-        this.httpTools = new HttpTools(httpClient);
-        initialise(apiKey, httpTools);
+        this(apiKey, new HttpTools(httpClient));
     }
 
     /**
-     * Initialise the sub-classes once the API key and http client are known
+     * API for The Movie Db.
+     *
+     * Each instance keeps its own state, so several instances with different
+     * API keys, HTTP clients or request limiters can be used side by side.
      *
      * @param apiKey apiKey
-     * @param httpTools httpTools
+     * @param httpTools The HttpTools to use for web requests.
      */
-    private void initialise(String apiKey, HttpTools httpTools) {
+    public TheMovieDbApi(String apiKey, HttpTools httpTools) {
+        this.httpTools = httpTools;
         tmdbAccount = new TmdbAccount(apiKey, httpTools);
         tmdbAuth = new TmdbAuthentication(apiKey, httpTools);
         tmdbCertifications = new TmdbCertifications(apiKey, httpTools);
@@ -183,6 +186,15 @@ public class TheMovieDbApi {
         tmdbEpisodes = new TmdbEpisodes(apiKey, httpTools);
     }
 
+    /**
+     * Get the HttpTools used for the web requests
+     *
+     * @return HttpTools
+     */
+    public HttpTools getHttpTools() {
+        return httpTools;
+    }
+
     //<editor-fold defaultstate="collapsed" desc="Account">
     /**
      * Get the basic information for an account. You will need to have a valid
@@ -0,0 +1,368 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.interfaces.ApiCall;
+import com.omertron.themoviedbapi.tools.HttpTools;
+import com.omertron.themoviedbapi.tools.RequestLimiter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import org.yamj.api.common.http.SimpleHttpClientBuilder;
+
+/**
+ * A pool of API instances, one per API key.
+ * <p>
+ * TMDb enforces its rate limits per API key, so spreading the calls over
+ * several keys raises the total throughput. Each key has its own HttpTools
+ * and request limiter. Calls are routed to the key with the fewest calls in
+ * flight, using the shortest limiter delay to break ties.
+ * <p>
+ * A key that is rate limited (429) or rejected (401) is taken out of rotation
+ * for a while and the call is retried on another key. If every key is out of
+ * rotation the key that comes back first is used.
+ *
+ * @author stuart.boston
+ */
+public class TheMovieDbApiPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TheMovieDbApiPool.class);
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    // Default time to keep a key out of rotation
+    public static final long DEFAULT_RATE_LIMIT_QUARANTINE_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    public static final long DEFAULT_AUTH_QUARANTINE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final List<PooledKey> keys;
+    // Used to rotate the starting point so ties are spread over the keys
+    private final AtomicInteger nextKey = new AtomicInteger(0);
+    private volatile long rateLimitQuarantineNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_RATE_LIMIT_QUARANTINE_MILLIS);
+    private volatile long authQuarantineNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_AUTH_QUARANTINE_MILLIS);
+
+    /**
+     * Create a pool for the API keys using a default HttpClient.
+     *
+     * @param apiKeys The API keys to use
+     */
+    public TheMovieDbApiPool(Collection<String> apiKeys) {
+        this(apiKeys, new SimpleHttpClientBuilder().build());
+    }
+
+    /**
+     * Create a pool for the API keys.
+     *
+     * The HttpClient is shared, but each key gets its own HttpTools and
+     * request limiter.
+     *
+     * @param apiKeys The API keys to use
+     * @param httpClient The httpClient to use for web requests.
+     */
+    public TheMovieDbApiPool(Collection<String> apiKeys, HttpClient httpClient) {
+        if (apiKeys == null || apiKeys.isEmpty()) {
+            throw new IllegalArgumentException("At least one API key is required");
+        }
+
+        List<PooledKey> list = new ArrayList<>(apiKeys.size());
+        for (String apiKey : apiKeys) {
+            HttpTools httpTools = new HttpTools(httpClient, new RequestLimiter());
+            list.add(new PooledKey(apiKey, new TheMovieDbApi(apiKey, httpTools)));
+        }
+        this.keys = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Create a pool from already configured API instances.
+     *
+     * Use this to tune the HttpTools, limiter or cache of each key.
+     *
+     * @param apis The API instances, keyed by their API key
+     */
+    public TheMovieDbApiPool(Map<String, TheMovieDbApi> apis) {
+        if (apis == null || apis.isEmpty()) {
+            throw new IllegalArgumentException("At least one API instance is required");
+        }
+
+        List<PooledKey> list = new ArrayList<>(apis.size());
+        for (Map.Entry<String, TheMovieDbApi> entry : apis.entrySet()) {
+            list.add(new PooledKey(entry.getKey(), entry.getValue()));
+        }
+        this.keys = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Set how long a key is taken out of rotation after a 429 response
+     *
+     * @param duration
+     * @param unit
+     */
+    public void setRateLimitQuarantine(long duration, TimeUnit unit) {
+        this.rateLimitQuarantineNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Set how long a key is taken out of rotation after a 401 response
+     *
+     * @param duration
+     * @param unit
+     */
+    public void setAuthQuarantine(long duration, TimeUnit unit) {
+        this.authQuarantineNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Get the keys in the pool with their usage
+     *
+     * @return unmodifiable list of the keys
+     */
+    public List<PooledKey> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Get the API instance of the key that would currently be chosen.
+     *
+     * Calls made directly on the instance are not counted as in flight, use
+     * {@link #execute(ApiCall)} where possible.
+     *
+     * @return TheMovieDbApi
+     */
+    public TheMovieDbApi getApi() {
+        return selectKey(null).getApi();
+    }
+
+    /**
+     * Run a call on the least loaded key.
+     *
+     * If the key is rate limited or rejected, it is taken out of rotation and
+     * the call is retried on the next key, at most once per key.
+     *
+     * @param <T> Type returned by the call
+     * @param call The call to make
+     * @return The result of the call
+     * @throws MovieDbException exception
+     */
+    public <T> T execute(ApiCall<T> call) throws MovieDbException {
+        List<PooledKey> tried = new ArrayList<>(1);
+        while (true) {
+            PooledKey key = selectKey(tried);
+            tried.add(key);
+
+            // Only count the rejections seen by this call, not by other calls on the key
+            RequestLimiter limiter = key.getApi().getHttpTools().getRequestLimiter();
+            long rejected = limiter.getThreadRejectedCount();
+            key.inFlight.incrementAndGet();
+            key.callCount.incrementAndGet();
+            try {
+                T result = call.call(key.getApi());
+                if (limiter.getThreadRejectedCount() > rejected) {
+                    // It got there in the end, but make room for the limiter to recover
+                    key.quarantine(rateLimitQuarantineNanos, false);
+                }
+                return result;
+            } catch (MovieDbException ex) {
+                key.failureCount.incrementAndGet();
+                if (!handleFailure(key, ex) || tried.size() >= keys.size()) {
+                    throw ex;
+                }
+                LOG.debug("Retrying call on another key after {} from {}", ex.getResponseCode(), key);
+            } finally {
+                key.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Take the key out of rotation if the failure was caused by the key
+     *
+     * @param key
+     * @param ex
+     * @return true if the call should be retried on another key
+     */
+    private boolean handleFailure(PooledKey key, MovieDbException ex) {
+        if (ex.getResponseCode() == STATUS_TOO_MANY_REQUESTS) {
+            key.quarantine(rateLimitQuarantineNanos, false);
+            return true;
+        }
+        if (ex.getResponseCode() == HttpStatus.SC_UNAUTHORIZED || ex.getExceptionType() == ApiExceptionType.AUTH_FAILURE) {
+            key.quarantine(authQuarantineNanos, true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Find the key with the fewest calls in flight, ignoring keys that are out
+     * of rotation or have already been tried.
+     *
+     * @param exclude Keys to skip, may be null
+     * @return PooledKey
+     */
+    private PooledKey selectKey(List<PooledKey> exclude) {
+        long now = System.nanoTime();
+        int start = Math.abs(nextKey.getAndIncrement() % keys.size());
+
+        PooledKey best = null;
+        long bestDelay = 0L;
+        PooledKey soonest = null;
+        for (int i = 0; i < keys.size(); i++) {
+            PooledKey key = keys.get((start + i) % keys.size());
+            if (exclude != null && exclude.contains(key)) {
+                continue;
+            }
+
+            if (!key.isAvailable(now)) {
+                if (soonest == null || key.availableAtNanos - soonest.availableAtNanos < 0) {
+                    soonest = key;
+                }
+                continue;
+            }
+
+            long delay = key.getApi().getHttpTools().getRequestLimiter().getDelayNanos();
+            if (best == null
+                    || key.inFlight.get() < best.inFlight.get()
+                    || (key.inFlight.get() == best.inFlight.get() && delay < bestDelay)) {
+                best = key;
+                bestDelay = delay;
+            }
+        }
+
+        if (best != null) {
+            return best;
+        }
+        // Everything is out of rotation, use the key that will be back first
+        return soonest;
+    }
+
+    /**
+     * An API key in the pool and its usage
+     */
+    public static final class PooledKey {
+
+        private final String apiKey;
+        private final TheMovieDbApi api;
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private final AtomicLong callCount = new AtomicLong(0);
+        private final AtomicLong failureCount = new AtomicLong(0);
+        private final AtomicLong quarantineCount = new AtomicLong(0);
+        private final AtomicLong authFailureCount = new AtomicLong(0);
+        private volatile long availableAtNanos = System.nanoTime();
+
+        private PooledKey(String apiKey, TheMovieDbApi api) {
+            this.apiKey = apiKey;
+            this.api = api;
+        }
+
+        private void quarantine(long durationNanos, boolean authFailure) {
+            long until = System.nanoTime() + durationNanos;
+            synchronized (this) {
+                if (until - availableAtNanos > 0) {
+                    availableAtNanos = until;
+                }
+            }
+            quarantineCount.incrementAndGet();
+            if (authFailure) {
+                authFailureCount.incrementAndGet();
+            }
+            LOG.debug("Key {} out of rotation for {}ms", this, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
+
+        private boolean isAvailable(long now) {
+            return now - availableAtNanos >= 0;
+        }
+
+        public String getApiKey() {
+            return apiKey;
+        }
+
+        public TheMovieDbApi getApi() {
+            return api;
+        }
+
+        /**
+         * Is the key currently in rotation
+         *
+         * @return true if the key can be used
+         */
+        public boolean isAvailable() {
+            return isAvailable(System.nanoTime());
+        }
+
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        public long getCallCount() {
+            return callCount.get();
+        }
+
+        public long getFailureCount() {
+            return failureCount.get();
+        }
+
+        public long getQuarantineCount() {
+            return quarantineCount.get();
+        }
+
+        public long getAuthFailureCount() {
+            return authFailureCount.get();
+        }
+
+        /**
+         * Number of HTTP requests made with the key
+         *
+         * @return count
+         */
+        public long getRequestCount() {
+            return api.getHttpTools().getRequestLimiter().getRequestCount();
+        }
+
+        /**
+         * Number of requests rejected by the server with a 429
+         *
+         * @return count
+         */
+        public long getRejectedCount() {
+            return api.getHttpTools().getRequestLimiter().getRejectedCount();
+        }
+
+        @Override
+        public String toString() {
+            return "PooledKey{apiKey=..." + StringUtils.right(apiKey, 4)
+                    + ", inFlight=" + inFlight.get()
+                    + ", calls=" + callCount.get()
+                    + ", requests=" + getRequestCount()
+                    + ", failures=" + failureCount.get()
+                    + ", rejected=" + getRejectedCount()
+                    + ", quarantined=" + quarantineCount.get()
+                    + ", available=" + isAvailable()
+                    + "}";
+        }
+    }
+}
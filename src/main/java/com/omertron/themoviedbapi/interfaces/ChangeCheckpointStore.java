@@ -0,0 +1,81 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.interfaces;
+
+import com.omertron.themoviedbapi.tools.MethodBase;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Durable store of the date each change feed was last synced to.
+ * <p>
+ * A store that also keeps the time of the sync lets the next sync skip a
+ * checkpoint day that was already over when it was synced.
+ *
+ * @author Stuart
+ */
+public interface ChangeCheckpointStore {
+
+    /**
+     * Get the date the change feed was last synced to
+     *
+     * @param method The change feed, e.g. MOVIE
+     * @return The date, or null if the feed has not been synced
+     * @throws IOException
+     */
+    LocalDate getCheckpoint(MethodBase method) throws IOException;
+
+    /**
+     * Record the date the change feed has been synced to
+     *
+     * @param method The change feed, e.g. MOVIE
+     * @param date The date
+     * @throws IOException
+     */
+    void setCheckpoint(MethodBase method, LocalDate date) throws IOException;
+
+    /**
+     * Get the time of the sync that saved the checkpoint
+     *
+     * @param method The change feed, e.g. MOVIE
+     * @return The time, or null if it is not known
+     * @throws IOException
+     */
+    default Instant getSyncTime(MethodBase method) throws IOException {
+        return null;
+    }
+
+    /**
+     * Record the date the change feed has been synced to and when the sync
+     * started.
+     * <p>
+     * By default the time is not kept.
+     *
+     * @param method The change feed, e.g. MOVIE
+     * @param date The date
+     * @param syncTime The time the sync started reading the feed
+     * @throws IOException
+     */
+    default void setCheckpoint(MethodBase method, LocalDate date, Instant syncTime) throws IOException {
+        setCheckpoint(method, date);
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.interfaces;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.tools.MethodBase;
+
+/**
+ * Refresh an item that has changed, e.g. re-fetch it and update a local copy.
+ * <p>
+ * This is called from several threads at once.
+ *
+ * @author Stuart
+ */
+@FunctionalInterface
+public interface ChangeRefresher {
+
+    void refresh(MethodBase method, int id) throws MovieDbException;
+
+}
@@ -0,0 +1,39 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.interfaces;
+
+import com.omertron.themoviedbapi.model.DeferredSections;
+
+/**
+ * Interface to indicate that the object can map its append to response
+ * sections when they are first used
+ *
+ * @author Stuart
+ */
+public interface LazyAppendToResponse {
+
+    /**
+     * Set the sections that have not been mapped yet
+     *
+     * @param sections The sections read from the response
+     */
+    void deferSections(DeferredSections sections);
+
+}
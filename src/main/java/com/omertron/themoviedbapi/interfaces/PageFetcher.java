@@ -0,0 +1,43 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.interfaces;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.results.ResultList;
+
+/**
+ * Fetch a single page of a paged endpoint
+ *
+ * @author Stuart
+ * @param <T> Type of the results on the page
+ */
+@FunctionalInterface
+public interface PageFetcher<T> {
+
+    /**
+     * Get the page
+     *
+     * @param page The page number, starting at 1
+     * @return The page of results
+     * @throws MovieDbException exception
+     */
+    ResultList<T> getPage(int page) throws MovieDbException;
+
+}
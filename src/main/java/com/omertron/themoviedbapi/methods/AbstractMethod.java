@@ -19,41 +19,22 @@
  */
 package com.omertron.themoviedbapi.methods;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.omertron.themoviedbapi.MovieDbException;
-import com.omertron.themoviedbapi.model.artwork.ArtworkMedia;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
-import com.omertron.themoviedbapi.model.change.ChangeListItem;
-import com.omertron.themoviedbapi.model.collection.Collection;
-import com.omertron.themoviedbapi.model.company.Company;
-import com.omertron.themoviedbapi.model.keyword.Keyword;
-import com.omertron.themoviedbapi.model.list.UserList;
-import com.omertron.themoviedbapi.model.media.AlternativeTitle;
-import com.omertron.themoviedbapi.model.movie.MovieBasic;
-import com.omertron.themoviedbapi.model.movie.MovieInfo;
-import com.omertron.themoviedbapi.model.movie.ReleaseDates;
-import com.omertron.themoviedbapi.model.person.ContentRating;
-import com.omertron.themoviedbapi.model.person.PersonInfo;
-import com.omertron.themoviedbapi.model.person.PersonFind;
-import com.omertron.themoviedbapi.model.review.Review;
-import com.omertron.themoviedbapi.model.tv.TVBasic;
-import com.omertron.themoviedbapi.model.tv.TVInfo;
 import com.omertron.themoviedbapi.results.ResultList;
 import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import com.omertron.themoviedbapi.results.WrapperChanges;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
 import java.io.IOException;
-import java.io.Serializable;
 import java.net.URL;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.yamj.api.common.exception.ApiExceptionType;
 
 /**
@@ -67,45 +48,6 @@ public class AbstractMethod {
     protected final String apiKey;
     // The HttpTools to use
     protected final HttpTools httpTools;
-    // Jackson JSON configuration
-    protected static final ObjectMapper MAPPER = new ObjectMapper();
-    private static final Map<Class<? extends Serializable>, TypeReference<? extends WrapperGenericList<? extends Serializable>>> TYPE_REFS = new HashMap<>();
-
-    static {
-        TYPE_REFS.put(MovieBasic.class, new TypeReference<WrapperGenericList<MovieBasic>>() {
-        });
-        TYPE_REFS.put(TVBasic.class, new TypeReference<WrapperGenericList<TVBasic>>() {
-        });
-        TYPE_REFS.put(UserList.class, new TypeReference<WrapperGenericList<UserList>>() {
-        });
-        TYPE_REFS.put(Company.class, new TypeReference<WrapperGenericList<Company>>() {
-        });
-        TYPE_REFS.put(Collection.class, new TypeReference<WrapperGenericList<Collection>>() {
-        });
-        TYPE_REFS.put(Keyword.class, new TypeReference<WrapperGenericList<Keyword>>() {
-        });
-        TYPE_REFS.put(MovieInfo.class, new TypeReference<WrapperGenericList<MovieInfo>>() {
-        });
-        TYPE_REFS.put(PersonInfo.class, new TypeReference<WrapperGenericList<PersonInfo>>() {
-        });
-        TYPE_REFS.put(PersonFind.class, new TypeReference<WrapperGenericList<PersonFind>>() {
-        });
-        TYPE_REFS.put(Review.class, new TypeReference<WrapperGenericList<Review>>() {
-        });
-        TYPE_REFS.put(ChangeListItem.class, new TypeReference<WrapperGenericList<ChangeListItem>>() {
-        });
-        TYPE_REFS.put(ArtworkMedia.class, new TypeReference<WrapperGenericList<ArtworkMedia>>() {
-        });
-        TYPE_REFS.put(ContentRating.class, new TypeReference<WrapperGenericList<ContentRating>>() {
-        });
-        TYPE_REFS.put(TVInfo.class, new TypeReference<WrapperGenericList<TVInfo>>() {
-        });
-        TYPE_REFS.put(AlternativeTitle.class, new TypeReference<WrapperGenericList<AlternativeTitle>>() {
-        });
-        TYPE_REFS.put(ReleaseDates.class, new TypeReference<WrapperGenericList<ReleaseDates>>() {
-        });
-
-    }
 
     /**
      * Default constructor for the methods
@@ -119,32 +61,59 @@ public class AbstractMethod {
     }
 
     /**
-     * Helper function to get a pre-generated TypeReference for a class
+     * Get the reader for a class with append to response sections.
+     * <p>
+     * If lazy append is set on the HttpTools the reader leaves the sections to
+     * be mapped when they are first used, otherwise they are mapped straight
+     * away.
      *
-     * @param aClass
-     * @return
-     * @throws MovieDbException
+     * @param type The class to map to
+     * @return The shared reader
      */
-    protected static <T> TypeReference<? extends WrapperGenericList<T>> getTypeReference(Class<T> aClass) throws MovieDbException {
-        if (TYPE_REFS.containsKey(aClass)) {
-            return (TypeReference<? extends WrapperGenericList<T>>) TYPE_REFS.get(aClass);
-        } else {
-            throw new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, "Class type reference for '" + aClass.getSimpleName() + "' not found!");
-        }
+    protected ObjectReader getAppendReader(Class<?> type) {
+        return ObjectReaders.forClass(type, httpTools.isLazyAppend());
+    }
+
+    /**
+     * Put the mapped results in a result list.
+     * <p>
+     * The list is used as it is, unless requests are coalesced. A coalesced
+     * response is shared by every caller of the same URL, so each caller then
+     * gets its own copy.
+     *
+     * @param <T> Type of the results
+     * @param results The mapped results
+     * @return The result list
+     */
+    protected <T> ResultList<T> wrapResults(List<T> results) {
+        return httpTools.isCoalesceRequests() ? new ResultList<>(results) : ResultList.wrap(results);
+    }
+
+    /**
+     * Put the results of the wrapper in a result list with the page details
+     *
+     * @param <T> Type of the results
+     * @param wrapper The mapped wrapper
+     * @return The result list
+     */
+    protected <T> ResultList<T> wrapResults(WrapperGenericList<T> wrapper) {
+        ResultList<T> results = wrapResults(wrapper.getResults());
+        wrapper.setResultProperties(results);
+        return results;
     }
 
     /**
      * Process the wrapper list and return the results
      *
      * @param <T> Type of list to process
-     * @param typeRef
+     * @param type Class of the results
      * @param url URL of the page (Error output only)
      * @param errorMessageSuffix Error message to output (Error output only)
      * @return
      * @throws MovieDbException
      */
-    protected <T> List<T> processWrapperList(TypeReference<? extends WrapperGenericList<T>> typeRef, URL url, String errorMessageSuffix) throws MovieDbException {
-        WrapperGenericList<T> val = processWrapper(typeRef, url, errorMessageSuffix);
+    protected <T> List<T> processWrapperList(Class<T> type, URL url, String errorMessageSuffix) throws MovieDbException {
+        WrapperGenericList<T> val = processWrapper(type, url, errorMessageSuffix);
         return val.getResults();
     }
 
@@ -152,18 +121,15 @@ public class AbstractMethod {
      * Process the wrapper list and return the whole wrapper
      *
      * @param <T> Type of list to process
-     * @param typeRef
+     * @param type Class of the results
      * @param url URL of the page (Error output only)
      * @param errorMessageSuffix Error message to output (Error output only)
      * @return
      * @throws MovieDbException
      */
-    protected <T> WrapperGenericList<T> processWrapper(TypeReference<? extends WrapperGenericList<T>> typeRef, URL url, String errorMessageSuffix) throws MovieDbException {
-        String webpage = httpTools.getRequest(url);
+    protected <T> WrapperGenericList<T> processWrapper(Class<T> type, URL url, String errorMessageSuffix) throws MovieDbException {
         try {
-            // Due to type erasure, this doesn't work
-            // TypeReference<WrapperGenericList<T>> typeRef = new TypeReference<WrapperGenericList<T>>() {};
-            return MAPPER.readValue(webpage, typeRef);
+            return httpTools.getRequest(url, ObjectReaders.forList(type));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get " + errorMessageSuffix, url, ex);
         }
@@ -186,11 +152,9 @@ public class AbstractMethod {
         parameters.add(Param.END_DATE, endDate);
 
         URL url = new ApiUrl(apiKey, MethodBase.EPISODE).subMethod(MethodSub.CHANGES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperChanges wrapper = MAPPER.readValue(webpage, WrapperChanges.class);
-            ResultList<ChangeKeyItem> results = new ResultList<>(wrapper.getChangedItems());
+            WrapperChanges wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperChanges.class));
+            ResultList<ChangeKeyItem> results = wrapResults(wrapper.getChangedItems());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
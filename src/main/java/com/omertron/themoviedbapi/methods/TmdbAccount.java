@@ -32,6 +32,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.PostBody;
 import com.omertron.themoviedbapi.tools.PostTools;
@@ -70,10 +71,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.SESSION_ID, sessionId);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, Account.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(Account.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get Account", url, ex);
         }
@@ -93,8 +92,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.ID, accountId);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).subMethod(MethodSub.LISTS).buildUrl(parameters);
-        WrapperGenericList<UserList> wrapper = processWrapper(getTypeReference(UserList.class), url, "user list");
-        return wrapper.getResultsList();
+        WrapperGenericList<UserList> wrapper = processWrapper(UserList.class, url, "user list");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -111,8 +110,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.ID, accountId);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).subMethod(MethodSub.FAVORITE_MOVIES).buildUrl(parameters);
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, "favorite movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "favorite movies");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -129,8 +128,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.ID, accountId);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).subMethod(MethodSub.FAVORITE_TV).buildUrl(parameters);
-        WrapperGenericList<TVBasic> wrapper = processWrapper(getTypeReference(TVBasic.class), url, "favorite TV shows");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVBasic> wrapper = processWrapper(TVBasic.class, url, "favorite TV shows");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -159,7 +158,7 @@ public class TmdbAccount extends AbstractMethod {
         String webpage = httpTools.postRequest(url, jsonBody);
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to set favorite status", url, ex);
         }
@@ -185,8 +184,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).subMethod(MethodSub.RATED_MOVIES).buildUrl(parameters);
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, "rated movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "rated movies");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -209,8 +208,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).subMethod(MethodSub.RATED_TV).buildUrl(parameters);
-        WrapperGenericList<TVBasic> wrapper = processWrapper(getTypeReference(TVBasic.class), url, "rated TV shows");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVBasic> wrapper = processWrapper(TVBasic.class, url, "rated TV shows");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -233,8 +232,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).subMethod(MethodSub.WATCHLIST_MOVIES).buildUrl(parameters);
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, "movie watch list");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "movie watch list");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -257,8 +256,8 @@ public class TmdbAccount extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.ACCOUNT).subMethod(MethodSub.WATCHLIST_TV).buildUrl(parameters);
-        WrapperGenericList<TVBasic> wrapper = processWrapper(getTypeReference(TVBasic.class), url, "TV watch list");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVBasic> wrapper = processWrapper(TVBasic.class, url, "TV watch list");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -287,7 +286,7 @@ public class TmdbAccount extends AbstractMethod {
         String webpage = httpTools.postRequest(url, jsonBody);
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to modify watch list", url, ex);
         }
@@ -320,7 +319,7 @@ public class TmdbAccount extends AbstractMethod {
         }
 
         URL url = new ApiUrl(apiKey, MethodBase.GUEST_SESSION).subMethod(MethodSub.RATED_MOVIES_GUEST).buildUrl(parameters);
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, "Guest Session Movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "Guest Session Movies");
+        return wrapResults(wrapper);
     }
 }
@@ -26,6 +26,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import java.io.IOException;
@@ -68,10 +69,8 @@ public class TmdbAuthentication extends AbstractMethod {
         TmdbParameters parameters = new TmdbParameters();
         URL url = new ApiUrl(apiKey, MethodBase.AUTH).subMethod(MethodSub.TOKEN_NEW).buildUrl(parameters);
 
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TokenAuthorisation.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(TokenAuthorisation.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.AUTH_FAILURE, "Failed to get Authorisation Token", url, ex);
         }
@@ -96,10 +95,8 @@ public class TmdbAuthentication extends AbstractMethod {
 
         parameters.add(Param.TOKEN, token.getRequestToken());
         URL url = new ApiUrl(apiKey, MethodBase.AUTH).subMethod(MethodSub.SESSION_NEW).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TokenSession.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(TokenSession.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get Session Token", url, ex);
         }
@@ -129,10 +126,8 @@ public class TmdbAuthentication extends AbstractMethod {
         parameters.add(Param.PASSWORD, password);
 
         URL url = new ApiUrl(apiKey, MethodBase.AUTH).subMethod(MethodSub.TOKEN_VALIDATE).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TokenAuthorisation.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(TokenAuthorisation.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get Session Token", url, ex);
         }
@@ -159,10 +154,8 @@ public class TmdbAuthentication extends AbstractMethod {
      */
     public TokenSession getGuestSessionToken() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.AUTH).subMethod(MethodSub.GUEST_SESSION).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TokenSession.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(TokenSession.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get Guest Session Token", url, ex);
         }
@@ -23,12 +23,12 @@ import com.omertron.themoviedbapi.MovieDbException;
 import com.omertron.themoviedbapi.results.ResultsMap;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import java.util.List;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.omertron.themoviedbapi.model.Certification;
 import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Map;
@@ -59,12 +59,9 @@ public class TmdbCertifications extends AbstractMethod {
      */
     public ResultsMap<String, List<Certification>> getMoviesCertification() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.CERTIFICATION).subMethod(MethodSub.MOVIE_LIST).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         try {
-            JsonNode node = MAPPER.readTree(webpage);
-            Map<String, List<Certification>> results = MAPPER.readValue(node.elements().next().traverse(), new TypeReference<Map<String, List<Certification>>>() {
-            });
+            JsonNode node = httpTools.getRequest(url, ObjectReaders.forClass(JsonNode.class));
+            Map<String, List<Certification>> results = ObjectReaders.CERTIFICATIONS.readValue(node.elements().next());
             return new ResultsMap<>(results);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get movie certifications", url, ex);
@@ -79,12 +76,9 @@ public class TmdbCertifications extends AbstractMethod {
      */
     public ResultsMap<String, List<Certification>> getTvCertification() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.CERTIFICATION).subMethod(MethodSub.TV_LIST).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         try {
-            JsonNode node = MAPPER.readTree(webpage);
-            Map<String, List<Certification>> results = MAPPER.readValue(node.elements().next().traverse(), new TypeReference<Map<String, List<Certification>>>() {
-            });
+            JsonNode node = httpTools.getRequest(url, ObjectReaders.forClass(JsonNode.class));
+            Map<String, List<Certification>> results = ObjectReaders.CERTIFICATIONS.readValue(node.elements().next());
             return new ResultsMap<>(results);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get TV certifications", url, ex);
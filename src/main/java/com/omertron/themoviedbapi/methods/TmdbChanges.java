@@ -67,8 +67,8 @@ public class TmdbChanges extends AbstractMethod {
         params.add(Param.END_DATE, endDate);
 
         URL url = new ApiUrl(apiKey, method).subMethod(MethodSub.CHANGES).buildUrl(params);
-        WrapperGenericList<ChangeListItem> wrapper = processWrapper(getTypeReference(ChangeListItem.class), url, "changes");
-        return wrapper.getResultsList();
+        WrapperGenericList<ChangeListItem> wrapper = processWrapper(ChangeListItem.class, url, "changes");
+        return wrapResults(wrapper);
     }
 
 }
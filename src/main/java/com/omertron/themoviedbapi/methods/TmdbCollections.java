@@ -28,6 +28,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import com.omertron.themoviedbapi.results.WrapperImages;
@@ -70,10 +71,8 @@ public class TmdbCollections extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.COLLECTION).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, CollectionInfo.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(CollectionInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get collection information", url, ex);
         }
@@ -93,11 +92,9 @@ public class TmdbCollections extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.COLLECTION).subMethod(MethodSub.IMAGES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperImages wrapper = MAPPER.readValue(webpage, WrapperImages.class);
-            ResultList<Artwork> results = new ResultList<>(wrapper.getAll(ArtworkType.POSTER, ArtworkType.BACKDROP));
+            WrapperImages wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperImages.class));
+            ResultList<Artwork> results = wrapResults(wrapper.getAll(ArtworkType.POSTER, ArtworkType.BACKDROP));
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -27,6 +27,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
@@ -63,10 +64,8 @@ public class TmdbCompanies extends AbstractMethod {
         parameters.add(Param.ID, companyId);
 
         URL url = new ApiUrl(apiKey, MethodBase.COMPANY).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, Company.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(Company.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get company information", url, ex);
         }
@@ -90,9 +89,8 @@ public class TmdbCompanies extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.COMPANY).subMethod(MethodSub.MOVIES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, webpage);
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "company movies");
+        return wrapResults(wrapper);
     }
 
 }
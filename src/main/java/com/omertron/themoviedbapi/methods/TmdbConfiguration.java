@@ -19,9 +19,7 @@
  */
 package com.omertron.themoviedbapi.methods;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.omertron.themoviedbapi.MovieDbException;
-import static com.omertron.themoviedbapi.methods.AbstractMethod.MAPPER;
 import com.omertron.themoviedbapi.model.config.Configuration;
 import com.omertron.themoviedbapi.model.config.JobDepartment;
 import com.omertron.themoviedbapi.results.ResultList;
@@ -30,6 +28,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.results.WrapperConfig;
 import com.omertron.themoviedbapi.results.WrapperJobList;
 import java.io.IOException;
@@ -49,7 +48,7 @@ public class TmdbConfiguration extends AbstractMethod {
      * Cache the configuration in memory<br/>
      * It rarely changes, so this should be safe.
      */
-    private static Configuration config = null;
+    private volatile Configuration config = null;
 
     /**
      * Constructor
@@ -69,18 +68,23 @@ public class TmdbConfiguration extends AbstractMethod {
      * @throws MovieDbException
      */
     public Configuration getConfig() throws MovieDbException {
-        if (config == null) {
-            URL configUrl = new ApiUrl(apiKey, MethodBase.CONFIGURATION).buildUrl();
-            String webpage = httpTools.getRequest(configUrl);
-
-            try {
-                WrapperConfig wc = MAPPER.readValue(webpage, WrapperConfig.class);
-                config = wc.getTmdbConfiguration();
-            } catch (IOException ex) {
-                throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to read configuration", configUrl, ex);
+        Configuration result = config;
+        if (result == null) {
+            synchronized (this) {
+                result = config;
+                if (result == null) {
+                    URL configUrl = new ApiUrl(apiKey, MethodBase.CONFIGURATION).buildUrl();
+                    try {
+                        WrapperConfig wc = httpTools.getRequest(configUrl, ObjectReaders.forClass(WrapperConfig.class));
+                        result = wc.getTmdbConfiguration();
+                        config = result;
+                    } catch (IOException ex) {
+                        throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to read configuration", configUrl, ex);
+                    }
+                }
             }
         }
-        return config;
+        return result;
     }
 
     /**
@@ -91,11 +95,9 @@ public class TmdbConfiguration extends AbstractMethod {
      */
     public ResultList<JobDepartment> getJobs() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.JOB).subMethod(MethodSub.LIST).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperJobList wrapper = MAPPER.readValue(webpage, WrapperJobList.class);
-            ResultList<JobDepartment> results = new ResultList<>(wrapper.getJobs());
+            WrapperJobList wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperJobList.class));
+            ResultList<JobDepartment> results = wrapResults(wrapper.getJobs());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -111,12 +113,9 @@ public class TmdbConfiguration extends AbstractMethod {
      */
     public ResultsMap<String, List<String>> getTimezones() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.TIMEZONES).subMethod(MethodSub.LIST).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         List<Map<String, List<String>>> tzList;
         try {
-            tzList = MAPPER.readValue(webpage, new TypeReference<List<Map<String, List<String>>>>() {
-            });
+            tzList = httpTools.getRequest(url, ObjectReaders.TIMEZONES);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get timezone list", url, ex);
         }
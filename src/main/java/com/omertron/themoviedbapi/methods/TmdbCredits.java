@@ -24,6 +24,7 @@ import com.omertron.themoviedbapi.model.person.CreditInfo;
 import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import java.io.IOException;
@@ -72,10 +73,8 @@ public class TmdbCredits extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.CREDIT).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, CreditInfo.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(CreditInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get credit info", url, ex);
         }
@@ -57,9 +57,8 @@ public class TmdbDiscover extends AbstractMethod {
      */
     public ResultList<MovieBasic> getDiscoverMovies(Discover discover) throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.DISCOVER).subMethod(MethodSub.MOVIE).buildUrl(discover.getParams());
-        String webpage = httpTools.getRequest(url);
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, webpage);
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "discover movies");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -71,8 +70,7 @@ public class TmdbDiscover extends AbstractMethod {
      */
     public ResultList<TVBasic> getDiscoverTV(Discover discover) throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.DISCOVER).subMethod(MethodSub.TV).buildUrl(discover.getParams());
-        String webpage = httpTools.getRequest(url);
-        WrapperGenericList<TVBasic> wrapper = processWrapper(getTypeReference(TVBasic.class), url, webpage);
-        return wrapper.getResultsList();
+        WrapperGenericList<TVBasic> wrapper = processWrapper(TVBasic.class, url, "discover TV");
+        return wrapResults(wrapper);
     }
 }
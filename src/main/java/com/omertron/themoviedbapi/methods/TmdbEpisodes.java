@@ -20,7 +20,6 @@
 package com.omertron.themoviedbapi.methods;
 
 import com.omertron.themoviedbapi.MovieDbException;
-import static com.omertron.themoviedbapi.methods.AbstractMethod.MAPPER;
 import com.omertron.themoviedbapi.model.StatusCode;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
@@ -34,6 +33,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.PostBody;
 import com.omertron.themoviedbapi.tools.PostTools;
@@ -84,10 +84,8 @@ public class TmdbEpisodes extends AbstractMethod {
         parameters.add(Param.APPEND, appendToResponse);
 
         URL url = new ApiUrl(apiKey, MethodBase.EPISODE).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TVEpisodeInfo.class);
+            return httpTools.getRequest(url, getAppendReader(TVEpisodeInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get TV Episode Info", url, ex);
         }
@@ -127,10 +125,8 @@ public class TmdbEpisodes extends AbstractMethod {
         parameters.add(Param.EPISODE_NUMBER, episodeNumber);
 
         URL url = new ApiUrl(apiKey, MethodBase.EPISODE).subMethod(MethodSub.ACCOUNT_STATES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, MediaState.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaState.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get account state", url, ex);
         }
@@ -152,9 +148,8 @@ public class TmdbEpisodes extends AbstractMethod {
         parameters.add(Param.EPISODE_NUMBER, episodeNumber);
 
         URL url = new ApiUrl(apiKey, MethodBase.EPISODE).subMethod(MethodSub.CREDITS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
         try {
-            return MAPPER.readValue(webpage, MediaCreditList.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaCreditList.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get credits", url, ex);
         }
@@ -179,10 +174,8 @@ public class TmdbEpisodes extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.EPISODE).subMethod(MethodSub.EXTERNAL_IDS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, ExternalID.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(ExternalID.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get external IDs", url, ex);
         }
@@ -205,11 +198,9 @@ public class TmdbEpisodes extends AbstractMethod {
         parameters.add(Param.EPISODE_NUMBER, episodeNumber);
 
         URL url = new ApiUrl(apiKey, MethodBase.EPISODE).subMethod(MethodSub.IMAGES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperImages wrapper = MAPPER.readValue(webpage, WrapperImages.class);
-            ResultList<Artwork> results = new ResultList<>(wrapper.getAll());
+            WrapperImages wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperImages.class));
+            ResultList<Artwork> results = wrapResults(wrapper.getAll());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -249,7 +240,7 @@ public class TmdbEpisodes extends AbstractMethod {
         String webpage = httpTools.postRequest(url, jsonBody);
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to post rating", url, ex);
         }
@@ -274,11 +265,9 @@ public class TmdbEpisodes extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.EPISODE).subMethod(MethodSub.VIDEOS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperVideos wrapper = MAPPER.readValue(webpage, WrapperVideos.class);
-            ResultList<Video> results = new ResultList<>(wrapper.getVideos());
+            WrapperVideos wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperVideos.class));
+            ResultList<Video> results = wrapResults(wrapper.getVideos());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -25,6 +25,7 @@ import com.omertron.themoviedbapi.model.FindResults;
 import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import java.io.IOException;
@@ -76,10 +77,8 @@ public class TmdbFind extends AbstractMethod {
         parameters.add(Param.EXTERNAL_SOURCE, externalSource.getPropertyString());
 
         URL url = new ApiUrl(apiKey, MethodBase.FIND).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, FindResults.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(FindResults.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get find results", url, ex);
         }
@@ -27,6 +27,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
@@ -87,11 +88,9 @@ public class TmdbGenres extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.GENRE).subMethod(sub).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperGenres wrapper = MAPPER.readValue(webpage, WrapperGenres.class);
-            ResultList<Genre> results = new ResultList<>(wrapper.getGenres());
+            WrapperGenres wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperGenres.class));
+            ResultList<Genre> results = wrapResults(wrapper.getGenres());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -121,9 +120,7 @@ public class TmdbGenres extends AbstractMethod {
         parameters.add(Param.INCLUDE_ADULT, includeAdult);
 
         URL url = new ApiUrl(apiKey, MethodBase.GENRE).subMethod(MethodSub.MOVIES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, webpage);
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "genre movies");
+        return wrapResults(wrapper);
     }
 }
@@ -27,6 +27,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
@@ -63,10 +64,8 @@ public class TmdbKeywords extends AbstractMethod {
         parameters.add(Param.ID, keywordId);
 
         URL url = new ApiUrl(apiKey, MethodBase.KEYWORD).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, Keyword.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(Keyword.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get keyword " + keywordId, url, ex);
         }
@@ -89,8 +88,8 @@ public class TmdbKeywords extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.KEYWORD).subMethod(MethodSub.MOVIES).buildUrl(parameters);
-        WrapperGenericList<MovieBasic> wrapper = processWrapper(getTypeReference(MovieBasic.class), url, "keyword movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieBasic> wrapper = processWrapper(MovieBasic.class, url, "keyword movies");
+        return wrapResults(wrapper);
     }
 
 }
@@ -19,7 +19,6 @@
  */
 package com.omertron.themoviedbapi.methods;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.omertron.themoviedbapi.MovieDbException;
 import com.omertron.themoviedbapi.model.list.ListStatusCode;
 import com.omertron.themoviedbapi.model.StatusCode;
@@ -30,6 +29,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.PostBody;
 import com.omertron.themoviedbapi.tools.PostTools;
@@ -68,11 +68,8 @@ public class TmdbLists extends AbstractMethod {
         parameters.add(Param.ID, listId);
 
         URL url = new ApiUrl(apiKey, MethodBase.LIST).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, new TypeReference<ListItem<MovieInfo>>() {
-            });
+            return httpTools.getRequest(url, ObjectReaders.LIST_ITEM_MOVIES);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get list", url, ex);
         }
@@ -92,10 +89,8 @@ public class TmdbLists extends AbstractMethod {
         parameters.add(Param.MOVIE_ID, mediaId);
 
         URL url = new ApiUrl(apiKey, MethodBase.LIST).subMethod(MethodSub.ITEM_STATUS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, ListItemStatus.class).isItemPresent();
+            return httpTools.<ListItemStatus>getRequest(url, ObjectReaders.forClass(ListItemStatus.class)).isItemPresent();
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get item status", url, ex);
         }
@@ -123,7 +118,7 @@ public class TmdbLists extends AbstractMethod {
         String webpage = httpTools.postRequest(url, jsonBody);
 
         try {
-            return MAPPER.readValue(webpage, ListStatusCode.class).getListId();
+            return ObjectReaders.forClass(ListStatusCode.class).<ListStatusCode>readValue(webpage).getListId();
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to create list", url, ex);
         }
@@ -146,7 +141,7 @@ public class TmdbLists extends AbstractMethod {
         String webpage = httpTools.deleteRequest(url);
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to delete list", url, ex);
         }
@@ -177,7 +172,7 @@ public class TmdbLists extends AbstractMethod {
         String webpage = httpTools.postRequest(url, jsonBody);
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to remove item from list", url, ex);
         }
@@ -236,7 +231,7 @@ public class TmdbLists extends AbstractMethod {
         String webpage = httpTools.postRequest(url, "");
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to clear list", url, ex);
         }
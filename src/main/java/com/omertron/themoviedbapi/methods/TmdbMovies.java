@@ -20,7 +20,6 @@
 package com.omertron.themoviedbapi.methods;
 
 import com.omertron.themoviedbapi.MovieDbException;
-import static com.omertron.themoviedbapi.methods.AbstractMethod.MAPPER;
 import com.omertron.themoviedbapi.model.StatusCode;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
@@ -47,6 +46,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.PostBody;
 import com.omertron.themoviedbapi.tools.PostTools;
@@ -94,9 +94,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.APPEND, appendToResponse);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
         try {
-            MovieInfo movie = MAPPER.readValue(webpage, MovieInfo.class);
+            MovieInfo movie = httpTools.getRequest(url, getAppendReader(MovieInfo.class));
             if (movie == null || movie.getId() == 0) {
                 throw new MovieDbException(ApiExceptionType.ID_NOT_FOUND, "No movie found for ID: " + movieId, url);
             }
@@ -126,10 +125,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.APPEND, appendToResponse);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            MovieInfo movie = MAPPER.readValue(webpage, MovieInfo.class);
+            MovieInfo movie = httpTools.getRequest(url, getAppendReader(MovieInfo.class));
             if (movie == null || movie.getId() == 0) {
                 throw new MovieDbException(ApiExceptionType.ID_NOT_FOUND, "No movie found for IMDB ID: " + imdbId, url);
             }
@@ -156,10 +153,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.SESSION_ID, sessionId);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.ACCOUNT_STATES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, MediaState.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaState.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get account state", url, ex);
         }
@@ -179,10 +174,9 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.COUNTRY, country);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.ALT_TITLES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
         try {
-            WrapperAlternativeTitles wrapper = MAPPER.readValue(webpage, WrapperAlternativeTitles.class);
-            ResultList<AlternativeTitle> results = new ResultList<>(wrapper.getTitles());
+            WrapperAlternativeTitles wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperAlternativeTitles.class));
+            ResultList<AlternativeTitle> results = wrapResults(wrapper.getTitles());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -202,9 +196,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.ID, movieId);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.CREDITS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
         try {
-            return MAPPER.readValue(webpage, MediaCreditList.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaCreditList.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get credits", url, ex);
         }
@@ -224,11 +217,9 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.IMAGES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperImages wrapper = MAPPER.readValue(webpage, WrapperImages.class);
-            ResultList<Artwork> results = new ResultList<>(wrapper.getAll());
+            WrapperImages wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperImages.class));
+            ResultList<Artwork> results = wrapResults(wrapper.getAll());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -250,11 +241,9 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.ID, movieId);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.KEYWORDS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperMovieKeywords wrapper = MAPPER.readValue(webpage, WrapperMovieKeywords.class);
-            ResultList<Keyword> results = new ResultList<>(wrapper.getKeywords());
+            WrapperMovieKeywords wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperMovieKeywords.class));
+            ResultList<Keyword> results = wrapResults(wrapper.getKeywords());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -276,8 +265,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.RECOMMENDATIONS).buildUrl(parameters);
-        WrapperGenericList<MovieInfo> wrapper = processWrapper(getTypeReference(MovieInfo.class), url, "recommendations");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieInfo> wrapper = processWrapper(MovieInfo.class, url, "recommendations");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -294,11 +283,9 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.RELEASES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperReleaseInfo wrapper = MAPPER.readValue(webpage, WrapperReleaseInfo.class);
-            ResultList<ReleaseInfo> results = new ResultList<>(wrapper.getCountries());
+            WrapperReleaseInfo wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperReleaseInfo.class));
+            ResultList<ReleaseInfo> results = wrapResults(wrapper.getCountries());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -322,11 +309,9 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.VIDEOS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperVideos wrapper = MAPPER.readValue(webpage, WrapperVideos.class);
-            ResultList<Video> results = new ResultList<>(wrapper.getVideos());
+            WrapperVideos wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperVideos.class));
+            ResultList<Video> results = wrapResults(wrapper.getVideos());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -348,8 +333,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.ID, movieId);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.RELEASE_DATES).buildUrl(parameters);
-        WrapperGenericList<ReleaseDates> wrapper = processWrapper(getTypeReference(ReleaseDates.class), url, "release dates");
-        return wrapper.getResultsList();
+        WrapperGenericList<ReleaseDates> wrapper = processWrapper(ReleaseDates.class, url, "release dates");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -364,11 +349,9 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.ID, movieId);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.TRANSLATIONS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperTranslations wrapper = MAPPER.readValue(webpage, WrapperTranslations.class);
-            ResultList<Translation> results = new ResultList<>(wrapper.getTranslations());
+            WrapperTranslations wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperTranslations.class));
+            ResultList<Translation> results = wrapResults(wrapper.getTranslations());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -396,8 +379,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.SIMILAR).buildUrl(parameters);
-        WrapperGenericList<MovieInfo> wrapper = processWrapper(getTypeReference(MovieInfo.class), url, "similar movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieInfo> wrapper = processWrapper(MovieInfo.class, url, "similar movies");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -416,8 +399,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.REVIEWS).buildUrl(parameters);
-        WrapperGenericList<Review> wrapper = processWrapper(getTypeReference(Review.class), url, "review");
-        return wrapper.getResultsList();
+        WrapperGenericList<Review> wrapper = processWrapper(Review.class, url, "review");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -436,8 +419,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.LISTS).buildUrl(parameters);
-        WrapperGenericList<UserList> wrapper = processWrapper(getTypeReference(UserList.class), url, "movie lists");
-        return wrapper.getResultsList();
+        WrapperGenericList<UserList> wrapper = processWrapper(UserList.class, url, "movie lists");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -491,7 +474,7 @@ public class TmdbMovies extends AbstractMethod {
         String webpage = httpTools.postRequest(url, jsonBody);
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to post rating", url, ex);
         }
@@ -505,10 +488,8 @@ public class TmdbMovies extends AbstractMethod {
      */
     public MovieInfo getLatestMovie() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.LATEST).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, MovieInfo.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MovieInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get latest movie", url, ex);
         }
@@ -532,8 +513,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.UPCOMING).buildUrl(parameters);
-        WrapperGenericList<MovieInfo> wrapper = processWrapper(getTypeReference(MovieInfo.class), url, "upcoming movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieInfo> wrapper = processWrapper(MovieInfo.class, url, "upcoming movies");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -552,8 +533,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.NOW_PLAYING).buildUrl(parameters);
-        WrapperGenericList<MovieInfo> wrapper = processWrapper(getTypeReference(MovieInfo.class), url, "now playing movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieInfo> wrapper = processWrapper(MovieInfo.class, url, "now playing movies");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -572,8 +553,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.POPULAR).buildUrl(parameters);
-        WrapperGenericList<MovieInfo> wrapper = processWrapper(getTypeReference(MovieInfo.class), url, "popular movie list");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieInfo> wrapper = processWrapper(MovieInfo.class, url, "popular movie list");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -592,8 +573,8 @@ public class TmdbMovies extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.MOVIE).subMethod(MethodSub.TOP_RATED).buildUrl(parameters);
-        WrapperGenericList<MovieInfo> wrapper = processWrapper(getTypeReference(MovieInfo.class), url, "top rated movies");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieInfo> wrapper = processWrapper(MovieInfo.class, url, "top rated movies");
+        return wrapResults(wrapper);
     }
 
 }
@@ -24,6 +24,7 @@ import com.omertron.themoviedbapi.model.network.Network;
 import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import java.io.IOException;
@@ -61,10 +62,8 @@ public class TmdbNetworks extends AbstractMethod {
         parameters.add(Param.ID, networkId);
 
         URL url = new ApiUrl(apiKey, MethodBase.NETWORK).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, Network.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(Network.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get network information", url, ex);
         }
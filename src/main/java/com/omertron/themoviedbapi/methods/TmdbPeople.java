@@ -19,11 +19,8 @@
  */
 package com.omertron.themoviedbapi.methods;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.omertron.themoviedbapi.MovieDbException;
 import com.omertron.themoviedbapi.enumeration.ArtworkType;
-import static com.omertron.themoviedbapi.methods.AbstractMethod.MAPPER;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.artwork.ArtworkMedia;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
@@ -32,7 +29,6 @@ import com.omertron.themoviedbapi.model.credits.CreditMovieBasic;
 import com.omertron.themoviedbapi.model.credits.CreditTVBasic;
 import com.omertron.themoviedbapi.model.person.ExternalID;
 import com.omertron.themoviedbapi.model.person.PersonCreditList;
-import com.omertron.themoviedbapi.model.person.PersonCreditsMixIn;
 import com.omertron.themoviedbapi.model.person.PersonFind;
 import com.omertron.themoviedbapi.model.person.PersonInfo;
 import com.omertron.themoviedbapi.results.ResultList;
@@ -42,6 +38,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import java.io.IOException;
@@ -87,10 +84,8 @@ public class TmdbPeople extends AbstractMethod {
         }
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, PersonInfo.class);
+            return httpTools.getRequest(url, getAppendReader(PersonInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get person info", url, ex);
         }
@@ -110,12 +105,8 @@ public class TmdbPeople extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.MOVIE_CREDITS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            TypeReference<PersonCreditList<CreditMovieBasic>> tr = new TypeReference<PersonCreditList<CreditMovieBasic>>() {
-            };
-            return MAPPER.readValue(webpage, tr);
+            return httpTools.getRequest(url, ObjectReaders.PERSON_MOVIE_CREDITS);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get person movie credits", url, ex);
         }
@@ -141,12 +132,8 @@ public class TmdbPeople extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.TV_CREDITS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            TypeReference<PersonCreditList<CreditTVBasic>> tr = new TypeReference<PersonCreditList<CreditTVBasic>>() {
-            };
-            return MAPPER.readValue(webpage, tr);
+            return httpTools.getRequest(url, ObjectReaders.PERSON_TV_CREDITS);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get person TV credits", url, ex);
         }
@@ -172,14 +159,8 @@ public class TmdbPeople extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.COMBINED_CREDITS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.addMixIn(PersonCreditList.class, PersonCreditsMixIn.class);
-            TypeReference<PersonCreditList<CreditBasic>> tr = new TypeReference<PersonCreditList<CreditBasic>>() {
-            };
-            return mapper.readValue(webpage, tr);
+            return httpTools.getRequest(url, ObjectReaders.PERSON_COMBINED_CREDITS);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get person combined credits", url, ex);
         }
@@ -197,10 +178,8 @@ public class TmdbPeople extends AbstractMethod {
         parameters.add(Param.ID, personId);
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.EXTERNAL_IDS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, ExternalID.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(ExternalID.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get person external IDs", url, ex);
         }
@@ -218,11 +197,9 @@ public class TmdbPeople extends AbstractMethod {
         parameters.add(Param.ID, personId);
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.IMAGES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperImages wrapper = MAPPER.readValue(webpage, WrapperImages.class);
-            ResultList<Artwork> results = new ResultList<>(wrapper.getAll(ArtworkType.PROFILE));
+            WrapperImages wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperImages.class));
+            ResultList<Artwork> results = wrapResults(wrapper.getAll(ArtworkType.PROFILE));
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -249,8 +226,8 @@ public class TmdbPeople extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.TAGGED_IMAGES).buildUrl(parameters);
-        WrapperGenericList<ArtworkMedia> wrapper = processWrapper(getTypeReference(ArtworkMedia.class), url, "tagged images");
-        return wrapper.getResultsList();
+        WrapperGenericList<ArtworkMedia> wrapper = processWrapper(ArtworkMedia.class, url, "tagged images");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -289,8 +266,8 @@ public class TmdbPeople extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.POPULAR).buildUrl(parameters);
-        WrapperGenericList<PersonFind> wrapper = processWrapper(getTypeReference(PersonFind.class), url, "person popular");
-        return wrapper.getResultsList();
+        WrapperGenericList<PersonFind> wrapper = processWrapper(PersonFind.class, url, "person popular");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -301,10 +278,8 @@ public class TmdbPeople extends AbstractMethod {
      */
     public PersonInfo getPersonLatest() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.PERSON).subMethod(MethodSub.LATEST).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, PersonInfo.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(PersonInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get latest person", url, ex);
         }
@@ -21,7 +21,6 @@ package com.omertron.themoviedbapi.methods;
 
 import com.omertron.themoviedbapi.MovieDbException;
 import com.omertron.themoviedbapi.enumeration.SearchType;
-import static com.omertron.themoviedbapi.methods.AbstractMethod.MAPPER;
 import com.omertron.themoviedbapi.model.collection.Collection;
 import com.omertron.themoviedbapi.model.company.Company;
 import com.omertron.themoviedbapi.model.keyword.Keyword;
@@ -34,6 +33,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
@@ -78,8 +78,8 @@ public class TmdbSearch extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEARCH).subMethod(MethodSub.COMPANY).buildUrl(parameters);
-        WrapperGenericList<Company> wrapper = processWrapper(getTypeReference(Company.class), url, "company");
-        return wrapper.getResultsList();
+        WrapperGenericList<Company> wrapper = processWrapper(Company.class, url, "company");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -98,8 +98,8 @@ public class TmdbSearch extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEARCH).subMethod(MethodSub.COLLECTION).buildUrl(parameters);
-        WrapperGenericList<Collection> wrapper = processWrapper(getTypeReference(Collection.class), url, "collection");
-        return wrapper.getResultsList();
+        WrapperGenericList<Collection> wrapper = processWrapper(Collection.class, url, "collection");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -116,8 +116,8 @@ public class TmdbSearch extends AbstractMethod {
         parameters.add(Param.PAGE, page);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEARCH).subMethod(MethodSub.KEYWORD).buildUrl(parameters);
-        WrapperGenericList<Keyword> wrapper = processWrapper(getTypeReference(Keyword.class), url, "keyword");
-        return wrapper.getResultsList();
+        WrapperGenericList<Keyword> wrapper = processWrapper(Keyword.class, url, "keyword");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -152,8 +152,8 @@ public class TmdbSearch extends AbstractMethod {
         }
         URL url = new ApiUrl(apiKey, MethodBase.SEARCH).subMethod(MethodSub.MOVIE).buildUrl(parameters);
 
-        WrapperGenericList<MovieInfo> wrapper = processWrapper(getTypeReference(MovieInfo.class), url, "movie");
-        return wrapper.getResultsList();
+        WrapperGenericList<MovieInfo> wrapper = processWrapper(MovieInfo.class, url, "movie");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -178,12 +178,9 @@ public class TmdbSearch extends AbstractMethod {
         parameters.add(Param.ADULT, includeAdult);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEARCH).subMethod(MethodSub.MULTI).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperMultiSearch wrapper = MAPPER.readValue(webpage, WrapperMultiSearch.class);
-            ResultList<MediaBasic> results = new ResultList<>();
-            results.getResults().addAll(wrapper.getResults());
+            WrapperMultiSearch wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperMultiSearch.class));
+            ResultList<MediaBasic> results = wrapResults(wrapper.getResults());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -212,8 +209,8 @@ public class TmdbSearch extends AbstractMethod {
             parameters.add(Param.SEARCH_TYPE, searchType.getPropertyString());
         }
         URL url = new ApiUrl(apiKey, MethodBase.SEARCH).subMethod(MethodSub.PERSON).buildUrl(parameters);
-        WrapperGenericList<PersonFind> wrapper = processWrapper(getTypeReference(PersonFind.class), url, "person");
-        return wrapper.getResultsList();
+        WrapperGenericList<PersonFind> wrapper = processWrapper(PersonFind.class, url, "person");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -237,8 +234,8 @@ public class TmdbSearch extends AbstractMethod {
             parameters.add(Param.SEARCH_TYPE, searchType.getPropertyString());
         }
         URL url = new ApiUrl(apiKey, MethodBase.SEARCH).subMethod(MethodSub.TV).buildUrl(parameters);
-        WrapperGenericList<TVBasic> wrapper = processWrapper(getTypeReference(TVBasic.class), url, "TV Show");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVBasic> wrapper = processWrapper(TVBasic.class, url, "TV Show");
+        return wrapResults(wrapper);
     }
 
 }
@@ -20,7 +20,6 @@
 package com.omertron.themoviedbapi.methods;
 
 import com.omertron.themoviedbapi.MovieDbException;
-import static com.omertron.themoviedbapi.methods.AbstractMethod.MAPPER;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
 import com.omertron.themoviedbapi.model.media.MediaCreditList;
@@ -33,6 +32,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
 import com.omertron.themoviedbapi.results.WrapperImages;
@@ -76,10 +76,8 @@ public class TmdbSeasons extends AbstractMethod {
         parameters.add(Param.APPEND, appendToResponse);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEASON).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TVSeasonInfo.class);
+            return httpTools.getRequest(url, getAppendReader(TVSeasonInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get TV Season Info", url, ex);
         }
@@ -114,10 +112,8 @@ public class TmdbSeasons extends AbstractMethod {
         parameters.add(Param.SESSION_ID, sessionID);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEASON).subMethod(MethodSub.ACCOUNT_STATES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, MediaState.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaState.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get account state", url, ex);
         }
@@ -137,9 +133,8 @@ public class TmdbSeasons extends AbstractMethod {
         parameters.add(Param.SEASON_NUMBER, seasonNumber);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEASON).subMethod(MethodSub.CREDITS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
         try {
-            return MAPPER.readValue(webpage, MediaCreditList.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaCreditList.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get credits", url, ex);
         }
@@ -161,10 +156,8 @@ public class TmdbSeasons extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEASON).subMethod(MethodSub.EXTERNAL_IDS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, ExternalID.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(ExternalID.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get external IDs", url, ex);
         }
@@ -188,11 +181,9 @@ public class TmdbSeasons extends AbstractMethod {
         parameters.add(Param.APPEND, includeImageLanguage);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEASON).subMethod(MethodSub.IMAGES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperImages wrapper = MAPPER.readValue(webpage, WrapperImages.class);
-            ResultList<Artwork> results = new ResultList<>(wrapper.getAll());
+            WrapperImages wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperImages.class));
+            ResultList<Artwork> results = wrapResults(wrapper.getAll());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -216,11 +207,9 @@ public class TmdbSeasons extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.SEASON).subMethod(MethodSub.VIDEOS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperVideos wrapper = MAPPER.readValue(webpage, WrapperVideos.class);
-            ResultList<Video> results = new ResultList<>(wrapper.getVideos());
+            WrapperVideos wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperVideos.class));
+            ResultList<Video> results = wrapResults(wrapper.getVideos());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -20,7 +20,6 @@
 package com.omertron.themoviedbapi.methods;
 
 import com.omertron.themoviedbapi.MovieDbException;
-import static com.omertron.themoviedbapi.methods.AbstractMethod.MAPPER;
 import com.omertron.themoviedbapi.model.StatusCode;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
@@ -42,6 +41,7 @@ import com.omertron.themoviedbapi.tools.ApiUrl;
 import com.omertron.themoviedbapi.tools.HttpTools;
 import com.omertron.themoviedbapi.tools.MethodBase;
 import com.omertron.themoviedbapi.tools.MethodSub;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.PostBody;
 import com.omertron.themoviedbapi.tools.PostTools;
@@ -85,10 +85,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.APPEND, appendToResponse);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TVInfo.class);
+            return httpTools.getRequest(url, getAppendReader(TVInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get TV Info", url, ex);
         }
@@ -111,10 +109,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.SESSION_ID, sessionID);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.ACCOUNT_STATES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, MediaState.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaState.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get account state", url, ex);
         }
@@ -132,8 +128,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.ID, tvID);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.ALT_TITLES).buildUrl(parameters);
-        WrapperGenericList<AlternativeTitle> wrapper = processWrapper(getTypeReference(AlternativeTitle.class), url, "alternative titles");
-        return wrapper.getResultsList();
+        WrapperGenericList<AlternativeTitle> wrapper = processWrapper(AlternativeTitle.class, url, "alternative titles");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -161,8 +157,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.ID, tvID);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.CONTENT_RATINGS).buildUrl(parameters);
-        WrapperGenericList<ContentRating> wrapper = processWrapper(getTypeReference(ContentRating.class), url, "content rating");
-        return wrapper.getResultsList();
+        WrapperGenericList<ContentRating> wrapper = processWrapper(ContentRating.class, url, "content rating");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -179,9 +175,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.CREDITS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
         try {
-            return MAPPER.readValue(webpage, MediaCreditList.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(MediaCreditList.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get credits", url, ex);
         }
@@ -201,10 +196,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.EXTERNAL_IDS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, ExternalID.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(ExternalID.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get external IDs", url, ex);
         }
@@ -226,11 +219,9 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.INCLUDE_IMAGE_LANGUAGE, includeImageLanguage);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.IMAGES).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperImages wrapper = MAPPER.readValue(webpage, WrapperImages.class);
-            ResultList<Artwork> results = new ResultList<>(wrapper.getAll());
+            WrapperImages wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperImages.class));
+            ResultList<Artwork> results = wrapResults(wrapper.getAll());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -250,8 +241,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.ID, tvID);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.KEYWORDS).buildUrl(parameters);
-        WrapperGenericList<Keyword> wrapper = processWrapper(getTypeReference(Keyword.class), url, "keywords");
-        return wrapper.getResultsList();
+        WrapperGenericList<Keyword> wrapper = processWrapper(Keyword.class, url, "keywords");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -283,7 +274,7 @@ public class TmdbTV extends AbstractMethod {
         String webpage = httpTools.postRequest(url, jsonBody);
 
         try {
-            return MAPPER.readValue(webpage, StatusCode.class);
+            return ObjectReaders.forClass(StatusCode.class).readValue(webpage);
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to post rating", url, ex);
         }
@@ -305,8 +296,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.SIMILAR).buildUrl(parameters);
-        WrapperGenericList<TVInfo> wrapper = processWrapper(getTypeReference(TVInfo.class), url, "similar TV shows");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVInfo> wrapper = processWrapper(TVInfo.class, url, "similar TV shows");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -322,11 +313,9 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.ID, tvID);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.TRANSLATIONS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperTranslations wrapper = MAPPER.readValue(webpage, WrapperTranslations.class);
-            ResultList<Translation> results = new ResultList<>(wrapper.getTranslations());
+            WrapperTranslations wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperTranslations.class));
+            ResultList<Translation> results = wrapResults(wrapper.getTranslations());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -349,11 +338,9 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.VIDEOS).buildUrl(parameters);
-        String webpage = httpTools.getRequest(url);
-
         try {
-            WrapperVideos wrapper = MAPPER.readValue(webpage, WrapperVideos.class);
-            ResultList<Video> results = new ResultList<>(wrapper.getVideos());
+            WrapperVideos wrapper = httpTools.getRequest(url, ObjectReaders.forClass(WrapperVideos.class));
+            ResultList<Video> results = wrapResults(wrapper.getVideos());
             wrapper.setResultProperties(results);
             return results;
         } catch (IOException ex) {
@@ -369,10 +356,8 @@ public class TmdbTV extends AbstractMethod {
      */
     public TVInfo getLatestTV() throws MovieDbException {
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.LATEST).buildUrl();
-        String webpage = httpTools.getRequest(url);
-
         try {
-            return MAPPER.readValue(webpage, TVInfo.class);
+            return httpTools.getRequest(url, ObjectReaders.forClass(TVInfo.class));
         } catch (IOException ex) {
             throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "Failed to get latest TV show", url, ex);
         }
@@ -395,8 +380,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.ON_THE_AIR).buildUrl(parameters);
-        WrapperGenericList<TVInfo> wrapper = processWrapper(getTypeReference(TVInfo.class), url, "on the air");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVInfo> wrapper = processWrapper(TVInfo.class, url, "on the air");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -417,8 +402,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.TIMEZONE, timezone);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.AIRING_TODAY).buildUrl(parameters);
-        WrapperGenericList<TVInfo> wrapper = processWrapper(getTypeReference(TVInfo.class), url, "airing today");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVInfo> wrapper = processWrapper(TVInfo.class, url, "airing today");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -440,8 +425,8 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.TOP_RATED).buildUrl(parameters);
-        WrapperGenericList<TVInfo> wrapper = processWrapper(getTypeReference(TVInfo.class), url, "top rated TV shows");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVInfo> wrapper = processWrapper(TVInfo.class, url, "top rated TV shows");
+        return wrapResults(wrapper);
     }
 
     /**
@@ -458,7 +443,7 @@ public class TmdbTV extends AbstractMethod {
         parameters.add(Param.LANGUAGE, language);
 
         URL url = new ApiUrl(apiKey, MethodBase.TV).subMethod(MethodSub.POPULAR).buildUrl(parameters);
-        WrapperGenericList<TVInfo> wrapper = processWrapper(getTypeReference(TVInfo.class), url, "popular TV shows");
-        return wrapper.getResultsList();
+        WrapperGenericList<TVInfo> wrapper = processWrapper(TVInfo.class, url, "popular TV shows");
+        return wrapResults(wrapper);
     }
 }
@@ -0,0 +1,223 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.omertron.themoviedbapi.tools.PropertyDrift;
+import com.omertron.themoviedbapi.tools.StringPool;
+import java.io.IOException;
+
+/**
+ * Base class for the deserializers created by the themoviedbapi-processor
+ * annotation processor.
+ * <p>
+ * The generated classes map the properties by name with a switch and call
+ * the setters directly. Values that are not a simple string, number or
+ * boolean are passed to the deserializer Jackson would use for the property.
+ * Those deserializers are found once, when this deserializer is resolved.
+ *
+ * @author Stuart
+ * @param <T> The model class
+ */
+public abstract class AbstractGeneratedDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 100L;
+
+    protected AbstractGeneratedDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    /**
+     * Create an empty instance of the model class
+     *
+     * @return The new instance
+     */
+    protected abstract T create();
+
+    /**
+     * Find the deserializers for the properties
+     *
+     * @param ctxt
+     * @throws JsonMappingException
+     */
+    protected abstract void resolveProperties(DeserializationContext ctxt) throws JsonMappingException;
+
+    /**
+     * Set the property from the current value of the parser
+     *
+     * @param bean The instance to update
+     * @param name The property name
+     * @param p The parser, positioned on the value
+     * @param ctxt
+     * @return True if the property is known, false otherwise
+     * @throws IOException
+     */
+    protected abstract boolean setProperty(T bean, String name, JsonParser p, DeserializationContext ctxt) throws IOException;
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        resolveProperties(ctxt);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        return readProperties(create(), token, p, ctxt);
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        return readProperties(intoValue, token, p, ctxt);
+    }
+
+    private T readProperties(T bean, JsonToken firstToken, JsonParser p, DeserializationContext ctxt) throws IOException {
+        for (JsonToken token = firstToken; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            p.nextToken();
+            if (!setProperty(bean, name, p, ctxt)) {
+                handleUnknown(bean, name, p, ctxt);
+            }
+        }
+        return bean;
+    }
+
+    private void handleUnknown(T bean, String name, JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (bean instanceof AbstractJsonMapping) {
+            // Skipped without mapping the value, as the shared mapper does
+            PropertyDrift.unknownProperty(bean.getClass(), name);
+            p.skipChildren();
+        } else {
+            ctxt.handleUnknownProperty(p, this, handledType(), name);
+        }
+    }
+
+    protected static JsonDeserializer<Object> find(DeserializationContext ctxt, JavaType type) throws JsonMappingException {
+        return ctxt.findRootValueDeserializer(type);
+    }
+
+    protected static Object read(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return deser.getNullValue(ctxt);
+        }
+        return deser.deserialize(p, ctxt);
+    }
+
+    /**
+     * Read the value into the collection or map returned by a getter, for
+     * properties without a setter
+     *
+     * @param deser
+     * @param p
+     * @param ctxt
+     * @param value The collection or map to add to
+     * @param name The property name
+     * @throws IOException
+     */
+    protected static void readInto(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt, Object value, String name) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (value == null) {
+            throw JsonMappingException.from(p, "Problem deserializing 'setterless' property (\"" + name + "\"): get method returned null");
+        }
+        deser.deserialize(p, ctxt, value);
+    }
+
+    /**
+     * Read a string, using the shared string pool for the pooled fields
+     *
+     * @param deser The deserializer for the property
+     * @param p The parser
+     * @param ctxt
+     * @param name The property name
+     * @return The string
+     * @throws IOException
+     */
+    protected String readString(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt, String name) throws IOException {
+        String value;
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            value = p.getText();
+        } else {
+            value = (String) read(deser, p, ctxt);
+        }
+        return StringPool.pool(handledType(), name, value);
+    }
+
+    protected static int readInt(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        return (Integer) read(deser, p, ctxt);
+    }
+
+    protected static long readLong(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        return (Long) read(deser, p, ctxt);
+    }
+
+    protected static float readFloat(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getFloatValue();
+        }
+        return (Float) read(deser, p, ctxt);
+    }
+
+    protected static double readDouble(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getDoubleValue();
+        }
+        return (Double) read(deser, p, ctxt);
+    }
+
+    protected static boolean readBoolean(JsonDeserializer<Object> deser, JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        return (Boolean) read(deser, p, ctxt);
+    }
+}
@@ -20,35 +20,32 @@
 package com.omertron.themoviedbapi.model;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.omertron.themoviedbapi.tools.PropertyDrift;
 import java.io.Serializable;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
- * Abstract class to handle any unknown properties by outputting a log message
+ * Abstract class to handle any unknown properties by recording them
  *
  * @author stuart.boston
  */
 public abstract class AbstractJsonMapping implements Serializable {
 
     private static final long serialVersionUID = 100L;
-    private static final Logger LOG = LoggerFactory.getLogger(AbstractJsonMapping.class);
 
     /**
-     * Handle unknown properties and print a message
+     * Handle unknown properties by recording them with PropertyDrift.
+     * <p>
+     * The API's own mapper skips unknown properties before they reach here,
+     * this is used by other mappers.
      *
      * @param key
      * @param value
      */
     @JsonAnySetter
     protected void handleUnknown(String key, Object value) {
-        StringBuilder unknown = new StringBuilder(this.getClass().getSimpleName());
-        unknown.append(": Unknown property='").append(key)
-               .append("' value='").append(value).append("'");
-
-        LOG.trace(unknown.toString());
+        PropertyDrift.unknownProperty(getClass(), key);
     }
 
     @Override
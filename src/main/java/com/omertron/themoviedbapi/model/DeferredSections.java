@@ -0,0 +1,99 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.model;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.UncheckedMovieDbException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * The append to response sections of a response that have not been mapped
+ * yet.
+ * <p>
+ * Each section is held as the buffered JSON tokens and is mapped onto the
+ * object, through its normal setter, the first time it is used.
+ *
+ * @author Stuart
+ */
+public final class DeferredSections {
+
+    private final ObjectReader reader;
+    private final Map<String, TokenBuffer> sections;
+
+    /**
+     * Create the deferred sections
+     *
+     * @param reader The reader for the class that owns the sections
+     * @param sections The buffered sections, by name. Each buffer holds an
+     * object with the section as its only property
+     */
+    public DeferredSections(ObjectReader reader, Map<String, TokenBuffer> sections) {
+        this.reader = reader;
+        this.sections = sections;
+    }
+
+    /**
+     * Check if the section is in the response and has not been mapped yet
+     *
+     * @param name The section name
+     * @return True if the section is waiting to be mapped
+     */
+    public synchronized boolean isDeferred(String name) {
+        return sections.containsKey(name);
+    }
+
+    /**
+     * Map the section onto the object if it has not been mapped yet
+     *
+     * @param bean The object that owns the section
+     * @param name The section name
+     * @throws UncheckedMovieDbException if the section could not be mapped
+     */
+    public synchronized void bind(Object bean, String name) {
+        TokenBuffer buffer = sections.remove(name);
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            reader.withValueToUpdate(bean).readValue(buffer.asParser());
+        } catch (IOException ex) {
+            throw new UncheckedMovieDbException(new MovieDbException(ApiExceptionType.MAPPING_FAILED,
+                    "Failed to map the " + name + " section", "", ex));
+        }
+    }
+
+    /**
+     * Map all of the remaining sections onto the object
+     *
+     * @param bean The object that owns the sections
+     * @throws UncheckedMovieDbException if a section could not be mapped
+     */
+    public synchronized void bindAll(Object bean) {
+        for (String name : new ArrayList<>(sections.keySet())) {
+            bind(bean, name);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import com.omertron.themoviedbapi.interfaces.Identification;
 import com.omertron.themoviedbapi.model.AbstractJsonMapping;
+import com.omertron.themoviedbapi.tools.IntList;
 import java.io.Serializable;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
@@ -50,7 +51,7 @@ public class Collection extends AbstractJsonMapping implements Serializable, Ide
     @JsonProperty("release_date")
     private String releaseDate;
     @JsonProperty("genre_ids")
-    private List<Integer> genreIds;
+    private IntList genreIds;
     @JsonProperty("adult")
     private boolean adult;
     @JsonProperty("original_language")
@@ -137,7 +138,7 @@ public class Collection extends AbstractJsonMapping implements Serializable, Ide
     }
 
     public void setGenreIds(List<Integer> genreIds) {
-        this.genreIds = genreIds;
+        this.genreIds = IntList.copyOf(genreIds);
     }
 
     public void setAdult(boolean adult) {
@@ -26,6 +26,7 @@ import com.omertron.themoviedbapi.enumeration.CreditType;
 import com.omertron.themoviedbapi.enumeration.MediaType;
 import com.omertron.themoviedbapi.interfaces.Identification;
 import com.omertron.themoviedbapi.model.AbstractJsonMapping;
+import com.omertron.themoviedbapi.tools.IntList;
 import java.io.Serializable;
 import java.util.List;
 
@@ -48,7 +49,7 @@ public class CreditBasic extends AbstractJsonMapping implements Serializable, Id
     @JsonProperty("backdrop_path")
     private String backdropPath;
     @JsonProperty("genre_ids")
-    private List<Integer> genreIds;
+    private IntList genreIds;
     @JsonProperty("original_language")
     private String originalLanguage;
     @JsonProperty("overview")
@@ -156,7 +157,7 @@ public class CreditBasic extends AbstractJsonMapping implements Serializable, Id
     }
 
     public void setGenreIds(List<Integer> genreIds) {
-        this.genreIds = genreIds;
+        this.genreIds = IntList.copyOf(genreIds);
     }
 
     public String getOriginalLanguage() {
@@ -22,6 +22,7 @@ package com.omertron.themoviedbapi.model.discover;
 import com.omertron.themoviedbapi.enumeration.SortBy;
 import com.omertron.themoviedbapi.tools.Param;
 import com.omertron.themoviedbapi.tools.TmdbParameters;
+import java.util.Map;
 
 /**
  * Generate a discover object for use in the MovieDbApi
@@ -48,6 +49,21 @@ public class Discover {
         return params;
     }
 
+    /**
+     * Create a copy of the search criteria.
+     * <p>
+     * Use this to request several pages of the same search concurrently
+     *
+     * @return
+     */
+    public Discover copy() {
+        Discover copy = new Discover();
+        for (Map.Entry<Param, String> entry : params.getEntries()) {
+            copy.params.add(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
     /**
      * Minimum value is 1 if included.
      *
@@ -492,6 +508,32 @@ public class Discover {
         return this;
     }
 
+    /**
+     * The minimum first air date to include.
+     * <p>
+     * Expected format is YYYY-MM-DD.
+     *
+     * @param firstAirDateGte
+     * @return
+     */
+    public Discover firstAirDateGte(String firstAirDateGte) {
+        params.add(Param.FIRST_AIR_DATE_GTE, firstAirDateGte);
+        return this;
+    }
+
+    /**
+     * The maximum first air date to include.
+     * <p>
+     * Expected format is YYYY-MM-DD.
+     *
+     * @param firstAirDateLte
+     * @return
+     */
+    public Discover firstAirDateLte(String firstAirDateLte) {
+        params.add(Param.FIRST_AIR_DATE_LTE, firstAirDateLte);
+        return this;
+    }
+
     /**
      * Filter TV shows to include a specific network.
      *
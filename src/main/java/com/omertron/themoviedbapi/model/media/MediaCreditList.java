@@ -34,6 +34,7 @@ import java.util.List;
 public class MediaCreditList extends AbstractJsonMapping implements Serializable, Identification {
 
     private static final long serialVersionUID = 100L;
+    private static final MediaCreditList EMPTY = new Empty();
 
     @JsonProperty("id")
     private int id = 0;
@@ -78,4 +79,47 @@ public class MediaCreditList extends AbstractJsonMapping implements Serializable
         this.guestStars = guestStars;
     }
 
+    /**
+     * Get the shared credit list with nothing set.
+     * <p>
+     * The setters of the shared instance throw UnsupportedOperationException.
+     *
+     * @return The empty credit list
+     */
+    public static MediaCreditList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * The shared empty credit list
+     */
+    private static final class Empty extends MediaCreditList {
+
+        private static final long serialVersionUID = 100L;
+        private static final String READ_ONLY = "The empty credit list cannot be changed";
+
+        @Override
+        public void setId(int id) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setCast(List<MediaCreditCast> cast) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setCrew(List<MediaCreditCrew> crew) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setGuestStars(List<MediaCreditCast> guestStars) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        private Object readResolve() {
+            return EMPTY;
+        }
+    }
 }
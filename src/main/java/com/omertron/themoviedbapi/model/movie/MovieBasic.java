@@ -22,6 +22,7 @@ package com.omertron.themoviedbapi.model.movie;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.omertron.themoviedbapi.enumeration.MediaType;
 import com.omertron.themoviedbapi.model.media.MediaBasic;
+import com.omertron.themoviedbapi.tools.IntList;
 import java.io.Serializable;
 import java.util.List;
 
@@ -49,7 +50,7 @@ public class MovieBasic extends MediaBasic implements Serializable {
     @JsonProperty("rating")
     private float userRating = -1f;
     @JsonProperty("genre_ids")
-    private List<Integer> genreIds;
+    private IntList genreIds;
     @JsonProperty("original_language")
     private String originalLanguage;
     @JsonProperty("overview")
@@ -122,7 +123,7 @@ public class MovieBasic extends MediaBasic implements Serializable {
     }
 
     public void setGenreIds(List<Integer> genreIds) {
-        this.genreIds = genreIds;
+        this.genreIds = IntList.copyOf(genreIds);
     }
 
     public String getOriginalLanguage() {
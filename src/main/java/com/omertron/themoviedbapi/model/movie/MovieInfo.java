@@ -19,6 +19,8 @@
  */
 package com.omertron.themoviedbapi.model.movie;
 
+import com.omertron.themoviedbapi.interfaces.LazyAppendToResponse;
+import com.omertron.themoviedbapi.model.DeferredSections;
 import com.omertron.themoviedbapi.model.media.Video;
 import com.omertron.themoviedbapi.model.media.Translation;
 import com.omertron.themoviedbapi.model.media.AlternativeTitle;
@@ -46,20 +48,20 @@ import com.omertron.themoviedbapi.results.WrapperMovieKeywords;
 import com.omertron.themoviedbapi.results.WrapperReleaseInfo;
 import com.omertron.themoviedbapi.results.WrapperTranslations;
 import com.omertron.themoviedbapi.results.WrapperVideos;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Movie Info
  *
  * @author stuart.boston
  */
-public class MovieInfo extends MovieBasic implements Serializable, Identification, AppendToResponse<MovieMethod> {
+public class MovieInfo extends MovieBasic implements Serializable, Identification, AppendToResponse<MovieMethod>, LazyAppendToResponse {
 
-    private static final long serialVersionUID = 100L;
+    private static final long serialVersionUID = 101L;
 
     @JsonProperty("belongs_to_collection")
     private Collection belongsToCollection;
@@ -83,11 +85,12 @@ public class MovieInfo extends MovieBasic implements Serializable, Identificatio
     private String tagline;
     @JsonProperty("status")
     private String status;
-    // AppendToResponse
-    private final Set<MovieMethod> methods = EnumSet.noneOf(MovieMethod.class);
+    // AppendToResponse, a bit for each method
+    private long methods;
+    private transient DeferredSections deferredSections;
     // AppendToResponse Properties
     private List<AlternativeTitle> alternativeTitles = Collections.emptyList();
-    private MediaCreditList credits = new MediaCreditList();
+    private MediaCreditList credits;
     private List<Artwork> images = Collections.emptyList();
     private List<Keyword> keywords = Collections.emptyList();
     private List<ReleaseInfo> releases = Collections.emptyList();
@@ -193,50 +196,62 @@ public class MovieInfo extends MovieBasic implements Serializable, Identificatio
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Getters">
     public List<AlternativeTitle> getAlternativeTitles() {
+        bind(MovieMethod.ALTERNATIVE_TITLES);
         return alternativeTitles;
     }
 
     public List<MediaCreditCast> getCast() {
-        return credits.getCast();
+        bind(MovieMethod.CREDITS);
+        return credits == null ? Collections.<MediaCreditCast>emptyList() : credits.getCast();
     }
 
     public List<MediaCreditCrew> getCrew() {
-        return credits.getCrew();
+        bind(MovieMethod.CREDITS);
+        return credits == null ? Collections.<MediaCreditCrew>emptyList() : credits.getCrew();
     }
 
     public List<Artwork> getImages() {
+        bind(MovieMethod.IMAGES);
         return images;
     }
 
     public List<Keyword> getKeywords() {
+        bind(MovieMethod.KEYWORDS);
         return keywords;
     }
 
     public List<ReleaseInfo> getReleases() {
+        bind(MovieMethod.RELEASES);
         return releases;
     }
 
     public List<Video> getVideos() {
+        bind(MovieMethod.VIDEOS);
         return videos;
     }
 
     public List<Translation> getTranslations() {
+        bind(MovieMethod.TRANSLATIONS);
         return translations;
     }
 
     public List<MovieInfo> getSimilarMovies() {
+        bind(MovieMethod.SIMILAR);
         return similarMovies;
     }
 
     public List<UserList> getLists() {
+        bind(MovieMethod.LISTS);
         return lists;
     }
 
     public List<Review> getReviews() {
+        bind(MovieMethod.REVIEWS);
         return reviews;
     }
 
     public List<ChangeKeyItem> getChanges() {
+        bind(MovieMethod.CHANGES);
         return changes;
     }
     // </editor-fold>
@@ -311,15 +326,55 @@ public class MovieInfo extends MovieBasic implements Serializable, Identificatio
     @JsonSetter("changes")
     public void setChanges(WrapperChanges changes) {
         this.changes = changes.getChangedItems();
+        addMethod(MovieMethod.CHANGES);
     }
     // </editor-fold>
 
     private void addMethod(MovieMethod method) {
-        methods.add(method);
+        methods |= 1L << method.ordinal();
     }
 
     @Override
     public boolean hasMethod(MovieMethod method) {
-        return methods.contains(method);
+        DeferredSections deferred = deferredSections;
+        // Check the deferred sections first, binding one sets the method
+        return (deferred != null && deferred.isDeferred(method.getPropertyString())) || (methods & (1L << method.ordinal())) != 0;
+    }
+
+    @Override
+    public void deferSections(DeferredSections sections) {
+        this.deferredSections = sections;
+    }
+
+    /**
+     * Map the section if it was deferred
+     */
+    private void bind(MovieMethod method) {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bind(this, method.getPropertyString());
+        }
+    }
+
+    /**
+     * Map any sections that were deferred
+     */
+    private void bindAll() {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bindAll(this);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        bindAll();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public String toString() {
+        // Deferred sections are only seen once they are mapped
+        bindAll();
+        return super.toString();
     }
 }
@@ -31,6 +31,7 @@ import java.io.Serializable;
 public class ExternalID extends AbstractJsonMapping implements Serializable, Identification {
 
     private static final long serialVersionUID = 100L;
+    private static final ExternalID EMPTY = new Empty();
 
     @JsonProperty("id")
     private int id;
@@ -125,4 +126,72 @@ public class ExternalID extends AbstractJsonMapping implements Serializable, Ide
         this.instagramId = instagramId;
     }
 
+    /**
+     * Get the shared external ID with nothing set.
+     * <p>
+     * The setters of the shared instance throw UnsupportedOperationException.
+     *
+     * @return The empty external ID
+     */
+    public static ExternalID empty() {
+        return EMPTY;
+    }
+
+    /**
+     * The shared empty external ID
+     */
+    private static final class Empty extends ExternalID {
+
+        private static final long serialVersionUID = 100L;
+        private static final String READ_ONLY = "The empty external ID cannot be changed";
+
+        @Override
+        public void setId(int id) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setImdbId(String imdbId) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setFreebaseMid(String freebaseMid) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setFreebaseId(String freebaseId) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setTvrageId(String tvrageId) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setTvdbId(String tvdbId) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setFacebookId(String facebookId) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setTwitterId(String twitterId) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setInstagramId(String instagramId) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        private Object readResolve() {
+            return EMPTY;
+        }
+    }
 }
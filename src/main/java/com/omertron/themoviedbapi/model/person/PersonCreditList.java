@@ -33,6 +33,8 @@ import java.util.List;
 public class PersonCreditList<T extends CreditBasic> extends AbstractJsonMapping implements Identification {
 
     private static final long serialVersionUID = 101L;
+    @SuppressWarnings("rawtypes")
+    private static final PersonCreditList EMPTY = new Empty();
 
     @JsonProperty("id")
     private int id;
@@ -66,4 +68,45 @@ public class PersonCreditList<T extends CreditBasic> extends AbstractJsonMapping
     public void setCrew(List<T> crew) {
         this.crew = crew;
     }
+
+    /**
+     * Get the shared credit list with nothing set.
+     * <p>
+     * The setters of the shared instance throw UnsupportedOperationException.
+     *
+     * @param <T> Type of the credits
+     * @return The empty credit list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends CreditBasic> PersonCreditList<T> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * The shared empty credit list
+     */
+    private static final class Empty<T extends CreditBasic> extends PersonCreditList<T> {
+
+        private static final long serialVersionUID = 101L;
+        private static final String READ_ONLY = "The empty credit list cannot be changed";
+
+        @Override
+        public void setId(int id) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setCast(List<T> cast) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        @Override
+        public void setCrew(List<T> crew) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+
+        private Object readResolve() {
+            return EMPTY;
+        }
+    }
 }
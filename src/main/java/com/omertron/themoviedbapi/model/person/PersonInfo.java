@@ -23,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.omertron.themoviedbapi.enumeration.PeopleMethod;
 import com.omertron.themoviedbapi.interfaces.AppendToResponse;
+import com.omertron.themoviedbapi.interfaces.LazyAppendToResponse;
+import com.omertron.themoviedbapi.model.DeferredSections;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.artwork.ArtworkMedia;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
@@ -31,18 +33,18 @@ import com.omertron.themoviedbapi.model.credits.CreditTVBasic;
 import com.omertron.themoviedbapi.results.WrapperChanges;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
 import com.omertron.themoviedbapi.results.WrapperImages;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * @author stuart.boston
  */
-public class PersonInfo extends PersonBasic implements Serializable, AppendToResponse<PeopleMethod> {
+public class PersonInfo extends PersonBasic implements Serializable, AppendToResponse<PeopleMethod>, LazyAppendToResponse {
 
-    private static final long serialVersionUID = 100L;
+    private static final long serialVersionUID = 101L;
 
     @JsonProperty("adult")
     private boolean adult;
@@ -62,15 +64,16 @@ public class PersonInfo extends PersonBasic implements Serializable, AppendToRes
     private String placeOfBirth;
     @JsonProperty("popularity")
     private float popularity;
-    // AppendToResponse
-    private final Set<PeopleMethod> methods = EnumSet.noneOf(PeopleMethod.class);
+    // AppendToResponse, a bit for each method
+    private long methods;
+    private transient DeferredSections deferredSections;
     // AppendToResponse Properties
     private List<ChangeKeyItem> changes = Collections.emptyList();
-    private ExternalID externalIDs = new ExternalID();
+    private ExternalID externalIDs;
     private List<Artwork> images = Collections.emptyList();
     private List<ArtworkMedia> taggedImages = Collections.emptyList();
-    private PersonCreditList<CreditMovieBasic> movieCredits = new PersonCreditList<>();
-    private PersonCreditList<CreditTVBasic> tvCredits = new PersonCreditList<>();
+    private PersonCreditList<CreditMovieBasic> movieCredits;
+    private PersonCreditList<CreditTVBasic> tvCredits;
 
     //<editor-fold defaultstate="collapsed" desc="Getters and Setters">
     public boolean isAdult() {
@@ -147,12 +150,51 @@ public class PersonInfo extends PersonBasic implements Serializable, AppendToRes
     //</editor-fold>
 
     private void addMethod(PeopleMethod method) {
-        methods.add(method);
+        methods |= 1L << method.ordinal();
     }
 
     @Override
     public boolean hasMethod(PeopleMethod method) {
-        return methods.contains(method);
+        DeferredSections deferred = deferredSections;
+        // Check the deferred sections first, binding one sets the method
+        return (deferred != null && deferred.isDeferred(method.getPropertyString())) || (methods & (1L << method.ordinal())) != 0;
+    }
+
+    @Override
+    public void deferSections(DeferredSections sections) {
+        this.deferredSections = sections;
+    }
+
+    /**
+     * Map the section if it was deferred
+     */
+    private void bind(PeopleMethod method) {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bind(this, method.getPropertyString());
+        }
+    }
+
+    /**
+     * Map any sections that were deferred
+     */
+    private void bindAll() {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bindAll(this);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        bindAll();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public String toString() {
+        // Deferred sections are only seen once they are mapped
+        bindAll();
+        return super.toString();
     }
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Setters">
@@ -195,27 +237,33 @@ public class PersonInfo extends PersonBasic implements Serializable, AppendToRes
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Getters">
     public List<ChangeKeyItem> getChanges() {
+        bind(PeopleMethod.CHANGES);
         return changes;
     }
 
     public ExternalID getExternalIDs() {
-        return externalIDs;
+        bind(PeopleMethod.EXTERNAL_IDS);
+        return externalIDs == null ? ExternalID.empty() : externalIDs;
     }
 
     public List<Artwork> getImages() {
+        bind(PeopleMethod.IMAGES);
         return images;
     }
 
     public PersonCreditList<CreditMovieBasic> getMovieCredits() {
-        return movieCredits;
+        bind(PeopleMethod.MOVIE_CREDITS);
+        return movieCredits == null ? PersonCreditList.<CreditMovieBasic>empty() : movieCredits;
     }
 
     public List<ArtworkMedia> getTaggedImages() {
+        bind(PeopleMethod.TAGGED_IMAGES);
         return taggedImages;
     }
 
     public PersonCreditList<CreditTVBasic> getTvCredits() {
-        return tvCredits;
+        bind(PeopleMethod.TV_CREDITS);
+        return tvCredits == null ? PersonCreditList.<CreditTVBasic>empty() : tvCredits;
     }
     //</editor-fold>
 
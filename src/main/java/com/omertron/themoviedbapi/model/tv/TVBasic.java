@@ -22,6 +22,7 @@ package com.omertron.themoviedbapi.model.tv;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.omertron.themoviedbapi.enumeration.MediaType;
 import com.omertron.themoviedbapi.model.media.MediaBasic;
+import com.omertron.themoviedbapi.tools.IntList;
 import java.io.Serializable;
 import java.util.List;
 
@@ -45,7 +46,7 @@ public class TVBasic extends MediaBasic implements Serializable {
     @JsonProperty("rating")
     private float rating = -1f;
     @JsonProperty("genre_ids")
-    private List<Integer> genreIds;
+    private IntList genreIds;
     @JsonProperty("original_language")
     private String originalLanguage;
     @JsonProperty("overview")
@@ -100,7 +101,7 @@ public class TVBasic extends MediaBasic implements Serializable {
     }
 
     public void setGenreIds(List<Integer> genreIds) {
-        this.genreIds = genreIds;
+        this.genreIds = IntList.copyOf(genreIds);
     }
 
     public String getOriginalLanguage() {
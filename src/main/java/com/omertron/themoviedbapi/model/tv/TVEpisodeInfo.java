@@ -23,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.omertron.themoviedbapi.enumeration.TVEpisodeMethod;
 import com.omertron.themoviedbapi.interfaces.AppendToResponse;
+import com.omertron.themoviedbapi.interfaces.LazyAppendToResponse;
+import com.omertron.themoviedbapi.model.DeferredSections;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.credits.MediaCreditCast;
 import com.omertron.themoviedbapi.model.credits.MediaCreditCrew;
@@ -31,20 +33,20 @@ import com.omertron.themoviedbapi.model.media.Video;
 import com.omertron.themoviedbapi.model.person.ExternalID;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
 import com.omertron.themoviedbapi.results.WrapperImages;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * TV Episode information
  *
  * @author stuart.boston
  */
-public class TVEpisodeInfo extends TVEpisodeBasic implements Serializable, AppendToResponse<TVEpisodeMethod> {
+public class TVEpisodeInfo extends TVEpisodeBasic implements Serializable, AppendToResponse<TVEpisodeMethod>, LazyAppendToResponse {
 
-    private static final long serialVersionUID = 100L;
+    private static final long serialVersionUID = 101L;
 
     @JsonProperty("crew")
     private List<MediaCreditCrew> crew;
@@ -52,11 +54,12 @@ public class TVEpisodeInfo extends TVEpisodeBasic implements Serializable, Appen
     private List<MediaCreditCast> guestStars;
     @JsonProperty("production_code")
     private String productionCode;
-    // AppendToResponse
-    private final Set<TVEpisodeMethod> methods = EnumSet.noneOf(TVEpisodeMethod.class);
+    // AppendToResponse, a bit for each method
+    private long methods;
+    private transient DeferredSections deferredSections;
     // AppendToResponse Properties
-    private MediaCreditList credits = new MediaCreditList();
-    private ExternalID externalIDs = new ExternalID();
+    private MediaCreditList credits;
+    private ExternalID externalIDs;
     private List<Artwork> images = Collections.emptyList();
     private List<Video> videos = Collections.emptyList();
 
@@ -87,12 +90,51 @@ public class TVEpisodeInfo extends TVEpisodeBasic implements Serializable, Appen
     //</editor-fold>
 
     private void addMethod(TVEpisodeMethod method) {
-        methods.add(method);
+        methods |= 1L << method.ordinal();
     }
 
     @Override
     public boolean hasMethod(TVEpisodeMethod method) {
-        return methods.contains(method);
+        DeferredSections deferred = deferredSections;
+        // Check the deferred sections first, binding one sets the method
+        return (deferred != null && deferred.isDeferred(method.getPropertyString())) || (methods & (1L << method.ordinal())) != 0;
+    }
+
+    @Override
+    public void deferSections(DeferredSections sections) {
+        this.deferredSections = sections;
+    }
+
+    /**
+     * Map the section if it was deferred
+     */
+    private void bind(TVEpisodeMethod method) {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bind(this, method.getPropertyString());
+        }
+    }
+
+    /**
+     * Map any sections that were deferred
+     */
+    private void bindAll() {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bindAll(this);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        bindAll();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public String toString() {
+        // Deferred sections are only seen once they are mapped
+        bindAll();
+        return super.toString();
     }
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Setters">
@@ -123,18 +165,22 @@ public class TVEpisodeInfo extends TVEpisodeBasic implements Serializable, Appen
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Getters">
     public MediaCreditList getCredits() {
-        return credits;
+        bind(TVEpisodeMethod.CREDITS);
+        return credits == null ? MediaCreditList.empty() : credits;
     }
 
     public ExternalID getExternalIDs() {
-        return externalIDs;
+        bind(TVEpisodeMethod.EXTERNAL_IDS);
+        return externalIDs == null ? ExternalID.empty() : externalIDs;
     }
 
     public List<Artwork> getImages() {
+        bind(TVEpisodeMethod.IMAGES);
         return images;
     }
 
     public List<Video> getVideos() {
+        bind(TVEpisodeMethod.VIDEOS);
         return videos;
     }
     //</editor-fold>
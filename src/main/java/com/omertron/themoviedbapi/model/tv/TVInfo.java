@@ -23,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.omertron.themoviedbapi.enumeration.TVMethod;
 import com.omertron.themoviedbapi.interfaces.AppendToResponse;
+import com.omertron.themoviedbapi.interfaces.LazyAppendToResponse;
+import com.omertron.themoviedbapi.model.DeferredSections;
 import com.omertron.themoviedbapi.model.Genre;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.change.ChangeKeyItem;
@@ -40,25 +42,26 @@ import com.omertron.themoviedbapi.results.WrapperChanges;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
 import com.omertron.themoviedbapi.results.WrapperImages;
 import com.omertron.themoviedbapi.results.WrapperTranslations;
+import com.omertron.themoviedbapi.tools.IntList;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  *
  * @author Stuart
  */
-public class TVInfo extends TVBasic implements Serializable, AppendToResponse<TVMethod> {
+public class TVInfo extends TVBasic implements Serializable, AppendToResponse<TVMethod>, LazyAppendToResponse {
 
-    private static final long serialVersionUID = 100L;
+    private static final long serialVersionUID = 101L;
 
     @JsonProperty("created_by")
     private List<PersonBasic> createdBy;
     @JsonProperty("episode_run_time")
-    private List<Integer> episodeRunTime;
+    private IntList episodeRunTime;
     @JsonProperty("genres")
     private List<Genre> genres;
     @JsonProperty("homepage")
@@ -83,14 +86,15 @@ public class TVInfo extends TVBasic implements Serializable, AppendToResponse<TV
     private String status;
     @JsonProperty("type")
     private String type;
-    // AppendToResponse
-    private final Set<TVMethod> methods = EnumSet.noneOf(TVMethod.class);
+    // AppendToResponse, a bit for each method
+    private long methods;
+    private transient DeferredSections deferredSections;
     // AppendToResponse Properties
     private List<AlternativeTitle> alternativeTitles = Collections.emptyList();
     private List<ChangeKeyItem> changes = Collections.emptyList();
     private List<ContentRating> contentRatings = Collections.emptyList();
-    private MediaCreditList credits = new MediaCreditList();
-    private ExternalID externalIDs = new ExternalID();
+    private MediaCreditList credits;
+    private ExternalID externalIDs;
     private List<Artwork> images = Collections.emptyList();
     private List<Keyword> keywords = Collections.emptyList();
     private List<Translation> translations = Collections.emptyList();
@@ -111,7 +115,7 @@ public class TVInfo extends TVBasic implements Serializable, AppendToResponse<TV
     }
 
     public void setEpisodeRunTime(List<Integer> episodeRunTime) {
-        this.episodeRunTime = episodeRunTime;
+        this.episodeRunTime = IntList.copyOf(episodeRunTime);
     }
 
     public List<Genre> getGenres() {
@@ -224,12 +228,51 @@ public class TVInfo extends TVBasic implements Serializable, AppendToResponse<TV
     }
 
     private void addMethod(TVMethod method) {
-        methods.add(method);
+        methods |= 1L << method.ordinal();
     }
 
     @Override
     public boolean hasMethod(TVMethod method) {
-        return methods.contains(method);
+        DeferredSections deferred = deferredSections;
+        // Check the deferred sections first, binding one sets the method
+        return (deferred != null && deferred.isDeferred(method.getPropertyString())) || (methods & (1L << method.ordinal())) != 0;
+    }
+
+    @Override
+    public void deferSections(DeferredSections sections) {
+        this.deferredSections = sections;
+    }
+
+    /**
+     * Map the section if it was deferred
+     */
+    private void bind(TVMethod method) {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bind(this, method.getPropertyString());
+        }
+    }
+
+    /**
+     * Map any sections that were deferred
+     */
+    private void bindAll() {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bindAll(this);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        bindAll();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public String toString() {
+        // Deferred sections are only seen once they are mapped
+        bindAll();
+        return super.toString();
     }
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Setters">
@@ -296,42 +339,52 @@ public class TVInfo extends TVBasic implements Serializable, AppendToResponse<TV
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Getters">
     public List<AlternativeTitle> getAlternativeTitles() {
+        bind(TVMethod.ALTERNATIVE_TITLES);
         return alternativeTitles;
     }
 
     public List<ChangeKeyItem> getChanges() {
+        bind(TVMethod.CHANGES);
         return changes;
     }
 
     public List<ContentRating> getContentRatings() {
+        bind(TVMethod.CONTENT_RATINGS);
         return contentRatings;
     }
 
     public MediaCreditList getCredits() {
-        return credits;
+        bind(TVMethod.CREDITS);
+        return credits == null ? MediaCreditList.empty() : credits;
     }
 
     public ExternalID getExternalIDs() {
-        return externalIDs;
+        bind(TVMethod.EXTERNAL_IDS);
+        return externalIDs == null ? ExternalID.empty() : externalIDs;
     }
 
     public List<Artwork> getImages() {
+        bind(TVMethod.IMAGES);
         return images;
     }
 
     public List<Keyword> getKeywords() {
+        bind(TVMethod.KEYWORDS);
         return keywords;
     }
 
     public List<Translation> getTranslations() {
+        bind(TVMethod.TRANSLATIONS);
         return translations;
     }
 
     public List<TVInfo> getSimilarTV() {
+        bind(TVMethod.SIMILAR);
         return similarTV;
     }
 
     public List<Video> getVideos() {
+        bind(TVMethod.VIDEOS);
         return videos;
     }
     //</editor-fold>
@@ -23,34 +23,37 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.omertron.themoviedbapi.enumeration.TVSeasonMethod;
 import com.omertron.themoviedbapi.interfaces.AppendToResponse;
+import com.omertron.themoviedbapi.interfaces.LazyAppendToResponse;
+import com.omertron.themoviedbapi.model.DeferredSections;
 import com.omertron.themoviedbapi.model.artwork.Artwork;
 import com.omertron.themoviedbapi.model.media.MediaCreditList;
 import com.omertron.themoviedbapi.model.media.Video;
 import com.omertron.themoviedbapi.model.person.ExternalID;
 import com.omertron.themoviedbapi.results.WrapperGenericList;
 import com.omertron.themoviedbapi.results.WrapperImages;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * TV Season information
  *
  * @author stuart.boston
  */
-public class TVSeasonInfo extends TVSeasonBasic implements Serializable, AppendToResponse<TVSeasonMethod> {
+public class TVSeasonInfo extends TVSeasonBasic implements Serializable, AppendToResponse<TVSeasonMethod>, LazyAppendToResponse {
 
-    private static final long serialVersionUID = 100L;
+    private static final long serialVersionUID = 101L;
 
     @JsonProperty("episodes")
     private List<TVEpisodeInfo> episodes;
-    // AppendToResponse
-    private final Set<TVSeasonMethod> methods = EnumSet.noneOf(TVSeasonMethod.class);
+    // AppendToResponse, a bit for each method
+    private long methods;
+    private transient DeferredSections deferredSections;
     // AppendToResponse Properties
-    private MediaCreditList credits = new MediaCreditList();
-    private ExternalID externalIDs = new ExternalID();
+    private MediaCreditList credits;
+    private ExternalID externalIDs;
     private List<Artwork> images = Collections.emptyList();
     private List<Video> videos = Collections.emptyList();
 
@@ -65,12 +68,51 @@ public class TVSeasonInfo extends TVSeasonBasic implements Serializable, AppendT
     //</editor-fold>
 
     private void addMethod(TVSeasonMethod method) {
-        methods.add(method);
+        methods |= 1L << method.ordinal();
     }
 
     @Override
     public boolean hasMethod(TVSeasonMethod method) {
-        return methods.contains(method);
+        DeferredSections deferred = deferredSections;
+        // Check the deferred sections first, binding one sets the method
+        return (deferred != null && deferred.isDeferred(method.getPropertyString())) || (methods & (1L << method.ordinal())) != 0;
+    }
+
+    @Override
+    public void deferSections(DeferredSections sections) {
+        this.deferredSections = sections;
+    }
+
+    /**
+     * Map the section if it was deferred
+     */
+    private void bind(TVSeasonMethod method) {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bind(this, method.getPropertyString());
+        }
+    }
+
+    /**
+     * Map any sections that were deferred
+     */
+    private void bindAll() {
+        DeferredSections deferred = deferredSections;
+        if (deferred != null) {
+            deferred.bindAll(this);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        bindAll();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public String toString() {
+        // Deferred sections are only seen once they are mapped
+        bindAll();
+        return super.toString();
     }
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Setters">
@@ -101,18 +143,22 @@ public class TVSeasonInfo extends TVSeasonBasic implements Serializable, AppendT
 
     //<editor-fold defaultstate="collapsed" desc="AppendToResponse Getters">
     public MediaCreditList getCredits() {
-        return credits;
+        bind(TVSeasonMethod.CREDITS);
+        return credits == null ? MediaCreditList.empty() : credits;
     }
 
     public ExternalID getExternalIDs() {
-        return externalIDs;
+        bind(TVSeasonMethod.EXTERNAL_IDS);
+        return externalIDs == null ? ExternalID.empty() : externalIDs;
     }
 
     public List<Artwork> getImages() {
+        bind(TVSeasonMethod.IMAGES);
         return images;
     }
 
     public List<Video> getVideos() {
+        bind(TVSeasonMethod.VIDEOS);
         return videos;
     }
     //</editor-fold>
@@ -0,0 +1,159 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.results;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The items fetched by a bulk call and the IDs that failed.
+ * <p>
+ * IDs that TMDb does not know are kept apart from the other failures, as
+ * only the others are worth trying again. Exceptions thrown by the consumer
+ * of streamed items are kept apart as well.
+ *
+ * @author Stuart
+ * @param <T> Type of the items
+ */
+public final class BulkResult<T> {
+
+    private final int requestedCount;
+    private final int fetchedCount;
+    private final Map<Integer, T> results;
+    private final Set<Integer> notFound;
+    private final Map<Integer, MovieDbException> failures;
+    private final Map<Integer, RuntimeException> consumerFailures;
+
+    /**
+     * Create the result
+     *
+     * @param requestedCount Number of unique IDs requested
+     * @param fetchedCount Number of items fetched
+     * @param results The items by ID, empty if they were streamed
+     * @param notFound The IDs TMDb does not know
+     * @param failures The other failures by ID
+     */
+    public BulkResult(int requestedCount, int fetchedCount, Map<Integer, T> results, Set<Integer> notFound, Map<Integer, MovieDbException> failures) {
+        this(requestedCount, fetchedCount, results, notFound, failures, new HashMap<Integer, RuntimeException>());
+    }
+
+    /**
+     * Create the result
+     *
+     * @param requestedCount Number of unique IDs requested
+     * @param fetchedCount Number of items fetched
+     * @param results The items by ID, empty if they were streamed
+     * @param notFound The IDs TMDb does not know
+     * @param failures The other failures by ID
+     * @param consumerFailures The exceptions thrown by the consumer, by ID
+     */
+    public BulkResult(int requestedCount, int fetchedCount, Map<Integer, T> results, Set<Integer> notFound, Map<Integer, MovieDbException> failures,
+            Map<Integer, RuntimeException> consumerFailures) {
+        this.requestedCount = requestedCount;
+        this.fetchedCount = fetchedCount;
+        this.results = Collections.unmodifiableMap(results);
+        this.notFound = Collections.unmodifiableSet(notFound);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.consumerFailures = Collections.unmodifiableMap(consumerFailures);
+    }
+
+    /**
+     * Number of unique IDs requested
+     *
+     * @return count
+     */
+    public int getRequestedCount() {
+        return requestedCount;
+    }
+
+    /**
+     * Number of items fetched, including any that were streamed
+     *
+     * @return count
+     */
+    public int getFetchedCount() {
+        return fetchedCount;
+    }
+
+    /**
+     * The items by ID, in the order requested.
+     * <p>
+     * This is empty if the items were streamed to a consumer.
+     *
+     * @return results
+     */
+    public Map<Integer, T> getResults() {
+        return results;
+    }
+
+    /**
+     * The IDs that TMDb does not know
+     *
+     * @return IDs
+     */
+    public Set<Integer> getNotFound() {
+        return notFound;
+    }
+
+    /**
+     * The IDs that failed for any other reason, these may work if tried again
+     *
+     * @return failures
+     */
+    public Map<Integer, MovieDbException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * The exceptions thrown by the consumer, by ID.
+     * <p>
+     * These items were fetched and are included in the fetched count.
+     *
+     * @return failures
+     */
+    public Map<Integer, RuntimeException> getConsumerFailures() {
+        return consumerFailures;
+    }
+
+    /**
+     * Were all the IDs fetched, or found not to exist, and consumed
+     *
+     * @return true if there were no other failures
+     */
+    public boolean isComplete() {
+        return failures.isEmpty() && consumerFailures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("requested", requestedCount)
+                .append("fetched", fetchedCount)
+                .append("notFound", notFound)
+                .append("failures", failures.keySet())
+                .append("consumerFailures", consumerFailures.keySet())
+                .toString();
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.results;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.interfaces.PageFetcher;
+import com.omertron.themoviedbapi.tools.WorkerGroup;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * Fetch all the pages of a paged endpoint concurrently.
+ * <p>
+ * The first page is fetched to find the total number of pages, then the rest
+ * are fetched by at most "maxConcurrency" requests at a time. The requests
+ * still go through the request limiter of the API, so the rate limit is
+ * respected.
+ * <p>
+ * A failed page does not stop the other pages, the failure is reported in the
+ * result. Only a failure of the first page is thrown. Exceptions thrown by
+ * the page consumer are reported separately.
+ * <p>
+ * The page fetcher is called from several threads. For discover searches use a
+ * copy of the criteria per page, e.g.
+ * <code>page -&gt; api.getDiscoverMovies(discover.copy().page(page))</code>.
+ *
+ * @author Stuart
+ * @param <T> Type of the results
+ */
+public class PageFanOut<T> {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private final PageFetcher<T> fetcher;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final int maxPages;
+
+    /**
+     * Fetch with the default concurrency on the shared page threads
+     *
+     * @param fetcher The fetcher for the pages
+     */
+    public PageFanOut(PageFetcher<T> fetcher) {
+        this(fetcher, PagedResults.PREFETCH_EXECUTOR, DEFAULT_MAX_CONCURRENCY, PagedResults.DEFAULT_MAX_PAGES);
+    }
+
+    /**
+     * Fetch the pages
+     *
+     * @param fetcher The fetcher for the pages
+     * @param executor The executor to fetch the pages on
+     * @param maxConcurrency Maximum number of pages to fetch at once
+     * @param maxPages The maximum number of pages to fetch
+     */
+    public PageFanOut(PageFetcher<T> fetcher, Executor executor, int maxConcurrency, int maxPages) {
+        if (maxConcurrency <= 0 || maxPages <= 0) {
+            throw new IllegalArgumentException("Concurrency and max pages must be greater than zero");
+        }
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * Fetch all the pages and wait for them to complete
+     *
+     * @return The pages and failures
+     * @throws MovieDbException if the first page could not be fetched
+     */
+    public Result<T> fetchAll() throws MovieDbException {
+        return fetchAll(true, null);
+    }
+
+    /**
+     * Fetch all the pages and wait for them to complete.
+     * <p>
+     * The consumer is called for each page as it becomes available, one page
+     * at a time. In ordered mode a page is held back until the pages before it
+     * have been passed on or have failed. The other pages carry on being
+     * fetched while the consumer runs.
+     *
+     * @param ordered Pass the pages to the consumer in page order
+     * @param consumer Called with each page, may be null
+     * @return The pages and failures
+     * @throws MovieDbException if the first page could not be fetched
+     */
+    public Result<T> fetchAll(boolean ordered, Consumer<? super ResultList<T>> consumer) throws MovieDbException {
+        ResultList<T> first = fetcher.getPage(1);
+        int lastPage = Math.min(Math.max(first.getTotalPages(), 1), maxPages);
+
+        Collector collector = new Collector(ordered, consumer);
+        collector.complete(1, first, null);
+        if (lastPage > 1) {
+            fetchRemaining(lastPage, collector);
+        }
+        return new Result<>(lastPage, collector.pages, collector.failures, collector.consumerFailures);
+    }
+
+    private void fetchRemaining(final int lastPage, final Collector collector) throws MovieDbException {
+        final AtomicInteger nextPage = new AtomicInteger(2);
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int page;
+                while ((page = nextPage.getAndIncrement()) <= lastPage) {
+                    ResultList<T> results;
+                    try {
+                        results = fetcher.getPage(page);
+                    } catch (MovieDbException ex) {
+                        collector.complete(page, null, ex);
+                        continue;
+                    } catch (RuntimeException ex) {
+                        collector.complete(page, null, new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, ex.getMessage(), "page " + page, ex));
+                        continue;
+                    }
+                    collector.complete(page, results, null);
+                }
+            }
+        };
+
+        WorkerGroup.start(executor, Math.min(maxConcurrency, lastPage - 1), worker).await("page fetch", new Runnable() {
+            @Override
+            public void run() {
+                // Stop handing out pages
+                nextPage.set(lastPage + 1);
+            }
+        });
+    }
+
+    /**
+     * Collects the pages and hands them to the consumer.
+     * <p>
+     * The consumer is called outside the lock. The thread that finds no other
+     * thread delivering pages delivers every page that is ready, the others
+     * queue their page and go back to fetching.
+     */
+    private final class Collector {
+
+        private final boolean ordered;
+        private final Consumer<? super ResultList<T>> consumer;
+        private final Map<Integer, ResultList<T>> pages = new ConcurrentSkipListMap<>();
+        private final Map<Integer, MovieDbException> failures = new ConcurrentSkipListMap<>();
+        private final Map<Integer, RuntimeException> consumerFailures = new ConcurrentSkipListMap<>();
+        // Delivery state, guarded by "this"
+        private final SortedMap<Integer, Boolean> waiting = new TreeMap<>();
+        private final Queue<Integer> ready = new ArrayDeque<>();
+        private int nextDelivery = 1;
+        private boolean delivering = false;
+
+        Collector(boolean ordered, Consumer<? super ResultList<T>> consumer) {
+            this.ordered = ordered;
+            this.consumer = consumer;
+        }
+
+        void complete(int page, ResultList<T> results, MovieDbException failure) {
+            if (failure == null) {
+                pages.put(page, results);
+            } else {
+                failures.put(page, failure);
+            }
+
+            if (consumer == null) {
+                return;
+            }
+
+            synchronized (this) {
+                if (!ordered) {
+                    if (results != null) {
+                        ready.add(page);
+                    }
+                } else {
+                    waiting.put(page, results != null);
+                    while (waiting.containsKey(nextDelivery)) {
+                        if (waiting.remove(nextDelivery)) {
+                            ready.add(nextDelivery);
+                        }
+                        nextDelivery++;
+                    }
+                }
+
+                if (delivering || ready.isEmpty()) {
+                    return;
+                }
+                delivering = true;
+            }
+            deliver();
+        }
+
+        private void deliver() {
+            while (true) {
+                Integer page;
+                synchronized (this) {
+                    page = ready.poll();
+                    if (page == null) {
+                        delivering = false;
+                        return;
+                    }
+                }
+
+                try {
+                    consumer.accept(pages.get(page));
+                } catch (RuntimeException ex) {
+                    consumerFailures.put(page, ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * The pages fetched and the pages that failed
+     *
+     * @param <T> Type of the results
+     */
+    public static final class Result<T> {
+
+        private final int totalPages;
+        private final SortedMap<Integer, ResultList<T>> pages;
+        private final SortedMap<Integer, MovieDbException> failures;
+        private final SortedMap<Integer, RuntimeException> consumerFailures;
+
+        Result(int totalPages, Map<Integer, ResultList<T>> pages, Map<Integer, MovieDbException> failures,
+                Map<Integer, RuntimeException> consumerFailures) {
+            this.totalPages = totalPages;
+            this.pages = Collections.unmodifiableSortedMap(new TreeMap<>(pages));
+            this.failures = Collections.unmodifiableSortedMap(new TreeMap<>(failures));
+            this.consumerFailures = Collections.unmodifiableSortedMap(new TreeMap<>(consumerFailures));
+        }
+
+        /**
+         * Number of pages that were requested
+         *
+         * @return count
+         */
+        public int getTotalPages() {
+            return totalPages;
+        }
+
+        /**
+         * The pages fetched, by page number
+         *
+         * @return pages
+         */
+        public SortedMap<Integer, ResultList<T>> getPages() {
+            return pages;
+        }
+
+        /**
+         * The pages that could not be fetched, by page number
+         *
+         * @return failures
+         */
+        public SortedMap<Integer, MovieDbException> getFailures() {
+            return failures;
+        }
+
+        /**
+         * The exceptions thrown by the consumer, by page number.
+         * <p>
+         * These pages were fetched and are in the pages.
+         *
+         * @return failures
+         */
+        public SortedMap<Integer, RuntimeException> getConsumerFailures() {
+            return consumerFailures;
+        }
+
+        /**
+         * Were all the pages fetched and consumed
+         *
+         * @return true if no page or consumer failed
+         */
+        public boolean isComplete() {
+            return failures.isEmpty() && consumerFailures.isEmpty();
+        }
+
+        /**
+         * All the results of the fetched pages, in page order
+         *
+         * @return results
+         */
+        public List<T> getResults() {
+            List<T> results = new ArrayList<>();
+            for (ResultList<T> page : pages.values()) {
+                results.addAll(page.getResults());
+            }
+            return results;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                    .append("totalPages", totalPages)
+                    .append("fetched", pages.size())
+                    .append("failed", failures.keySet())
+                    .append("consumerFailed", consumerFailures.keySet())
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.results;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.UncheckedMovieDbException;
+import com.omertron.themoviedbapi.interfaces.PageFetcher;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * All the results of a paged endpoint, fetched a page at a time as they are
+ * read.
+ * <p>
+ * Wrap any paged call with a page fetcher, e.g.
+ * <code>PagedResults.of(page -&gt; api.getPopularMovieList(page, "en"))</code>,
+ * and read it as an Iterator or Stream. Nothing is fetched until the first
+ * result is read, and each page is only fetched when the one before it has
+ * been read, so a short-circuited stream never fetches a page it does not read.
+ * <p>
+ * To fetch the next page in the background while the current page is read,
+ * use {@link #prefetched(PageFetcher)} or supply a prefetch executor. A
+ * short-circuited stream may then fetch one page it does not read. Closing
+ * the stream cancels that fetch and interrupts the thread running it.
+ * <p>
+ * The spliterator splits the remaining pages between threads, so parallel
+ * streams fetch pages concurrently.
+ * <p>
+ * Failures are thrown as an UncheckedMovieDbException.
+ *
+ * @author Stuart
+ * @param <T> Type of the results
+ */
+public class PagedResults<T> implements Iterable<T> {
+
+    // TMDb will not return pages beyond this
+    public static final int DEFAULT_MAX_PAGES = 500;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+    // Shared with PageFanOut
+    static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "tmdb-page-prefetch-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final PageFetcher<T> fetcher;
+    private final Executor prefetchExecutor;
+    private final int maxPages;
+
+    /**
+     * Create the results, fetching every page when it is needed
+     *
+     * @param fetcher The fetcher for the pages
+     */
+    public PagedResults(PageFetcher<T> fetcher) {
+        this(fetcher, null, DEFAULT_MAX_PAGES);
+    }
+
+    /**
+     * Create the results
+     *
+     * @param fetcher The fetcher for the pages
+     * @param prefetchExecutor The executor to fetch the next page on, null to
+     * fetch every page when it is needed
+     * @param maxPages The maximum number of pages to read
+     */
+    public PagedResults(PageFetcher<T> fetcher, Executor prefetchExecutor, int maxPages) {
+        if (maxPages <= 0) {
+            throw new IllegalArgumentException("Max pages must be greater than zero");
+        }
+        this.fetcher = fetcher;
+        this.prefetchExecutor = prefetchExecutor;
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * Get the shared pool of daemon threads used to fetch pages in the
+     * background
+     *
+     * @return Executor
+     */
+    public static Executor getDefaultExecutor() {
+        return PREFETCH_EXECUTOR;
+    }
+
+    /**
+     * Create the results, fetching every page when it is needed
+     *
+     * @param <T> Type of the results
+     * @param fetcher The fetcher for the pages
+     * @return PagedResults
+     */
+    public static <T> PagedResults<T> of(PageFetcher<T> fetcher) {
+        return new PagedResults<>(fetcher);
+    }
+
+    /**
+     * Create the results, prefetching the next page on the shared prefetch
+     * threads
+     *
+     * @param <T> Type of the results
+     * @param fetcher The fetcher for the pages
+     * @return PagedResults
+     */
+    public static <T> PagedResults<T> prefetched(PageFetcher<T> fetcher) {
+        return new PagedResults<>(fetcher, PREFETCH_EXECUTOR, DEFAULT_MAX_PAGES);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new PageSpliterator(1, -1);
+    }
+
+    /**
+     * Stream the results
+     *
+     * @return Stream
+     */
+    public Stream<T> stream() {
+        return stream(false);
+    }
+
+    /**
+     * Stream the results
+     *
+     * @param parallel Fetch and read the pages in parallel
+     * @return Stream
+     */
+    public Stream<T> stream(boolean parallel) {
+        final PageSpliterator spliterator = new PageSpliterator(1, -1);
+        return StreamSupport.stream(spliterator, parallel).onClose(new Runnable() {
+            @Override
+            public void run() {
+                spliterator.cancelPrefetch();
+            }
+        });
+    }
+
+    private ResultList<T> fetch(int page) {
+        try {
+            return fetcher.getPage(page);
+        } catch (MovieDbException ex) {
+            throw new UncheckedMovieDbException(ex);
+        }
+    }
+
+    /**
+     * Reads a range of pages
+     */
+    private final class PageSpliterator implements Spliterator<T> {
+
+        // Next page to fetch
+        private int nextPage;
+        // Page after the last one to read, -1 until the first page is read
+        private int endPage;
+        private int pageSize = 0;
+        private Iterator<T> current = Collections.emptyIterator();
+        private FutureTask<ResultList<T>> prefetch = null;
+
+        PageSpliterator(int nextPage, int endPage) {
+            this.nextPage = nextPage;
+            this.endPage = endPage;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (!current.hasNext()) {
+                if (!nextPage()) {
+                    return false;
+                }
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        /**
+         * Move on to the next page
+         *
+         * @return false if there are no more pages
+         */
+        private boolean nextPage() {
+            if (endPage >= 0 && nextPage >= endPage) {
+                return false;
+            }
+
+            ResultList<T> page;
+            if (prefetch == null) {
+                page = fetch(nextPage);
+            } else {
+                page = join(prefetch);
+                prefetch = null;
+            }
+
+            if (endPage < 0) {
+                endPage = Math.min(Math.max(page.getTotalPages(), 1), maxPages) + 1;
+            }
+            pageSize = Math.max(pageSize, page.getResults().size());
+            current = page.getResults().iterator();
+            nextPage++;
+
+            if (prefetchExecutor != null && nextPage < endPage) {
+                final int prefetchPage = nextPage;
+                FutureTask<ResultList<T>> task = new FutureTask<>(() -> fetch(prefetchPage));
+                try {
+                    prefetchExecutor.execute(task);
+                    prefetch = task;
+                } catch (RejectedExecutionException ex) {
+                    // Fetch it when it is needed instead
+                }
+            }
+            return true;
+        }
+
+        private ResultList<T> join(FutureTask<ResultList<T>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException ex) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new UncheckedMovieDbException(new MovieDbException(ApiExceptionType.CONNECTION_ERROR, "Interrupted waiting for page", String.valueOf(nextPage), ex));
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                } else if (ex.getCause() instanceof Error) {
+                    throw (Error) ex.getCause();
+                }
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+
+        /**
+         * Cancel the page being fetched in the background, interrupting the
+         * thread fetching it
+         */
+        void cancelPrefetch() {
+            if (prefetch != null) {
+                prefetch.cancel(true);
+                prefetch = null;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (endPage < 0) {
+                // Read the first page to find out how many there are
+                if (!nextPage()) {
+                    return null;
+                }
+            }
+
+            // The page being prefetched stays with this half
+            int first = prefetch == null ? nextPage : nextPage + 1;
+            int remaining = endPage - first;
+            if (remaining < 2) {
+                return null;
+            }
+
+            // The prefix, including the page being read, goes to the split
+            int mid = first + remaining / 2;
+            PageSpliterator split = new PageSpliterator(nextPage, mid);
+            split.pageSize = pageSize;
+            split.current = current;
+            split.prefetch = prefetch;
+
+            nextPage = mid;
+            current = Collections.emptyIterator();
+            prefetch = null;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (endPage < 0) {
+                return Long.MAX_VALUE;
+            }
+            return (long) (endPage - nextPage) * pageSize + (current.hasNext() ? 1 : 0);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
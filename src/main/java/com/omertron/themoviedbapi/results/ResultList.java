@@ -20,6 +20,7 @@
 package com.omertron.themoviedbapi.results;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -34,17 +35,71 @@ import java.util.List;
 public final class ResultList<T> extends AbstractWrapperIdPages {
 
     private List<T> results;
+    private final boolean immutable;
 
     public ResultList() {
         this(null);
     }
 
+    /**
+     * Create the result list with a copy of the list
+     *
+     * @param resultList The results to copy, can be null
+     */
     public ResultList(List<T> resultList) {
-        if (resultList == null) {
-            results = new ArrayList<>();
-        } else {
-            results = new ArrayList<>(resultList);
+        this(resultList == null ? new ArrayList<T>() : new ArrayList<>(resultList), false);
+    }
+
+    private ResultList(List<T> results, boolean immutable) {
+        this.results = results;
+        this.immutable = immutable;
+    }
+
+    /**
+     * Create the result list using the list as it is, without copying it.
+     * <p>
+     * Changes to the list will be seen in the result list. The shared empty
+     * list is replaced, so the results can always be added to.
+     *
+     * @param <T> The type of result
+     * @param results The results, can be null
+     * @return The result list
+     */
+    public static <T> ResultList<T> wrap(List<T> results) {
+        if (results == null || results == Collections.emptyList()) {
+            return new ResultList<>(new ArrayList<T>(), false);
+        }
+        return new ResultList<>(results, false);
+    }
+
+    /**
+     * Get an immutable view of the result list.
+     * <p>
+     * The results are not copied, and the view can not be changed, so it can
+     * be shared between threads or held in a cache as long as this result
+     * list is not changed afterwards.
+     *
+     * @return The immutable view, or this result list if it is already
+     * immutable
+     */
+    public ResultList<T> immutableView() {
+        if (immutable) {
+            return this;
         }
+
+        ResultList<T> view = new ResultList<>(Collections.unmodifiableList(results), true);
+        // The setters of the view are blocked, so set the values directly
+        view.copyProperties(this);
+        return view;
+    }
+
+    /**
+     * Check if the result list can be changed
+     *
+     * @return True if this is an immutable view
+     */
+    public boolean isImmutable() {
+        return immutable;
     }
 
     public List<T> getResults() {
@@ -52,6 +107,7 @@ public final class ResultList<T> extends AbstractWrapperIdPages {
     }
 
     public void setResults(List<T> results) {
+        checkMutable();
         this.results = results;
     }
 
@@ -67,4 +123,45 @@ public final class ResultList<T> extends AbstractWrapperIdPages {
             return super.getTotalResults();
         }
     }
+
+    @Override
+    public void setId(int id) {
+        checkMutable();
+        super.setId(id);
+    }
+
+    @Override
+    public void setPage(int page) {
+        checkMutable();
+        super.setPage(page);
+    }
+
+    @Override
+    public void setTotalPages(int totalPages) {
+        checkMutable();
+        super.setTotalPages(totalPages);
+    }
+
+    @Override
+    public void setTotalResults(int totalResults) {
+        checkMutable();
+        super.setTotalResults(totalResults);
+    }
+
+    private void copyProperties(ResultList<T> source) {
+        super.setId(source.getId());
+        super.setPage(source.getPage());
+        super.setTotalPages(source.getTotalPages());
+        super.setTotalResults(source.getTotalResultsValue());
+    }
+
+    private int getTotalResultsValue() {
+        return super.getTotalResults();
+    }
+
+    private void checkMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException("The result list is immutable");
+        }
+    }
 }
@@ -44,7 +44,7 @@ public class WrapperGenericList<T> extends AbstractWrapperAll {
     }
 
     public ResultList<T> getResultsList() {
-        ResultList<T> resultsList = new ResultList<>(results);
+        ResultList<T> resultsList = ResultList.wrap(results);
         setResultProperties(resultsList);
         return resultsList;
     }
@@ -25,7 +25,9 @@ import com.omertron.themoviedbapi.model.artwork.Artwork;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  *
@@ -79,15 +81,22 @@ public class WrapperImages extends AbstractWrapperAll {
      * @return
      */
     public List<Artwork> getAll(ArtworkType... artworkList) {
-        List<Artwork> artwork = new ArrayList<>();
-        List<ArtworkType> types;
-
+        Set<ArtworkType> types;
         if (artworkList.length > 0) {
-            types = new ArrayList<>(Arrays.asList(artworkList));
+            types = EnumSet.noneOf(ArtworkType.class);
+            types.addAll(Arrays.asList(artworkList));
         } else {
-            types = new ArrayList<>(Arrays.asList(ArtworkType.values()));
+            types = EnumSet.allOf(ArtworkType.class);
         }
 
+        // Size the list up front, so it is only filled once
+        int size = 0;
+        size += types.contains(ArtworkType.POSTER) ? posters.size() : 0;
+        size += types.contains(ArtworkType.BACKDROP) ? backdrops.size() : 0;
+        size += types.contains(ArtworkType.PROFILE) ? profiles.size() : 0;
+        size += types.contains(ArtworkType.STILL) ? stills.size() : 0;
+        List<Artwork> artwork = new ArrayList<>(size);
+
         // Add all the posters to the list
         if (types.contains(ArtworkType.POSTER)) {
             updateArtworkType(posters, ArtworkType.POSTER);
@@ -23,16 +23,19 @@ import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The API URL that is used to construct the API call
+ * The API URL that is used to construct the API call.
+ *
+ * The fixed parts of the URL, the start for each method and the sub-method
+ * with the API key for each sub-method, are built once and reused. The
+ * sub-method parts are kept for a small number of recently used API keys,
+ * so a process that goes through many keys does not keep them all.
  *
  * @author Stuart
  */
@@ -43,18 +46,28 @@ public class ApiUrl {
     private static final String TMDB_API_BASE = "http://api.themoviedb.org/3/";
     // Parameter configuration
     private static final String DELIMITER_FIRST = "?";
-    private static final String DELIMITER_SUBSEQUENT = "&";
+    private static final char DELIMITER_SUBSEQUENT = '&';
+    // Room for the parameters on top of the fixed parts
+    private static final int PARAM_CAPACITY = 96;
+    // The start of the URL for each method, season and episode use the TV path
+    private static final String[] METHOD_PREFIXES = new String[MethodBase.values().length];
+    // The sub-method and API key part of the URL for recent API keys, each key has one slot chosen by its hash
+    private static final int KEY_SLOTS = 16;
+    private static final AtomicReferenceArray<KeySuffixes> KEY_SUFFIXES = new AtomicReferenceArray<>(KEY_SLOTS);
+    private static final Set<Param> IGNORE_PARAMS = EnumSet.of(Param.ID, Param.QUERY, Param.SEASON_NUMBER, Param.EPISODE_NUMBER);
     // Properties
     private final String apiKey;
     private final MethodBase method;
     private MethodSub submethod = MethodSub.NONE;
-    private static final List<Param> IGNORE_PARAMS = new ArrayList<>();
 
     static {
-        IGNORE_PARAMS.add(Param.ID);
-        IGNORE_PARAMS.add(Param.QUERY);
-        IGNORE_PARAMS.add(Param.SEASON_NUMBER);
-        IGNORE_PARAMS.add(Param.EPISODE_NUMBER);
+        for (MethodBase base : MethodBase.values()) {
+            if (base == MethodBase.SEASON || base == MethodBase.EPISODE) {
+                METHOD_PREFIXES[base.ordinal()] = TMDB_API_BASE + MethodBase.TV.getValue();
+            } else {
+                METHOD_PREFIXES[base.ordinal()] = TMDB_API_BASE + base.getValue();
+            }
+        }
     }
 
     /**
@@ -64,7 +77,7 @@ public class ApiUrl {
      * @param method Base method to create URL for
      */
     public ApiUrl(String apiKey, MethodBase method) {
-        this.apiKey = apiKey;
+        this.apiKey = String.valueOf(apiKey);
         this.method = method;
     }
 
@@ -97,59 +110,73 @@ public class ApiUrl {
      * @return Builder object
      */
     public URL buildUrl(final TmdbParameters params) {
-        StringBuilder urlString = new StringBuilder(TMDB_API_BASE);
+        LOG.trace("Method: '{}', Sub-method: '{}', Params: {}", method.getValue(), submethod.getValue(), params);
 
-        LOG.trace("Method: '{}', Sub-method: '{}', Params: {}", method.getValue(), submethod.getValue(),
-                ToStringBuilder.reflectionToString(params, ToStringStyle.SHORT_PREFIX_STYLE));
+        String prefix = METHOD_PREFIXES[method.ordinal()];
+        String suffix = getSuffix();
+        StringBuilder urlString = new StringBuilder(prefix.length() + suffix.length() + PARAM_CAPACITY);
+        urlString.append(prefix);
 
-        // Get the start of the URL, substituting TV for the season or episode methods
-        if (method == MethodBase.SEASON || method == MethodBase.EPISODE) {
-            urlString.append(MethodBase.TV.getValue());
-        } else {
-            urlString.append(method.getValue());
-        }
-
-        // We have either a queury, or a ID request
+        // We have either a query, or a ID request
         if (params.has(Param.QUERY)) {
-            urlString.append(queryProcessing(params));
+            urlString.append(suffix);
+            queryProcessing(urlString, params);
         } else {
-            urlString.append(idProcessing(params));
+            idProcessing(urlString, params);
+            urlString.append(suffix);
         }
 
-        urlString.append(otherProcessing(params));
+        params.appendTo(urlString, IGNORE_PARAMS);
 
+        String url = urlString.toString();
         try {
-            LOG.trace("URL: {}", urlString.toString());
-            return new URL(urlString.toString());
+            LOG.trace("URL: {}", url);
+            return new URL(url);
         } catch (MalformedURLException ex) {
-            LOG.warn("Failed to create URL {} - {}", urlString.toString(), ex.getMessage());
+            LOG.warn("Failed to create URL {} - {}", url, ex.getMessage());
             return null;
         }
     }
 
     /**
-     * Create the query based URL portion
+     * Get the sub-method and API key part of the URL.
+     * <p>
+     * The parts are built once for each API key and kept in the key's slot
+     * until a different key needs the slot.
      *
-     * @param params The parameters for the method
-     * @return Builder object
+     * @return "/submethod?api_key=KEY"
      */
-    private StringBuilder queryProcessing(TmdbParameters params) {
-        StringBuilder urlString = new StringBuilder();
-
-        // Append the suffix of the API URL
-        if (submethod != MethodSub.NONE) {
-            urlString.append("/").append(submethod.getValue());
+    private String getSuffix() {
+        int slot = apiKey.hashCode() & (KEY_SLOTS - 1);
+        KeySuffixes cached = KEY_SUFFIXES.get(slot);
+        if (cached == null || !cached.apiKey.equals(apiKey)) {
+            cached = new KeySuffixes(apiKey);
+            KEY_SUFFIXES.set(slot, cached);
         }
+        return cached.suffixes[submethod.ordinal()];
+    }
 
-        // Append the key information
-        urlString.append(DELIMITER_FIRST)
-                .append(Param.API_KEY.getValue())
-                .append(apiKey)
-                .append(DELIMITER_SUBSEQUENT)// Append the search term
-                .append(Param.QUERY.getValue());
+    /**
+     * Check if the URL parts for the API key are cached
+     *
+     * @param apiKey API Key
+     * @return true if the parts are cached
+     */
+    static boolean isKeyCached(String apiKey) {
+        KeySuffixes cached = KEY_SUFFIXES.get(apiKey.hashCode() & (KEY_SLOTS - 1));
+        return cached != null && cached.apiKey.equals(apiKey);
+    }
 
-        String query = (String) params.get(Param.QUERY);
+    /**
+     * Add the search term
+     *
+     * @param urlString The URL being built
+     * @param params The parameters for the method
+     */
+    private static void queryProcessing(final StringBuilder urlString, final TmdbParameters params) {
+        urlString.append(DELIMITER_SUBSEQUENT).append(Param.QUERY.getValue());
 
+        String query = (String) params.get(Param.QUERY);
         try {
             urlString.append(URLEncoder.encode(query, "UTF-8"));
         } catch (UnsupportedEncodingException ex) {
@@ -157,63 +184,50 @@ public class ApiUrl {
             // If we can't encode it, try it raw
             urlString.append(query);
         }
-
-        return urlString;
     }
 
     /**
-     * Create the ID based URL portion
+     * Add the ID, season and episode to the path
      *
+     * @param urlString The URL being built
      * @param params The parameters for the method
-     * @return Builder object
      */
-    private StringBuilder idProcessing(final TmdbParameters params) {
-        StringBuilder urlString = new StringBuilder();
-
-        // Append the ID
+    private static void idProcessing(final StringBuilder urlString, final TmdbParameters params) {
         if (params.has(Param.ID)) {
-            urlString.append("/").append(params.get(Param.ID));
+            urlString.append('/');
+            params.appendValue(Param.ID, urlString);
         }
 
         if (params.has(Param.SEASON_NUMBER)) {
-            urlString.append("/season/").append(params.get(Param.SEASON_NUMBER));
+            urlString.append("/season/");
+            params.appendValue(Param.SEASON_NUMBER, urlString);
         }
 
         if (params.has(Param.EPISODE_NUMBER)) {
-            urlString.append("/episode/").append(params.get(Param.EPISODE_NUMBER));
+            urlString.append("/episode/");
+            params.appendValue(Param.EPISODE_NUMBER, urlString);
         }
-
-        if (submethod != MethodSub.NONE) {
-            urlString.append("/").append(submethod.getValue());
-        }
-
-        // Append the key information
-        urlString.append(DELIMITER_FIRST)
-                .append(Param.API_KEY.getValue())
-                .append(apiKey);
-
-        return urlString;
     }
 
     /**
-     * Create a string of the remaining parameters
-     *
-     * @param params The parameters for the method
-     * @return Builder object
+     * The sub-method and API key part of the URL for each sub-method of one
+     * API key
      */
-    private StringBuilder otherProcessing(final TmdbParameters params) {
-        StringBuilder urlString = new StringBuilder();
-
-        for (Map.Entry<Param, String> argEntry : params.getEntries()) {
-            // Skip the ID an QUERY params
-            if (IGNORE_PARAMS.contains(argEntry.getKey())) {
-                continue;
+    private static final class KeySuffixes {
+
+        private final String apiKey;
+        private final String[] suffixes = new String[MethodSub.values().length];
+
+        KeySuffixes(String apiKey) {
+            this.apiKey = apiKey;
+            for (MethodSub sub : MethodSub.values()) {
+                StringBuilder suffix = new StringBuilder();
+                if (sub != MethodSub.NONE) {
+                    suffix.append("/").append(sub.getValue());
+                }
+                suffix.append(DELIMITER_FIRST).append(Param.API_KEY.getValue()).append(apiKey);
+                suffixes[sub.ordinal()] = suffix.toString();
             }
-
-            urlString.append(DELIMITER_SUBSEQUENT)
-                    .append(argEntry.getKey().getValue())
-                    .append(argEntry.getValue());
         }
-        return urlString;
     }
 }
@@ -0,0 +1,234 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.interfaces.AppendToResponseMethod;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Collect requests for parts of the same item over a short window and load
+ * them with a single "append_to_response" request.
+ * <p>
+ * The first request for a key opens a batch which is loaded when the window
+ * closes, or straight away once it holds the maximum number of methods. Every
+ * request in the batch gets its part of the loaded item.
+ *
+ * @author Stuart.Boston
+ * @param <K> Type of the key identifying the item
+ * @param <I> Type of the item loaded
+ * @param <M> Type of the append to response methods
+ */
+public class AppendBatcher<K, I, M extends AppendToResponseMethod> {
+
+    // TMDb allows up to 20 methods to be appended to one request
+    public static final int DEFAULT_MAX_METHODS = 20;
+    public static final long DEFAULT_WINDOW_MILLIS = 10L;
+    // Shared timer used to close the batch windows
+    private static final ScheduledExecutorService TIMER = createTimer();
+
+    private final Loader<K, I, M> loader;
+    private final long windowNanos;
+    private final int maxMethods;
+    // Open batches, guarded by "this"
+    private final Map<K, Batch> pending = new HashMap<>();
+    // Statistics
+    private final AtomicLong requestCount = new AtomicLong(0);
+    private final AtomicLong loadCount = new AtomicLong(0);
+
+    /**
+     * Load an item with the methods appended
+     *
+     * @param <K> Type of the key identifying the item
+     * @param <I> Type of the item loaded
+     * @param <M> Type of the append to response methods
+     */
+    @FunctionalInterface
+    public interface Loader<K, I, M> {
+
+        CompletableFuture<I> load(K key, Set<M> methods);
+    }
+
+    /**
+     * Create a batcher with the default window and method limit
+     *
+     * @param loader The loader for the batches
+     */
+    public AppendBatcher(Loader<K, I, M> loader) {
+        this(loader, DEFAULT_WINDOW_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_MAX_METHODS);
+    }
+
+    /**
+     * Create a batcher
+     *
+     * @param loader The loader for the batches
+     * @param window How long to collect requests for
+     * @param unit Unit of the window
+     * @param maxMethods Maximum number of methods in one request
+     */
+    public AppendBatcher(Loader<K, I, M> loader, long window, TimeUnit unit, int maxMethods) {
+        if (window < 0 || maxMethods <= 0) {
+            throw new IllegalArgumentException("Window must not be negative and the method limit must be greater than zero");
+        }
+        this.loader = loader;
+        this.windowNanos = unit.toNanos(window);
+        this.maxMethods = maxMethods;
+    }
+
+    private static ScheduledExecutorService createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "tmdb-append-batcher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Request the item itself, without any appended methods
+     *
+     * @param key The key of the item
+     * @return CompletableFuture of the item
+     */
+    public CompletableFuture<I> submit(K key) {
+        return submit(key, null, Function.identity());
+    }
+
+    /**
+     * Request part of an item
+     *
+     * @param <R> Type of the part
+     * @param key The key of the item
+     * @param method The method to append, null if the part is in the item itself
+     * @param extractor Get the part from the loaded item
+     * @return CompletableFuture of the part
+     */
+    public <R> CompletableFuture<R> submit(K key, M method, Function<? super I, ? extends R> extractor) {
+        requestCount.incrementAndGet();
+        Batch ready = null;
+        CompletableFuture<I> result;
+
+        synchronized (this) {
+            Batch batch = pending.get(key);
+            if (batch == null) {
+                batch = new Batch(key);
+                pending.put(key, batch);
+                final Batch scheduled = batch;
+                batch.timer = TIMER.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        flush(scheduled);
+                    }
+                }, windowNanos, TimeUnit.NANOSECONDS);
+            }
+
+            if (method != null && batch.methods.add(method) && batch.methods.size() >= maxMethods) {
+                // The batch is full, load it now rather than waiting for the window
+                pending.remove(key);
+                batch.timer.cancel(false);
+                ready = batch;
+            }
+            result = batch.result;
+        }
+
+        if (ready != null) {
+            load(ready);
+        }
+        return result.thenApply(extractor);
+    }
+
+    /**
+     * Load the batch if it has not been loaded already
+     *
+     * @param batch
+     */
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if (!pending.remove(batch.key, batch)) {
+                return;
+            }
+        }
+        load(batch);
+    }
+
+    private void load(final Batch batch) {
+        loadCount.incrementAndGet();
+        final CompletableFuture<I> result = batch.result;
+        try {
+            loader.load(batch.key, Collections.unmodifiableSet(batch.methods)).whenComplete((item, error) -> {
+                if (error == null) {
+                    result.complete(item);
+                } else {
+                    result.completeExceptionally(error);
+                }
+            });
+        } catch (RuntimeException ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Number of parts requested
+     *
+     * @return count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Number of loads made for the requested parts
+     *
+     * @return count
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * The requests collected for one key
+     */
+    private final class Batch {
+
+        private final K key;
+        private final Set<M> methods = new LinkedHashSet<>();
+        private final CompletableFuture<I> result = new CompletableFuture<>();
+        private ScheduledFuture<?> timer;
+
+        Batch(K key) {
+            this.key = key;
+        }
+    }
+}
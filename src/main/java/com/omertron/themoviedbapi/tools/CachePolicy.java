@@ -0,0 +1,205 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * How long responses should be cached for, by API method.
+ * <p>
+ * The TTL for a request is taken from its sub-method if one has been set,
+ * otherwise from the base method, otherwise the default TTL is used. A TTL of
+ * zero means the response is never cached.
+ *
+ * @author Stuart.Boston
+ */
+public class CachePolicy {
+
+    private static final String API_PATH = "/3/";
+    private static final Pattern API_KEY = Pattern.compile("(?<=[?&])" + Pattern.quote(Param.API_KEY.getValue()) + "[^&]*&?");
+    private static final Map<String, MethodBase> BASE_LOOKUP = new HashMap<>();
+    private static final Map<String, MethodSub> SUB_LOOKUP = new HashMap<>();
+
+    static {
+        for (MethodBase base : MethodBase.values()) {
+            BASE_LOOKUP.put(base.getValue(), base);
+        }
+        for (MethodSub sub : MethodSub.values()) {
+            if (sub != MethodSub.NONE) {
+                SUB_LOOKUP.put(sub.getValue(), sub);
+            }
+        }
+    }
+
+    private final Map<MethodBase, Long> baseTtl = new EnumMap<>(MethodBase.class);
+    private final Map<MethodSub, Long> subTtl = new EnumMap<>(MethodSub.class);
+    private volatile long defaultTtl;
+
+    /**
+     * Create a policy that uses the same TTL for every method
+     *
+     * @param defaultTtl TTL to use
+     * @param unit Unit of the TTL
+     */
+    public CachePolicy(long defaultTtl, TimeUnit unit) {
+        this.defaultTtl = unit.toMillis(defaultTtl);
+    }
+
+    /**
+     * Create the default policy.
+     * <p>
+     * Reference data (configuration, genres, certifications, etc) is cached
+     * for a day, lists that change frequently for a few minutes and account
+     * or session specific data is not cached at all.
+     *
+     * @return CachePolicy
+     */
+    public static CachePolicy defaults() {
+        CachePolicy policy = new CachePolicy(1, TimeUnit.HOURS);
+
+        // Rarely changes
+        policy.setTtl(MethodBase.CONFIGURATION, 1, TimeUnit.DAYS);
+        policy.setTtl(MethodBase.GENRE, 1, TimeUnit.DAYS);
+        policy.setTtl(MethodBase.CERTIFICATION, 1, TimeUnit.DAYS);
+        policy.setTtl(MethodBase.TIMEZONES, 1, TimeUnit.DAYS);
+        policy.setTtl(MethodBase.JOB, 1, TimeUnit.DAYS);
+
+        // Goes stale quickly
+        policy.setTtl(MethodSub.POPULAR, 10, TimeUnit.MINUTES);
+        policy.setTtl(MethodSub.NOW_PLAYING, 10, TimeUnit.MINUTES);
+        policy.setTtl(MethodSub.ON_THE_AIR, 10, TimeUnit.MINUTES);
+        policy.setTtl(MethodSub.AIRING_TODAY, 10, TimeUnit.MINUTES);
+        policy.setTtl(MethodSub.UPCOMING, 10, TimeUnit.MINUTES);
+        policy.setTtl(MethodSub.TOP_RATED, 10, TimeUnit.MINUTES);
+        policy.setTtl(MethodSub.LATEST, 1, TimeUnit.MINUTES);
+        policy.setTtl(MethodSub.CHANGES, 5, TimeUnit.MINUTES);
+        // Genre movies would otherwise get the genre list TTL
+        policy.setTtl(MethodSub.MOVIES, 1, TimeUnit.HOURS);
+
+        // Account and session data is never cached
+        policy.setTtl(MethodBase.ACCOUNT, 0, TimeUnit.MILLISECONDS);
+        policy.setTtl(MethodBase.AUTH, 0, TimeUnit.MILLISECONDS);
+        policy.setTtl(MethodBase.GUEST_SESSION, 0, TimeUnit.MILLISECONDS);
+        policy.setTtl(MethodBase.LIST, 0, TimeUnit.MILLISECONDS);
+        policy.setTtl(MethodSub.ACCOUNT_STATES, 0, TimeUnit.MILLISECONDS);
+        policy.setTtl(MethodSub.ITEM_STATUS, 0, TimeUnit.MILLISECONDS);
+        policy.setTtl(MethodSub.RATED_MOVIES_GUEST, 0, TimeUnit.MILLISECONDS);
+
+        return policy;
+    }
+
+    /**
+     * Set the TTL for a base method
+     *
+     * @param method
+     * @param ttl
+     * @param unit
+     */
+    public synchronized void setTtl(MethodBase method, long ttl, TimeUnit unit) {
+        baseTtl.put(method, unit.toMillis(ttl));
+    }
+
+    /**
+     * Set the TTL for a sub-method, this overrides the base method TTL
+     *
+     * @param method
+     * @param ttl
+     * @param unit
+     */
+    public synchronized void setTtl(MethodSub method, long ttl, TimeUnit unit) {
+        subTtl.put(method, unit.toMillis(ttl));
+    }
+
+    /**
+     * Set the TTL for methods that don't have a specific TTL
+     *
+     * @param ttl
+     * @param unit
+     */
+    public void setDefaultTtl(long ttl, TimeUnit unit) {
+        this.defaultTtl = unit.toMillis(ttl);
+    }
+
+    /**
+     * Get the TTL for the method.
+     *
+     * @param base
+     * @param sub
+     * @return TTL in milliseconds
+     */
+    public synchronized long getTtl(MethodBase base, MethodSub sub) {
+        if (sub != null && subTtl.containsKey(sub)) {
+            return subTtl.get(sub);
+        }
+        if (base != null && baseTtl.containsKey(base)) {
+            return baseTtl.get(base);
+        }
+        return defaultTtl;
+    }
+
+    /**
+     * Get the TTL for a URL created by ApiUrl
+     *
+     * @param url
+     * @return TTL in milliseconds
+     */
+    public long getTtl(URL url) {
+        String path = url.getPath();
+        int start = path.indexOf(API_PATH);
+        if (start < 0) {
+            return defaultTtl;
+        }
+
+        String[] segments = StringUtils.split(path.substring(start + API_PATH.length()), '/');
+        if (segments.length == 0) {
+            return defaultTtl;
+        }
+
+        MethodBase base = BASE_LOOKUP.get(segments[0]);
+        MethodSub sub = null;
+        if (segments.length > 2) {
+            // Two part sub-methods, e.g. "movie/list"
+            sub = SUB_LOOKUP.get(segments[segments.length - 2] + "/" + segments[segments.length - 1]);
+        }
+        if (sub == null && segments.length > 1) {
+            sub = SUB_LOOKUP.get(segments[segments.length - 1]);
+        }
+        return getTtl(base, sub);
+    }
+
+    /**
+     * Get the cache key for the URL.
+     *
+     * The API key is removed so the same response is shared between keys.
+     *
+     * @param url
+     * @return the key
+     */
+    public static String getKey(URL url) {
+        String key = API_KEY.matcher(url.toString()).replaceFirst("");
+        return StringUtils.removeEnd(StringUtils.removeEnd(key, "&"), "?");
+    }
+}
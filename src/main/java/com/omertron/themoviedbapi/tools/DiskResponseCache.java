@@ -0,0 +1,877 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ResponseCache that stores the responses on disk so they survive a restart
+ * and can be shared between processes on the same host.
+ * <p>
+ * Responses are appended to memory mapped segment files. The newest record
+ * for a key wins and removals are written as tombstones. An off-heap hash
+ * index maps each key to its latest record and is rebuilt by scanning the
+ * segments when the cache is opened.
+ * <p>
+ * Writes and compaction are serialised between processes with a file lock.
+ * Reads map the segments read only and never write to them, so they do not
+ * need the lock. Other processes pick up appended records the next time they
+ * use the cache, and rebuild their index when the cache has been compacted.
+ * <p>
+ * When the segments grow beyond the maximum size, the live records are copied
+ * into new segments and the old segments are deleted. Expired records are
+ * dropped at the same time.
+ *
+ * @author Stuart.Boston
+ */
+public class DiskResponseCache implements ResponseCache, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DiskResponseCache.class);
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+    public static final long DEFAULT_SEGMENT_SIZE = 32L * 1024 * 1024;
+    public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+    // File names
+    private static final String LOCK_FILE = "cache.lock";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final Pattern SEGMENT_NAME = Pattern.compile(Pattern.quote(SEGMENT_PREFIX) + "(\\d+)" + Pattern.quote(SEGMENT_SUFFIX));
+    // Segment header: magic, version, committed write position
+    private static final int MAGIC = 0x544D4442;
+    private static final int VERSION = 1;
+    private static final int POS_COMMITTED = 8;
+    private static final int HEADER_SIZE = 16;
+    // Record header: record length, expires, key length, value length
+    private static final int RECORD_HEADER_SIZE = 4 + 8 + 4 + 4;
+    private static final int TOMBSTONE = -1;
+    // File locks are held by the JVM, so instances in the same JVM must also take a local lock
+    private static final ConcurrentMap<String, SharedLock> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final File directory;
+    private final long segmentSize;
+    private final long maxSize;
+    private final CacheStats stats = new CacheStats();
+    // Lock file holds the compaction generation
+    private final RandomAccessFile lockFile;
+    private final FileChannel lockChannel;
+    private final MappedByteBuffer lockBuffer;
+    private final String lockPath;
+    private final Lock jvmLock;
+    // Process local state, guarded by "this"
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final OffHeapIndex index = new OffHeapIndex();
+    private long generation = -1;
+    private boolean closed = false;
+
+    /**
+     * Open or create a cache in the directory with the default sizes
+     *
+     * @param directory
+     * @throws IOException
+     */
+    public DiskResponseCache(File directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Open or create a cache in the directory
+     *
+     * @param directory Directory to store the segments in
+     * @param segmentSize The size of each segment file
+     * @param maxSize The total size of the segments before they are compacted
+     * @throws IOException
+     */
+    public DiskResponseCache(File directory, long segmentSize, long maxSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE + RECORD_HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentSize);
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create cache directory " + directory.getAbsolutePath());
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSize = Math.max(maxSize, segmentSize);
+        this.lockFile = new RandomAccessFile(new File(directory, LOCK_FILE), "rw");
+        this.lockChannel = lockFile.getChannel();
+        this.lockBuffer = lockChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.SIZE / Byte.SIZE);
+
+        this.lockPath = directory.getCanonicalPath();
+        this.jvmLock = JVM_LOCKS.compute(lockPath, (path, shared) -> {
+            SharedLock result = shared == null ? new SharedLock() : shared;
+            result.users++;
+            return result;
+        }).lock;
+
+        synchronized (this) {
+            try {
+                refresh();
+            } catch (IOException ex) {
+                close();
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Is there a JVM lock held for the directory
+     *
+     * @param directory
+     * @return true if an open cache uses the directory
+     * @throws IOException
+     */
+    static boolean hasJvmLock(File directory) throws IOException {
+        return JVM_LOCKS.containsKey(directory.getCanonicalPath());
+    }
+
+    @Override
+    public synchronized String get(String key) {
+        if (closed) {
+            return null;
+        }
+
+        try {
+            refresh();
+            byte[] keyBytes = key.getBytes(CHARSET);
+            long location = index.get(hash(keyBytes), keyBytes);
+            if (location < 0) {
+                stats.recordMiss();
+                return null;
+            }
+
+            Segment segment = segments.get(segmentOf(location));
+            String value = segment == null ? null : segment.read(offsetOf(location), keyBytes, System.currentTimeMillis());
+            if (value == null) {
+                stats.recordMiss();
+            } else {
+                stats.recordHit();
+            }
+            return value;
+        } catch (IOException ex) {
+            LOG.warn("Failed to read '{}' from the cache: {}", key, ex.getMessage());
+            stats.recordMiss();
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, String content, long ttlMillis) {
+        if (ttlMillis > 0 && content != null) {
+            write(key.getBytes(CHARSET), content.getBytes(CHARSET), System.currentTimeMillis() + ttlMillis);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        write(key.getBytes(CHARSET), null, 0L);
+    }
+
+    /**
+     * Append a record to the active segment
+     *
+     * @param keyBytes
+     * @param valueBytes value or null for a tombstone
+     * @param expires
+     */
+    private synchronized void write(byte[] keyBytes, byte[] valueBytes, long expires) {
+        int recordSize = RECORD_HEADER_SIZE + keyBytes.length + (valueBytes == null ? 0 : valueBytes.length);
+        if (closed || HEADER_SIZE + recordSize > segmentSize) {
+            // Too big to ever fit in a segment
+            return;
+        }
+
+        try (CacheLock lock = new CacheLock()) {
+            refresh();
+            Segment active = getActiveSegment(recordSize);
+            int offset = active.append(keyBytes, valueBytes, expires);
+            active.indexed = active.getCommitted();
+
+            long hash = hash(keyBytes);
+            if (valueBytes == null) {
+                index.remove(hash, keyBytes);
+            } else {
+                index.put(hash, keyBytes, location(active.id, offset));
+            }
+
+            if (getTotalSize() > maxSize) {
+                compactLocked();
+            }
+        } catch (IOException ex) {
+            LOG.warn("Failed to write to the cache: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (closed) {
+            return;
+        }
+
+        try (CacheLock lock = new CacheLock()) {
+            refresh();
+            deleteSegments(new ArrayList<>(segments.values()));
+            index.clear();
+            nextGeneration();
+        } catch (IOException ex) {
+            LOG.warn("Failed to clear the cache: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Copy the live records to new segments and delete the old segments.
+     */
+    public synchronized void compact() {
+        if (closed) {
+            return;
+        }
+
+        try (CacheLock lock = new CacheLock()) {
+            refresh();
+            compactLocked();
+        } catch (IOException ex) {
+            LOG.warn("Failed to compact the cache: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Compact the segments, the file lock must be held.
+     *
+     * If the live records would still fill more than half of the maximum
+     * size, the oldest records are dropped as well.
+     *
+     * @throws IOException
+     */
+    private void compactLocked() throws IOException {
+        LOG.debug("Compacting cache in {}", directory.getAbsolutePath());
+        List<Segment> old = new ArrayList<>(segments.values());
+        // Oldest records first
+        long[] locations = index.locations();
+        index.clear();
+
+        long now = System.currentTimeMillis();
+        List<Record> live = new ArrayList<>(locations.length);
+        long liveSize = 0;
+        for (long location : locations) {
+            Segment source = segments.get(segmentOf(location));
+            Record record = source == null ? null : source.readRecord(offsetOf(location));
+            if (record == null || record.expires <= now) {
+                stats.recordEviction();
+            } else {
+                live.add(record);
+                liveSize += record.size();
+            }
+        }
+
+        int first = 0;
+        while (liveSize > maxSize / 2 && first < live.size()) {
+            liveSize -= live.get(first++).size();
+            stats.recordEviction();
+        }
+
+        int nextId = old.isEmpty() ? 0 : old.get(old.size() - 1).id + 1;
+        Segment target = null;
+        for (Record record : live.subList(first, live.size())) {
+            if (target == null || target.remaining() < record.size()) {
+                target = openSegment(nextId++, true);
+                segments.put(target.id, target);
+            }
+            int offset = target.append(record.key, record.value, record.expires);
+            target.indexed = target.getCommitted();
+            index.put(hash(record.key), record.key, location(target.id, offset));
+        }
+
+        deleteSegments(old);
+        nextGeneration();
+    }
+
+    /**
+     * Bring the index up to date with the segments on disk.
+     *
+     * @throws IOException
+     */
+    private void refresh() throws IOException {
+        long diskGeneration = lockBuffer.getLong(0);
+        if (diskGeneration != generation) {
+            // First open or another process has compacted the cache
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+            index.clear();
+            generation = diskGeneration;
+            loadSegments();
+        } else {
+            // Pick up any segments added by another process
+            int nextId = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+            Segment added;
+            while ((added = openSegment(nextId)) != null) {
+                segments.put(nextId, added);
+                nextId++;
+            }
+        }
+
+        // Index any records appended since we last looked
+        for (Segment segment : segments.values()) {
+            segment.scan(index);
+        }
+    }
+
+    private void loadSegments() throws IOException {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher m = SEGMENT_NAME.matcher(file.getName());
+                if (m.matches()) {
+                    int id = Integer.parseInt(m.group(1));
+                    Segment segment = openSegment(id);
+                    if (segment != null) {
+                        segments.put(id, segment);
+                    }
+                }
+            }
+        }
+    }
+
+    private File getSegmentFile(int id) {
+        return new File(directory, String.format("%s%08d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Get the segment to append to, the file lock must be held.
+     *
+     * @param recordSize
+     * @return
+     * @throws IOException
+     */
+    private Segment getActiveSegment(int recordSize) throws IOException {
+        Segment active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+
+        if (active == null || active.remaining() < recordSize) {
+            int id = active == null ? 0 : active.id + 1;
+            active = openSegment(id, true);
+            segments.put(id, active);
+        } else {
+            active.makeWritable();
+        }
+        return active;
+    }
+
+    /**
+     * Map an existing segment read only.
+     *
+     * Segments that are still being created or have just been deleted by
+     * another process are skipped until the next refresh.
+     *
+     * @param id
+     * @return the segment or null if it is not ready
+     * @throws IOException
+     */
+    private Segment openSegment(int id) throws IOException {
+        File file = getSegmentFile(id);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            if (raf.length() < segmentSize) {
+                return null;
+            }
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, segmentSize);
+            if (buffer.getInt(0) != MAGIC) {
+                return null;
+            }
+            return new Segment(id, file, buffer, false);
+        } catch (FileNotFoundException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Map a segment for writing, the file lock must be held.
+     *
+     * @param id
+     * @param create true to start a new empty segment
+     * @return the segment
+     * @throws IOException
+     */
+    private Segment openSegment(int id, boolean create) throws IOException {
+        File file = getSegmentFile(id);
+        return new Segment(id, file, mapWritable(file, create), true);
+    }
+
+    private MappedByteBuffer mapWritable(File file, boolean create) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            if (create || buffer.getInt(0) != MAGIC) {
+                buffer.putLong(POS_COMMITTED, HEADER_SIZE);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(0, MAGIC);
+            }
+            return buffer;
+        }
+    }
+
+    private void deleteSegments(List<Segment> toDelete) {
+        for (Segment segment : toDelete) {
+            segments.remove(segment.id);
+            segment.close();
+            if (!segment.file.delete()) {
+                LOG.debug("Unable to delete {}", segment.file.getName());
+            }
+        }
+    }
+
+    private void nextGeneration() {
+        generation = lockBuffer.getLong(0) + 1;
+        lockBuffer.putLong(0, generation);
+    }
+
+    private long getTotalSize() {
+        return segments.size() * segmentSize;
+    }
+
+    /**
+     * Get the number of keys in the index, including expired keys
+     *
+     * @return size
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+            index.release();
+            try {
+                lockChannel.close();
+                lockFile.close();
+            } finally {
+                JVM_LOCKS.computeIfPresent(lockPath, (path, shared) -> --shared.users == 0 ? null : shared);
+            }
+        }
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the key, zero is reserved for empty index slots
+     *
+     * @param bytes
+     * @return hash
+     */
+    long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static long location(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xffffffffL);
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    /**
+     * Check the key of the record at the location, used by the index to tell
+     * apart keys with the same hash
+     *
+     * @param location
+     * @param key
+     * @return true if the record has the key
+     */
+    private boolean hasKey(long location, byte[] key) {
+        Segment segment = segments.get(segmentOf(location));
+        return segment != null && segment.hasKey(offsetOf(location), key);
+    }
+
+    /**
+     * JVM wide lock for a directory, with the number of open caches using it
+     */
+    private static final class SharedLock {
+
+        private final Lock lock = new ReentrantLock();
+        private int users = 0;
+    }
+
+    /**
+     * Exclusive lock on the cache across threads and processes
+     */
+    private final class CacheLock implements Closeable {
+
+        private final FileLock fileLock;
+
+        CacheLock() throws IOException {
+            jvmLock.lock();
+            try {
+                fileLock = lockChannel.lock();
+            } catch (IOException | RuntimeException ex) {
+                jvmLock.unlock();
+                throw ex;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                fileLock.release();
+            } finally {
+                jvmLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A record read from a segment
+     */
+    private static final class Record {
+
+        private final byte[] key;
+        private final byte[] value;
+        private final long expires;
+
+        Record(byte[] key, byte[] value, long expires) {
+            this.key = key;
+            this.value = value;
+            this.expires = expires;
+        }
+
+        int size() {
+            return RECORD_HEADER_SIZE + key.length + value.length;
+        }
+    }
+
+    /**
+     * A memory mapped segment file
+     */
+    private final class Segment {
+
+        private final int id;
+        private final File file;
+        private MappedByteBuffer buffer;
+        private boolean writable;
+        // Position up to which the records have been indexed
+        private long indexed = HEADER_SIZE;
+
+        Segment(int id, File file, MappedByteBuffer buffer, boolean writable) {
+            this.id = id;
+            this.file = file;
+            this.buffer = buffer;
+            this.writable = writable;
+        }
+
+        /**
+         * Map the segment for writing, the file lock must be held
+         */
+        void makeWritable() throws IOException {
+            if (!writable) {
+                buffer = mapWritable(file, false);
+                writable = true;
+            }
+        }
+
+        long getCommitted() {
+            return buffer.getLong(POS_COMMITTED);
+        }
+
+        long remaining() {
+            return segmentSize - getCommitted();
+        }
+
+        /**
+         * Write the record and then move the committed position past it
+         */
+        int append(byte[] key, byte[] value, long expires) {
+            int offset = (int) getCommitted();
+            int valueLength = value == null ? TOMBSTONE : value.length;
+            int recordSize = RECORD_HEADER_SIZE + key.length + Math.max(valueLength, 0);
+
+            ByteBuffer dup = buffer.duplicate();
+            dup.position(offset);
+            dup.putInt(recordSize);
+            dup.putLong(expires);
+            dup.putInt(key.length);
+            dup.putInt(valueLength);
+            dup.put(key);
+            if (value != null) {
+                dup.put(value);
+            }
+            buffer.putLong(POS_COMMITTED, (long) offset + recordSize);
+            return offset;
+        }
+
+        /**
+         * Add the records written since the last scan to the index
+         */
+        void scan(OffHeapIndex target) {
+            long committed = Math.min(getCommitted(), segmentSize);
+            while (indexed < committed) {
+                int offset = (int) indexed;
+                int recordSize = buffer.getInt(offset);
+                if (recordSize < RECORD_HEADER_SIZE || offset + recordSize > committed) {
+                    LOG.warn("Corrupt record in {} at {}, ignoring the rest of the segment", file.getName(), offset);
+                    indexed = segmentSize;
+                    return;
+                }
+
+                int keyLength = buffer.getInt(offset + 12);
+                int valueLength = buffer.getInt(offset + 16);
+                byte[] key = new byte[keyLength];
+                ByteBuffer dup = buffer.duplicate();
+                dup.position(offset + RECORD_HEADER_SIZE);
+                dup.get(key);
+
+                if (valueLength == TOMBSTONE) {
+                    target.remove(hash(key), key);
+                } else {
+                    target.put(hash(key), key, location(id, offset));
+                }
+                indexed += recordSize;
+            }
+        }
+
+        boolean hasKey(int offset, byte[] expectedKey) {
+            if (buffer.getInt(offset + 12) != expectedKey.length) {
+                return false;
+            }
+            ByteBuffer dup = buffer.duplicate();
+            dup.position(offset + RECORD_HEADER_SIZE);
+            for (byte b : expectedKey) {
+                if (dup.get() != b) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Record readRecord(int offset) {
+            long expires = buffer.getLong(offset + 4);
+            int keyLength = buffer.getInt(offset + 12);
+            int valueLength = buffer.getInt(offset + 16);
+            if (valueLength == TOMBSTONE) {
+                return null;
+            }
+
+            byte[] key = new byte[keyLength];
+            byte[] value = new byte[valueLength];
+            ByteBuffer dup = buffer.duplicate();
+            dup.position(offset + RECORD_HEADER_SIZE);
+            dup.get(key);
+            dup.get(value);
+            return new Record(key, value, expires);
+        }
+
+        /**
+         * Read the value if the key matches and it hasn't expired
+         */
+        String read(int offset, byte[] expectedKey, long now) {
+            long expires = buffer.getLong(offset + 4);
+            int keyLength = buffer.getInt(offset + 12);
+            int valueLength = buffer.getInt(offset + 16);
+            if (valueLength == TOMBSTONE || keyLength != expectedKey.length) {
+                return null;
+            }
+            if (expires <= now) {
+                stats.recordEviction();
+                index.remove(hash(expectedKey), expectedKey);
+                return null;
+            }
+
+            ByteBuffer dup = buffer.duplicate();
+            dup.position(offset + RECORD_HEADER_SIZE);
+            byte[] key = new byte[keyLength];
+            dup.get(key);
+            if (!Arrays.equals(key, expectedKey)) {
+                // Hash collision
+                return null;
+            }
+
+            byte[] value = new byte[valueLength];
+            dup.get(value);
+            return new String(value, CHARSET);
+        }
+
+        void close() {
+            // Mapped buffers are released when they are garbage collected
+            buffer = null;
+        }
+    }
+
+    /**
+     * Open addressing hash table held outside the Java heap.
+     * <p>
+     * Each slot holds the key hash and the record location (segment and
+     * offset). Different keys can share a hash, so the key of the record at
+     * the location is checked and probing carries on if it does not match.
+     * Removed entries keep their slot and location with the top bit set so
+     * that probing is not broken.
+     */
+    private final class OffHeapIndex {
+
+        private static final int SLOT_SIZE = 16;
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final double LOAD_FACTOR = 0.7;
+        private static final long REMOVED = Long.MIN_VALUE;
+        private ByteBuffer table;
+        private int capacity;
+        private int used;
+        private int size;
+
+        OffHeapIndex() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        private void allocate(int newCapacity) {
+            capacity = newCapacity;
+            table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+            used = 0;
+            size = 0;
+        }
+
+        private int slotFor(long hash, byte[] key) {
+            int mask = capacity - 1;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (true) {
+                long current = table.getLong(slot * SLOT_SIZE);
+                if (current == 0) {
+                    return slot;
+                }
+                if (current == hash && hasKey(table.getLong(slot * SLOT_SIZE + 8) & ~REMOVED, key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        long get(long hash, byte[] key) {
+            int slot = slotFor(hash, key);
+            if (table.getLong(slot * SLOT_SIZE) == 0) {
+                return -1L;
+            }
+            return table.getLong(slot * SLOT_SIZE + 8);
+        }
+
+        void put(long hash, byte[] key, long location) {
+            if (used + 1 > capacity * LOAD_FACTOR) {
+                resize();
+            }
+
+            int pos = slotFor(hash, key) * SLOT_SIZE;
+            if (table.getLong(pos) == 0) {
+                used++;
+                size++;
+            } else if (table.getLong(pos + 8) < 0) {
+                size++;
+            }
+            table.putLong(pos, hash);
+            table.putLong(pos + 8, location);
+        }
+
+        void remove(long hash, byte[] key) {
+            int pos = slotFor(hash, key) * SLOT_SIZE;
+            long location = table.getLong(pos + 8);
+            if (table.getLong(pos) != 0 && location >= 0) {
+                table.putLong(pos + 8, location | REMOVED);
+                size--;
+            }
+        }
+
+        private void resize() {
+            ByteBuffer old = table;
+            int oldCapacity = capacity;
+            // Only grow if the table is full of live entries, otherwise just drop the removed entries
+            allocate(size + 1 > oldCapacity * LOAD_FACTOR / 2 ? oldCapacity * 2 : oldCapacity);
+            int mask = capacity - 1;
+            for (int i = 0; i < oldCapacity; i++) {
+                long hash = old.getLong(i * SLOT_SIZE);
+                long location = old.getLong(i * SLOT_SIZE + 8);
+                if (hash != 0 && location >= 0) {
+                    // The live keys are all different, so take the first free slot
+                    int slot = (int) (hash ^ (hash >>> 32)) & mask;
+                    while (table.getLong(slot * SLOT_SIZE) != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table.putLong(slot * SLOT_SIZE, hash);
+                    table.putLong(slot * SLOT_SIZE + 8, location);
+                    used++;
+                    size++;
+                }
+            }
+        }
+
+        long[] locations() {
+            long[] result = new long[size];
+            int count = 0;
+            for (int i = 0; i < capacity && count < size; i++) {
+                long location = table.getLong(i * SLOT_SIZE + 8);
+                if (table.getLong(i * SLOT_SIZE) != 0 && location >= 0) {
+                    result[count++] = location;
+                }
+            }
+            Arrays.sort(result);
+            return result;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        void release() {
+            table = null;
+        }
+    }
+}
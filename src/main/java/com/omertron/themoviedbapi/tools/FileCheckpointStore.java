@@ -0,0 +1,131 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.interfaces.ChangeCheckpointStore;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keep the change feed checkpoints in a properties file.
+ * <p>
+ * The file is rewritten in full on each update and moved into place, so a
+ * crash part way through leaves the previous checkpoints. The sync time is
+ * kept under the feed name with a ".synced" suffix.
+ *
+ * @author Stuart
+ */
+public class FileCheckpointStore implements ChangeCheckpointStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileCheckpointStore.class);
+    private static final String SYNCED_SUFFIX = ".synced";
+    private final Path file;
+
+    /**
+     * Create the store
+     *
+     * @param file The properties file, created on the first update
+     */
+    public FileCheckpointStore(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized LocalDate getCheckpoint(MethodBase method) throws IOException {
+        String value = load().getProperty(method.getValue());
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            LOG.warn("Ignoring invalid checkpoint '{}' for {} in {}", value, method, file);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized Instant getSyncTime(MethodBase method) throws IOException {
+        String value = load().getProperty(method.getValue() + SYNCED_SUFFIX);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            LOG.warn("Ignoring invalid sync time '{}' for {} in {}", value, method, file);
+            return null;
+        }
+    }
+
+    @Override
+    public void setCheckpoint(MethodBase method, LocalDate date) throws IOException {
+        setCheckpoint(method, date, null);
+    }
+
+    @Override
+    public synchronized void setCheckpoint(MethodBase method, LocalDate date, Instant syncTime) throws IOException {
+        Properties checkpoints = load();
+        checkpoints.setProperty(method.getValue(), date.toString());
+        if (syncTime == null) {
+            checkpoints.remove(method.getValue() + SYNCED_SUFFIX);
+        } else {
+            checkpoints.setProperty(method.getValue() + SYNCED_SUFFIX, syncTime.toString());
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            checkpoints.store(out, "Change feed checkpoints");
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Properties load() throws IOException {
+        Properties checkpoints = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                checkpoints.load(in);
+            }
+        }
+        return checkpoints;
+    }
+}
@@ -19,24 +19,29 @@
  */
 package com.omertron.themoviedbapi.tools;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.omertron.themoviedbapi.MovieDbException;
 import java.io.IOException;
+import java.io.PushbackInputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
-import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.protocol.HTTP;
+import org.apache.http.util.EntityUtils;
 import org.yamj.api.common.exception.ApiExceptionType;
 import org.yamj.api.common.http.DigestedResponse;
-import org.yamj.api.common.http.DigestedResponseReader;
 
 /**
  * HTTP tools to aid in processing web requests
@@ -46,36 +51,303 @@ import org.yamj.api.common.http.DigestedResponseReader;
 public class HttpTools {
 
     private final HttpClient httpClient;
+    private final RequestLimiter requestLimiter;
+    private volatile ResponseCache responseCache = null;
+    private volatile CachePolicy cachePolicy = CachePolicy.defaults();
+    private final SingleFlight<Object> requestFlights = new SingleFlight<>();
+    private volatile boolean coalesceRequests = false;
+    private volatile boolean lazyAppend = false;
     private static final Charset CHARSET = Charset.forName("UTF-8");
     private static final String APPLICATION_JSON = "application/json";
-    private static final long RETRY_DELAY = 1;
     private static final int RETRY_MAX = 5;
     private static final int STATUS_TOO_MANY_REQUESTS = 429;
 
     public HttpTools(HttpClient httpClient) {
+        this(httpClient, new RequestLimiter());
+    }
+
+    /**
+     * Create the HttpTools with a specific request limiter
+     *
+     * @param httpClient The httpClient to use for web requests
+     * @param requestLimiter The limiter to pace the requests with
+     */
+    public HttpTools(HttpClient httpClient, RequestLimiter requestLimiter) {
         this.httpClient = httpClient;
+        this.requestLimiter = requestLimiter;
+    }
+
+    /**
+     * Get the request limiter used to pace the requests
+     *
+     * @return RequestLimiter
+     */
+    public RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    /**
+     * Get the cache used for GET requests
+     *
+     * @return the cache, or null if responses are not cached
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Set the cache to use for GET requests.
+     *
+     * Responses are not cached unless a cache is set.
+     *
+     * @param responseCache The cache to use, null to disable caching
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public CachePolicy getCachePolicy() {
+        return cachePolicy;
+    }
+
+    /**
+     * Set the policy used to decide how long a response is cached for
+     *
+     * @param cachePolicy
+     */
+    public void setCachePolicy(CachePolicy cachePolicy) {
+        this.cachePolicy = cachePolicy;
+    }
+
+    /**
+     * Are concurrent identical GET requests coalesced into one request
+     *
+     * @return true if requests are coalesced
+     */
+    public boolean isCoalesceRequests() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Set whether concurrent identical GET requests share one request.
+     *
+     * When enabled, a GET for a URL that is already in flight with the same
+     * reader waits for that request and gets the same result. Callers of the
+     * same URL at the same time then share the same result object, so they
+     * must not modify it. The default is for every call to make its own
+     * request.
+     *
+     * @param coalesceRequests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    /**
+     * Are the append to response sections mapped when they are first used
+     *
+     * @return true if the sections are mapped when first used
+     */
+    public boolean isLazyAppend() {
+        return lazyAppend;
+    }
+
+    /**
+     * Set whether the append to response sections of the movie, TV, season,
+     * episode and person info are mapped when they are first used.
+     *
+     * When enabled, each section is kept as the buffered JSON until one of
+     * its getters is called. This saves mapping the sections that are never
+     * used. The default is to map everything when the response is read.
+     *
+     * @param lazyAppend
+     */
+    public void setLazyAppend(boolean lazyAppend) {
+        this.lazyAppend = lazyAppend;
+    }
+
+    /**
+     * Get the tracker for coalesced GET requests
+     *
+     * @return SingleFlight
+     */
+    public SingleFlight<Object> getRequestFlights() {
+        return requestFlights;
     }
 
     /**
      * GET data from the URL
      *
+     * If a response cache has been set, the response is returned from the
+     * cache when possible and stored in it for the TTL from the cache policy.
+     *
      * @param url URL to use in the request
      * @return String content
      * @throws MovieDbException exception
      */
     public String getRequest(final URL url) throws MovieDbException {
+        final ResponseCache cache = responseCache;
+        if (cache == null) {
+            return fetchShared(url);
+        }
+
+        long ttl = cachePolicy.getTtl(url);
+        if (ttl <= 0) {
+            return fetchShared(url);
+        }
+
+        String key = CachePolicy.getKey(url);
+        String content = cache.get(key);
+        if (content == null) {
+            content = fetchShared(url);
+            cache.put(key, content, ttl);
+        }
+        return content;
+    }
+
+    /**
+     * GET data from the URL and read it with the supplied reader
+     *
+     * The response is parsed straight from the HTTP entity stream without
+     * building a String of the whole body first. If the response is cached
+     * the String is still needed, so the content is read as a String instead.
+     *
+     * @param <T> Type of object to read
+     * @param url URL to use in the request
+     * @param reader The reader to map the response with
+     * @return The mapped response
+     * @throws MovieDbException exception
+     * @throws JsonProcessingException if the response could not be mapped
+     */
+    public <T> T getRequest(final URL url, final ObjectReader reader) throws MovieDbException, JsonProcessingException {
+        final ResponseCache cache = responseCache;
+        if (cache != null && cachePolicy.getTtl(url) > 0) {
+            return readContent(reader, getRequest(url), url);
+        }
+
+        if (!coalesceRequests) {
+            return streamRequest(url, reader);
+        }
+        return requestFlights.execute(new FlightKey(url.toExternalForm(), reader), () -> streamRequest(url, reader));
+    }
+
+    /**
+     * GET the URL and read the entity stream with the reader
+     *
+     * @param <T> Type of object to read
+     * @param url URL to use in the request
+     * @param reader The reader to map the response with
+     * @return The mapped response
+     * @throws MovieDbException exception
+     * @throws JsonProcessingException if the response could not be mapped
+     */
+    private <T> T streamRequest(final URL url, final ObjectReader reader) throws MovieDbException, JsonProcessingException {
         try {
             HttpGet httpGet = new HttpGet(url.toURI());
             httpGet.addHeader(HttpHeaders.ACCEPT, APPLICATION_JSON);
-            DigestedResponse response = DigestedResponseReader.requestContent(httpClient, httpGet, CHARSET);
             long retryCount = 0L;
 
-            // If we have a 429 response, wait and try again
-            while (response.getStatusCode() == STATUS_TOO_MANY_REQUESTS && retryCount++ <= RETRY_MAX) {
-                delay(retryCount);
+            while (true) {
+                requestLimiter.acquire();
+                try {
+                    HttpResponse response = httpClient.execute(httpGet);
+                    requestLimiter.update(response);
+
+                    int statusCode = response.getStatusLine().getStatusCode();
+                    HttpEntity entity = response.getEntity();
+                    if (statusCode == STATUS_TOO_MANY_REQUESTS && retryCount++ <= RETRY_MAX) {
+                        EntityUtils.consume(entity);
+                        continue;
+                    }
+
+                    if (statusCode == 0 || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES || entity == null) {
+                        String content = entity == null ? null : EntityUtils.toString(entity, CHARSET);
+                        return readContent(reader, validateResponse(new DigestedResponse(statusCode, content), url), url);
+                    }
 
-                // Retry the request
-                response = DigestedResponseReader.requestContent(httpClient, httpGet, CHARSET);
+                    try (PushbackInputStream content = new PushbackInputStream(entity.getContent())) {
+                        int first = content.read();
+                        if (first < 0) {
+                            throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "No content returned", url);
+                        }
+                        content.unread(first);
+                        return reader.readValue(content);
+                    }
+                } finally {
+                    httpGet.releaseConnection();
+                }
+            }
+        } catch (URISyntaxException ex) {
+            throw new MovieDbException(ApiExceptionType.CONNECTION_ERROR, null, url, ex);
+        } catch (IOException ex) {
+            if (ex instanceof JsonProcessingException) {
+                // Mapping failures are left to the caller
+                throw (JsonProcessingException) ex;
+            }
+            throw new MovieDbException(ApiExceptionType.CONNECTION_ERROR, null, url, ex);
+        } catch (RuntimeException ex) {
+            throw new MovieDbException(ApiExceptionType.HTTP_503_ERROR, "Service Unavailable", url, ex);
+        }
+    }
+
+    /**
+     * Read already retrieved content with the reader
+     *
+     * @param <T> Type of object to read
+     * @param reader The reader to map the content with
+     * @param content The content to map
+     * @param url URL for notification purposes
+     * @return The mapped content
+     * @throws MovieDbException exception
+     * @throws JsonProcessingException if the content could not be mapped
+     */
+    private static <T> T readContent(final ObjectReader reader, final String content, final URL url) throws MovieDbException, JsonProcessingException {
+        if (content == null || content.isEmpty()) {
+            throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, "No content returned", url);
+        }
+
+        try {
+            return reader.readValue(content);
+        } catch (IOException ex) {
+            if (ex instanceof JsonProcessingException) {
+                throw (JsonProcessingException) ex;
+            }
+            throw new MovieDbException(ApiExceptionType.MAPPING_FAILED, content, url, ex);
+        }
+    }
+
+    /**
+     * GET data from the URL, sharing the request with identical requests in
+     * flight
+     *
+     * @param url URL to use in the request
+     * @return String content
+     * @throws MovieDbException exception
+     */
+    private String fetchShared(final URL url) throws MovieDbException {
+        if (!coalesceRequests) {
+            return fetchRequest(url);
+        }
+        return requestFlights.execute(url.toExternalForm(), () -> fetchRequest(url));
+    }
+
+    /**
+     * GET data from the URL, bypassing the cache
+     *
+     * @param url URL to use in the request
+     * @return String content
+     * @throws MovieDbException exception
+     */
+    private String fetchRequest(final URL url) throws MovieDbException {
+        try {
+            HttpGet httpGet = new HttpGet(url.toURI());
+            httpGet.addHeader(HttpHeaders.ACCEPT, APPLICATION_JSON);
+            DigestedResponse response = requestContent(httpGet);
+            long retryCount = 0L;
+
+            // If we have a 429 response, the limiter holds back the queue before we try again
+            while (response.getStatusCode() == STATUS_TOO_MANY_REQUESTS && retryCount++ <= RETRY_MAX) {
+                response = requestContent(httpGet);
             }
 
             return validateResponse(response, url);
@@ -87,16 +359,26 @@ public class HttpTools {
     }
 
     /**
-     * Sleep for a period of time
+     * Wait for a permit from the limiter, then execute the request.
+     *
+     * The response headers are passed back to the limiter so it can adjust to
+     * the rate limit reported by the server.
      *
-     * @param multiplier number of seconds to use for delay
+     * @param request The request to execute
+     * @return DigestedResponse
+     * @throws IOException exception
      */
-    private void delay(long multiplier) {
+    private DigestedResponse requestContent(final HttpRequestBase request) throws IOException {
+        requestLimiter.acquire();
         try {
-            // Wait for the timeout to finish
-            Thread.sleep(TimeUnit.SECONDS.toMillis(RETRY_DELAY * multiplier));
-        } catch (InterruptedException ex) {
-            // Doesn't matter if we're interrupted
+            HttpResponse response = httpClient.execute(request);
+            requestLimiter.update(response);
+
+            HttpEntity entity = response.getEntity();
+            String content = entity == null ? null : EntityUtils.toString(entity, CHARSET);
+            return new DigestedResponse(response.getStatusLine().getStatusCode(), content);
+        } finally {
+            request.releaseConnection();
         }
     }
 
@@ -110,7 +392,7 @@ public class HttpTools {
     public String deleteRequest(final URL url) throws MovieDbException {
         try {
             HttpDelete httpDel = new HttpDelete(url.toURI());
-            return validateResponse(DigestedResponseReader.deleteContent(httpClient, httpDel, CHARSET), url);
+            return validateResponse(requestContent(httpDel), url);
         } catch (URISyntaxException | IOException ex) {
             throw new MovieDbException(ApiExceptionType.CONNECTION_ERROR, null, url, ex);
         }
@@ -132,7 +414,7 @@ public class HttpTools {
             StringEntity params = new StringEntity(jsonBody, ContentType.APPLICATION_JSON);
             httpPost.setEntity(params);
 
-            return validateResponse(DigestedResponseReader.postContent(httpClient, httpPost, CHARSET), url);
+            return validateResponse(requestContent(httpPost), url);
         } catch (URISyntaxException | IOException ex) {
             throw new MovieDbException(ApiExceptionType.CONNECTION_ERROR, null, url, ex);
         }
@@ -158,4 +440,37 @@ public class HttpTools {
         return response.getContent();
     }
 
+    /**
+     * Key for a streamed GET, requests only match when they use the same URL
+     * and the same reader
+     */
+    private static final class FlightKey {
+
+        private final String url;
+        private final ObjectReader reader;
+
+        FlightKey(String url, ObjectReader reader) {
+            this.url = url;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FlightKey)) {
+                return false;
+            }
+            FlightKey other = (FlightKey) obj;
+            return reader == other.reader && url.equals(other.url);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * url.hashCode() + System.identityHashCode(reader);
+        }
+
+        @Override
+        public String toString() {
+            return url;
+        }
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list of int values held in an int array.
+ * <p>
+ * The list can be used as a List&lt;Integer&gt;, the values are boxed as they
+ * are read. Use the "Int" methods to avoid the boxing. Null values are not
+ * allowed.
+ *
+ * @author Stuart
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 100L;
+    private static final int[] EMPTY = new int[0];
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] values;
+    private int size;
+
+    /**
+     * Create an empty list
+     */
+    public IntList() {
+        values = EMPTY;
+    }
+
+    /**
+     * Create an empty list
+     *
+     * @param capacity The number of values to make room for
+     */
+    public IntList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can not be negative: " + capacity);
+        }
+        values = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+
+    /**
+     * Create a list with the values of the collection
+     *
+     * @param collection The values
+     */
+    public IntList(Collection<Integer> collection) {
+        this(collection.size());
+        for (Integer value : collection) {
+            addInt(value);
+        }
+    }
+
+    /**
+     * Create a list with a copy of the values
+     *
+     * @param values The values
+     * @return The list
+     */
+    public static IntList of(int... values) {
+        IntList list = new IntList(values.length);
+        System.arraycopy(values, 0, list.values, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * Get the collection as an IntList, copying it if it is not one already
+     *
+     * @param collection The values, can be null
+     * @return The list, or null if the collection was null
+     */
+    public static IntList copyOf(Collection<Integer> collection) {
+        if (collection == null || collection instanceof IntList) {
+            return (IntList) collection;
+        }
+        return new IntList(collection);
+    }
+
+    /**
+     * Get a value without boxing it
+     *
+     * @param index The index of the value
+     * @return The value
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Add a value to the end of the list without boxing it
+     *
+     * @param value The value
+     */
+    public void addInt(int value) {
+        grow(size + 1);
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Replace a value without boxing it
+     *
+     * @param index The index of the value
+     * @param value The new value
+     * @return The old value
+     */
+    public int setInt(int index, int value) {
+        checkIndex(index);
+        int old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * Check if the list has the value, without boxing it
+     *
+     * @param value The value
+     * @return True if the value is in the list
+     */
+    public boolean containsInt(int value) {
+        return indexOfInt(value) >= 0;
+    }
+
+    /**
+     * Find the first index of the value, without boxing it
+     *
+     * @param value The value
+     * @return The index, or -1 if the value is not in the list
+     */
+    public int indexOfInt(int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return A copy of the values
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Release any unused capacity
+     */
+    public void trimToSize() {
+        if (values.length > size) {
+            values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+        }
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        return setInt(index, value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int newValue = value;
+        grow(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = newValue;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index);
+        int old = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof IntList) {
+            IntList other = (IntList) o;
+            if (other.size != size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (values[i] != other.values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as List.hashCode
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    private void grow(int capacity) {
+        if (capacity > values.length) {
+            int newCapacity = Math.max(Math.max(capacity, DEFAULT_CAPACITY), values.length + (values.length >> 1));
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import java.io.IOException;
+
+/**
+ * Reads a JSON array of numbers into an {@link IntList}, without boxing the
+ * values.
+ *
+ * @author Stuart
+ */
+class IntListDeserializer extends StdDeserializer<IntList> {
+
+    private static final long serialVersionUID = 100L;
+    static final IntListDeserializer INSTANCE = new IntListDeserializer();
+
+    /**
+     * Uses the deserializer for every List&lt;Integer&gt; and
+     * Collection&lt;Integer&gt;
+     */
+    static final SimpleDeserializers DESERIALIZERS = new SimpleDeserializers() {
+        private static final long serialVersionUID = 100L;
+
+        @Override
+        public JsonDeserializer<?> findCollectionDeserializer(CollectionType type, DeserializationConfig config, BeanDescription beanDesc,
+                TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer) {
+            if (elementDeserializer == null && type.getContentType().hasRawClass(Integer.class)
+                    && type.getRawClass().isAssignableFrom(IntList.class)) {
+                return INSTANCE;
+            }
+            return null;
+        }
+    };
+
+    private IntListDeserializer() {
+        super(IntList.class);
+    }
+
+    @Override
+    public IntList deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (IntList) ctxt.handleUnexpectedToken(IntList.class, p);
+        }
+
+        IntList values = new IntList();
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                values.addInt(p.getIntValue());
+            } else {
+                // Let Jackson coerce strings and floats
+                values.addInt(_parseIntPrimitive(p, ctxt));
+            }
+        }
+        values.trimToSize();
+        return values;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of int values held in an open addressing hash table.
+ * <p>
+ * Each value takes 4 to 8 bytes, where a HashSet&lt;Integer&gt; takes around
+ * 50. The set can be used as a Set&lt;Integer&gt;, the values are boxed as
+ * they are read. Use the "Int" methods to avoid the boxing. Null values are
+ * not allowed.
+ * <p>
+ * The set is not thread safe, and its iterator does not support remove.
+ *
+ * @author Stuart
+ */
+public final class IntOpenHashSet extends AbstractSet<Integer> implements Serializable {
+
+    private static final long serialVersionUID = 100L;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    // Zero marks a free slot, so it is held separately
+    private static final int FREE = 0;
+
+    private int[] table;
+    private int mask;
+    private int maxFill;
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * Create an empty set
+     */
+    public IntOpenHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Create an empty set
+     *
+     * @param expected The number of values to make room for
+     */
+    public IntOpenHashSet(int expected) {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Expected size can not be negative: " + expected);
+        }
+        allocate(tableSize(expected));
+    }
+
+    /**
+     * Create a set with the values of the collection
+     *
+     * @param collection The values
+     */
+    public IntOpenHashSet(Collection<Integer> collection) {
+        this(collection.size());
+        for (Integer value : collection) {
+            addInt(value);
+        }
+    }
+
+    /**
+     * Add a value without boxing it
+     *
+     * @param value The value
+     * @return True if the value was not already in the set
+     */
+    public boolean addInt(int value) {
+        if (value == FREE) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int pos = mix(value) & mask;
+        while (table[pos] != FREE) {
+            if (table[pos] == value) {
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = value;
+        if (++size >= maxFill) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Check if the set has the value, without boxing it
+     *
+     * @param value The value
+     * @return True if the value is in the set
+     */
+    public boolean containsInt(int value) {
+        if (value == FREE) {
+            return containsZero;
+        }
+
+        int pos = mix(value) & mask;
+        while (table[pos] != FREE) {
+            if (table[pos] == value) {
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Remove a value without boxing it
+     *
+     * @param value The value
+     * @return True if the value was in the set
+     */
+    public boolean removeInt(int value) {
+        if (value == FREE) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int pos = mix(value) & mask;
+        while (table[pos] != FREE) {
+            if (table[pos] == value) {
+                size--;
+                shiftKeys(pos);
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return A copy of the values, in no particular order
+     */
+    public int[] toIntArray() {
+        int[] values = new int[size];
+        int count = 0;
+        if (containsZero) {
+            values[count++] = FREE;
+        }
+        for (int value : table) {
+            if (value != FREE) {
+                values[count++] = value;
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public boolean add(Integer value) {
+        return addInt(value);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && containsInt((Integer) o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Integer && removeInt((Integer) o);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        containsZero = false;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            // -1 is the zero value, then the table slots
+            private int pos = containsZero ? -1 : nextSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return pos < table.length;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int value = pos < 0 ? FREE : table[pos];
+                pos = nextSlot(pos + 1);
+                return value;
+            }
+        };
+    }
+
+    private int nextSlot(int from) {
+        int pos = from;
+        while (pos < table.length && table[pos] == FREE) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Move the values after the removed slot back, so no lookup stops early
+     */
+    private void shiftKeys(int removed) {
+        int last = removed;
+        int pos = removed;
+        while (true) {
+            pos = (pos + 1) & mask;
+            int value = table[pos];
+            if (value == FREE) {
+                table[last] = FREE;
+                return;
+            }
+            int slot = mix(value) & mask;
+            // Only move the value if its home slot is not between last and pos
+            if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                table[last] = value;
+                last = pos;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] old = table;
+        allocate(capacity);
+        for (int value : old) {
+            if (value != FREE) {
+                int pos = mix(value) & mask;
+                while (table[pos] != FREE) {
+                    pos = (pos + 1) & mask;
+                }
+                table[pos] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        mask = capacity - 1;
+        maxFill = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSize(int expected) {
+        int needed = (int) Math.ceil(expected / LOAD_FACTOR) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(int value) {
+        // Spread sequential IDs across the table
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
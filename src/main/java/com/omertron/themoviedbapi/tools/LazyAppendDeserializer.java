@@ -0,0 +1,103 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.omertron.themoviedbapi.interfaces.AppendToResponseMethod;
+import com.omertron.themoviedbapi.interfaces.LazyAppendToResponse;
+import com.omertron.themoviedbapi.model.DeferredSections;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a response with append to response sections, buffering the sections
+ * instead of mapping them.
+ * <p>
+ * The rest of the response is mapped with the normal reader for the class.
+ * Objects that are not the top level value of the response, such as the
+ * items of a results list, are mapped as normal.
+ *
+ * @author Stuart
+ * @param <T> The class with the sections
+ */
+class LazyAppendDeserializer<T extends LazyAppendToResponse> extends StdDeserializer<T> {
+
+    private static final long serialVersionUID = 100L;
+    private final Set<String> sectionNames = new HashSet<>();
+
+    LazyAppendDeserializer(Class<T> type, AppendToResponseMethod... methods) {
+        super(type);
+        for (AppendToResponseMethod method : methods) {
+            sectionNames.add(method.getPropertyString());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        ObjectReader reader = ObjectReaders.forClass(handledType());
+        if (p.currentToken() != JsonToken.START_OBJECT || !isTopLevel(p.getParsingContext())) {
+            return (T) reader.readValue(p);
+        }
+
+        TokenBuffer main = new TokenBuffer(p, ctxt);
+        Map<String, TokenBuffer> sections = new HashMap<>();
+        main.writeStartObject();
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            // A null section is left to the setter, as it is when mapped straight away
+            if (p.nextToken() != JsonToken.VALUE_NULL && sectionNames.contains(name)) {
+                TokenBuffer section = new TokenBuffer(p, ctxt);
+                section.writeStartObject();
+                section.writeFieldName(name);
+                section.copyCurrentStructure(p);
+                section.writeEndObject();
+                sections.put(name, section);
+            } else {
+                main.writeFieldName(name);
+                main.copyCurrentStructure(p);
+            }
+        }
+        main.writeEndObject();
+
+        T bean;
+        try (JsonParser mainParser = main.asParser()) {
+            bean = (T) reader.readValue(mainParser);
+        }
+        if (bean != null && !sections.isEmpty()) {
+            bean.deferSections(new DeferredSections(reader, sections));
+        }
+        return bean;
+    }
+
+    private static boolean isTopLevel(JsonStreamContext context) {
+        JsonStreamContext parent = context.getParent();
+        return parent == null || parent.inRoot();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In memory ResponseCache that holds a bounded number of responses.
+ * <p>
+ * When the cache is full the least recently used response is evicted.
+ * Expired responses are removed when they are next requested.
+ *
+ * @author Stuart.Boston
+ */
+public class MemoryResponseCache implements ResponseCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    private final int maxEntries;
+    private final CacheStats stats = new CacheStats();
+    // Access ordered, guarded by "this"
+    private final Map<String, Entry> entries;
+
+    /**
+     * Create a cache with the default number of entries
+     */
+    public MemoryResponseCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Create a cache holding up to maxEntries responses
+     *
+     * @param maxEntries Maximum number of responses to hold
+     */
+    public MemoryResponseCache(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than zero");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > MemoryResponseCache.this.maxEntries) {
+                    stats.recordEviction();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            stats.recordEviction();
+            stats.recordMiss();
+            return null;
+        }
+
+        stats.recordHit();
+        return entry.content;
+    }
+
+    @Override
+    public synchronized void put(String key, String content, long ttlMillis) {
+        if (ttlMillis > 0 && content != null) {
+            entries.put(key, new Entry(content, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Remove all the expired responses from the cache
+     */
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> iter = entries.values().iterator();
+        while (iter.hasNext()) {
+            if (iter.next().isExpired(now)) {
+                iter.remove();
+                stats.recordEviction();
+            }
+        }
+    }
+
+    /**
+     * Get the number of responses in the cache, including expired ones
+     *
+     * @return size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    private static final class Entry {
+
+        private final String content;
+        private final long expires;
+
+        Entry(String content, long expires) {
+            this.content = content;
+            this.expires = expires;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expires;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.omertron.themoviedbapi.enumeration.MovieMethod;
+import com.omertron.themoviedbapi.enumeration.PeopleMethod;
+import com.omertron.themoviedbapi.enumeration.TVEpisodeMethod;
+import com.omertron.themoviedbapi.enumeration.TVMethod;
+import com.omertron.themoviedbapi.enumeration.TVSeasonMethod;
+import com.omertron.themoviedbapi.interfaces.LazyAppendToResponse;
+import com.omertron.themoviedbapi.model.Certification;
+import com.omertron.themoviedbapi.model.credits.CreditBasic;
+import com.omertron.themoviedbapi.model.credits.CreditMovieBasic;
+import com.omertron.themoviedbapi.model.credits.CreditTVBasic;
+import com.omertron.themoviedbapi.model.list.ListItem;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.person.PersonCreditList;
+import com.omertron.themoviedbapi.model.person.PersonCreditsMixIn;
+import com.omertron.themoviedbapi.model.person.PersonInfo;
+import com.omertron.themoviedbapi.model.tv.TVEpisodeInfo;
+import com.omertron.themoviedbapi.model.tv.TVInfo;
+import com.omertron.themoviedbapi.model.tv.TVSeasonInfo;
+import com.omertron.themoviedbapi.results.WrapperGenericList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Jackson readers used to map the responses.
+ * <p>
+ * Readers are immutable and thread safe, so each one is created once and
+ * shared by every call. Readers for plain classes and generic lists are
+ * created the first time they are needed, the generic types are created up
+ * front.
+ * <p>
+ * If the API was built with the themoviedbapi-processor annotation processor
+ * the generated deserializers are used for the model. Set the system property
+ * "themoviedbapi.generated" to "false" to use the standard Jackson mapping.
+ * <p>
+ * The repeated string fields are read through the {@link StringPool} when a
+ * shared pool is set, and lists of integers are read into an {@link IntList}.
+ * Unknown properties are skipped without being mapped and are counted by
+ * {@link PropertyDrift}.
+ *
+ * @author Stuart
+ */
+public final class ObjectReaders {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ObjectReaders.class);
+    /**
+     * The module created by the annotation processor
+     */
+    public static final String GENERATED_MODULE = "com.omertron.themoviedbapi.model.GeneratedDeserializerModule";
+    private static final String GENERATED_PROPERTY = "themoviedbapi.generated";
+    private static final ObjectMapper MAPPER = createMapper();
+    // The combined credits need the mix-in to pick the credit type
+    private static final ObjectMapper CREDITS_MAPPER = MAPPER.copy().addMixIn(PersonCreditList.class, PersonCreditsMixIn.class);
+    // Buffers the append to response sections to map them when first used
+    private static final ObjectMapper LAZY_MAPPER = MAPPER.copy().registerModule(new SimpleModule("LazyAppend")
+            .addDeserializer(MovieInfo.class, new LazyAppendDeserializer<>(MovieInfo.class, MovieMethod.values()))
+            .addDeserializer(PersonInfo.class, new LazyAppendDeserializer<>(PersonInfo.class, PeopleMethod.CHANGES, PeopleMethod.EXTERNAL_IDS,
+                    PeopleMethod.IMAGES, PeopleMethod.MOVIE_CREDITS, PeopleMethod.TAGGED_IMAGES, PeopleMethod.TV_CREDITS))
+            .addDeserializer(TVInfo.class, new LazyAppendDeserializer<>(TVInfo.class, TVMethod.values()))
+            .addDeserializer(TVSeasonInfo.class, new LazyAppendDeserializer<>(TVSeasonInfo.class, TVSeasonMethod.values()))
+            .addDeserializer(TVEpisodeInfo.class, new LazyAppendDeserializer<>(TVEpisodeInfo.class, TVEpisodeMethod.values())));
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectReader> LAZY_READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectReader> LIST_READERS = new ConcurrentHashMap<>();
+
+    public static final ObjectReader PERSON_MOVIE_CREDITS = MAPPER.readerFor(new TypeReference<PersonCreditList<CreditMovieBasic>>() {
+    });
+    public static final ObjectReader PERSON_TV_CREDITS = MAPPER.readerFor(new TypeReference<PersonCreditList<CreditTVBasic>>() {
+    });
+    public static final ObjectReader PERSON_COMBINED_CREDITS = CREDITS_MAPPER.readerFor(new TypeReference<PersonCreditList<CreditBasic>>() {
+    });
+    public static final ObjectReader LIST_ITEM_MOVIES = MAPPER.readerFor(new TypeReference<ListItem<MovieInfo>>() {
+    });
+    public static final ObjectReader TIMEZONES = MAPPER.readerFor(new TypeReference<List<Map<String, List<String>>>>() {
+    });
+    public static final ObjectReader CERTIFICATIONS = MAPPER.readerFor(new TypeReference<Map<String, List<Certification>>>() {
+    });
+
+    private ObjectReaders() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule("TheMovieDbApi");
+        module.setDeserializerModifier(PooledStringDeserializer.MODIFIER);
+        module.setDeserializers(IntListDeserializer.DESERIALIZERS);
+        mapper.registerModule(module);
+        // A module only takes one modifier
+        mapper.registerModule(new SimpleModule("UnknownProperties").setDeserializerModifier(UnknownPropertyHandler.MODIFIER));
+        mapper.addHandler(UnknownPropertyHandler.INSTANCE);
+        if (!Boolean.parseBoolean(System.getProperty(GENERATED_PROPERTY, "true"))) {
+            return mapper;
+        }
+
+        try {
+            mapper.registerModule((Module) Class.forName(GENERATED_MODULE).getDeclaredConstructor().newInstance());
+            LOG.debug("Using the generated deserializers");
+        } catch (ClassNotFoundException ex) {
+            // Not built with the annotation processor
+        } catch (ReflectiveOperationException ex) {
+            LOG.warn("Failed to load the generated deserializers: {}", ex.getMessage());
+        }
+        return mapper;
+    }
+
+    /**
+     * Check if the generated deserializers are in use
+     *
+     * @return True if the module was registered
+     */
+    public static boolean isGenerated() {
+        return MAPPER.getRegisteredModuleIds().contains(GENERATED_MODULE);
+    }
+
+    /**
+     * Get the reader for a class
+     *
+     * @param type The class to map to
+     * @return The shared reader
+     */
+    public static ObjectReader forClass(Class<?> type) {
+        ObjectReader reader = READERS.get(type);
+        if (reader == null) {
+            reader = READERS.computeIfAbsent(type, MAPPER::readerFor);
+        }
+        return reader;
+    }
+
+    /**
+     * Get the reader for a class, optionally leaving the append to response
+     * sections to be mapped when they are first used
+     *
+     * @param type The class to map to
+     * @param lazyAppend True to map the sections when they are first used.
+     * Ignored for classes without sections
+     * @return The shared reader
+     */
+    public static ObjectReader forClass(Class<?> type, boolean lazyAppend) {
+        if (!lazyAppend || !LazyAppendToResponse.class.isAssignableFrom(type)) {
+            return forClass(type);
+        }
+
+        ObjectReader reader = LAZY_READERS.get(type);
+        if (reader == null) {
+            reader = LAZY_READERS.computeIfAbsent(type, LAZY_MAPPER::readerFor);
+        }
+        return reader;
+    }
+
+    /**
+     * Get the reader for a generic results list
+     *
+     * @param type The class of the results
+     * @return The shared reader for WrapperGenericList of the class
+     */
+    public static ObjectReader forList(Class<?> type) {
+        ObjectReader reader = LIST_READERS.get(type);
+        if (reader == null) {
+            reader = LIST_READERS.computeIfAbsent(type,
+                    t -> MAPPER.readerFor(MAPPER.getTypeFactory().constructParametricType(WrapperGenericList.class, t)));
+        }
+        return reader;
+    }
+}
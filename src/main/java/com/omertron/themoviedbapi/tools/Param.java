@@ -41,8 +41,8 @@ public enum Param {
     EPISODE_NUMBER("episode_number="),
     EXTERNAL_SOURCE("external_source="),
     FAVORITE("favorite="),
-    FIRST_AIR_DATE_GTE("first_air_date.gte"),
-    FIRST_AIR_DATE_LTE("first_air_date.lte"),
+    FIRST_AIR_DATE_GTE("first_air_date.gte="),
+    FIRST_AIR_DATE_LTE("first_air_date.lte="),
     FIRST_AIR_DATE_YEAR("first_air_date_year="),
     GUEST_SESSION_ID("guest_session_id="),
     ID("id="),
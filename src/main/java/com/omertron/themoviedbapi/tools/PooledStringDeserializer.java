@@ -0,0 +1,90 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reads the string fields listed in {@link StringPool} through the shared
+ * pool, if one is set.
+ *
+ * @author Stuart
+ */
+class PooledStringDeserializer extends StdScalarDeserializer<String> {
+
+    private static final long serialVersionUID = 100L;
+    static final PooledStringDeserializer INSTANCE = new PooledStringDeserializer();
+
+    /**
+     * Uses the pooled deserializer for the pooled string properties
+     */
+    static final BeanDeserializerModifier MODIFIER = new BeanDeserializerModifier() {
+        @Override
+        public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+            List<SettableBeanProperty> pooled = new ArrayList<>();
+            for (Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext();) {
+                SettableBeanProperty prop = it.next();
+                if (prop.getType().hasRawClass(String.class) && !prop.hasValueDeserializer()
+                        && StringPool.isPooled(beanDesc.getBeanClass(), prop.getName())) {
+                    pooled.add(prop);
+                }
+            }
+            for (SettableBeanProperty prop : pooled) {
+                builder.addOrReplaceProperty(prop.withValueDeserializer(INSTANCE), true);
+            }
+            return builder;
+        }
+    };
+
+    private PooledStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String value;
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            value = p.getText();
+        } else {
+            value = StringDeserializer.instance.deserialize(p, ctxt);
+        }
+
+        StringPool pool = StringPool.getShared();
+        return pool == null ? value : pool.dedup(value);
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+}
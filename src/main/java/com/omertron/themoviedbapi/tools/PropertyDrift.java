@@ -0,0 +1,157 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts the properties in the responses that the model does not map, to
+ * show when TMDb has added fields.
+ * <p>
+ * Counting is off by default. When it is off nothing is recorded or
+ * allocated for an unknown property. Each property is also logged at trace
+ * level.
+ *
+ * @author Stuart
+ */
+public final class PropertyDrift {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PropertyDrift.class);
+    private static final Comparator<Class<?>> BY_NAME = new Comparator<Class<?>>() {
+        @Override
+        public int compare(Class<?> c1, Class<?> c2) {
+            return c1.getName().compareTo(c2.getName());
+        }
+    };
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<String, LongAdder>> COUNTS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = false;
+
+    private PropertyDrift() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Turn the counting on or off.
+     * <p>
+     * The counts are kept when it is turned off.
+     *
+     * @param enabled True to count the unknown properties
+     */
+    public static void setEnabled(boolean enabled) {
+        PropertyDrift.enabled = enabled;
+    }
+
+    /**
+     * @return True if the unknown properties are being counted
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record an unknown property
+     *
+     * @param type The class the property was found in
+     * @param name The JSON property name
+     */
+    public static void unknownProperty(Class<?> type, String name) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{}: Unknown property='{}'", type.getSimpleName(), name);
+        }
+        if (!enabled) {
+            return;
+        }
+
+        ConcurrentMap<String, LongAdder> properties = COUNTS.get(type);
+        if (properties == null) {
+            properties = COUNTS.computeIfAbsent(type, k -> new ConcurrentHashMap<>());
+        }
+        LongAdder count = properties.get(name);
+        if (count == null) {
+            count = properties.computeIfAbsent(name, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * Get the number of times the property was found
+     *
+     * @param type The class
+     * @param name The JSON property name
+     * @return The count
+     */
+    public static long getCount(Class<?> type, String name) {
+        Map<String, LongAdder> properties = COUNTS.get(type);
+        if (properties == null) {
+            return 0;
+        }
+        LongAdder count = properties.get(name);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Get a copy of the counts
+     *
+     * @return The count of each unknown property, by class and property name
+     */
+    public static Map<Class<?>, Map<String, Long>> getCounts() {
+        Map<Class<?>, Map<String, Long>> report = new TreeMap<>(BY_NAME);
+        for (Map.Entry<Class<?>, ConcurrentMap<String, LongAdder>> entry : COUNTS.entrySet()) {
+            Map<String, Long> properties = new TreeMap<>();
+            for (Map.Entry<String, LongAdder> property : entry.getValue().entrySet()) {
+                properties.put(property.getKey(), property.getValue().sum());
+            }
+            report.put(entry.getKey(), Collections.unmodifiableMap(properties));
+        }
+        return Collections.unmodifiableMap(report);
+    }
+
+    /**
+     * Get the counts as text, one "Class.property=count" line for each
+     * property
+     *
+     * @return The report
+     */
+    public static String dump() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Class<?>, Map<String, Long>> entry : getCounts().entrySet()) {
+            for (Map.Entry<String, Long> property : entry.getValue().entrySet()) {
+                sb.append(entry.getKey().getSimpleName()).append('.').append(property.getKey())
+                        .append('=').append(property.getValue()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Clear the counts
+     */
+    public static void reset() {
+        COUNTS.clear();
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import java.io.InterruptedIOException;
+import java.util.Date;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.utils.DateUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Token bucket limiter for the requests made through a HttpTools instance.
+ * <p>
+ * Requests reserve a slot in the bucket in the order they arrive, so a burst
+ * of requests is spread out over time rather than being sent at once and
+ * rejected with a 429.
+ * <p>
+ * The limiter adjusts itself from the Retry-After and X-RateLimit-* response
+ * headers and will hold back the whole queue until the server is ready to
+ * accept requests again.
+ *
+ * @author Stuart.Boston
+ */
+public class RequestLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestLimiter.class);
+    // Defaults, TMDb allows around 40 requests per second
+    public static final int DEFAULT_PERMITS = 40;
+    public static final long DEFAULT_PERIOD_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    // Back off period for a 429 without a Retry-After header
+    private static final long RETRY_DELAY = TimeUnit.SECONDS.toNanos(1);
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    // Headers
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    // Shared timer used to release queued asynchronous tasks
+    private static final ScheduledExecutorService TIMER = createTimer();
+
+    private final double maxPermits;
+    private final double intervalNanos;
+    // Bucket state, guarded by "this"
+    private double storedPermits;
+    private long nextFreeNanos;
+    private long blockedUntilNanos;
+    private int throttleCount = 0;
+    // Set on a thread that is running a task which already holds a permit
+    private final ThreadLocal<Boolean> reserved = new ThreadLocal<>();
+    // Statistics
+    private final AtomicLong requestCount = new AtomicLong(0);
+    private final AtomicLong delayedCount = new AtomicLong(0);
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+    // Rejections seen by the requests made on each thread
+    private final ThreadLocal<long[]> threadRejectedCount = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+
+    /**
+     * Create a limiter with the default TMDb limits
+     */
+    public RequestLimiter() {
+        this(DEFAULT_PERMITS, DEFAULT_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a limiter that allows a number of permits per period.
+     *
+     * The bucket starts full, so the first "permits" requests are not delayed.
+     *
+     * @param permits Number of requests allowed in the period
+     * @param period Length of the period
+     * @param unit Unit of the period
+     */
+    public RequestLimiter(int permits, long period, TimeUnit unit) {
+        if (permits <= 0 || period <= 0) {
+            throw new IllegalArgumentException("Permits and period must be greater than zero");
+        }
+        this.maxPermits = permits;
+        this.intervalNanos = (double) unit.toNanos(period) / permits;
+        this.storedPermits = permits;
+        this.nextFreeNanos = System.nanoTime();
+        this.blockedUntilNanos = nextFreeNanos;
+    }
+
+    /**
+     * Create a limiter that never delays a request.
+     *
+     * The response headers are still honoured.
+     *
+     * @return RequestLimiter
+     */
+    public static RequestLimiter unlimited() {
+        return new RequestLimiter(Integer.MAX_VALUE, 1, TimeUnit.NANOSECONDS);
+    }
+
+    private static ScheduledExecutorService createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "tmdb-request-limiter");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Bring the stored permits up to date.
+     *
+     * @param now Current nano time
+     */
+    private void resync(long now) {
+        if (blockedUntilNanos - nextFreeNanos > 0) {
+            // The server has asked us to wait, nothing can be sent until then
+            nextFreeNanos = blockedUntilNanos;
+            storedPermits = 0;
+        }
+
+        if (now - nextFreeNanos > 0) {
+            storedPermits = Math.min(maxPermits, storedPermits + (now - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = now;
+        }
+    }
+
+    /**
+     * Reserve a single permit.
+     *
+     * @return The number of nanoseconds to wait before the request can be sent
+     */
+    public synchronized long reserve() {
+        long now = System.nanoTime();
+        resync(now);
+
+        if (storedPermits >= 1.0) {
+            storedPermits -= 1.0;
+        } else {
+            // Wait for the rest of the permit to be added to the bucket
+            nextFreeNanos += (long) ((1.0 - storedPermits) * intervalNanos);
+            storedPermits = 0;
+        }
+        long wait = Math.max(0L, nextFreeNanos - now);
+
+        requestCount.incrementAndGet();
+        if (wait > 0) {
+            delayedCount.incrementAndGet();
+        }
+        return wait;
+    }
+
+    /**
+     * Get the time until a permit would be available without reserving one.
+     *
+     * @return The number of nanoseconds until a permit is available
+     */
+    public synchronized long getDelayNanos() {
+        long now = System.nanoTime();
+        resync(now);
+        long available = nextFreeNanos;
+        if (storedPermits < 1.0) {
+            available += (long) ((1.0 - storedPermits) * intervalNanos);
+        }
+        return Math.max(0L, available - now);
+    }
+
+    /**
+     * Reserve a permit and wait until it is valid.
+     *
+     * If the current thread is running a task handed over by
+     * {@link #schedule(Runnable, Executor)} the permit reserved for that task
+     * is used instead, without waiting.
+     *
+     * @throws InterruptedIOException if the thread is interrupted whilst
+     * waiting, the interrupt flag is restored
+     */
+    public void acquire() throws InterruptedIOException {
+        if (Boolean.TRUE.equals(reserved.get())) {
+            // Only the first request of the task was paid for
+            reserved.remove();
+            return;
+        }
+
+        long wait = reserve();
+        if (wait > 0) {
+            LOG.trace("Request delayed for {}ms", TimeUnit.NANOSECONDS.toMillis(wait));
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                InterruptedIOException ioe = new InterruptedIOException("Interrupted whilst waiting for a permit");
+                ioe.initCause(ex);
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Reserve a permit and hand the task to the executor once it is valid.
+     *
+     * The task is queued on a timer rather than parking an executor thread, so
+     * a large number of throttled tasks does not tie up the executor. The
+     * first request made by the task uses the reserved permit, any further
+     * requests wait for their own.
+     *
+     * @param task The task to run
+     * @param executor The executor to run the task on
+     */
+    public void schedule(Runnable task, Executor executor) {
+        long delay = reserve();
+        Runnable reservedTask = new Reserved(task);
+        if (delay <= 0) {
+            executor.execute(reservedTask);
+        } else {
+            TIMER.schedule(new Handoff(reservedTask, executor), delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Update the limiter with the result of a request.
+     *
+     * @param response The response to read the status and headers from
+     */
+    public void update(HttpResponse response) {
+        int statusCode = response.getStatusLine().getStatusCode();
+        long retryAfter = parseRetryAfter(response);
+        long resetAt = -1L;
+
+        long remaining = NumberUtils.toLong(getHeader(response, HEADER_REMAINING), -1L);
+        if (remaining == 0) {
+            resetAt = parseReset(response);
+        }
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (statusCode == STATUS_TOO_MANY_REQUESTS) {
+                rejectedCount.incrementAndGet();
+                threadRejectedCount.get()[0]++;
+                throttleCount++;
+                if (retryAfter < 0) {
+                    // No guidance from the server, back off linearly
+                    retryAfter = RETRY_DELAY * throttleCount;
+                }
+            } else {
+                throttleCount = 0;
+            }
+
+            if (retryAfter > 0) {
+                blockUntil(now + retryAfter);
+            }
+            if (resetAt > 0) {
+                blockUntil(now + resetAt);
+            }
+            if (remaining > 0 && remaining < storedPermits) {
+                // The server knows better than we do
+                resync(now);
+                storedPermits = Math.min(storedPermits, remaining);
+            }
+        }
+    }
+
+    private void blockUntil(long until) {
+        if (until - blockedUntilNanos > 0) {
+            LOG.debug("Rate limit reached, holding requests for {}ms", TimeUnit.NANOSECONDS.toMillis(until - System.nanoTime()));
+            blockedUntilNanos = until;
+        }
+    }
+
+    /**
+     * Get the Retry-After delay.
+     *
+     * This can be either a number of seconds or a HTTP date.
+     *
+     * @param response
+     * @return the delay in nanoseconds or -1 if there is no header
+     */
+    private static long parseRetryAfter(HttpResponse response) {
+        String value = getHeader(response, HEADER_RETRY_AFTER);
+        if (StringUtils.isBlank(value)) {
+            return -1L;
+        }
+
+        if (NumberUtils.isDigits(value)) {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(value));
+        }
+
+        Date date = DateUtils.parseDate(value);
+        if (date == null) {
+            return -1L;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, date.getTime() - System.currentTimeMillis()));
+    }
+
+    /**
+     * Get the delay until the rate limit window resets
+     *
+     * @param response
+     * @return the delay in nanoseconds or -1 if there is no header
+     */
+    private static long parseReset(HttpResponse response) {
+        long reset = NumberUtils.toLong(getHeader(response, HEADER_RESET), -1L);
+        if (reset <= 0) {
+            return -1L;
+        }
+        // The reset is in epoch seconds
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, TimeUnit.SECONDS.toMillis(reset) - System.currentTimeMillis()));
+    }
+
+    private static String getHeader(HttpResponse response, String name) {
+        return response.containsHeader(name) ? StringUtils.trimToNull(response.getFirstHeader(name).getValue()) : null;
+    }
+
+    /**
+     * Number of requests that have been through the limiter
+     *
+     * @return count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Number of requests that had to wait for a permit
+     *
+     * @return count
+     */
+    public long getDelayedCount() {
+        return delayedCount.get();
+    }
+
+    /**
+     * Number of requests that were rejected by the server with a 429
+     *
+     * @return count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Run the task with the permit that was reserved for it
+     */
+    private final class Reserved implements Runnable {
+
+        private final Runnable task;
+
+        Reserved(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            reserved.set(Boolean.TRUE);
+            try {
+                task.run();
+            } finally {
+                reserved.remove();
+            }
+        }
+    }
+
+    /**
+     * Number of requests made on the current thread that were rejected by the
+     * server with a 429.
+     *
+     * Unlike {@link #getRejectedCount()} this is not affected by requests made
+     * on other threads, so it shows whether a particular call was rejected.
+     *
+     * @return count
+     */
+    public long getThreadRejectedCount() {
+        return threadRejectedCount.get()[0];
+    }
+
+    /**
+     * Pass the task to the executor when the timer fires
+     */
+    private static final class Handoff implements Runnable {
+
+        private final Runnable task;
+        private final Executor executor;
+
+        Handoff(Runnable task, Executor executor) {
+            this.task = task;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            executor.execute(task);
+        }
+    }
+}
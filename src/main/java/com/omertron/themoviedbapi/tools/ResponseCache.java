@@ -0,0 +1,68 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+/**
+ * Cache for the raw responses of GET requests made by HttpTools.
+ * <p>
+ * Implementations must be thread safe. The key is the request URL with the
+ * API key removed, see CachePolicy.
+ *
+ * @author Stuart.Boston
+ */
+public interface ResponseCache {
+
+    /**
+     * Get a response from the cache
+     *
+     * @param key The cache key
+     * @return the response or null if it is not cached or has expired
+     */
+    String get(String key);
+
+    /**
+     * Put a response into the cache
+     *
+     * @param key The cache key
+     * @param content The response content
+     * @param ttlMillis How long the response should be kept for in milliseconds
+     */
+    void put(String key, String content, long ttlMillis);
+
+    /**
+     * Remove a response from the cache
+     *
+     * @param key The cache key
+     */
+    void remove(String key);
+
+    /**
+     * Remove all the responses from the cache
+     */
+    void clear();
+
+    /**
+     * Get the hit, miss and eviction counters for the cache
+     *
+     * @return CacheStats
+     */
+    CacheStats getStats();
+
+}
@@ -0,0 +1,138 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * Coalesce concurrent calls for the same key into a single call.
+ * <p>
+ * The first caller for a key makes the call, any caller that arrives while
+ * it is still running waits for it and gets the same result or exception.
+ * Nothing is kept once the call completes, so this is not a cache.
+ *
+ * @author Stuart.Boston
+ * @param <K> Type of the key
+ */
+public class SingleFlight<K> {
+
+    private final ConcurrentMap<K, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong callCount = new AtomicLong(0);
+    private final AtomicLong sharedCount = new AtomicLong(0);
+
+    /**
+     * A call that can be shared between callers
+     *
+     * @param <V> Type returned by the call
+     * @param <X> Additional exception thrown by the call
+     */
+    @FunctionalInterface
+    public interface Call<V, X extends Exception> {
+
+        V call() throws MovieDbException, X;
+    }
+
+    /**
+     * Make the call, or wait for the identical call that is already running.
+     *
+     * @param <V> Type returned by the call
+     * @param <X> Additional exception thrown by the call
+     * @param key The key that identifies identical calls
+     * @param call The call to make
+     * @return The result of the call
+     * @throws MovieDbException exception
+     * @throws X exception from the call
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Exception> V execute(K key, Call<V, X> call) throws MovieDbException, X {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedCount.incrementAndGet();
+            return (V) await(key, existing);
+        }
+
+        callCount.incrementAndGet();
+        try {
+            V result = call.call();
+            flight.complete(result);
+            return result;
+        } catch (Exception | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X extends Exception> Object await(Object key, CompletableFuture<Object> flight) throws MovieDbException, X {
+        try {
+            return flight.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MovieDbException(ApiExceptionType.CONNECTION_ERROR, "Interrupted waiting for request", String.valueOf(key), ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof MovieDbException) {
+                throw (MovieDbException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // The call can only throw the exception type it declares
+            throw (X) cause;
+        }
+    }
+
+    /**
+     * Number of calls currently running
+     *
+     * @return count
+     */
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * Number of calls that were made
+     *
+     * @return count
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * Number of callers that shared a call that was already running
+     *
+     * @return count
+     */
+    public long getSharedCount() {
+        return sharedCount.get();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.model.Genre;
+import com.omertron.themoviedbapi.model.Language;
+import com.omertron.themoviedbapi.model.media.Translation;
+import com.omertron.themoviedbapi.model.movie.ProductionCountry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of strings used to share one copy of the values that are
+ * repeated across many objects, such as the language codes and the crew
+ * departments and jobs.
+ * <p>
+ * Only the fields listed here are pooled, and only while a pool is set with
+ * {@link #setShared(StringPool)}. Once the pool is full values that are not
+ * already in it are returned as they are.
+ * <p>
+ * Image "file_path" values are not pooled. Each one names a single image, so
+ * whole values do not repeat, and the only part they share is the leading
+ * "/". The common image URL prefix comes from the configuration and is
+ * already held once.
+ *
+ * @author Stuart
+ */
+public final class StringPool {
+
+    /**
+     * Default number of strings to hold
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+    // Longer values are unlikely to repeat
+    private static final int MAX_LENGTH = 64;
+    // Pooled for every class
+    private static final Set<String> FIELDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "iso_639_1", "iso_3166_1", "original_language", "department", "known_for_department", "job",
+            "media_type", "status", "type")));
+    // Pooled for the named class only
+    private static final Map<Class<?>, Set<String>> TYPE_FIELDS = new HashMap<>();
+
+    static {
+        TYPE_FIELDS.put(Genre.class, Collections.singleton("name"));
+        TYPE_FIELDS.put(Language.class, Collections.singleton("name"));
+        TYPE_FIELDS.put(ProductionCountry.class, Collections.singleton("name"));
+        TYPE_FIELDS.put(Translation.class, new HashSet<>(Arrays.asList("name", "english_name")));
+    }
+
+    private static volatile StringPool shared;
+
+    private final int maxSize;
+    private final ConcurrentMap<String, String> pool = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Create a pool with the default size
+     */
+    public StringPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a pool
+     *
+     * @param maxSize The number of strings to hold
+     */
+    public StringPool(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The pool size must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Set the pool used when mapping the responses.
+     * <p>
+     * Pooling is off by default.
+     *
+     * @param pool The pool to use, or null to stop pooling
+     */
+    public static void setShared(StringPool pool) {
+        shared = pool;
+    }
+
+    /**
+     * Get the pool used when mapping the responses
+     *
+     * @return The pool, or null if pooling is off
+     */
+    public static StringPool getShared() {
+        return shared;
+    }
+
+    /**
+     * Check if the field of the class is pooled
+     *
+     * @param type The class that owns the field
+     * @param name The JSON property name
+     * @return True if the values are pooled
+     */
+    public static boolean isPooled(Class<?> type, String name) {
+        if (FIELDS.contains(name)) {
+            return true;
+        }
+        Set<String> typeFields = TYPE_FIELDS.get(type);
+        return typeFields != null && typeFields.contains(name);
+    }
+
+    /**
+     * Pool the value if it is a pooled field and a shared pool is set
+     *
+     * @param type The class that owns the field
+     * @param name The JSON property name
+     * @param value The value read
+     * @return The pooled copy of the value, or the value
+     */
+    public static String pool(Class<?> type, String name, String value) {
+        StringPool current = shared;
+        if (current == null || !isPooled(type, name)) {
+            return value;
+        }
+        return current.dedup(value);
+    }
+
+    /**
+     * Get the pooled copy of the value, adding it if there is room
+     *
+     * @param value The value
+     * @return The pooled copy, or the value if it is not pooled
+     */
+    public String dedup(String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+
+        String existing = pool.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (size.get() >= maxSize) {
+            return value;
+        }
+
+        existing = pool.putIfAbsent(value, value);
+        if (existing != null) {
+            return existing;
+        }
+        size.incrementAndGet();
+        return value;
+    }
+
+    /**
+     * @return The number of strings in the pool
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return The number of strings the pool will hold
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Remove all the strings from the pool
+     */
+    public void clear() {
+        pool.clear();
+        size.set(0);
+    }
+}
@@ -19,21 +19,29 @@
  */
 package com.omertron.themoviedbapi.tools;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
- * Parameters for the TMDB API
+ * Parameters for the TMDB API.
+ *
+ * The values are held in arrays indexed by the parameter, and whole numbers
+ * are kept as ints until they are written into the URL.
  *
  * @author Stuart
  */
 public class TmdbParameters {
 
-    private final Map<Param, String> parameters = new EnumMap<>(Param.class);
+    private static final Param[] PARAMS = Param.values();
+    // String values, null if not set
+    private final String[] values = new String[PARAMS.length];
+    // Whole number values, used when "isNumber" is set
+    private final int[] numbers = new int[PARAMS.length];
+    private final boolean[] isNumber = new boolean[PARAMS.length];
+    private int size = 0;
 
     /**
      * Construct an empty set of parameters
@@ -43,12 +51,20 @@ public class TmdbParameters {
     }
 
     /**
-     * Get the entry set of the parameters
+     * Get the entry set of the parameters.
+     *
+     * This is a copy, changes to it are not reflected in the parameters.
      *
      * @return map of parameters
      */
     public Set<Map.Entry<Param, String>> getEntries() {
-        return parameters.entrySet();
+        Map<Param, String> entries = new EnumMap<>(Param.class);
+        for (Param param : PARAMS) {
+            if (has(param)) {
+                entries.put(param, (String) get(param));
+            }
+        }
+        return Collections.unmodifiableMap(entries).entrySet();
     }
 
     /**
@@ -59,7 +75,7 @@ public class TmdbParameters {
      */
     public void add(final Param key, final String[] value) {
         if (value != null && value.length > 0) {
-            parameters.put(key, toList(value));
+            putString(key, toList(value));
         }
     }
 
@@ -71,7 +87,7 @@ public class TmdbParameters {
      */
     public void add(final Param key, final String value) {
         if (StringUtils.isNotBlank(value)) {
-            parameters.put(key, value);
+            putString(key, value);
         }
     }
 
@@ -82,8 +98,26 @@ public class TmdbParameters {
      * @param value The value to add (will be checked to ensure greater than zero)
      */
     public void add(final Param key, final Integer value) {
-        if (value != null && value > 0) {
-            parameters.put(key, String.valueOf(value));
+        if (value != null) {
+            add(key, value.intValue());
+        }
+    }
+
+    /**
+     * Add an integer parameter to the collection
+     *
+     * @param key Parameter to add
+     * @param value The value to add (will be checked to ensure greater than zero)
+     */
+    public void add(final Param key, final int value) {
+        if (value > 0) {
+            int index = key.ordinal();
+            if (!has(key)) {
+                size++;
+            }
+            values[index] = null;
+            numbers[index] = value;
+            isNumber[index] = true;
         }
     }
 
@@ -95,7 +129,7 @@ public class TmdbParameters {
      */
     public void add(final Param key, final Float value) {
         if (value != null && value > 0f) {
-            parameters.put(key, String.valueOf(value));
+            putString(key, String.valueOf(value));
         }
     }
 
@@ -107,8 +141,28 @@ public class TmdbParameters {
      */
     public void add(final Param key, final Boolean value) {
         if (value != null) {
-            parameters.put(key, String.valueOf(value));
+            add(key, value.booleanValue());
+        }
+    }
+
+    /**
+     * Add a boolean parameter to the collection
+     *
+     * @param key Parameter to add
+     * @param value The value to add
+     */
+    public void add(final Param key, final boolean value) {
+        // String.valueOf returns the same two strings each time
+        putString(key, String.valueOf(value));
+    }
+
+    private void putString(final Param key, final String value) {
+        int index = key.ordinal();
+        if (!has(key)) {
+            size++;
         }
+        values[index] = value;
+        isNumber[index] = false;
     }
 
     /**
@@ -118,7 +172,8 @@ public class TmdbParameters {
      * @return true if parameter exists
      */
     public boolean has(final Param key) {
-        return parameters.containsKey(key);
+        int index = key.ordinal();
+        return values[index] != null || isNumber[index];
     }
 
     /**
@@ -128,7 +183,11 @@ public class TmdbParameters {
      * @return the parameter
      */
     public Object get(final Param key) {
-        return parameters.get(key);
+        int index = key.ordinal();
+        if (isNumber[index]) {
+            return String.valueOf(numbers[index]);
+        }
+        return values[index];
     }
 
     /**
@@ -137,7 +196,12 @@ public class TmdbParameters {
      * @param key parameter to remove
      */
     public void remove(final Param key) {
-        parameters.remove(key);
+        if (has(key)) {
+            int index = key.ordinal();
+            values[index] = null;
+            isNumber[index] = false;
+            size--;
+        }
     }
 
     /**
@@ -146,7 +210,7 @@ public class TmdbParameters {
      * @return true if the parameters are empty
      */
     public boolean isEmpty() {
-        return parameters.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -158,6 +222,42 @@ public class TmdbParameters {
         return !isEmpty();
     }
 
+    /**
+     * Write the value of a parameter to the URL, without creating a string for
+     * whole numbers
+     *
+     * @param key The parameter to write
+     * @param url The URL being built
+     */
+    void appendValue(final Param key, final StringBuilder url) {
+        int index = key.ordinal();
+        if (isNumber[index]) {
+            url.append(numbers[index]);
+        } else {
+            url.append(values[index]);
+        }
+    }
+
+    /**
+     * Write the parameters to the URL as "&amp;name=value" pairs, in
+     * parameter order
+     *
+     * @param url The URL being built
+     * @param skip Parameters that are part of the path and are not written
+     */
+    void appendTo(final StringBuilder url, final Set<Param> skip) {
+        if (size == 0) {
+            return;
+        }
+
+        for (Param param : PARAMS) {
+            if (has(param) && !skip.contains(param)) {
+                url.append('&').append(param.getValue());
+                appendValue(param, url);
+            }
+        }
+    }
+
     /**
      * Append any optional parameters to the URL
      *
@@ -181,6 +281,18 @@ public class TmdbParameters {
 
     @Override
     public String toString() {
-        return ToStringBuilder.reflectionToString(parameters, ToStringStyle.SHORT_PREFIX_STYLE);
+        StringBuilder sb = new StringBuilder("TmdbParameters[");
+        boolean first = true;
+        for (Param param : PARAMS) {
+            if (has(param)) {
+                if (!first) {
+                    sb.append(",");
+                }
+                first = false;
+                sb.append(param.name()).append("=");
+                appendValue(param, sb);
+            }
+        }
+        return sb.append("]").toString();
     }
 }
@@ -0,0 +1,79 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.deser.SettableAnyProperty;
+import com.omertron.themoviedbapi.model.AbstractJsonMapping;
+import java.io.IOException;
+
+/**
+ * Skips the unknown properties of the model and records them with
+ * {@link PropertyDrift}.
+ * <p>
+ * The model catches unknown properties with a @JsonAnySetter, which means
+ * Jackson maps each value before it is thrown away. The shared mapper removes
+ * that setter, so the value is skipped without being mapped.
+ *
+ * @author Stuart
+ */
+class UnknownPropertyHandler extends DeserializationProblemHandler {
+
+    static final UnknownPropertyHandler INSTANCE = new UnknownPropertyHandler();
+
+    /**
+     * Removes the any setter of AbstractJsonMapping
+     */
+    static final BeanDeserializerModifier MODIFIER = new BeanDeserializerModifier() {
+        @Override
+        public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+            SettableAnyProperty anySetter = builder.getAnySetter();
+            if (anySetter != null && anySetter.getProperty().getMember().getDeclaringClass() == AbstractJsonMapping.class) {
+                builder.setAnySetter(null);
+            }
+            return builder;
+        }
+    };
+
+    private UnknownPropertyHandler() {
+        // Use the INSTANCE
+    }
+
+    @Override
+    public boolean handleUnknownProperty(DeserializationContext ctxt, JsonParser p, JsonDeserializer<?> deserializer,
+            Object beanOrClass, String propertyName) throws IOException {
+        Class<?> type = beanOrClass instanceof Class ? (Class<?>) beanOrClass : beanOrClass.getClass();
+        if (!AbstractJsonMapping.class.isAssignableFrom(type)) {
+            // Fail as normal
+            return false;
+        }
+
+        PropertyDrift.unknownProperty(type, propertyName);
+        p.skipChildren();
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.yamj.api.common.exception.ApiExceptionType;
+
+/**
+ * A fixed number of copies of a worker running on an executor.
+ * <p>
+ * Each copy is expected to take work from a shared source until there is
+ * none left. Copies that the executor rejects are not started, the others
+ * share the work between them. If the executor rejects every copy the worker
+ * is run on the thread that waits for the group instead.
+ *
+ * @author Stuart
+ */
+public final class WorkerGroup {
+
+    private final Runnable worker;
+    private final CountDownLatch done;
+    private final int started;
+
+    private WorkerGroup(Runnable worker, CountDownLatch done, int started) {
+        this.worker = worker;
+        this.done = done;
+        this.started = started;
+    }
+
+    /**
+     * Start copies of the worker on the executor
+     *
+     * @param executor The executor to run the workers on
+     * @param count The number of copies to start
+     * @param worker The worker
+     * @return WorkerGroup
+     */
+    public static WorkerGroup start(Executor executor, int count, final Runnable worker) {
+        final CountDownLatch done = new CountDownLatch(Math.max(count, 0));
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    worker.run();
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        int started = 0;
+        for (int i = 0; i < count; i++) {
+            try {
+                executor.execute(task);
+                started++;
+            } catch (RejectedExecutionException ex) {
+                // Carry on with the workers we have
+                done.countDown();
+            }
+        }
+        return new WorkerGroup(worker, done, started);
+    }
+
+    /**
+     * Number of workers running on the executor
+     *
+     * @return count
+     */
+    public int getStarted() {
+        return started;
+    }
+
+    /**
+     * Wait for the workers to finish.
+     * <p>
+     * If no worker could be started, the worker is run on this thread.
+     *
+     * @param description What the workers are doing, for the exception
+     * @param onInterrupt Called if the wait is interrupted, to stop the
+     * workers taking more work, may be null
+     * @throws MovieDbException if interrupted
+     */
+    public void await(String description, Runnable onInterrupt) throws MovieDbException {
+        if (started == 0) {
+            worker.run();
+            return;
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (onInterrupt != null) {
+                onInterrupt.run();
+            }
+            throw new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, "Interrupted during " + description, description, ex);
+        }
+    }
+}
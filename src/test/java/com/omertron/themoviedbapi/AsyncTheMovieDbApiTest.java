@@ -0,0 +1,184 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.tools.HttpTools;
+import com.omertron.themoviedbapi.tools.MemoryResponseCache;
+import com.omertron.themoviedbapi.tools.RequestLimiter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Check the completion of the asynchronous API calls.
+ *
+ * These use a local stub server rather than the live API.
+ *
+ * @author stuart.boston
+ */
+public class AsyncTheMovieDbApiTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncTheMovieDbApiTest.class);
+    private static final long TIMEOUT = 30;
+    private StubServer server;
+    private AsyncTheMovieDbApi async;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubServer();
+        server.addResponse("/3/movie/550", "{\"id\":550,\"title\":\"Fight Club\"}");
+        async = new AsyncTheMovieDbApi(new TheMovieDbApi("APIKEY", server.getHttpClient()));
+    }
+
+    @After
+    public void tearDown() {
+        async.close();
+        server.close();
+    }
+
+    @Test
+    public void testCompletion() throws Exception {
+        LOG.info("Completion Test");
+        CompletableFuture<MovieInfo> future = async.getMovieInfo(550, null);
+
+        MovieInfo movie = future.get(TIMEOUT, TimeUnit.SECONDS);
+        assertEquals("Wrong movie", 550, movie.getId());
+        assertEquals("Wrong title", "Fight Club", movie.getTitle());
+        assertFalse("Completed exceptionally", future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testExceptionalCompletion() throws Exception {
+        LOG.info("Exceptional Completion Test");
+        CompletableFuture<MovieInfo> future = async.getMovieInfo(1, null);
+
+        try {
+            future.get(TIMEOUT, TimeUnit.SECONDS);
+            fail("Missing movie did not fail");
+        } catch (ExecutionException ex) {
+            assertTrue("Wrong cause: " + ex.getCause(), ex.getCause() instanceof MovieDbException);
+        }
+
+        try {
+            future.join();
+            fail("Missing movie did not fail");
+        } catch (CompletionException ex) {
+            assertTrue("MovieDbException was wrapped: " + ex.getCause(), ex.getCause() instanceof MovieDbException);
+        }
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        LOG.info("Rejected Test");
+        Executor rejecting = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("Test rejection");
+            }
+        };
+        AsyncTheMovieDbApi rejected = new AsyncTheMovieDbApi(async.getApi(), rejecting);
+
+        CompletableFuture<MovieInfo> future = rejected.getMovieInfo(550, null);
+        try {
+            future.get(TIMEOUT, TimeUnit.SECONDS);
+            fail("Rejected call completed");
+        } catch (ExecutionException ex) {
+            assertTrue("Wrong cause: " + ex.getCause(), ex.getCause() instanceof RejectedExecutionException);
+        }
+        assertEquals("Rejected call was sent", 0, server.getRequestCount("/3/movie/550"));
+    }
+
+    @Test
+    public void testCachedCallsNotThrottled() throws Exception {
+        LOG.info("Cached Calls Not Throttled Test");
+        // One permit an hour, only the first call may go to the server
+        HttpTools httpTools = new HttpTools(server.getHttpClient(), new RequestLimiter(1, 1, TimeUnit.HOURS));
+        httpTools.setResponseCache(new MemoryResponseCache());
+        AsyncTheMovieDbApi cached = new AsyncTheMovieDbApi(new TheMovieDbApi("APIKEY", httpTools));
+        try {
+            cached.getMovieInfo(550, null).get(TIMEOUT, TimeUnit.SECONDS);
+
+            List<CompletableFuture<MovieInfo>> futures = new ArrayList<>();
+            for (int loop = 0; loop < 10; loop++) {
+                futures.add(cached.getMovieInfo(550, null));
+            }
+            for (CompletableFuture<MovieInfo> future : futures) {
+                assertEquals("Wrong movie", 550, future.get(TIMEOUT, TimeUnit.SECONDS).getId());
+            }
+            assertEquals("Cached calls took a permit", 1L, httpTools.getRequestLimiter().getRequestCount());
+            assertEquals("Cached calls were sent", 1, server.getRequestCount("/3/movie/550"));
+        } finally {
+            cached.close();
+        }
+    }
+
+    @Test
+    public void testDefaultExecutor() throws Exception {
+        LOG.info("Default Executor Test");
+        ExecutorService fallback = AsyncTheMovieDbApi.createDefaultExecutor("noSuchExecutor");
+        try {
+            Thread thread = fallback.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.SECONDS);
+            assertTrue("Fallback did not use the async threads: " + thread.getName(), thread.getName().startsWith("tmdb-async-"));
+            assertTrue("Fallback thread is not a daemon", thread.isDaemon());
+        } finally {
+            fallback.shutdown();
+        }
+
+        // A factory method that exists is used instead of the fallback
+        ExecutorService found = AsyncTheMovieDbApi.createDefaultExecutor("newSingleThreadExecutor");
+        try {
+            Thread thread = found.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.SECONDS);
+            assertFalse("Factory method was not used", thread.getName().startsWith("tmdb-async-"));
+        } finally {
+            found.shutdown();
+        }
+
+        // Whichever the JDK provides, the default executor must run the calls
+        ExecutorService executor = AsyncTheMovieDbApi.createDefaultExecutor();
+        try {
+            assertEquals("Default executor did not run the task", Boolean.TRUE, executor.submit(() -> Boolean.TRUE).get(TIMEOUT, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.model.artwork.Artwork;
+import com.omertron.themoviedbapi.model.keyword.Keyword;
+import com.omertron.themoviedbapi.model.media.MediaCreditList;
+import com.omertron.themoviedbapi.model.media.Video;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.movie.ReleaseInfo;
+import com.omertron.themoviedbapi.results.ResultList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Check that the sub-resource calls are batched into one request.
+ *
+ * These use a local stub server rather than the live API.
+ *
+ * @author stuart.boston
+ */
+public class BatchingTheMovieDbApiTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingTheMovieDbApiTest.class);
+    private static final String MOVIE = "{\"id\":550,\"title\":\"Fight Club\","
+            + "\"credits\":{\"id\":550,\"cast\":[{\"id\":819,\"name\":\"Edward Norton\"}],\"crew\":[]},"
+            + "\"images\":{\"id\":550,\"backdrops\":[{\"file_path\":\"/backdrop.jpg\"}],\"posters\":[{\"file_path\":\"/poster.jpg\"}]},"
+            + "\"keywords\":{\"id\":550,\"keywords\":[{\"id\":825,\"name\":\"support group\"}]},"
+            + "\"videos\":{\"id\":550,\"results\":[{\"id\":\"533ec654c3a36854480003eb\",\"key\":\"SUXWAEX2jlg\",\"site\":\"YouTube\"}]},"
+            + "\"releases\":{\"id\":550,\"countries\":[{\"iso_3166_1\":\"US\",\"certification\":\"R\"}]}}";
+    private static final long TIMEOUT = 10L;
+    private StubServer server;
+    private BatchingTheMovieDbApi api;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubServer();
+        server.addResponse("/3/movie/550", MOVIE);
+        api = new BatchingTheMovieDbApi(new AsyncTheMovieDbApi(new TheMovieDbApi("APIKEY", server.getHttpClient())), 50L, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    public void tearDown() {
+        api.close();
+        server.close();
+    }
+
+    @Test
+    public void testMovieParts() throws Exception {
+        LOG.info("Movie Parts Test");
+        CompletableFuture<MovieInfo> info = api.getMovieInfo(550, null);
+        CompletableFuture<MediaCreditList> credits = api.getMovieCredits(550, null);
+        CompletableFuture<ResultList<Artwork>> images = api.getMovieImages(550, null);
+        CompletableFuture<ResultList<Keyword>> keywords = api.getMovieKeywords(550, null);
+        CompletableFuture<ResultList<Video>> videos = api.getMovieVideos(550, null);
+        CompletableFuture<ResultList<ReleaseInfo>> releases = api.getMovieReleaseInfo(550, null);
+
+        assertEquals("Wrong title", "Fight Club", info.get(TIMEOUT, TimeUnit.SECONDS).getTitle());
+        assertEquals("Wrong cast", 1, credits.get(TIMEOUT, TimeUnit.SECONDS).getCast().size());
+        assertEquals("Wrong images", 2, images.get(TIMEOUT, TimeUnit.SECONDS).getResults().size());
+        assertEquals("Wrong keywords", 1, keywords.get(TIMEOUT, TimeUnit.SECONDS).getResults().size());
+        assertEquals("Wrong videos", 1, videos.get(TIMEOUT, TimeUnit.SECONDS).getResults().size());
+        assertEquals("Wrong releases", 1, releases.get(TIMEOUT, TimeUnit.SECONDS).getResults().size());
+
+        assertEquals("Parts not batched", 1, server.getRequestCount("/3/movie/550"));
+        assertEquals("Wrong load count", 1L, api.getLoadCount());
+        String query = server.getLastQuery("/3/movie/550");
+        LOG.info("Query: {}", query);
+        assertTrue("Methods not appended", query.contains("append_to_response=credits,images,keywords,videos,releases"));
+    }
+
+    @Test
+    public void testSeparateLanguages() throws Exception {
+        LOG.info("Separate Languages Test");
+        CompletableFuture<ResultList<Keyword>> english = api.getMovieKeywords(550, "en");
+        CompletableFuture<ResultList<Keyword>> french = api.getMovieKeywords(550, "fr");
+
+        assertEquals("Wrong keywords", 1, english.get(TIMEOUT, TimeUnit.SECONDS).getResults().size());
+        assertEquals("Wrong keywords", 1, french.get(TIMEOUT, TimeUnit.SECONDS).getResults().size());
+        assertEquals("Languages batched together", 2, server.getRequestCount("/3/movie/550"));
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        LOG.info("Failure Test");
+        CompletableFuture<MediaCreditList> credits = api.getMovieCredits(1, null);
+        CompletableFuture<ResultList<Artwork>> images = api.getMovieImages(1, null);
+
+        for (CompletableFuture<?> future : new CompletableFuture<?>[]{credits, images}) {
+            try {
+                future.get(TIMEOUT, TimeUnit.SECONDS);
+                fail("No exception thrown");
+            } catch (ExecutionException ex) {
+                assertTrue("Wrong cause", ex.getCause() instanceof MovieDbException);
+                assertEquals("Wrong exception type", ApiExceptionType.HTTP_404_ERROR, ((MovieDbException) ex.getCause()).getExceptionType());
+            }
+        }
+        assertEquals("Parts not batched", 1, server.getRequestCount("/3/movie/1"));
+    }
+}
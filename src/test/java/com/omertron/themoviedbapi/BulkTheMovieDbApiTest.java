@@ -0,0 +1,195 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.results.BulkResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Check the bulk calls against a local stub server.
+ *
+ * @author stuart.boston
+ */
+public class BulkTheMovieDbApiTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkTheMovieDbApiTest.class);
+    private static final int PARALLELISM = 3;
+    private StubServer server;
+    private ExecutorService executor;
+    private BulkTheMovieDbApi api;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubServer();
+        server.addResponse("/3/movie/1", "{\"id\":1,\"title\":\"One\"}");
+        server.addResponse("/3/movie/2", "{\"id\":2,\"title\":\"Two\"}");
+        // Movie 3 is not on the server, movie 4 cannot be read
+        server.addResponse("/3/movie/4", "{\"id\":");
+        executor = Executors.newCachedThreadPool();
+        api = new BulkTheMovieDbApi(new TheMovieDbApi("APIKEY", server.getHttpClient()), executor, PARALLELISM);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        server.close();
+    }
+
+    /**
+     * Test that the results and the two kinds of failure are split
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testGetMovieInfoBulk() throws MovieDbException {
+        LOG.info("testGetMovieInfoBulk");
+        BulkResult<MovieInfo> result = api.getMovieInfoBulk(Arrays.asList(2, 1, 3, 4, 2), "en");
+        LOG.info("Result: {}", result);
+
+        assertEquals("Wrong requested count", 4, result.getRequestedCount());
+        assertEquals("Wrong fetched count", 2, result.getFetchedCount());
+        assertEquals("Wrong result order", Arrays.asList(2, 1), new ArrayList<>(result.getResults().keySet()));
+        assertEquals("Wrong title", "One", result.getResults().get(1).getTitle());
+        assertEquals("Wrong not found", Arrays.asList(3), new ArrayList<>(result.getNotFound()));
+        assertEquals("Wrong failures", Arrays.asList(4), new ArrayList<>(result.getFailures().keySet()));
+        assertFalse("Should not be complete", result.isComplete());
+        assertEquals("Duplicate ID fetched twice", 1, server.getRequestCount("/3/movie/2"));
+    }
+
+    /**
+     * Test that streamed results are passed on and not kept
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testStreaming() throws MovieDbException {
+        LOG.info("testStreaming");
+        final Map<Integer, String> titles = new ConcurrentHashMap<>();
+        BulkResult<MovieInfo> result = api.getMovieInfoBulk(Arrays.asList(1, 2, 3), "en", (id, movie) -> titles.put(id, movie.getTitle()));
+        LOG.info("Result: {}", result);
+
+        assertEquals("Wrong streamed count", 2, titles.size());
+        assertEquals("Wrong title", "Two", titles.get(2));
+        assertEquals("Wrong fetched count", 2, result.getFetchedCount());
+        assertTrue("Results should not be kept", result.getResults().isEmpty());
+        assertTrue("Should be complete", result.isComplete());
+    }
+
+    /**
+     * Test that a failing consumer is not reported as a fetch failure
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testConsumerFailure() throws MovieDbException {
+        LOG.info("testConsumerFailure");
+        BulkResult<MovieInfo> result = api.getMovieInfoBulk(Arrays.asList(1, 2, 3), "en", (id, movie) -> {
+            if (id == 2) {
+                throw new IllegalStateException("Consumer failed");
+            }
+        });
+        LOG.info("Result: {}", result);
+
+        assertEquals("Wrong fetched count", 2, result.getFetchedCount());
+        assertTrue("Consumer failure reported as a fetch failure", result.getFailures().isEmpty());
+        assertEquals("Wrong consumer failures", Arrays.asList(2), new ArrayList<>(result.getConsumerFailures().keySet()));
+        assertEquals("Wrong not found", Arrays.asList(3), new ArrayList<>(result.getNotFound()));
+        assertFalse("Should not be complete", result.isComplete());
+    }
+
+    /**
+     * Test that no more than the parallelism calls run at once
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testParallelism() throws MovieDbException {
+        LOG.info("testParallelism");
+        final AtomicInteger active = new AtomicInteger(0);
+        final AtomicInteger maxActive = new AtomicInteger(0);
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            ids.add(i);
+        }
+
+        BulkResult<Integer> result = api.<Integer>fetch(ids, id -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5L);
+                if (id % 10 == 0) {
+                    throw new MovieDbException(ApiExceptionType.HTTP_503_ERROR, "Failed " + id);
+                }
+                return id * 2;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, "Interrupted");
+            } finally {
+                active.decrementAndGet();
+            }
+        }, null);
+        LOG.info("Result: {}, max active {}", result, maxActive.get());
+
+        assertTrue("Too many calls at once", maxActive.get() <= PARALLELISM);
+        assertEquals("Wrong result count", 27, result.getResults().size());
+        assertEquals("Wrong failure count", 3, result.getFailures().size());
+        assertTrue("Not found should be empty", result.getNotFound().isEmpty());
+    }
+
+    /**
+     * Test that a null ID is rejected before any call is made
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testNullId() throws MovieDbException {
+        LOG.info("testNullId");
+        final AtomicInteger calls = new AtomicInteger(0);
+        try {
+            api.<Integer>fetch(Arrays.asList(1, null, 2), id -> calls.incrementAndGet(), null);
+            fail("Null ID accepted");
+        } catch (IllegalArgumentException ex) {
+            assertEquals("Calls made", 0, calls.get());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.tools.FileCheckpointStore;
+import com.omertron.themoviedbapi.tools.MethodBase;
+import java.io.File;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Check the change feed sync against a local stub server.
+ *
+ * @author stuart.boston
+ */
+public class ChangeFeedSyncTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeFeedSyncTest.class);
+    private static final String CHANGES_PATH = "/3/movie/changes";
+    // Every page returns the same IDs, so only three are unique
+    private static final String CHANGES = "{\"results\":[{\"id\":1,\"adult\":false},{\"id\":2,\"adult\":false},{\"id\":3,\"adult\":false}],"
+            + "\"page\":1,\"total_pages\":3,\"total_results\":9}";
+    private static final LocalDate CHECKPOINT = LocalDate.of(2016, 1, 1);
+    private static final int CONCURRENCY = 2;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private StubServer server;
+    private ExecutorService executor;
+    private FileCheckpointStore store;
+    private TheMovieDbApi api;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubServer();
+        server.addResponse(CHANGES_PATH, CHANGES);
+        executor = Executors.newCachedThreadPool();
+        store = new FileCheckpointStore(new File(folder.getRoot(), "checkpoints.properties").toPath());
+        api = new TheMovieDbApi("APIKEY", server.getHttpClient());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        server.close();
+    }
+
+    /**
+     * Test that the windows since the checkpoint are read and each ID
+     * refreshed once
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSync() throws Exception {
+        LOG.info("testSync");
+        store.setCheckpoint(MethodBase.MOVIE, CHECKPOINT);
+        final Map<Integer, AtomicInteger> refreshed = new ConcurrentHashMap<>();
+        ChangeFeedSync sync = new ChangeFeedSync(api, store, (method, id) -> {
+            refreshed.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+        }, executor, CONCURRENCY, CONCURRENCY);
+
+        // 30 days is three windows of three pages each
+        ChangeFeedSync.Result result = sync.sync(MethodBase.MOVIE, CHECKPOINT.plusDays(30));
+        LOG.info("Result: {}", result);
+
+        assertEquals("Wrong window count", 3, result.getWindowCount());
+        assertEquals("Wrong request count", 9, server.getRequestCount(CHANGES_PATH));
+        assertEquals("Wrong changed count", 3, result.getChangedCount());
+        assertEquals("Wrong refreshed count", 3, result.getRefreshedCount());
+        for (AtomicInteger count : refreshed.values()) {
+            assertEquals("ID refreshed more than once", 1, count.get());
+        }
+        assertTrue("Checkpoint not saved", result.isCheckpointSaved());
+
+        // A new store reads the saved checkpoint
+        FileCheckpointStore reopened = new FileCheckpointStore(new File(folder.getRoot(), "checkpoints.properties").toPath());
+        assertEquals("Wrong checkpoint", CHECKPOINT.plusDays(30), reopened.getCheckpoint(MethodBase.MOVIE));
+        assertNull("Unexpected TV checkpoint", reopened.getCheckpoint(MethodBase.TV));
+    }
+
+    /**
+     * Test that a day that was over when it was synced is not read again,
+     * and that the current day is
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testResume() throws Exception {
+        LOG.info("testResume");
+        store.setCheckpoint(MethodBase.MOVIE, CHECKPOINT);
+        final AtomicInteger refreshed = new AtomicInteger(0);
+        ChangeFeedSync sync = new ChangeFeedSync(api, store, (method, id) -> refreshed.incrementAndGet(), executor, CONCURRENCY, CONCURRENCY);
+
+        sync.sync(MethodBase.MOVIE, CHECKPOINT.plusDays(5));
+        assertNotNull("Sync time not saved", store.getSyncTime(MethodBase.MOVIE));
+        int requests = server.getRequestCount(CHANGES_PATH);
+
+        ChangeFeedSync.Result result = sync.sync(MethodBase.MOVIE, CHECKPOINT.plusDays(5));
+        LOG.info("Result: {}", result);
+        assertEquals("Synced day read again", requests, server.getRequestCount(CHANGES_PATH));
+        assertEquals("Wrong window count", 0, result.getWindowCount());
+        assertTrue("Checkpoint not reported", result.isCheckpointSaved());
+
+        result = sync.sync(MethodBase.MOVIE, CHECKPOINT.plusDays(6));
+        LOG.info("Result: {}", result);
+        assertEquals("Wrong start date", CHECKPOINT.plusDays(6), result.getStartDate());
+
+        // Today is not over, so is read again next time
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        store.setCheckpoint(MethodBase.MOVIE, today.minusDays(1));
+        sync.sync(MethodBase.MOVIE, today);
+        result = sync.sync(MethodBase.MOVIE, today);
+        LOG.info("Result: {}", result);
+        assertEquals("Wrong start date", today, result.getStartDate());
+        assertEquals("Wrong window count", 1, result.getWindowCount());
+    }
+
+    /**
+     * Test that a single thread executor can run both the pages and the
+     * refreshes
+     *
+     * @throws Exception
+     */
+    @Test(timeout = 10000L)
+    public void testSingleThread() throws Exception {
+        LOG.info("testSingleThread");
+        store.setCheckpoint(MethodBase.MOVIE, CHECKPOINT);
+        ExecutorService single = Executors.newFixedThreadPool(1);
+        try {
+            ChangeFeedSync sync = new ChangeFeedSync(api, store, (method, id) -> {
+            }, single, CONCURRENCY, CONCURRENCY);
+            ChangeFeedSync.Result result = sync.sync(MethodBase.MOVIE, CHECKPOINT.plusDays(5));
+            LOG.info("Result: {}", result);
+            assertEquals("Wrong refreshed count", 3, result.getRefreshedCount());
+            assertTrue("Checkpoint not saved", result.isCheckpointSaved());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that a failed refresh leaves the checkpoint where it was
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFailedRefresh() throws Exception {
+        LOG.info("testFailedRefresh");
+        store.setCheckpoint(MethodBase.MOVIE, CHECKPOINT);
+        ChangeFeedSync sync = new ChangeFeedSync(api, store, (method, id) -> {
+            if (id == 2) {
+                throw new MovieDbException(ApiExceptionType.HTTP_503_ERROR, "Refresh failed");
+            }
+        }, executor, CONCURRENCY, CONCURRENCY);
+
+        ChangeFeedSync.Result result = sync.sync(MethodBase.MOVIE, CHECKPOINT.plusDays(5));
+        LOG.info("Result: {}", result);
+
+        assertEquals("Wrong refreshed count", 2, result.getRefreshedCount());
+        assertTrue("Failure not reported", result.getRefreshFailures().containsKey(2));
+        assertFalse("Checkpoint saved", result.isCheckpointSaved());
+        assertEquals("Checkpoint moved", CHECKPOINT, store.getCheckpoint(MethodBase.MOVIE));
+    }
+
+    /**
+     * Test that a feed without a checkpoint reads the last day
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFirstSync() throws Exception {
+        LOG.info("testFirstSync");
+        final AtomicInteger refreshed = new AtomicInteger(0);
+        ChangeFeedSync sync = new ChangeFeedSync(api, store, (method, id) -> refreshed.incrementAndGet(), executor, CONCURRENCY, CONCURRENCY);
+
+        ChangeFeedSync.Result result = sync.sync(MethodBase.MOVIE, CHECKPOINT);
+        LOG.info("Result: {}", result);
+
+        assertEquals("Wrong start date", CHECKPOINT.minusDays(1), result.getStartDate());
+        assertEquals("Wrong window count", 1, result.getWindowCount());
+        assertEquals("Wrong refreshed count", 3, refreshed.get());
+        assertTrue("start_date not sent", server.getLastQuery(CHANGES_PATH).contains("start_date=" + CHECKPOINT.minusDays(1)));
+        assertEquals("Wrong checkpoint", CHECKPOINT, store.getCheckpoint(MethodBase.MOVIE));
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.DiscoverPlanner.Split;
+import com.omertron.themoviedbapi.interfaces.DiscoverQuery;
+import com.omertron.themoviedbapi.model.discover.Discover;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.results.ResultList;
+import com.omertron.themoviedbapi.tools.Param;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DiscoverPlannerTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DiscoverPlannerTest.class);
+    private static final int PAGE_SIZE = 20;
+    private static ExecutorService executor;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A discover search over a fixed set of movies, honouring the date and
+     * vote ranges
+     */
+    private static class FakeDiscover implements DiscoverQuery<MovieBasic> {
+
+        private final List<MovieBasic> movies;
+        private final AtomicInteger calls = new AtomicInteger(0);
+        private volatile int failPage = -1;
+        private volatile boolean failUnexpectedly = false;
+        // The date range the search honours, null to ignore all dates
+        private volatile Param dateGte = Param.PRIMARY_RELEASE_DATE_GTE;
+        private volatile Param dateLte = Param.PRIMARY_RELEASE_DATE_LTE;
+
+        FakeDiscover(List<MovieBasic> movies) {
+            this.movies = movies;
+        }
+
+        @Override
+        public ResultList<MovieBasic> discover(Discover discover) throws MovieDbException {
+            calls.incrementAndGet();
+            int page = NumberUtils.toInt(get(discover, Param.PAGE), 1);
+            if (page == failPage) {
+                failPage = -1;
+                if (failUnexpectedly) {
+                    throw new IllegalStateException("Page " + page + " failed");
+                }
+                throw new MovieDbException(ApiExceptionType.HTTP_503_ERROR, "Page " + page + " failed");
+            }
+
+            String dateFrom = dateGte == null ? null : get(discover, dateGte);
+            String dateTo = dateLte == null ? null : get(discover, dateLte);
+            int countFrom = NumberUtils.toInt(get(discover, Param.VOTE_COUNT_GTE), 0);
+            int countTo = NumberUtils.toInt(get(discover, Param.VOTE_COUNT_LTE), Integer.MAX_VALUE);
+            float averageFrom = NumberUtils.toFloat(get(discover, Param.VOTE_AVERAGE_GTE), 0f);
+            float averageTo = NumberUtils.toFloat(get(discover, Param.VOTE_AVERAGE_LTE), Float.MAX_VALUE);
+
+            List<MovieBasic> matches = new ArrayList<>();
+            for (MovieBasic movie : movies) {
+                if ((dateFrom == null || movie.getReleaseDate().compareTo(dateFrom) >= 0)
+                        && (dateTo == null || movie.getReleaseDate().compareTo(dateTo) <= 0)
+                        && movie.getVoteCount() >= countFrom
+                        && movie.getVoteCount() <= countTo
+                        && movie.getVoteAverage() >= averageFrom
+                        && movie.getVoteAverage() <= averageTo) {
+                    matches.add(movie);
+                }
+            }
+
+            int totalPages = (matches.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+            int start = Math.min((page - 1) * PAGE_SIZE, matches.size());
+            int end = Math.min(start + PAGE_SIZE, matches.size());
+            ResultList<MovieBasic> results = new ResultList<>(new ArrayList<>(matches.subList(start, end)));
+            results.setPage(page);
+            results.setTotalPages(totalPages);
+            results.setTotalResults(matches.size());
+            return results;
+        }
+
+        private static String get(Discover discover, Param param) {
+            Object value = discover.getParams().get(param);
+            return value == null ? null : value.toString();
+        }
+    }
+
+    private static List<MovieBasic> createMovies(int count, boolean sameDate) {
+        List<MovieBasic> movies = new ArrayList<>(count);
+        LocalDate date = LocalDate.of(1950, 1, 1);
+        for (int i = 1; i <= count; i++) {
+            MovieBasic movie = new MovieBasic();
+            movie.setId(i);
+            movie.setReleaseDate(sameDate ? date.toString() : date.plusDays(i).toString());
+            movie.setVoteCount(10);
+            movie.setVoteAverage(5f);
+            movies.add(movie);
+        }
+        return movies;
+    }
+
+    /**
+     * Test that a search past the page limit is split and every result read
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testSplitSearch() throws MovieDbException {
+        LOG.info("testSplitSearch");
+        int count = 25000;
+        FakeDiscover query = new FakeDiscover(createMovies(count, false));
+        DiscoverPlanner<MovieBasic> planner = new DiscoverPlanner<>(query, executor, 4, Split.values());
+
+        DiscoverPlanner.Result<MovieBasic> result = planner.sweep(new Discover());
+        LOG.info("Result: {}", result);
+
+        assertTrue("Not complete", result.isComplete());
+        assertTrue("Search not split", result.getSliceCount() > 1);
+        assertEquals("Wrong result count", count, result.getResults().size());
+        assertEquals("Wrong request count", query.calls.get(), result.getRequestCount());
+
+        Set<Integer> ids = new HashSet<>();
+        String lastDate = "";
+        for (MovieBasic movie : result.getResults()) {
+            assertTrue("Duplicate " + movie.getId(), ids.add(movie.getId()));
+            assertTrue("Out of order", movie.getReleaseDate().compareTo(lastDate) >= 0 || lastDate.isEmpty());
+            lastDate = movie.getReleaseDate();
+        }
+    }
+
+    /**
+     * Test that a slice that cannot be split is read up to the limit
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testUnsplittable() throws MovieDbException {
+        LOG.info("testUnsplittable");
+        FakeDiscover query = new FakeDiscover(createMovies(12000, true));
+        DiscoverPlanner<MovieBasic> planner = new DiscoverPlanner<>(query, executor, 4, Split.PRIMARY_RELEASE_DATE);
+
+        Discover discover = new Discover().primaryReleaseDateGte("1950-01-01").primaryReleaseDateLte("1950-01-01");
+        DiscoverPlanner.Result<MovieBasic> result = planner.sweep(discover);
+        LOG.info("Result: {}", result);
+
+        assertFalse("Should not be complete", result.isComplete());
+        assertEquals("Wrong slice count", 1, result.getSliceCount());
+        assertEquals("Wrong truncated count", 1, result.getTruncatedCount());
+        assertEquals("Wrong result count", DiscoverPlanner.MAX_PAGES * PAGE_SIZE, result.getResults().size());
+    }
+
+    /**
+     * Test that the vote average halves do not overlap
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testVoteAverageSplit() throws MovieDbException {
+        LOG.info("testVoteAverageSplit");
+        int count = 12000;
+        List<MovieBasic> movies = createMovies(count, true);
+        for (MovieBasic movie : movies) {
+            // Averages to three places, with many on the split points
+            movie.setVoteAverage((movie.getId() % 1000) / 100f);
+        }
+        FakeDiscover query = new FakeDiscover(movies);
+        DiscoverPlanner<MovieBasic> planner = new DiscoverPlanner<>(query, executor, 4, Split.VOTE_AVERAGE);
+
+        DiscoverPlanner.Result<MovieBasic> result = planner.sweep(new Discover());
+        LOG.info("Result: {}", result);
+
+        assertTrue("Not complete", result.isComplete());
+        assertTrue("Search not split", result.getSliceCount() > 1);
+        assertEquals("Results in more than one slice", 0, result.getDuplicateCount());
+        assertEquals("Wrong result count", count, result.getResults().size());
+    }
+
+    /**
+     * Test that a failed page is reported without stopping the sweep
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testFailedPage() throws MovieDbException {
+        LOG.info("testFailedPage");
+        int count = 1000;
+        FakeDiscover query = new FakeDiscover(createMovies(count, false));
+        query.failPage = 3;
+        DiscoverPlanner<MovieBasic> planner = new DiscoverPlanner<>(query, executor, 2, Split.values());
+
+        DiscoverPlanner.Result<MovieBasic> result = planner.sweep(new Discover());
+        LOG.info("Result: {}", result);
+
+        assertFalse("Should not be complete", result.isComplete());
+        assertEquals("Wrong failure count", 1, result.getFailures().size());
+        assertEquals("Wrong result count", count - PAGE_SIZE, result.getResults().size());
+    }
+
+    /**
+     * Test that an unexpected exception from the search is reported as a
+     * failure without stopping the sweep
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testUnexpectedFailure() throws MovieDbException {
+        LOG.info("testUnexpectedFailure");
+        int count = 1000;
+        FakeDiscover query = new FakeDiscover(createMovies(count, false));
+        query.failPage = 3;
+        query.failUnexpectedly = true;
+        DiscoverPlanner<MovieBasic> planner = new DiscoverPlanner<>(query, executor, 2, Split.values());
+
+        DiscoverPlanner.Result<MovieBasic> result = planner.sweep(new Discover());
+        LOG.info("Result: {}", result);
+
+        assertFalse("Should not be complete", result.isComplete());
+        assertEquals("Wrong failure count", 1, result.getFailures().size());
+        MovieDbException failure = result.getFailures().values().iterator().next();
+        assertTrue("Wrong cause: " + failure.getCause(), failure.getCause() instanceof IllegalStateException);
+        assertEquals("Wrong result count", count - PAGE_SIZE, result.getResults().size());
+    }
+
+    /**
+     * Test that a range the search ignores is dropped rather than split down
+     * to single days
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testIgnoredRange() throws MovieDbException {
+        LOG.info("testIgnoredRange");
+        int count = 12000;
+        List<MovieBasic> movies = createMovies(count, false);
+        for (MovieBasic movie : movies) {
+            movie.setVoteCount(movie.getId() % 1000);
+        }
+        FakeDiscover query = new FakeDiscover(movies);
+        query.dateGte = null;
+        query.dateLte = null;
+        DiscoverPlanner<MovieBasic> planner = new DiscoverPlanner<>(query, executor, 4, Split.values());
+
+        DiscoverPlanner.Result<MovieBasic> result = planner.sweep(new Discover());
+        LOG.info("Result: {}", result);
+
+        assertTrue("Not complete", result.isComplete());
+        assertEquals("Results in more than one slice", 0, result.getDuplicateCount());
+        assertEquals("Wrong result count", count, result.getResults().size());
+        // Each page once, plus a few probes for the ignored dates and the vote count splits
+        assertTrue("Too many requests: " + result.getRequestCount(), result.getRequestCount() < count / PAGE_SIZE + 50);
+    }
+
+    /**
+     * Test that a TV search is split on the first air date
+     *
+     * @throws MovieDbException
+     */
+    @Test
+    public void testTvSplit() throws MovieDbException {
+        LOG.info("testTvSplit");
+        int count = 12000;
+        FakeDiscover query = new FakeDiscover(createMovies(count, false));
+        query.dateGte = Param.FIRST_AIR_DATE_GTE;
+        query.dateLte = Param.FIRST_AIR_DATE_LTE;
+        DiscoverPlanner<MovieBasic> planner = DiscoverPlanner.forTv(query);
+
+        DiscoverPlanner.Result<MovieBasic> result = planner.sweep(new Discover());
+        LOG.info("Result: {}", result);
+
+        assertTrue("Not complete", result.isComplete());
+        assertTrue("Search not split", result.getSliceCount() > 1);
+        assertEquals("Results in more than one slice", 0, result.getDuplicateCount());
+        assertEquals("Wrong result count", count, result.getResults().size());
+    }
+}
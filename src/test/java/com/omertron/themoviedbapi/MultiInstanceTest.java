@@ -0,0 +1,112 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Check that several API instances can be used side by side in one JVM.
+ *
+ * These use local stub servers rather than the live API.
+ *
+ * @author stuart.boston
+ */
+public class MultiInstanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MultiInstanceTest.class);
+    private static final int INSTANCES = 3;
+    private static final int THREADS = 8;
+    private static final int CALLS = 10;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testConcurrentInstances() throws Exception {
+        LOG.info("Concurrent Instances Test");
+        List<StubServer> servers = new ArrayList<>();
+        List<TheMovieDbApi> apis = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            for (int i = 0; i < INSTANCES; i++) {
+                StubServer server = new StubServer();
+                server.addResponse("/3/configuration", "{\"images\":{\"base_url\":\"http://image" + i + "/\"}}");
+                server.addResponse("/3/movie/" + (i + 1), "{\"id\":" + (i + 1) + ",\"title\":\"Movie " + i + "\"}");
+                servers.add(server);
+                apis.add(new TheMovieDbApi("APIKEY" + i, server.getHttpClient()));
+            }
+
+            final CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        for (int c = 0; c < CALLS; c++) {
+                            for (int i = 0; i < INSTANCES; i++) {
+                                TheMovieDbApi api = apis.get(i);
+                                assertEquals("Wrong configuration", "http://image" + i + "/", api.getConfiguration().getBaseUrl());
+                                MovieInfo movie = api.getMovieInfo(i + 1, null);
+                                assertEquals("Wrong movie", i + 1, movie.getId());
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+
+            for (int i = 0; i < INSTANCES; i++) {
+                StubServer server = servers.get(i);
+                assertEquals("Configuration fetched more than once", 1, server.getRequestCount("/3/configuration"));
+                int movieRequests = server.getRequestCount("/3/movie/" + (i + 1));
+                // Coalescing is off by default, so every call makes its own request
+                assertEquals("Wrong request count", THREADS * CALLS, movieRequests);
+                assertEquals("Limiter shared between instances", 1L + movieRequests, apis.get(i).getHttpTools().getRequestLimiter().getRequestCount());
+            }
+        } finally {
+            executor.shutdownNow();
+            for (StubServer server : servers) {
+                server.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.HttpClients;
+
+/**
+ * A local stub of the TMDb API for tests that should not go to the network.
+ *
+ * The HttpClient returned by the stub uses the server as a proxy, so the URLs
+ * built by ApiUrl are answered locally.
+ *
+ * @author Stuart
+ */
+public class StubServer implements Closeable {
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_NOT_FOUND = 404;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final Map<String, Integer> keyStatus = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> keyRequests = new ConcurrentHashMap<>();
+    private final Map<String, String> lastQueries = new ConcurrentHashMap<>();
+    private volatile long delayMillis = 0L;
+
+    /**
+     * Create and start the server on a free local port
+     *
+     * @throws IOException
+     */
+    public StubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Hold every response back for a while
+     *
+     * @param delayMillis
+     */
+    public void setDelay(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Set the JSON body returned for the path, e.g. "/3/discover/movie"
+     *
+     * @param path
+     * @param json
+     */
+    public void addResponse(String path, String json) {
+        responses.put(path, json);
+    }
+
+    /**
+     * Answer every request made with the API key with an error status.
+     *
+     * A 429 is sent with "Retry-After: 0" so the client does not wait.
+     *
+     * @param apiKey
+     * @param status the status to return, or 0 to answer normally again
+     */
+    public void setKeyStatus(String apiKey, int status) {
+        if (status == 0) {
+            keyStatus.remove(apiKey);
+        } else {
+            keyStatus.put(apiKey, status);
+        }
+    }
+
+    /**
+     * Get the number of requests received with the API key
+     *
+     * @param apiKey
+     * @return
+     */
+    public int getKeyRequestCount(String apiKey) {
+        AtomicInteger count = keyRequests.get(apiKey);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Get the number of requests received for the path
+     *
+     * @param path
+     * @return
+     */
+    public int getRequestCount(String path) {
+        AtomicInteger count = requests.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Get the decoded query string of the last request for the path
+     *
+     * @param path
+     * @return
+     */
+    public String getLastQuery(String path) {
+        return lastQueries.get(path);
+    }
+
+    /**
+     * Get a HttpClient that sends all requests to this server
+     *
+     * @return
+     */
+    public HttpClient getHttpClient() {
+        HttpHost proxy = new HttpHost(server.getAddress().getHostString(), server.getAddress().getPort());
+        return HttpClients.custom().setProxy(proxy).build();
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        increment(requests, path);
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            lastQueries.put(path, query);
+        }
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String apiKey = getApiKey(exchange.getRequestURI().getRawQuery());
+        if (apiKey != null) {
+            increment(keyRequests, apiKey);
+            Integer status = keyStatus.get(apiKey);
+            if (status != null) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+                return;
+            }
+        }
+
+        String json = responses.get(path);
+        byte[] body = (json == null ? "{\"status_code\":34}" : json).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+        exchange.sendResponseHeaders(json == null ? STATUS_NOT_FOUND : STATUS_OK, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private static void increment(Map<String, AtomicInteger> counts, String key) {
+        AtomicInteger count = counts.get(key);
+        if (count == null) {
+            counts.putIfAbsent(key, new AtomicInteger(0));
+            count = counts.get(key);
+        }
+        count.incrementAndGet();
+    }
+
+    private static String getApiKey(String query) {
+        if (query != null) {
+            for (String param : query.split("&")) {
+                if (param.startsWith("api_key=")) {
+                    return param.substring("api_key=".length());
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
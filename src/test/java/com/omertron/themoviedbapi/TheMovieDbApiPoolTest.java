@@ -0,0 +1,174 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi;
+
+import com.omertron.themoviedbapi.interfaces.ApiCall;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Check the routing and quarantine of the API key pool.
+ *
+ * These use a local stub server rather than the live API.
+ *
+ * @author stuart.boston
+ */
+public class TheMovieDbApiPoolTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TheMovieDbApiPoolTest.class);
+    private static final List<String> KEYS = Arrays.asList("KEY1", "KEY2", "KEY3");
+    private static final ApiCall<MovieInfo> GET_MOVIE = new ApiCall<MovieInfo>() {
+        @Override
+        public MovieInfo call(TheMovieDbApi api) throws MovieDbException {
+            return api.getMovieInfo(550, null);
+        }
+    };
+    private StubServer server;
+    private TheMovieDbApiPool pool;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubServer();
+        server.addResponse("/3/movie/550", "{\"id\":550,\"title\":\"Fight Club\"}");
+        pool = new TheMovieDbApiPool(KEYS, server.getHttpClient());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testSpread() throws Exception {
+        LOG.info("Spread Test");
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<MovieInfo>> futures = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                futures.add(executor.submit(() -> pool.execute(GET_MOVIE)));
+            }
+            for (Future<MovieInfo> future : futures) {
+                assertEquals("Wrong movie", 550, future.get(30, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (TheMovieDbApiPool.PooledKey key : pool.getKeys()) {
+            LOG.info("{}", key);
+            assertTrue("Key not used: " + key, server.getKeyRequestCount(key.getApiKey()) > 0);
+            assertEquals("Wrong request count", key.getRequestCount(), server.getKeyRequestCount(key.getApiKey()));
+            assertEquals("Calls still in flight", 0, key.getInFlight());
+        }
+    }
+
+    @Test
+    public void testUnauthorised() throws MovieDbException {
+        LOG.info("Unauthorised Test");
+        server.setKeyStatus("KEY1", 401);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Wrong movie", 550, pool.execute(GET_MOVIE).getId());
+        }
+
+        TheMovieDbApiPool.PooledKey key = pool.getKeys().get(0);
+        assertFalse("Key still in rotation", key.isAvailable());
+        assertEquals("Wrong auth failure count", 1L, key.getAuthFailureCount());
+        assertEquals("Rejected key used again", 1, server.getKeyRequestCount("KEY1"));
+    }
+
+    @Test
+    public void testRateLimited() throws MovieDbException {
+        LOG.info("Rate Limited Test");
+        server.setKeyStatus("KEY1", 429);
+        server.setKeyStatus("KEY2", 429);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Wrong movie", 550, pool.execute(GET_MOVIE).getId());
+        }
+        assertFalse("Key still in rotation", pool.getKeys().get(0).isAvailable());
+        assertFalse("Key still in rotation", pool.getKeys().get(1).isAvailable());
+        assertEquals("Wrong request count", 5, server.getKeyRequestCount("KEY3"));
+
+        // Once everything is out of rotation the call fails
+        server.setKeyStatus("KEY3", 429);
+        try {
+            pool.execute(GET_MOVIE);
+            fail("No exception thrown");
+        } catch (MovieDbException ex) {
+            assertEquals("Wrong response code", 429, ex.getResponseCode());
+        }
+    }
+
+    @Test
+    public void testOtherCallRejected() throws Exception {
+        LOG.info("Other Call Rejected Test");
+        ApiCall<MovieInfo> call = new ApiCall<MovieInfo>() {
+            @Override
+            public MovieInfo call(final TheMovieDbApi api) throws MovieDbException {
+                // Another call on the same key is rejected whilst this one runs
+                Thread other = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 429, "Too Many Requests");
+                        response.addHeader("Retry-After", "0");
+                        api.getHttpTools().getRequestLimiter().update(response);
+                    }
+                });
+                other.start();
+                try {
+                    other.join();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return api.getMovieInfo(550, null);
+            }
+        };
+
+        assertEquals("Wrong movie", 550, pool.execute(call).getId());
+        for (TheMovieDbApiPool.PooledKey key : pool.getKeys()) {
+            assertEquals("Key quarantined for another call's rejection: " + key, 0L, key.getQuarantineCount());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.methods;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.StubServer;
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.model.discover.Discover;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.model.tv.TVBasic;
+import com.omertron.themoviedbapi.results.ResultList;
+import com.omertron.themoviedbapi.tools.HttpTools;
+import java.io.IOException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Check that the paged list methods only make one request per call.
+ *
+ * These use a local stub server rather than the live API.
+ *
+ * @author stuart.boston
+ */
+public class SingleRequestTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SingleRequestTest.class);
+    private static final String APIKEY = "APIKEY";
+    private static final String PAGE = "{\"page\":1,\"total_pages\":3,\"total_results\":3,\"results\":[{\"id\":550,\"title\":\"Fight Club\",\"name\":\"Fight Club\"}]}";
+    private StubServer server;
+    private HttpTools httpTools;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer();
+        httpTools = new HttpTools(server.getHttpClient());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testDiscoverMovies() throws MovieDbException {
+        LOG.info("getDiscoverMovies");
+        server.addResponse("/3/discover/movie", PAGE);
+
+        ResultList<MovieBasic> result = new TmdbDiscover(APIKEY, httpTools).getDiscoverMovies(new Discover().year(2013));
+        assertEquals("Wrong result size", 1, result.getResults().size());
+        assertEquals("Wrong total pages", 3, result.getTotalPages());
+        assertEquals("Wrong number of requests", 1, server.getRequestCount("/3/discover/movie"));
+    }
+
+    @Test
+    public void testDiscoverTV() throws MovieDbException {
+        LOG.info("getDiscoverTV");
+        server.addResponse("/3/discover/tv", PAGE);
+
+        ResultList<TVBasic> result = new TmdbDiscover(APIKEY, httpTools).getDiscoverTV(new Discover().year(2013));
+        assertEquals("Wrong result size", 1, result.getResults().size());
+        assertEquals("Wrong number of requests", 1, server.getRequestCount("/3/discover/tv"));
+    }
+
+    @Test
+    public void testGenreMovies() throws MovieDbException {
+        LOG.info("getGenreMovies");
+        server.addResponse("/3/genre/28/movies", PAGE);
+
+        ResultList<MovieBasic> result = new TmdbGenres(APIKEY, httpTools).getGenreMovies(28, null, 1, null, null);
+        assertEquals("Wrong result size", 1, result.getResults().size());
+        assertEquals("Wrong number of requests", 1, server.getRequestCount("/3/genre/28/movies"));
+    }
+
+    @Test
+    public void testCompanyMovies() throws MovieDbException {
+        LOG.info("getCompanyMovies");
+        server.addResponse("/3/company/2/movies", PAGE);
+
+        ResultList<MovieBasic> result = new TmdbCompanies(APIKEY, httpTools).getCompanyMovies(2, null, 1);
+        assertEquals("Wrong result size", 1, result.getResults().size());
+        assertEquals("Wrong number of requests", 1, server.getRequestCount("/3/company/2/movies"));
+    }
+}
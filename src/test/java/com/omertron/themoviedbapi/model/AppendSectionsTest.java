@@ -0,0 +1,121 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.model;
+
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.enumeration.MovieMethod;
+import com.omertron.themoviedbapi.enumeration.TVSeasonMethod;
+import com.omertron.themoviedbapi.model.credits.CreditMovieBasic;
+import com.omertron.themoviedbapi.model.media.MediaCreditList;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.person.PersonInfo;
+import com.omertron.themoviedbapi.model.tv.TVSeasonInfo;
+import com.omertron.themoviedbapi.tools.ObjectReaders;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AppendSectionsTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppendSectionsTest.class);
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testMissingSections() throws IOException {
+        LOG.info("Missing Sections Test");
+        TVSeasonInfo season = ObjectReaders.forClass(TVSeasonInfo.class).readValue("{\"id\":3624,\"season_number\":1}");
+
+        assertFalse("Credits reported", season.hasMethod(TVSeasonMethod.CREDITS));
+        assertNotNull("No credits", season.getCredits());
+        assertSame("Credits not kept", season.getCredits(), season.getCredits());
+        assertNotNull("No external IDs", season.getExternalIDs());
+        assertTrue("Cast not empty", new MovieInfo().getCast().isEmpty());
+    }
+
+    @Test
+    public void testSharedEmptySections() {
+        LOG.info("Shared Empty Sections Test");
+        TVSeasonInfo first = new TVSeasonInfo();
+        TVSeasonInfo second = new TVSeasonInfo();
+        assertSame("Empty credits not shared", first.getCredits(), second.getCredits());
+        assertSame("Empty external IDs not shared", first.getExternalIDs(), new PersonInfo().getExternalIDs());
+        try {
+            first.getCredits().setId(1);
+            fail("Shared credits changed");
+        } catch (UnsupportedOperationException ex) {
+            assertEquals("Shared credits changed", 0, second.getCredits().getId());
+        }
+        try {
+            new PersonInfo().getMovieCredits().setCast(Collections.<CreditMovieBasic>emptyList());
+            fail("Shared person credits changed");
+        } catch (UnsupportedOperationException ex) {
+            assertNull("Shared person credits changed", new PersonInfo().getMovieCredits().getCast());
+        }
+
+        // Setting a section replaces the shared instance
+        MediaCreditList credits = new MediaCreditList();
+        first.setCredits(credits);
+        assertSame("Credits not set", credits, first.getCredits());
+        assertTrue("Credits not reported", first.hasMethod(TVSeasonMethod.CREDITS));
+    }
+
+    @Test
+    public void testSectionMethods() throws IOException, ClassNotFoundException {
+        LOG.info("Section Methods Test");
+        MovieInfo movie = ObjectReaders.forClass(MovieInfo.class).readValue("{\"id\":550,"
+                + "\"credits\":{\"cast\":[{\"id\":819,\"name\":\"Edward Norton\"}],\"crew\":[]},"
+                + "\"videos\":{\"results\":[]}}");
+
+        assertTrue("Credits not reported", movie.hasMethod(MovieMethod.CREDITS));
+        assertTrue("Videos not reported", movie.hasMethod(MovieMethod.VIDEOS));
+        assertFalse("Images reported", movie.hasMethod(MovieMethod.IMAGES));
+        assertEquals("Wrong cast count", 1, movie.getCast().size());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(movie);
+        }
+        MovieInfo copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (MovieInfo) in.readObject();
+        }
+        assertTrue("Credits not kept", copy.hasMethod(MovieMethod.CREDITS));
+        assertFalse("Images reported", copy.hasMethod(MovieMethod.IMAGES));
+        assertEquals("Wrong cast", "Edward Norton", copy.getCast().get(0).getName());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.results;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.interfaces.PageFetcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PageFanOutTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PageFanOutTest.class);
+    private static final int PAGES = 20;
+    private static final int FAILED_PAGE = 7;
+    private static final int CONCURRENCY = 3;
+    private static ExecutorService executor;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Pages holding their page number, with one failing page
+     */
+    private static class SlowFetcher implements PageFetcher<Integer> {
+
+        private final AtomicInteger active = new AtomicInteger(0);
+        private final AtomicInteger maxActive = new AtomicInteger(0);
+
+        @Override
+        public ResultList<Integer> getPage(int page) throws MovieDbException {
+            int now = active.incrementAndGet();
+            maxActive.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(10L);
+                if (page == FAILED_PAGE) {
+                    throw new MovieDbException(ApiExceptionType.HTTP_503_ERROR, "Page " + page + " failed");
+                }
+                ResultList<Integer> results = new ResultList<>(Collections.singletonList(page));
+                results.setPage(page);
+                results.setTotalPages(PAGES);
+                return results;
+            } catch (InterruptedException ex) {
+                throw new MovieDbException(ApiExceptionType.UNKNOWN_CAUSE, "Interrupted", "page " + page, ex);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    @Test
+    public void testOrdered() throws MovieDbException {
+        LOG.info("Ordered Test");
+        SlowFetcher fetcher = new SlowFetcher();
+        final List<Integer> delivered = new ArrayList<>();
+        PageFanOut.Result<Integer> result = new PageFanOut<>(fetcher, executor, CONCURRENCY, PagedResults.DEFAULT_MAX_PAGES)
+                .fetchAll(true, page -> delivered.add(page.getPage()));
+
+        LOG.info("{}", result);
+        assertEquals("Wrong total pages", PAGES, result.getTotalPages());
+        assertEquals("Wrong page count", PAGES - 1, result.getPages().size());
+        assertFalse("Failure not reported", result.isComplete());
+        assertEquals("Wrong failed page", Integer.valueOf(FAILED_PAGE), result.getFailures().firstKey());
+        assertTrue("Concurrency cap exceeded", fetcher.maxActive.get() <= CONCURRENCY);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int page = 1; page <= PAGES; page++) {
+            if (page != FAILED_PAGE) {
+                expected.add(page);
+            }
+        }
+        assertEquals("Pages not delivered in order", expected, delivered);
+        assertEquals("Results not in page order", expected, result.getResults());
+    }
+
+    @Test
+    public void testUnordered() throws MovieDbException {
+        LOG.info("Unordered Test");
+        final List<Integer> delivered = new ArrayList<>();
+        PageFanOut.Result<Integer> result = new PageFanOut<>(new SlowFetcher(), executor, CONCURRENCY, 10)
+                .fetchAll(false, page -> delivered.add(page.getPage()));
+
+        assertEquals("Wrong total pages", 10, result.getTotalPages());
+        assertEquals("Wrong delivered count", 9, delivered.size());
+        Collections.sort(delivered);
+        assertEquals("Wrong pages", result.getResults(), delivered);
+    }
+
+    @Test
+    public void testConsumerFailure() throws MovieDbException {
+        LOG.info("Consumer Failure Test");
+        final int badPage = 3;
+        final List<Integer> delivered = new ArrayList<>();
+        PageFanOut.Result<Integer> result = new PageFanOut<>(new SlowFetcher(), executor, CONCURRENCY, 10)
+                .fetchAll(true, page -> {
+                    if (page.getPage() == badPage) {
+                        throw new IllegalStateException("Consumer failed");
+                    }
+                    delivered.add(page.getPage());
+                });
+
+        LOG.info("{}", result);
+        assertFalse("Failure not reported", result.isComplete());
+        assertEquals("Wrong fetch failures", Collections.singleton(FAILED_PAGE), result.getFailures().keySet());
+        assertEquals("Wrong consumer failures", Collections.singleton(badPage), result.getConsumerFailures().keySet());
+        assertTrue("Consumed page missing", result.getPages().containsKey(badPage));
+        assertEquals("Wrong delivered count", 8, delivered.size());
+    }
+
+    @Test
+    public void testFirstPageFailure() {
+        LOG.info("First Page Failure Test");
+        try {
+            new PageFanOut<Integer>(page -> {
+                throw new MovieDbException(ApiExceptionType.HTTP_404_ERROR, "Not found");
+            }).fetchAll();
+            fail("No exception thrown");
+        } catch (MovieDbException ex) {
+            assertEquals("Wrong exception type", ApiExceptionType.HTTP_404_ERROR, ex.getExceptionType());
+        }
+    }
+}
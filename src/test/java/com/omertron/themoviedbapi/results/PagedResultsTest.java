@@ -0,0 +1,203 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.results;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.UncheckedMovieDbException;
+import com.omertron.themoviedbapi.interfaces.PageFetcher;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PagedResultsTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PagedResultsTest.class);
+    private static final int PAGES = 5;
+    private static final int PAGE_SIZE = 3;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    /**
+     * Pages of consecutive numbers, counting the fetches of each page
+     */
+    private static class CountingFetcher implements PageFetcher<Integer> {
+
+        private final Map<Integer, AtomicInteger> fetches = new ConcurrentHashMap<>();
+
+        @Override
+        public ResultList<Integer> getPage(int page) throws MovieDbException {
+            fetches.computeIfAbsent(page, p -> new AtomicInteger()).incrementAndGet();
+            if (page > PAGES) {
+                throw new MovieDbException(ApiExceptionType.HTTP_404_ERROR, "Page " + page + " not found");
+            }
+
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                values.add((page - 1) * PAGE_SIZE + i);
+            }
+            ResultList<Integer> results = new ResultList<>(values);
+            results.setPage(page);
+            results.setTotalPages(PAGES);
+            results.setTotalResults(PAGES * PAGE_SIZE);
+            return results;
+        }
+
+        int getFetchCount() {
+            int total = 0;
+            for (AtomicInteger count : fetches.values()) {
+                total += count.get();
+            }
+            return total;
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        LOG.info("Iterator Test");
+        CountingFetcher fetcher = new CountingFetcher();
+        Iterator<Integer> iterator = PagedResults.of(fetcher).iterator();
+        assertEquals("Fetched before reading", 0, fetcher.getFetchCount());
+
+        for (int expected = 0; expected < PAGES * PAGE_SIZE; expected++) {
+            assertTrue("Results missing", iterator.hasNext());
+            assertEquals("Wrong order", Integer.valueOf(expected), iterator.next());
+        }
+        assertFalse("Too many results", iterator.hasNext());
+        assertEquals("Wrong fetch count", PAGES, fetcher.getFetchCount());
+    }
+
+    @Test
+    public void testShortCircuit() {
+        LOG.info("Short Circuit Test");
+        CountingFetcher fetcher = new CountingFetcher();
+        List<Integer> first = PagedResults.of(fetcher).stream()
+                .limit(PAGE_SIZE + 1)
+                .collect(Collectors.toList());
+
+        assertEquals("Wrong results", PAGE_SIZE + 1, first.size());
+        assertEquals("Pages fetched that were not read", 2, fetcher.getFetchCount());
+    }
+
+    @Test
+    public void testPrefetch() {
+        LOG.info("Prefetch Test");
+        CountingFetcher fetcher = new CountingFetcher();
+        Iterator<Integer> iterator = PagedResults.prefetched(fetcher).iterator();
+        assertEquals("Fetched before reading", 0, fetcher.getFetchCount());
+
+        for (int expected = 0; expected < PAGES * PAGE_SIZE; expected++) {
+            assertEquals("Wrong order", Integer.valueOf(expected), iterator.next());
+        }
+        assertFalse("Too many results", iterator.hasNext());
+        assertEquals("Wrong fetch count", PAGES, fetcher.getFetchCount());
+    }
+
+    @Test
+    public void testCancelPrefetch() throws InterruptedException {
+        LOG.info("Cancel Prefetch Test");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final CountingFetcher fetcher = new CountingFetcher();
+        PagedResults<Integer> results = PagedResults.prefetched(new PageFetcher<Integer>() {
+            @Override
+            public ResultList<Integer> getPage(int page) throws MovieDbException {
+                if (page > 1) {
+                    // A slow request that is still running when reading stops
+                    started.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+                }
+                return fetcher.getPage(page);
+            }
+        });
+
+        try (Stream<Integer> stream = results.stream()) {
+            assertEquals("Wrong result", Integer.valueOf(0), stream.findFirst().get());
+            assertTrue("Next page was not prefetched", started.await(10, TimeUnit.SECONDS));
+        }
+        assertTrue("Prefetch was not interrupted", interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMaxPages() {
+        LOG.info("Max Pages Test");
+        CountingFetcher fetcher = new CountingFetcher();
+        long count = new PagedResults<>(fetcher, null, 2).stream().count();
+
+        assertEquals("Wrong result count", 2L * PAGE_SIZE, count);
+        assertEquals("Wrong fetch count", 2, fetcher.getFetchCount());
+    }
+
+    @Test
+    public void testParallel() {
+        LOG.info("Parallel Test");
+        CountingFetcher fetcher = new CountingFetcher();
+        List<Integer> all = PagedResults.of(fetcher).stream(true).collect(Collectors.toList());
+
+        assertEquals("Wrong result count", PAGES * PAGE_SIZE, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals("Wrong order", Integer.valueOf(i), all.get(i));
+        }
+        for (int page = 1; page <= PAGES; page++) {
+            assertEquals("Page fetched more than once", 1, fetcher.fetches.get(page).get());
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        LOG.info("Failure Test");
+        PagedResults<Integer> results = PagedResults.of(new PageFetcher<Integer>() {
+            @Override
+            public ResultList<Integer> getPage(int page) throws MovieDbException {
+                throw new MovieDbException(ApiExceptionType.CONNECTION_ERROR, "Failed");
+            }
+        });
+
+        try {
+            results.stream().count();
+            fail("No exception thrown");
+        } catch (UncheckedMovieDbException ex) {
+            assertEquals("Wrong exception type", ApiExceptionType.CONNECTION_ERROR, ex.getCause().getExceptionType());
+        }
+    }
+}
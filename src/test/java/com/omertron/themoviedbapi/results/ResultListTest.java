@@ -0,0 +1,92 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.results;
+
+import com.omertron.themoviedbapi.TestLogger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResultListTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResultListTest.class);
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testWrap() {
+        LOG.info("Wrap Test");
+        List<String> list = new ArrayList<>(Arrays.asList("one", "two"));
+        assertSame("List was copied", list, ResultList.wrap(list).getResults());
+        assertNotSame("List was not copied", list, new ResultList<>(list).getResults());
+
+        // The shared empty list can not be added to
+        ResultList<String> empty = ResultList.wrap(Collections.<String>emptyList());
+        empty.getResults().add("three");
+        assertEquals("Wrong size", 1, empty.getResults().size());
+        assertTrue("Null not replaced", ResultList.wrap(null).isEmpty());
+    }
+
+    @Test
+    public void testImmutableView() {
+        LOG.info("Immutable View Test");
+        ResultList<String> results = ResultList.wrap(new ArrayList<>(Arrays.asList("one", "two")));
+        results.setId(5);
+        results.setPage(2);
+        results.setTotalPages(3);
+
+        ResultList<String> view = results.immutableView();
+        assertTrue("Not immutable", view.isImmutable());
+        assertFalse("Original is immutable", results.isImmutable());
+        assertSame("View of a view", view, view.immutableView());
+        assertEquals("Wrong id", 5, view.getId());
+        assertEquals("Wrong page", 2, view.getPage());
+        assertEquals("Wrong total pages", 3, view.getTotalPages());
+        assertEquals("Wrong total results", 2, view.getTotalResults());
+        assertEquals("Wrong results", results.getResults(), view.getResults());
+
+        try {
+            view.getResults().add("three");
+            fail("Results could be changed");
+        } catch (UnsupportedOperationException ex) {
+            // Expected
+        }
+        try {
+            view.setPage(1);
+            fail("Page could be changed");
+        } catch (UnsupportedOperationException ex) {
+            // Expected
+        }
+    }
+}
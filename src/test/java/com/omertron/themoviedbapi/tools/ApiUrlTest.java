@@ -26,6 +26,7 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Test case for ApiUrl
@@ -158,4 +159,46 @@ public class ApiUrlTest {
         assertEquals("Wrong TV Episode URL", expResult, result.toString());
     }
 
+    @Test
+    public void testNumberParams() {
+        LOG.info("Number Params test");
+        TmdbParameters parameters = new TmdbParameters();
+        parameters.add(Param.ID, 1396);
+        parameters.add(Param.SEASON_NUMBER, 2);
+        parameters.add(Param.EPISODE_NUMBER, 3);
+        parameters.add(Param.PAGE, 0);
+        parameters.add(Param.INCLUDE_VIDEO, false);
+        parameters.add(Param.LANGUAGE, "en");
+
+        URL result = new ApiUrl(APIKEY, MethodBase.EPISODE).subMethod(MethodSub.IMAGES).buildUrl(parameters);
+        String expResult = "http://api.themoviedb.org/3/tv/1396/season/2/episode/3/images?api_key=APIKEY&include_video=false&language=en";
+        assertEquals("Wrong Number Params URL", expResult, result.toString());
+        assertEquals("Wrong ID value", "1396", parameters.get(Param.ID));
+
+        // Replacing a number with text
+        parameters.add(Param.ID, "ID");
+        parameters.remove(Param.EPISODE_NUMBER);
+        result = new ApiUrl(APIKEY, MethodBase.SEASON).buildUrl(parameters);
+        expResult = "http://api.themoviedb.org/3/tv/ID/season/2?api_key=APIKEY&include_video=false&language=en";
+        assertEquals("Wrong replaced URL", expResult, result.toString());
+    }
+
+    @Test
+    public void testManyKeys() {
+        LOG.info("Many Keys test");
+        int keys = 1000;
+        for (int i = 0; i < keys; i++) {
+            URL result = new ApiUrl("KEY" + i, MethodBase.MOVIE).subMethod(MethodSub.CREDITS).buildUrl();
+            assertEquals("Wrong URL", "http://api.themoviedb.org/3/movie/credits?api_key=KEY" + i, result.toString());
+        }
+
+        int cached = 0;
+        for (int i = 0; i < keys; i++) {
+            if (ApiUrl.isKeyCached("KEY" + i)) {
+                cached++;
+            }
+        }
+        assertTrue("Last key not cached", ApiUrl.isKeyCached("KEY" + (keys - 1)));
+        assertTrue("Too many keys cached: " + cached, cached <= 16);
+    }
 }
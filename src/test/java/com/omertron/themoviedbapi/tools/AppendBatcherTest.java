@@ -0,0 +1,66 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.enumeration.MovieMethod;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AppendBatcherTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppendBatcherTest.class);
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testFullBatch() throws Exception {
+        LOG.info("Full Batch Test");
+        // The window is far longer than the test, only a full batch is loaded
+        AppendBatcher<Integer, Set<MovieMethod>, MovieMethod> batcher = new AppendBatcher<>(
+                (key, methods) -> CompletableFuture.completedFuture(EnumSet.copyOf(methods)),
+                1L, TimeUnit.MINUTES, 2);
+
+        CompletableFuture<Set<MovieMethod>> credits = batcher.submit(550, MovieMethod.CREDITS, m -> m);
+        assertFalse("Batch loaded before it was full", credits.isDone());
+
+        CompletableFuture<Set<MovieMethod>> images = batcher.submit(550, MovieMethod.IMAGES, m -> m);
+        assertTrue("Full batch was not loaded straight away", credits.isDone() && images.isDone());
+        assertEquals("Wrong methods", EnumSet.of(MovieMethod.CREDITS, MovieMethod.IMAGES), images.get());
+        assertEquals("Wrong load count", 1L, batcher.getLoadCount());
+
+        // The next request starts a new batch
+        CompletableFuture<Set<MovieMethod>> videos = batcher.submit(550, MovieMethod.VIDEOS, m -> m);
+        assertFalse("New batch loaded before it was full", videos.isDone());
+        assertEquals("Wrong load count", 1L, batcher.getLoadCount());
+    }
+}
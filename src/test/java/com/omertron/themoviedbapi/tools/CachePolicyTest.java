@@ -0,0 +1,90 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+
+public class CachePolicyTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachePolicyTest.class);
+    private static final String APIKEY = "APIKEY";
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    private static URL build(MethodBase base, MethodSub sub, Object id) {
+        TmdbParameters parameters = new TmdbParameters();
+        if (id instanceof Integer) {
+            parameters.add(Param.ID, (Integer) id);
+        } else {
+            parameters.add(Param.ID, (String) id);
+        }
+        parameters.add(Param.LANGUAGE, "en");
+        return new ApiUrl(APIKEY, base).subMethod(sub).buildUrl(parameters);
+    }
+
+    @Test
+    public void testTtl() {
+        LOG.info("TTL Test");
+        CachePolicy policy = CachePolicy.defaults();
+
+        assertEquals("Wrong configuration TTL", TimeUnit.DAYS.toMillis(1), policy.getTtl(build(MethodBase.CONFIGURATION, MethodSub.NONE, null)));
+        assertEquals("Wrong genre list TTL", TimeUnit.DAYS.toMillis(1), policy.getTtl(build(MethodBase.GENRE, MethodSub.MOVIE_LIST, null)));
+        assertEquals("Wrong genre movies TTL", TimeUnit.HOURS.toMillis(1), policy.getTtl(build(MethodBase.GENRE, MethodSub.MOVIES, 28)));
+        assertEquals("Wrong popular TTL", TimeUnit.MINUTES.toMillis(10), policy.getTtl(build(MethodBase.MOVIE, MethodSub.POPULAR, null)));
+        assertEquals("Wrong movie TTL", TimeUnit.HOURS.toMillis(1), policy.getTtl(build(MethodBase.MOVIE, MethodSub.NONE, 550)));
+        assertEquals("Wrong account state TTL", 0L, policy.getTtl(build(MethodBase.MOVIE, MethodSub.ACCOUNT_STATES, 550)));
+        assertEquals("Wrong favourites TTL", 0L, policy.getTtl(build(MethodBase.ACCOUNT, MethodSub.FAVORITE_MOVIES, 1)));
+    }
+
+    @Test
+    public void testOverride() {
+        LOG.info("Override Test");
+        CachePolicy policy = new CachePolicy(5, TimeUnit.MINUTES);
+        policy.setTtl(MethodBase.MOVIE, 2, TimeUnit.HOURS);
+        policy.setTtl(MethodSub.CREDITS, 3, TimeUnit.HOURS);
+
+        assertEquals("Wrong default TTL", TimeUnit.MINUTES.toMillis(5), policy.getTtl(build(MethodBase.TV, MethodSub.NONE, 1)));
+        assertEquals("Wrong base TTL", TimeUnit.HOURS.toMillis(2), policy.getTtl(build(MethodBase.MOVIE, MethodSub.NONE, 550)));
+        assertEquals("Wrong sub TTL", TimeUnit.HOURS.toMillis(3), policy.getTtl(build(MethodBase.MOVIE, MethodSub.CREDITS, 550)));
+    }
+
+    @Test
+    public void testKey() throws MalformedURLException {
+        LOG.info("Key Test");
+        assertEquals("API key not removed", "http://api.themoviedb.org/3/movie/550?language=en",
+                CachePolicy.getKey(build(MethodBase.MOVIE, MethodSub.NONE, 550)));
+        assertEquals("API key not removed", "http://api.themoviedb.org/3/configuration",
+                CachePolicy.getKey(new ApiUrl(APIKEY, MethodBase.CONFIGURATION).buildUrl()));
+        assertEquals("Keys differ between API keys",
+                CachePolicy.getKey(new URL("http://api.themoviedb.org/3/movie/550?api_key=ONE&language=en")),
+                CachePolicy.getKey(new URL("http://api.themoviedb.org/3/movie/550?api_key=TWO&language=en")));
+    }
+}
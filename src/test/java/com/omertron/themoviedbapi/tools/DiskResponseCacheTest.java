@@ -0,0 +1,206 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DiskResponseCacheTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DiskResponseCacheTest.class);
+    private static final long TTL = 60000L;
+    private static final long SEGMENT_SIZE = 4096L;
+    private static final String KEY = "http://api.themoviedb.org/3/movie/550?language=en";
+    private static final String VALUE = "{\"id\":550,\"title\":\"Fight Club\"}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testPersistence() throws IOException {
+        LOG.info("Persistence Test");
+        File dir = folder.newFolder();
+
+        try (DiskResponseCache cache = new DiskResponseCache(dir)) {
+            cache.put(KEY, VALUE, TTL);
+            cache.put("removed", VALUE, TTL);
+            cache.remove("removed");
+            assertEquals("Wrong value", VALUE, cache.get(KEY));
+        }
+
+        try (DiskResponseCache cache = new DiskResponseCache(dir)) {
+            assertEquals("Value lost on restart", VALUE, cache.get(KEY));
+            assertNull("Removed value returned after restart", cache.get("removed"));
+            assertEquals("Wrong hit count", 1L, cache.getStats().getHitCount());
+        }
+    }
+
+    @Test
+    public void testExpiry() throws IOException, InterruptedException {
+        LOG.info("Expiry Test");
+        try (DiskResponseCache cache = new DiskResponseCache(folder.newFolder())) {
+            cache.put(KEY, VALUE, 1L);
+            Thread.sleep(5L);
+            assertNull("Expired value returned", cache.get(KEY));
+        }
+    }
+
+    @Test
+    public void testSharedDirectory() throws IOException {
+        LOG.info("Shared Directory Test");
+        File dir = folder.newFolder();
+
+        try (DiskResponseCache first = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4);
+                DiskResponseCache second = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4)) {
+            first.put(KEY, VALUE, TTL);
+            assertEquals("Write not seen by the other instance", VALUE, second.get(KEY));
+
+            second.put(KEY, "updated", TTL);
+            assertEquals("Update not seen by the other instance", "updated", first.get(KEY));
+
+            first.compact();
+            assertEquals("Value lost after compaction by the other instance", "updated", second.get(KEY));
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        LOG.info("Compaction Test");
+        File dir = folder.newFolder();
+
+        try (DiskResponseCache cache = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4)) {
+            // Overwrite the same keys until the segments have to be compacted
+            for (int i = 0; i < 500; i++) {
+                cache.put("key-" + (i % 10), VALUE + i, TTL);
+            }
+
+            for (int i = 490; i < 500; i++) {
+                assertEquals("Wrong value after compaction", VALUE + i, cache.get("key-" + (i % 10)));
+            }
+            assertEquals("Wrong size", 10, cache.size());
+        }
+
+        File[] segments = dir.listFiles();
+        assertTrue("Segments not compacted", segments != null && segments.length <= 5);
+    }
+
+    @Test
+    public void testEvictOldest() throws IOException {
+        LOG.info("Evict Oldest Test");
+        try (DiskResponseCache cache = new DiskResponseCache(folder.newFolder(), SEGMENT_SIZE, SEGMENT_SIZE * 2)) {
+            for (int i = 0; i < 500; i++) {
+                cache.put("key-" + i, VALUE, TTL);
+            }
+
+            assertEquals("Newest value evicted", VALUE, cache.get("key-499"));
+            assertNull("Oldest value not evicted", cache.get("key-0"));
+            assertTrue("No evictions", cache.getStats().getEvictionCount() > 0);
+        }
+    }
+
+    @Test
+    public void testHashCollision() throws IOException {
+        LOG.info("Hash Collision Test");
+        File dir = folder.newFolder();
+
+        // Every key has the same hash
+        try (DiskResponseCache cache = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4) {
+            @Override
+            long hash(byte[] bytes) {
+                return 42L;
+            }
+        }) {
+            cache.put("first", "one", TTL);
+            cache.put("second", "two", TTL);
+            cache.put("third", "three", TTL);
+            cache.remove("second");
+
+            assertEquals("Colliding key overwritten", "one", cache.get("first"));
+            assertNull("Removed key returned", cache.get("second"));
+            assertEquals("Colliding key overwritten", "three", cache.get("third"));
+            assertEquals("Wrong size", 2, cache.size());
+
+            cache.put("second", "again", TTL);
+            cache.compact();
+            assertEquals("Wrong value after compaction", "one", cache.get("first"));
+            assertEquals("Wrong value after compaction", "again", cache.get("second"));
+            assertEquals("Wrong value after compaction", "three", cache.get("third"));
+        }
+    }
+
+    @Test
+    public void testReadOnlySegments() throws IOException {
+        LOG.info("Read Only Segments Test");
+        File dir = folder.newFolder();
+
+        try (DiskResponseCache cache = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4)) {
+            cache.put(KEY, VALUE, TTL);
+        }
+
+        // A segment another process has started to create, without a header yet
+        File creating = new File(dir, "segment-00000001.dat");
+        try (RandomAccessFile raf = new RandomAccessFile(creating, "rw")) {
+            raf.setLength(SEGMENT_SIZE);
+        }
+
+        try (DiskResponseCache cache = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4)) {
+            assertEquals("Wrong value", VALUE, cache.get(KEY));
+            try (RandomAccessFile raf = new RandomAccessFile(creating, "r")) {
+                assertEquals("Reader wrote to a segment it does not own", 0, raf.readInt());
+            }
+
+            // Writes carry on in the existing segments
+            cache.put("another", VALUE, TTL);
+            assertEquals("Wrong value", VALUE, cache.get("another"));
+        }
+    }
+
+    @Test
+    public void testCloseReleasesLock() throws IOException {
+        LOG.info("Close Releases Lock Test");
+        File dir = folder.newFolder();
+
+        DiskResponseCache first = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4);
+        DiskResponseCache second = new DiskResponseCache(dir, SEGMENT_SIZE, SEGMENT_SIZE * 4);
+        assertTrue("No lock held", DiskResponseCache.hasJvmLock(dir));
+
+        first.close();
+        assertTrue("Lock released whilst still in use", DiskResponseCache.hasJvmLock(dir));
+        second.close();
+        assertFalse("Lock not released", DiskResponseCache.hasJvmLock(dir));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.StubServer;
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import java.io.IOException;
+import java.net.URL;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class HttpToolsTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpToolsTest.class);
+    private static final ObjectReader READER = new ObjectMapper().readerFor(MovieInfo.class);
+    private static final String MOVIE = "{\"id\":550,\"title\":\"Fight Club\",\"credits\":{\"cast\":[{\"id\":819,\"name\":\"Edward Norton\"}]}}";
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testStreamedRequest() throws IOException, MovieDbException {
+        LOG.info("Streamed Request Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/movie/550", MOVIE);
+            HttpTools httpTools = new HttpTools(server.getHttpClient());
+
+            URL url = movieUrl(550);
+            for (int i = 0; i < 3; i++) {
+                MovieInfo movie = httpTools.getRequest(url, READER);
+                assertEquals("Wrong ID", 550, movie.getId());
+                assertEquals("Wrong cast", 1, movie.getCast().size());
+            }
+            assertEquals("Wrong request count", 3, server.getRequestCount("/3/movie/550"));
+        }
+    }
+
+    @Test
+    public void testCachedRequest() throws IOException, MovieDbException {
+        LOG.info("Cached Request Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/movie/550", MOVIE);
+            HttpTools httpTools = new HttpTools(server.getHttpClient());
+            httpTools.setResponseCache(new MemoryResponseCache());
+
+            URL url = movieUrl(550);
+            MovieInfo first = httpTools.getRequest(url, READER);
+            MovieInfo second = httpTools.getRequest(url, READER);
+
+            assertEquals("Wrong title", first.getTitle(), second.getTitle());
+            assertEquals("Response not cached", 1, server.getRequestCount("/3/movie/550"));
+        }
+    }
+
+    @Test
+    public void testErrorResponse() throws IOException {
+        LOG.info("Error Response Test");
+        try (StubServer server = new StubServer()) {
+            HttpTools httpTools = new HttpTools(server.getHttpClient());
+
+            URL url = movieUrl(1);
+            try {
+                httpTools.getRequest(url, READER);
+                fail("No exception thrown");
+            } catch (MovieDbException ex) {
+                assertEquals("Wrong exception type", ApiExceptionType.HTTP_404_ERROR, ex.getExceptionType());
+                assertEquals("Wrong response code", 404, ex.getResponseCode());
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyResponse() throws IOException {
+        LOG.info("Empty Response Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/movie/550", "");
+            HttpTools httpTools = new HttpTools(server.getHttpClient());
+
+            try {
+                httpTools.getRequest(movieUrl(550), READER);
+                fail("No exception thrown");
+            } catch (MovieDbException ex) {
+                assertEquals("Wrong exception type", ApiExceptionType.MAPPING_FAILED, ex.getExceptionType());
+            }
+        }
+    }
+
+    private static URL movieUrl(int movieId) {
+        TmdbParameters parameters = new TmdbParameters();
+        parameters.add(Param.ID, movieId);
+        return new ApiUrl("APIKEY", MethodBase.MOVIE).buildUrl(parameters);
+    }
+}
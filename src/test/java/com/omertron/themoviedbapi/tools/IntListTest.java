@@ -0,0 +1,95 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.model.tv.TVInfo;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class IntListTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IntListTest.class);
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testListView() {
+        LOG.info("List View Test");
+        IntList list = new IntList();
+        for (int i = 0; i < 25; i++) {
+            list.addInt(i * 3);
+        }
+        list.add(0, -1);
+        list.remove(1);
+        list.set(2, 100);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            expected.add(i * 3);
+        }
+        expected.add(0, -1);
+        expected.remove(1);
+        expected.set(2, 100);
+
+        assertEquals("Different list", expected, list);
+        assertEquals("Different list", list, expected);
+        assertEquals("Different hash", expected.hashCode(), list.hashCode());
+        assertTrue("Value not found", list.contains(100));
+        assertFalse("Value found", list.contains(6));
+        assertEquals("Wrong index", 2, list.indexOf(100));
+        assertArrayEquals("Wrong array", new int[]{-1, 3, 100}, Arrays.copyOf(list.toIntArray(), 3));
+    }
+
+    @Test
+    public void testCopyOf() {
+        LOG.info("Copy Of Test");
+        IntList list = IntList.of(1, 2, 3);
+        assertSame("IntList was copied", list, IntList.copyOf(list));
+        assertEquals("Wrong copy", list, IntList.copyOf(Arrays.asList(1, 2, 3)));
+        assertEquals("Null not kept", null, IntList.copyOf(null));
+    }
+
+    @Test
+    public void testMapping() throws IOException {
+        LOG.info("Mapping Test");
+        MovieBasic movie = ObjectReaders.forClass(MovieBasic.class).readValue("{\"id\":550,\"genre_ids\":[18,53,\"35\"]}");
+        assertTrue("Not mapped to an IntList", movie.getGenreIds() instanceof IntList);
+        assertEquals("Wrong genres", Arrays.asList(18, 53, 35), movie.getGenreIds());
+
+        TVInfo tv = ObjectReaders.forClass(TVInfo.class).readValue("{\"id\":1399,\"episode_run_time\":[60]}");
+        assertEquals("Wrong run time", 60, ((IntList) tv.getEpisodeRunTime()).getInt(0));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntOpenHashSetTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IntOpenHashSetTest.class);
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testAgainstHashSet() {
+        LOG.info("Against HashSet Test");
+        Random random = new Random(42);
+        IntOpenHashSet set = new IntOpenHashSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            // A small range so there are plenty of repeats and removals
+            int value = random.nextInt(5000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertEquals("Different remove of " + value, expected.remove(value), set.removeInt(value));
+            } else {
+                assertEquals("Different add of " + value, expected.add(value), set.addInt(value));
+            }
+        }
+
+        assertEquals("Different size", expected.size(), set.size());
+        assertEquals("Different set", expected, set);
+        assertEquals("Different set", set, expected);
+        for (int value = -100; value < 4900; value++) {
+            assertEquals("Different contains of " + value, expected.contains(value), set.containsInt(value));
+        }
+    }
+
+    @Test
+    public void testZero() {
+        LOG.info("Zero Test");
+        IntOpenHashSet set = new IntOpenHashSet(2);
+        assertFalse("Zero found", set.containsInt(0));
+        assertTrue("Zero not added", set.addInt(0));
+        assertFalse("Zero added twice", set.add(0));
+        set.addInt(7);
+        assertTrue("Zero not found", set.contains(0));
+        assertEquals("Wrong size", 2, set.size());
+
+        int[] values = set.toIntArray();
+        Arrays.sort(values);
+        assertEquals("Wrong values", "[0, 7]", Arrays.toString(values));
+        assertTrue("Zero not removed", set.remove(0));
+        assertEquals("Wrong values", "[7]", set.toString());
+    }
+}
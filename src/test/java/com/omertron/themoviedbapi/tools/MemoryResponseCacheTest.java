@@ -0,0 +1,92 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.StubServer;
+import com.omertron.themoviedbapi.TestLogger;
+import java.io.IOException;
+import java.net.URL;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MemoryResponseCacheTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryResponseCacheTest.class);
+    private static final long TTL = 60000L;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testEviction() {
+        LOG.info("Eviction Test");
+        MemoryResponseCache cache = new MemoryResponseCache(2);
+        cache.put("one", "1", TTL);
+        cache.put("two", "2", TTL);
+        // Make "one" the most recently used
+        assertEquals("Wrong value", "1", cache.get("one"));
+        cache.put("three", "3", TTL);
+
+        assertNull("Least recently used entry not evicted", cache.get("two"));
+        assertEquals("Wrong value", "1", cache.get("one"));
+        assertEquals("Wrong value", "3", cache.get("three"));
+        assertEquals("Wrong eviction count", 1L, cache.getStats().getEvictionCount());
+        assertEquals("Wrong hit count", 3L, cache.getStats().getHitCount());
+        assertEquals("Wrong miss count", 1L, cache.getStats().getMissCount());
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        LOG.info("Expiry Test");
+        MemoryResponseCache cache = new MemoryResponseCache();
+        cache.put("short", "1", 1L);
+        cache.put("none", "2", 0L);
+        Thread.sleep(5L);
+
+        assertNull("Expired entry returned", cache.get("short"));
+        assertNull("Zero TTL entry was cached", cache.get("none"));
+        assertEquals("Wrong size", 0, cache.size());
+    }
+
+    @Test
+    public void testHttpTools() throws IOException, MovieDbException {
+        LOG.info("HttpTools Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/configuration", "{\"images\":{}}");
+            HttpTools httpTools = new HttpTools(server.getHttpClient());
+            httpTools.setResponseCache(new MemoryResponseCache());
+
+            URL url = new ApiUrl("APIKEY", MethodBase.CONFIGURATION).buildUrl();
+            String first = httpTools.getRequest(url);
+            String second = httpTools.getRequest(url);
+
+            assertEquals("Wrong content", first, second);
+            assertEquals("Response not cached", 1, server.getRequestCount("/3/configuration"));
+            assertEquals("Wrong hit count", 1L, httpTools.getResponseCache().getStats().getHitCount());
+        }
+    }
+}
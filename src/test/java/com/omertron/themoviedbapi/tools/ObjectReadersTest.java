@@ -0,0 +1,125 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.model.credits.CreditBasic;
+import com.omertron.themoviedbapi.model.credits.CreditMovieBasic;
+import com.omertron.themoviedbapi.model.credits.CreditTVBasic;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.enumeration.MovieMethod;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.model.person.PersonCreditList;
+import com.omertron.themoviedbapi.results.WrapperGenericList;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ObjectReadersTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ObjectReadersTest.class);
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testReaderReuse() {
+        LOG.info("Reader Reuse Test");
+        assertSame("Class reader not reused", ObjectReaders.forClass(MovieInfo.class), ObjectReaders.forClass(MovieInfo.class));
+        assertSame("List reader not reused", ObjectReaders.forList(MovieBasic.class), ObjectReaders.forList(MovieBasic.class));
+    }
+
+    @Test
+    public void testListReader() throws IOException {
+        LOG.info("List Reader Test");
+        String json = "{\"page\":1,\"total_pages\":3,\"total_results\":42,\"results\":[{\"id\":550,\"title\":\"Fight Club\"}]}";
+        WrapperGenericList<MovieBasic> wrapper = ObjectReaders.forList(MovieBasic.class).readValue(json);
+
+        assertEquals("Wrong total results", 42, wrapper.getTotalResults());
+        assertEquals("Wrong result count", 1, wrapper.getResults().size());
+        assertEquals("Wrong title", "Fight Club", wrapper.getResults().get(0).getTitle());
+    }
+
+    @Test
+    public void testCombinedCredits() throws IOException {
+        LOG.info("Combined Credits Test");
+        String json = "{\"id\":287,\"cast\":["
+                + "{\"id\":1,\"media_type\":\"movie\",\"title\":\"Movie\",\"character\":\"A\"},"
+                + "{\"id\":2,\"media_type\":\"tv\",\"name\":\"Show\",\"character\":\"B\"}],\"crew\":[]}";
+        PersonCreditList<CreditBasic> credits = ObjectReaders.PERSON_COMBINED_CREDITS.readValue(json);
+
+        assertEquals("Wrong cast count", 2, credits.getCast().size());
+        assertTrue("Movie credit has wrong type", credits.getCast().get(0) instanceof CreditMovieBasic);
+        assertTrue("TV credit has wrong type", credits.getCast().get(1) instanceof CreditTVBasic);
+    }
+
+    @Test
+    public void testGeneratedDeserializers() throws IOException {
+        LOG.info("Generated Deserializers Test");
+        Assume.assumeTrue("Not built with the generated deserializers", ObjectReaders.isGenerated());
+
+        String json = "{\"id\":550,\"title\":\"Fight Club\",\"budget\":63000000,\"runtime\":null,\"adult\":false,"
+                + "\"vote_average\":8.4,\"popularity\":\"12.5\",\"unknown_field\":{\"a\":[1,2]},"
+                + "\"genres\":[{\"id\":18,\"name\":\"Drama\"}],\"genre_ids\":[18,53],"
+                + "\"credits\":{\"cast\":[{\"id\":819,\"name\":\"Edward Norton\",\"character\":\"The Narrator\",\"order\":0}],\"crew\":[]},"
+                + "\"images\":{\"backdrops\":[{\"file_path\":\"/a.jpg\",\"width\":1280,\"height\":720}],\"posters\":[]}}";
+        MovieInfo generated = ObjectReaders.forClass(MovieInfo.class).readValue(json);
+        MovieInfo reflected = new ObjectMapper().readerFor(MovieInfo.class).readValue(json);
+
+        assertEquals("Wrong title", "Fight Club", generated.getTitle());
+        assertEquals("Wrong cast count", 1, generated.getCast().size());
+        assertEquals("Different mapping", reflected.toString(), generated.toString());
+    }
+
+    @Test
+    public void testLazyAppend() throws IOException {
+        LOG.info("Lazy Append Test");
+        String json = "{\"id\":550,\"title\":\"Fight Club\","
+                + "\"credits\":{\"cast\":[{\"id\":819,\"name\":\"Edward Norton\",\"character\":\"The Narrator\"}],"
+                + "\"crew\":[{\"id\":7467,\"name\":\"David Fincher\",\"job\":\"Director\"}]},"
+                + "\"images\":{\"backdrops\":[{\"file_path\":\"/a.jpg\"}],\"posters\":[{\"file_path\":\"/b.jpg\"}]},"
+                + "\"similar\":{\"page\":1,\"total_pages\":1,\"total_results\":1,\"results\":[{\"id\":807,\"title\":\"Se7en\"}]}}";
+        MovieInfo lazy = ObjectReaders.forClass(MovieInfo.class, true).readValue(json);
+        MovieInfo eager = ObjectReaders.forClass(MovieInfo.class).readValue(json);
+
+        assertEquals("Wrong title", "Fight Club", lazy.getTitle());
+        assertTrue("Deferred section not reported", lazy.hasMethod(MovieMethod.IMAGES));
+        assertFalse("Missing section reported", lazy.hasMethod(MovieMethod.VIDEOS));
+        assertEquals("Wrong image count", 2, lazy.getImages().size());
+        assertEquals("Wrong cast count", 1, lazy.getCast().size());
+        assertEquals("Wrong crew count", 1, lazy.getCrew().size());
+        assertEquals("Wrong similar count", 1, lazy.getSimilarMovies().size());
+        assertEquals("Different mapping", eager.toString(), lazy.toString());
+
+        // The sections are mapped for toString without using the getters
+        MovieInfo unused = ObjectReaders.forClass(MovieInfo.class, true).readValue(json);
+        assertEquals("Deferred sections not shown", eager.toString(), unused.toString());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.model.Genre;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PropertyDriftTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PropertyDriftTest.class);
+    private static final String JSON = "{\"id\":550,\"new_field\":{\"a\":[1,{\"b\":2}]},\"title\":\"Fight Club\","
+            + "\"genres\":[{\"id\":18,\"name\":\"Drama\",\"new_field\":true}],\"another_field\":[1,2,3]}";
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @After
+    public void tearDown() {
+        PropertyDrift.setEnabled(false);
+        PropertyDrift.reset();
+    }
+
+    @Test
+    public void testCounts() throws IOException {
+        LOG.info("Counts Test");
+        PropertyDrift.setEnabled(true);
+        MovieInfo movie = ObjectReaders.forClass(MovieInfo.class).readValue(JSON);
+        ObjectReaders.forClass(MovieInfo.class).readValue(JSON);
+
+        // The values after the unknown properties are still mapped
+        assertEquals("Wrong title", "Fight Club", movie.getTitle());
+        assertEquals("Wrong genre", "Drama", movie.getGenres().get(0).getName());
+
+        assertEquals("Wrong count", 2, PropertyDrift.getCount(MovieInfo.class, "new_field"));
+        assertEquals("Wrong count", 2, PropertyDrift.getCount(MovieInfo.class, "another_field"));
+        assertEquals("Wrong count", 2, PropertyDrift.getCount(Genre.class, "new_field"));
+        assertEquals("Wrong count", 0, PropertyDrift.getCount(MovieInfo.class, "title"));
+
+        Map<Class<?>, Map<String, Long>> counts = PropertyDrift.getCounts();
+        assertEquals("Wrong classes", 2, counts.size());
+        assertTrue("Missing from dump", PropertyDrift.dump().contains("MovieInfo.another_field=2\n"));
+    }
+
+    @Test
+    public void testDisabled() throws IOException {
+        LOG.info("Disabled Test");
+        MovieInfo movie = ObjectReaders.forClass(MovieInfo.class).readValue(JSON);
+
+        assertEquals("Wrong title", "Fight Club", movie.getTitle());
+        assertTrue("Counted when disabled", PropertyDrift.getCounts().isEmpty());
+    }
+
+    @Test
+    public void testOtherMapper() throws IOException {
+        LOG.info("Other Mapper Test");
+        PropertyDrift.setEnabled(true);
+        MovieInfo movie = new ObjectMapper().readerFor(MovieInfo.class).readValue(JSON);
+
+        assertEquals("Wrong title", "Fight Club", movie.getTitle());
+        assertEquals("Wrong count", 1, PropertyDrift.getCount(MovieInfo.class, "new_field"));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RequestLimiterTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestLimiterTest.class);
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testBurst() {
+        LOG.info("Burst Test");
+        RequestLimiter limiter = new RequestLimiter(5, 1, TimeUnit.MINUTES);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Request within the burst was delayed", 0L, limiter.reserve());
+        }
+        assertTrue("Request beyond the burst was not delayed", limiter.reserve() > 0);
+        assertEquals("Wrong delayed count", 1L, limiter.getDelayedCount());
+        assertEquals("Wrong request count", 6L, limiter.getRequestCount());
+    }
+
+    @Test
+    public void testQueueOrder() {
+        LOG.info("Queue Order Test");
+        RequestLimiter limiter = new RequestLimiter(1, 1, TimeUnit.MINUTES);
+
+        assertEquals("First request was delayed", 0L, limiter.reserve());
+        long second = limiter.reserve();
+        long third = limiter.reserve();
+        assertTrue("Second request was not delayed", second > 0);
+        assertTrue("Third request was not queued behind the second", third > second);
+    }
+
+    @Test
+    public void testRetryAfter() {
+        LOG.info("Retry-After Test");
+        RequestLimiter limiter = new RequestLimiter(10, 1, TimeUnit.SECONDS);
+
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 429, "Too Many Requests");
+        response.addHeader("Retry-After", "30");
+        limiter.update(response);
+
+        assertTrue("Retry-After was ignored", limiter.getDelayNanos() > TimeUnit.SECONDS.toNanos(25));
+        assertEquals("Wrong rejected count", 1L, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void testRemainingExhausted() {
+        LOG.info("X-RateLimit-Remaining Test");
+        RequestLimiter limiter = new RequestLimiter(10, 1, TimeUnit.SECONDS);
+
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.addHeader("X-RateLimit-Remaining", "0");
+        response.addHeader("X-RateLimit-Reset", String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 20));
+        limiter.update(response);
+
+        assertTrue("X-RateLimit-Reset was ignored", limiter.getDelayNanos() > TimeUnit.SECONDS.toNanos(15));
+    }
+
+    @Test
+    public void testBackoff() {
+        LOG.info("Backoff Test");
+        RequestLimiter limiter = new RequestLimiter(10, 1, TimeUnit.SECONDS);
+
+        limiter.update(new BasicHttpResponse(HttpVersion.HTTP_1_1, 429, "Too Many Requests"));
+        long first = limiter.getDelayNanos();
+        limiter.update(new BasicHttpResponse(HttpVersion.HTTP_1_1, 429, "Too Many Requests"));
+        long second = limiter.getDelayNanos();
+
+        assertTrue("No back off after a 429", first > 0);
+        assertTrue("Back off did not increase", second > first);
+    }
+
+    @Test
+    public void testScheduleReserves() throws Exception {
+        LOG.info("Schedule Reserves Test");
+        RequestLimiter limiter = new RequestLimiter(1, 1, TimeUnit.MINUTES);
+        final AtomicInteger acquired = new AtomicInteger(0);
+        final CountDownLatch ran = new CountDownLatch(2);
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    limiter.acquire();
+                    acquired.incrementAndGet();
+                } catch (InterruptedIOException ex) {
+                    fail("Task was interrupted");
+                } finally {
+                    ran.countDown();
+                }
+            }
+        };
+        Executor direct = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+
+        limiter.schedule(task, direct);
+        assertEquals("First task did not run straight away", 1, acquired.get());
+        assertEquals("Task reserved a second permit", 1L, limiter.getRequestCount());
+
+        // The second task holds the next permit, a minute away, without running
+        limiter.schedule(task, direct);
+        assertFalse("Throttled task was not held back", ran.await(200, TimeUnit.MILLISECONDS));
+        assertEquals("Throttled task did not reserve its permit", 2L, limiter.getRequestCount());
+        assertTrue("Next permit was not taken by the queued task", limiter.getDelayNanos() > TimeUnit.SECONDS.toNanos(90));
+    }
+
+    @Test
+    public void testInterrupted() {
+        LOG.info("Interrupted Test");
+        RequestLimiter limiter = new RequestLimiter(1, 1, TimeUnit.MINUTES);
+        limiter.reserve();
+
+        Thread.currentThread().interrupt();
+        try {
+            limiter.acquire();
+            fail("Interrupted wait was not reported");
+        } catch (InterruptedIOException ex) {
+            assertTrue("Interrupt flag was not restored", Thread.interrupted());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.omertron.themoviedbapi.MovieDbException;
+import com.omertron.themoviedbapi.StubServer;
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.TheMovieDbApi;
+import com.omertron.themoviedbapi.model.movie.MovieBasic;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import com.omertron.themoviedbapi.results.ResultList;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yamj.api.common.exception.ApiExceptionType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SingleFlightTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SingleFlightTest.class);
+    private static final int THREADS = 10;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @Test
+    public void testShared() throws Exception {
+        LOG.info("Shared Test");
+        final SingleFlight<String> flights = new SingleFlight<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> flights.execute("key", () -> {
+                    release.await();
+                    return new Object();
+                })));
+            }
+
+            // Wait for everyone to join the flight before letting it land
+            while (flights.getSharedCount() < THREADS - 1) {
+                Thread.sleep(5L);
+            }
+            release.countDown();
+
+            Object first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Object> future : futures) {
+                assertSame("Result not shared", first, future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals("Wrong call count", 1L, flights.getCallCount());
+            assertEquals("Flight not removed", 0, flights.getInFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testException() throws Exception {
+        LOG.info("Exception Test");
+        SingleFlight<String> flights = new SingleFlight<>();
+        try {
+            flights.execute("key", () -> {
+                throw new MovieDbException(ApiExceptionType.ID_NOT_FOUND, "Not found");
+            });
+            fail("No exception thrown");
+        } catch (MovieDbException ex) {
+            assertEquals("Wrong exception type", ApiExceptionType.ID_NOT_FOUND, ex.getExceptionType());
+        }
+
+        // A failed call is not remembered
+        assertEquals("Wrong result", "found", flights.execute("key", () -> "found"));
+        assertEquals("Wrong call count", 2L, flights.getCallCount());
+    }
+
+    @Test
+    public void testHttpTools() throws Exception {
+        LOG.info("HttpTools Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/movie/550", "{\"id\":550,\"title\":\"Fight Club\"}");
+            server.setDelay(300L);
+            final HttpTools httpTools = new HttpTools(server.getHttpClient());
+            httpTools.setCoalesceRequests(true);
+            final ObjectReader reader = new ObjectMapper().readerFor(MovieInfo.class);
+            final URL url = movieUrl();
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+            try {
+                List<Future<MovieInfo>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> httpTools.<MovieInfo>getRequest(url, reader)));
+                }
+                for (Future<MovieInfo> future : futures) {
+                    assertEquals("Wrong movie", 550, future.get(10, TimeUnit.SECONDS).getId());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            LOG.info("{} requests made, {} shared", server.getRequestCount("/3/movie/550"), httpTools.getRequestFlights().getSharedCount());
+            assertTrue("Requests not coalesced", server.getRequestCount("/3/movie/550") < THREADS);
+            assertEquals("Wrong shared count", THREADS - server.getRequestCount("/3/movie/550"), httpTools.getRequestFlights().getSharedCount());
+        }
+    }
+
+    @Test
+    public void testHttpToolsNotCoalesced() throws Exception {
+        LOG.info("HttpTools Not Coalesced Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/movie/550", "{\"id\":550,\"title\":\"Fight Club\"}");
+            server.setDelay(100L);
+            final HttpTools httpTools = new HttpTools(server.getHttpClient());
+            final ObjectReader reader = new ObjectMapper().readerFor(MovieInfo.class);
+            final URL url = movieUrl();
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+            try {
+                List<Future<MovieInfo>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> httpTools.<MovieInfo>getRequest(url, reader)));
+                }
+                for (Future<MovieInfo> future : futures) {
+                    assertEquals("Wrong movie", 550, future.get(10, TimeUnit.SECONDS).getId());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals("Requests coalesced", THREADS, server.getRequestCount("/3/movie/550"));
+            assertEquals("Wrong shared count", 0L, httpTools.getRequestFlights().getSharedCount());
+        }
+    }
+
+    @Test
+    public void testDifferentReaders() throws Exception {
+        LOG.info("Different Readers Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/movie/550", "{\"id\":550,\"title\":\"Fight Club\"}");
+            server.setDelay(300L);
+            final HttpTools httpTools = new HttpTools(server.getHttpClient());
+            assertFalse("Coalescing is on by default", httpTools.isCoalesceRequests());
+            httpTools.setCoalesceRequests(true);
+
+            // Same value type, but mapped differently
+            final ObjectMapper mapper = new ObjectMapper();
+            final ObjectReader first = mapper.readerFor(MovieInfo.class);
+            final ObjectReader second = mapper.readerFor(MovieInfo.class).withAttribute("lazy", Boolean.TRUE);
+            final URL url = movieUrl();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                Future<MovieInfo> a = executor.submit(() -> httpTools.<MovieInfo>getRequest(url, first));
+                Future<MovieInfo> b = executor.submit(() -> httpTools.<MovieInfo>getRequest(url, second));
+                assertNotSame("Different readers shared a result", a.get(10, TimeUnit.SECONDS), b.get(10, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals("Different readers shared a request", 2, server.getRequestCount("/3/movie/550"));
+            assertEquals("Wrong shared count", 0L, httpTools.getRequestFlights().getSharedCount());
+        }
+    }
+
+    @Test
+    public void testCoalescedResultLists() throws Exception {
+        LOG.info("Coalesced Result Lists Test");
+        try (StubServer server = new StubServer()) {
+            server.addResponse("/3/keyword/1/movies", "{\"id\":1,\"page\":1,\"total_pages\":1,\"total_results\":1,"
+                    + "\"results\":[{\"id\":550,\"title\":\"Fight Club\"}]}");
+            server.setDelay(300L);
+            HttpTools httpTools = new HttpTools(server.getHttpClient());
+            httpTools.setCoalesceRequests(true);
+            final TheMovieDbApi api = new TheMovieDbApi("APIKEY", httpTools);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                Future<ResultList<MovieBasic>> a = executor.submit(() -> api.getKeywordMovies("1", null, null));
+                Future<ResultList<MovieBasic>> b = executor.submit(() -> api.getKeywordMovies("1", null, null));
+                ResultList<MovieBasic> first = a.get(10, TimeUnit.SECONDS);
+                ResultList<MovieBasic> second = b.get(10, TimeUnit.SECONDS);
+
+                assertEquals("Request not shared", 1L, httpTools.getRequestFlights().getSharedCount());
+                assertNotSame("Result list shared", first.getResults(), second.getResults());
+                first.getResults().clear();
+                assertEquals("Change seen by the other caller", 1, second.getResults().size());
+                assertEquals("Page details not set", 1, second.getTotalPages());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static URL movieUrl() throws IOException {
+        TmdbParameters parameters = new TmdbParameters();
+        parameters.add(Param.ID, 550);
+        return new ApiUrl("APIKEY", MethodBase.MOVIE).buildUrl(parameters);
+    }
+}
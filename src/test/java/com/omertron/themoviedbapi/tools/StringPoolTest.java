@@ -0,0 +1,93 @@
+/*
+ *      Copyright (c) 2004-2016 Stuart Boston
+ *
+ *      This file is part of TheMovieDB API.
+ *
+ *      TheMovieDB API is free software: you can redistribute it and/or modify
+ *      it under the terms of the GNU General Public License as published by
+ *      the Free Software Foundation, either version 3 of the License, or
+ *      any later version.
+ *
+ *      TheMovieDB API is distributed in the hope that it will be useful,
+ *      but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *      MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *      GNU General Public License for more details.
+ *
+ *      You should have received a copy of the GNU General Public License
+ *      along with TheMovieDB API.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.omertron.themoviedbapi.tools;
+
+import com.omertron.themoviedbapi.TestLogger;
+import com.omertron.themoviedbapi.model.credits.MediaCreditCrew;
+import com.omertron.themoviedbapi.model.movie.MovieInfo;
+import java.io.IOException;
+import java.util.List;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class StringPoolTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StringPoolTest.class);
+    private static final String JSON = "{\"id\":550,\"original_language\":\"en\",\"title\":\"Fight Club\","
+            + "\"genres\":[{\"id\":18,\"name\":\"Drama\"}],"
+            + "\"credits\":{\"cast\":[],\"crew\":["
+            + "{\"id\":7467,\"name\":\"David Fincher\",\"department\":\"Directing\",\"job\":\"Director\"},"
+            + "{\"id\":7468,\"name\":\"Someone Else\",\"department\":\"Directing\",\"job\":\"Director\"}]}}";
+
+    @BeforeClass
+    public static void setUpClass() {
+        TestLogger.configure();
+    }
+
+    @After
+    public void tearDown() {
+        StringPool.setShared(null);
+    }
+
+    @Test
+    public void testBounded() {
+        LOG.info("Bounded Test");
+        StringPool pool = new StringPool(2);
+        String one = pool.dedup(new String("one"));
+        assertSame("Not pooled", one, pool.dedup(new String("one")));
+        pool.dedup("two");
+        String three = new String("three");
+        assertSame("Added to a full pool", three, pool.dedup(three));
+        assertEquals("Wrong size", 2, pool.size());
+    }
+
+    @Test
+    public void testPooledMapping() throws IOException {
+        LOG.info("Pooled Mapping Test");
+        StringPool pool = new StringPool();
+        StringPool.setShared(pool);
+        MovieInfo first = ObjectReaders.forClass(MovieInfo.class).readValue(JSON);
+        MovieInfo second = ObjectReaders.forClass(MovieInfo.class).readValue(JSON);
+
+        List<MediaCreditCrew> crew = first.getCrew();
+        assertSame("Department not pooled", crew.get(0).getDepartment(), crew.get(1).getDepartment());
+        assertSame("Job not pooled", crew.get(0).getJob(), second.getCrew().get(0).getJob());
+        assertSame("Language not pooled", first.getOriginalLanguage(), second.getOriginalLanguage());
+        assertSame("Genre not pooled", first.getGenres().get(0).getName(), second.getGenres().get(0).getName());
+        assertNotSame("Title pooled", first.getTitle(), second.getTitle());
+        assertEquals("Wrong person name", "David Fincher", crew.get(0).getName());
+    }
+
+    @Test
+    public void testNoPool() throws IOException {
+        LOG.info("No Pool Test");
+        MovieInfo first = ObjectReaders.forClass(MovieInfo.class).readValue(JSON);
+        MovieInfo second = ObjectReaders.forClass(MovieInfo.class).readValue(JSON);
+
+        assertNotSame("Pooled without a pool", first.getOriginalLanguage(), second.getOriginalLanguage());
+        assertEquals("Wrong language", "en", first.getOriginalLanguage());
+    }
+}